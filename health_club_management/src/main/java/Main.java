@@ -1,10 +1,25 @@
 import com.formdev.flatlaf.FlatLightLaf;
 import javax.swing.*;
+import healthClubManagement.db.HibernateUtil;
+import healthClubManagement.db.SqlStatementCounter;
+import healthClubManagement.gui.EdtStallMonitor;
+import healthClubManagement.gui.FirstPaintMonitor;
 import healthClubManagement.gui.LoginFrame;
 
 public class Main {
     public static void main(String[] args) {
+        // Build the SessionFactory in the background while the login frame paints
+        HibernateUtil.startAsync();
+        // Login-to-dashboard times, the slowest interactions and the statements per screen of this run, once
+        // the window is closed
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(
+                FirstPaintMonitor.report() + System.lineSeparator() + EdtStallMonitor.report() +
+                System.lineSeparator() + SqlStatementCounter.report())));
         FlatLightLaf.setup();
-        SwingUtilities.invokeLater(() -> new LoginFrame().setVisible(true));
+        SwingUtilities.invokeLater(() -> {
+            // Time every event on the EDT so that slow interactions show up in the log
+            EdtStallMonitor.install();
+            new LoginFrame().setVisible(true);
+        });
     }
 }
@@ -5,14 +5,17 @@ import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public class AdminDAO {
 
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public AdminDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create: add an admin
@@ -28,6 +31,11 @@ public class AdminDAO {
         }
     }
 
+    // Create: add many admins, one transaction per chunk
+    public BulkResult<Admin> createAll(Collection<Admin> admins) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, admins);
+    }
+
     // Read: get admin by id
     public Admin getAdminById(Long adminId) {
         try (Session session = sessionFactory.openSession()) {
@@ -38,10 +46,7 @@ public class AdminDAO {
     // Read: get admin by email (useful for login / lookup)
     public Admin getAdminByEmail(String email) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Admin> query = session.createQuery(
-                    "FROM Admin a WHERE a.email = :email",
-                    Admin.class
-            );
+            Query<Admin> query = session.createNamedQuery(QueryCatalog.ADMIN_BY_EMAIL, Admin.class);
             query.setParameter("email", email);
             return query.uniqueResult();
         }
@@ -50,10 +55,7 @@ public class AdminDAO {
     // Read: get all admins
     public List<Admin> getAllAdmins() {
         try (Session session = sessionFactory.openSession()) {
-            Query<Admin> query = session.createQuery(
-                    "FROM Admin",
-                    Admin.class
-            );
+            Query<Admin> query = session.createNamedQuery(QueryCatalog.ADMIN_ALL, Admin.class);
             return query.getResultList();
         }
     }
@@ -71,6 +73,11 @@ public class AdminDAO {
         }
     }
 
+    // Update: save changes to many admins, one transaction per chunk
+    public BulkResult<Admin> updateAll(Collection<Admin> admins) {
+        return bulkWriter.write(BulkWriter.Operation.UPDATE, admins);
+    }
+
     // Delete: remove an admin
     public void deleteAdmin(Admin admin) {
         Transaction tx = null;
@@ -83,4 +90,9 @@ public class AdminDAO {
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many admins, one transaction per chunk
+    public BulkResult<Admin> deleteAll(Collection<Admin> admins) {
+        return bulkWriter.write(BulkWriter.Operation.DELETE, admins);
+    }
 }
@@ -0,0 +1,10 @@
+package healthClubManagement.db;
+
+import java.math.BigDecimal;
+
+/**
+ * Figures on the admin Dashboard panel, loaded in one query by {@link DashboardStats}.
+ */
+public record AdminStats(long totalRooms, long availableRooms, long upcomingClasses,
+                         long pendingPayments, BigDecimal totalRevenue) {
+}
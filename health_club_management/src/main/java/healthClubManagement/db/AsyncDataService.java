@@ -0,0 +1,146 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs DAO calls off the EDT, one virtual thread per call, and hands back CompletableFutures.
+ *
+ * At most maxConcurrency calls hold a database connection at a time (by default the pool size), so a burst
+ * of parallel panel loads queues here instead of timing out in Hikari. Every call has a timeout, and calls
+ * started through a {@link Scope} are cancelled together when the panel that owns the scope goes away.
+ * Finish on the EDT with e.g. future.thenAcceptAsync(result -> ..., SwingUtilities::invokeLater).
+ *
+ * A call cancelled (or timed out) while still waiting for a permit is interrupted and never runs. One that
+ * is already running is left to finish and its result is dropped: interrupting a virtual thread blocked on
+ * a socket closes that socket, which would destroy the pooled connection under the session. A runaway
+ * statement is ended by the query timeout in hibernate.cfg.xml instead, which pgjdbc enforces by
+ * cancelling the statement on the server and keeps the connection usable.
+ */
+public class AsyncDataService implements AutoCloseable {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(15);
+
+    // Used when hibernate.hikari.maximumPoolSize is not set
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("dao-", 0).factory());
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    public AsyncDataService(int maxConcurrency, Duration timeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.timeout = timeout;
+    }
+
+    // Bounded by the configured connection pool size
+    public static AsyncDataService forSessionFactory(SessionFactory sessionFactory) {
+        Object poolSize = sessionFactory.getProperties().get("hibernate.hikari.maximumPoolSize");
+        int maxConcurrency = poolSize != null ? Integer.parseInt(poolSize.toString()) : DEFAULT_MAX_CONCURRENCY;
+        return new AsyncDataService(maxConcurrency, DEFAULT_TIMEOUT);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return supply(call, timeout);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> call, Duration timeout) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Claimed once, by whichever comes first: the worker starting the call, or a cancel/timeout
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<?> task = executor.submit(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                result.cancel(false);
+                return;
+            }
+            if (!claimed.compareAndSet(false, true)) {
+                // Cancelled while waiting for the permit
+                permits.release();
+                return;
+            }
+            try {
+                result.complete(call.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                permits.release();
+            }
+        });
+        result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        // Cancelled or timed out before the call started: interrupt the worker out of its wait for a permit.
+        // Once started, the worker is not interrupted; result is already complete, so its outcome is dropped.
+        result.whenComplete((value, error) -> {
+            if ((error instanceof CancellationException || error instanceof TimeoutException)
+                    && claimed.compareAndSet(false, true)) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public CompletableFuture<Void> run(Runnable call) {
+        return supply(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    // Groups the calls made for one panel so they can all be cancelled when it is closed or rebuilt
+    public Scope openScope() {
+        return new Scope();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public class Scope implements AutoCloseable {
+
+        private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+        private volatile boolean closed;
+
+        public <T> CompletableFuture<T> supply(Supplier<T> call) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new CancellationException("Scope is closed"));
+            }
+            CompletableFuture<T> future = AsyncDataService.this.supply(call);
+            pending.add(future);
+            future.whenComplete((value, error) -> pending.remove(future));
+            return future;
+        }
+
+        public CompletableFuture<Void> run(Runnable call) {
+            return supply(() -> {
+                call.run();
+                return null;
+            });
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            pending.forEach(future -> future.cancel(true));
+            pending.clear();
+        }
+    }
+}
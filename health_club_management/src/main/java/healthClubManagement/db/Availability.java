@@ -6,14 +6,16 @@ import java.time.LocalTime;
 
 @Entity
 @Table(name = "Availability")
+@NamedEntityGraph(name = EntityGraphs.AVAILABILITY_SLOT, attributeNodes = @NamedAttributeNode("trainer"))
 public class Availability {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "availability_seq")
+    @SequenceGenerator(name = "availability_seq", sequenceName = "availability_seq", allocationSize = 50)
     @Column(name = "available_id")
     private Long availableId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trainer_id", nullable = false)
     private Trainer trainer;
 
@@ -7,14 +7,17 @@ import org.hibernate.query.Query;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 public class AvailabilityDAO {
 
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public AvailabilityDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create: add an availability slot
@@ -30,32 +33,40 @@ public class AvailabilityDAO {
         }
     }
 
+    // Create: add many availability slots, one transaction per chunk
+    public BulkResult<Availability> createAll(Collection<Availability> slots) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, slots);
+    }
+
     // Read: get by id
     public Availability getAvailabilityById(Long id) {
         try (Session session = sessionFactory.openSession()) {
-            return session.find(Availability.class, id);
+            return EntityGraphs.find(session, Availability.class, id, EntityGraphs.AVAILABILITY_SLOT);
         }
     }
 
     // Read: all availabilities for a trainer
     public List<Availability> getAvailabilityByTrainer(Trainer trainer) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Availability> query = session.createQuery(
-                    "FROM Availability a WHERE a.trainer = :trainer",
-                    Availability.class
-            );
+            Query<Availability> query = session.createNamedQuery(QueryCatalog.AVAILABILITY_BY_TRAINER, Availability.class);
             query.setParameter("trainer", trainer);
             return query.getResultList();
         }
     }
 
+    // Read: number of availability slots a trainer has set up
+    public long countAvailabilityByTrainer(Trainer trainer) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<Long> query = session.createNamedQuery(QueryCatalog.AVAILABILITY_COUNT_BY_TRAINER, Long.class);
+            query.setParameter("trainer", trainer);
+            return query.uniqueResult();
+        }
+    }
+
     // Read: availabilities for a trainer on a specific date
     public List<Availability> getAvailabilityByTrainerAndDate(Trainer trainer, LocalDate date) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Availability> query = session.createQuery(
-                    "FROM Availability a WHERE a.trainer = :trainer AND a.date = :date",
-                    Availability.class
-            );
+            Query<Availability> query = session.createNamedQuery(QueryCatalog.AVAILABILITY_BY_TRAINER_ON_DATE, Availability.class);
             query.setParameter("trainer", trainer);
             query.setParameter("date", date);
             return query.getResultList();
@@ -68,14 +79,7 @@ public class AvailabilityDAO {
                                                                    LocalTime start,
                                                                    LocalTime end) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Availability> query = session.createQuery(
-                    "FROM Availability a " +
-                            "WHERE a.trainer = :trainer " +
-                            "AND a.date = :date " +
-                            "AND a.startTime < :end " +
-                            "AND a.endTime > :start",
-                    Availability.class
-            );
+            Query<Availability> query = session.createNamedQuery(QueryCatalog.AVAILABILITY_OVERLAP, Availability.class);
             query.setParameter("trainer", trainer);
             query.setParameter("date", date);
             query.setParameter("start", start);
@@ -97,6 +101,11 @@ public class AvailabilityDAO {
         }
     }
 
+    // Update: save changes to many availability slots, one transaction per chunk
+    public BulkResult<Availability> updateAll(Collection<Availability> slots) {
+        return bulkWriter.write(BulkWriter.Operation.UPDATE, slots);
+    }
+
     // Delete: remove a slot
     public void deleteAvailability(Availability availability) {
         Transaction tx = null;
@@ -109,4 +118,9 @@ public class AvailabilityDAO {
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many availability slots, one transaction per chunk
+    public BulkResult<Availability> deleteAll(Collection<Availability> slots) {
+        return bulkWriter.write(BulkWriter.Operation.DELETE, slots);
+    }
 }
@@ -0,0 +1,138 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Free time of trainers: their open availability slots minus the PT sessions and classes they already have.
+ *
+ * The slots of every requested trainer come from one query; bookings come from the {@link BookingIndex}.
+ * Per trainer, overlapping slots and overlapping bookings are each merged into sorted, disjoint runs and
+ * then subtracted in a single sweep, so the cost is linear in slots + bookings after sorting, and the result
+ * is the truly free sub-intervals rather than only the slots that happen to have no booking at all.
+ */
+public class AvailabilityEngine {
+
+    private final SessionFactory sessionFactory;
+    private final BookingIndex bookings;
+
+    public AvailabilityEngine(SessionFactory sessionFactory, BookingIndex bookings) {
+        this.sessionFactory = sessionFactory;
+        this.bookings = bookings;
+    }
+
+    // Free intervals of one trainer between two dates (inclusive), by start time
+    public List<TrainerSlot> freeSlots(Trainer trainer, LocalDate from, LocalDate to) {
+        return freeSlots(List.of(trainer), from, to).getOrDefault(trainer.getTrainerId(), List.of());
+    }
+
+    // Free intervals of each given trainer between two dates (inclusive), keyed by trainer id
+    public Map<Long, List<TrainerSlot>> freeSlots(Collection<Trainer> trainers, LocalDate from, LocalDate to) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<TrainerSlot> query = session.createNamedQuery(QueryCatalog.AVAILABILITY_SLOTS_BETWEEN, TrainerSlot.class);
+            query.setParameter("trainerIds", trainers.stream().map(Trainer::getTrainerId).toList());
+            query.setParameter("startDate", from);
+            query.setParameter("endDate", to);
+            return subtractBookings(query.getResultList());
+        }
+    }
+
+    // Free intervals of every trainer between two dates (inclusive), keyed by trainer id
+    public Map<Long, List<TrainerSlot>> freeSlotsOfAllTrainers(LocalDate from, LocalDate to) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<TrainerSlot> query = session.createNamedQuery(QueryCatalog.AVAILABILITY_SLOTS_ALL_BETWEEN, TrainerSlot.class);
+            query.setParameter("startDate", from);
+            query.setParameter("endDate", to);
+            return subtractBookings(query.getResultList());
+        }
+    }
+
+    // True if the trainer is available and unbooked for the whole of [start, end)
+    public boolean isFree(Trainer trainer, LocalDateTime start, LocalDateTime end) {
+        return freeSlots(trainer, start.toLocalDate(), end.toLocalDate()).stream()
+                .anyMatch(slot -> slot.covers(start, end));
+    }
+
+    // Ids of the trainers who are available and unbooked for the whole of [start, end)
+    public List<Long> trainersFreeFor(LocalDateTime start, LocalDateTime end) {
+        List<Long> free = new ArrayList<>();
+        freeSlotsOfAllTrainers(start.toLocalDate(), end.toLocalDate()).forEach((trainerId, slots) -> {
+            if (slots.stream().anyMatch(slot -> slot.covers(start, end))) {
+                free.add(trainerId);
+            }
+        });
+        return free;
+    }
+
+    // slots must be ordered by trainer, then start time
+    private Map<Long, List<TrainerSlot>> subtractBookings(List<TrainerSlot> slots) {
+        Map<Long, List<TrainerSlot>> free = new LinkedHashMap<>();
+        int from = 0;
+        while (from < slots.size()) {
+            Long trainerId = slots.get(from).trainerId();
+            int to = from;
+            while (to < slots.size() && slots.get(to).trainerId().equals(trainerId)) to++;
+
+            List<TrainerSlot> open = merge(slots.subList(from, to));
+            from = to;
+            if (open.isEmpty()) continue;
+            LocalDateTime windowStart = open.get(0).start();
+            LocalDateTime windowEnd = open.get(open.size() - 1).end();
+            List<TrainerSlot> busy = merge(bookings.trainerBookings(trainerId, windowStart, windowEnd).stream()
+                    .map(booking -> new TrainerSlot(trainerId, booking.start(), booking.end()))
+                    .toList());
+            free.put(trainerId, sweep(open, busy));
+        }
+        return free;
+    }
+
+    // Collapses intervals sorted by start into disjoint runs; touching intervals are joined
+    private static List<TrainerSlot> merge(List<TrainerSlot> sorted) {
+        List<TrainerSlot> merged = new ArrayList<>();
+        for (TrainerSlot slot : sorted) {
+            int last = merged.size() - 1;
+            if (last >= 0 && !slot.start().isAfter(merged.get(last).end())) {
+                TrainerSlot run = merged.get(last);
+                if (slot.end().isAfter(run.end())) {
+                    merged.set(last, new TrainerSlot(run.trainerId(), run.start(), slot.end()));
+                }
+            } else if (slot.start().isBefore(slot.end())) {
+                merged.add(slot);
+            }
+        }
+        return merged;
+    }
+
+    // open minus busy, both sorted and disjoint
+    private static List<TrainerSlot> sweep(List<TrainerSlot> open, List<TrainerSlot> busy) {
+        List<TrainerSlot> free = new ArrayList<>();
+        int next = 0;
+        for (TrainerSlot window : open) {
+            LocalDateTime cursor = window.start();
+            while (next < busy.size() && !busy.get(next).end().isAfter(cursor)) next++;
+            // A busy run that spills past this window is left in place for the next one
+            for (int i = next; i < busy.size() && busy.get(i).start().isBefore(window.end()); i++) {
+                TrainerSlot run = busy.get(i);
+                if (run.start().isAfter(cursor)) {
+                    free.add(new TrainerSlot(window.trainerId(), cursor, run.start()));
+                }
+                if (run.end().isAfter(cursor)) {
+                    cursor = run.end();
+                }
+            }
+            if (cursor.isBefore(window.end())) {
+                free.add(new TrainerSlot(window.trainerId(), cursor, window.end()));
+            }
+        }
+        return free;
+    }
+}
@@ -7,18 +7,23 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "Billing")
+@NamedEntityGraph(name = EntityGraphs.BILLING_ROW, attributeNodes = {
+        @NamedAttributeNode("member"),
+        @NamedAttributeNode("trainer")
+})
 public class Billing {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "billing_seq")
+    @SequenceGenerator(name = "billing_seq", sequenceName = "billing_seq", allocationSize = 50)
     @Column(name = "bill_id")
     private Long billId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trainer_id", nullable = false)
     private Trainer trainer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
@@ -7,14 +7,21 @@ import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public class BillingDAO {
 
+    // Keyset position in the newest-first bill listing
+    public record Cursor(LocalDate paymentDate, Long billId) {
+    }
+
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public BillingDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create: add a billing record
@@ -30,20 +37,23 @@ public class BillingDAO {
         }
     }
 
+    // Create: add many bills, one transaction per chunk
+    public BulkResult<Billing> createAll(Collection<Billing> bills) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, bills);
+    }
+
     // Read: get bill by id
     public Billing getBillingById(Long billId) {
         try (Session session = sessionFactory.openSession()) {
-            return session.find(Billing.class, billId);
+            return EntityGraphs.find(session, Billing.class, billId, EntityGraphs.BILLING_ROW);
         }
     }
 
     // Read: all bills for a member
     public List<Billing> getBillingByMember(Member member) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Billing> query = session.createQuery(
-                    "FROM Billing b WHERE b.member = :member",
-                    Billing.class
-            );
+            Query<Billing> query = session.createNamedQuery(QueryCatalog.BILLING_BY_MEMBER, Billing.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.BILLING_ROW);
             query.setParameter("member", member);
             return query.getResultList();
         }
@@ -52,10 +62,8 @@ public class BillingDAO {
     // Read: all bills for a trainer
     public List<Billing> getBillingByTrainer(Trainer trainer) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Billing> query = session.createQuery(
-                    "FROM Billing b WHERE b.trainer = :trainer",
-                    Billing.class
-            );
+            Query<Billing> query = session.createNamedQuery(QueryCatalog.BILLING_BY_TRAINER, Billing.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.BILLING_ROW);
             query.setParameter("trainer", trainer);
             return query.getResultList();
         }
@@ -64,16 +72,30 @@ public class BillingDAO {
     // Read: bills in a date range
     public List<Billing> getBillingByDateRange(LocalDate startDate, LocalDate endDate) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Billing> query = session.createQuery(
-                    "FROM Billing b WHERE b.paymentDate BETWEEN :start AND :end",
-                    Billing.class
-            );
+            Query<Billing> query = session.createNamedQuery(QueryCatalog.BILLING_BY_PAYMENT_DATE, Billing.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.BILLING_ROW);
             query.setParameter("start", startDate);
             query.setParameter("end", endDate);
             return query.getResultList();
         }
     }
 
+    // Read: one page of bill rows, newest first (member and trainer names joined in the same query)
+    public Page<BillingRow, Cursor> getBillingPage(Cursor after, int pageSize) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<BillingRow> query;
+            if (after == null) {
+                query = session.createNamedQuery(QueryCatalog.BILLING_PAGE_FIRST, BillingRow.class);
+            } else {
+                query = session.createNamedQuery(QueryCatalog.BILLING_PAGE_AFTER, BillingRow.class);
+                query.setParameter("paymentDate", after.paymentDate());
+                query.setParameter("billId", after.billId());
+            }
+            query.setMaxResults(pageSize + 1);
+            return Page.of(query.getResultList(), pageSize, b -> new Cursor(b.paymentDate(), b.billId()));
+        }
+    }
+
     // Update: change status/method/amount
     public void updateBilling(Billing billing) {
         Transaction tx = null;
@@ -87,6 +109,11 @@ public class BillingDAO {
         }
     }
 
+    // Update: save changes to many bills, one transaction per chunk
+    public BulkResult<Billing> updateAll(Collection<Billing> bills) {
+        return bulkWriter.write(BulkWriter.Operation.UPDATE, bills);
+    }
+
     // Delete: remove a billing record
     public void deleteBilling(Billing billing) {
         Transaction tx = null;
@@ -99,4 +126,9 @@ public class BillingDAO {
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many bills, one transaction per chunk
+    public BulkResult<Billing> deleteAll(Collection<Billing> bills) {
+        return bulkWriter.write(BulkWriter.Operation.DELETE, bills);
+    }
 }
@@ -0,0 +1,106 @@
+package healthClubManagement.db;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read-only view of the BillingDailyRollup table: bill count and total amount for one day, payment status,
+ * trainer and payment method. Written only by {@link BillingRollup}.
+ */
+@Entity
+@Immutable
+@Table(name = "BillingDailyRollup")
+@IdClass(BillingDailyRollup.Key.class)
+public class BillingDailyRollup {
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Id
+    @Column(name = "payment_status")
+    private String paymentStatus;
+
+    @Id
+    @Column(name = "trainer_id")
+    private Long trainerId;
+
+    @Id
+    @Column(name = "payment_method")
+    private String paymentMethod;
+
+    @Column(name = "bill_count", nullable = false)
+    private long billCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+
+    protected BillingDailyRollup() {
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public Long getTrainerId() {
+        return trainerId;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public long getBillCount() {
+        return billCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    // Composite key class
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private String paymentStatus;
+        private Long trainerId;
+        private String paymentMethod;
+
+        public Key() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return java.util.Objects.equals(day, that.day) &&
+                    java.util.Objects.equals(paymentStatus, that.paymentStatus) &&
+                    java.util.Objects.equals(trainerId, that.trainerId) &&
+                    java.util.Objects.equals(paymentMethod, that.paymentMethod);
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(day, paymentStatus, trainerId, paymentMethod);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BillingDailyRollup{" +
+                "day=" + day +
+                ", paymentStatus='" + paymentStatus + '\'' +
+                ", trainerId=" + trainerId +
+                ", paymentMethod='" + paymentMethod + '\'' +
+                ", billCount=" + billCount +
+                ", totalAmount=" + totalAmount +
+                '}';
+    }
+}
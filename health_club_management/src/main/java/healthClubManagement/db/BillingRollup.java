@@ -0,0 +1,314 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.Query;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps the BillingDailyRollup and BillingMonthlyRollup tables (V4 migration) in step with Billing.
+ *
+ * Every bill insert, update and delete that goes through a Session - the DAOs, BulkWriter and the admin
+ * billing panel alike - adds or subtracts its (count, amount) in both rollups on the same connection and
+ * in the same transaction, so a rolled-back bill never reaches the totals. Dashboards and reports then sum
+ * one row per day or month instead of scanning every bill. {@link #rebuild} recomputes both tables from
+ * Billing, e.g. after a manual SQL fix.
+ *
+ * The rows a bill change touches are always written in one fixed order - daily before monthly, then by
+ * period and key - so two transactions moving bills between the same rows in opposite directions queue on
+ * the first row rather than deadlock. A row whose last bill moved out is deleted, so the tables hold exactly
+ * the rows a rebuild would.
+ *
+ * On PostgreSQL each row is written with INSERT ... ON CONFLICT, which waits for a concurrent insert of the
+ * same row instead of failing; other databases, such as the H2 the tests run on, get a standard MERGE.
+ */
+public class BillingRollup implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String UPSERT_DAILY =
+            "INSERT INTO BillingDailyRollup (day, payment_status, trainer_id, payment_method, bill_count, total_amount) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (day, payment_status, trainer_id, payment_method) DO UPDATE SET " +
+            "bill_count = BillingDailyRollup.bill_count + EXCLUDED.bill_count, " +
+            "total_amount = BillingDailyRollup.total_amount + EXCLUDED.total_amount";
+
+    private static final String UPSERT_MONTHLY =
+            "INSERT INTO BillingMonthlyRollup (month, payment_status, trainer_id, payment_method, bill_count, total_amount) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (month, payment_status, trainer_id, payment_method) DO UPDATE SET " +
+            "bill_count = BillingMonthlyRollup.bill_count + EXCLUDED.bill_count, " +
+            "total_amount = BillingMonthlyRollup.total_amount + EXCLUDED.total_amount";
+
+    private static final String MERGE_DAILY =
+            "MERGE INTO BillingDailyRollup r USING (SELECT CAST(? AS date) AS day, " +
+            "CAST(? AS varchar(20)) AS payment_status, CAST(? AS bigint) AS trainer_id, " +
+            "CAST(? AS varchar(30)) AS payment_method, CAST(? AS bigint) AS bill_count, " +
+            "CAST(? AS numeric(14, 2)) AS total_amount) d " +
+            "ON (r.day = d.day AND r.payment_status = d.payment_status AND r.trainer_id = d.trainer_id " +
+            "AND r.payment_method = d.payment_method) " +
+            "WHEN MATCHED THEN UPDATE SET bill_count = r.bill_count + d.bill_count, " +
+            "total_amount = r.total_amount + d.total_amount " +
+            "WHEN NOT MATCHED THEN INSERT (day, payment_status, trainer_id, payment_method, bill_count, total_amount) " +
+            "VALUES (d.day, d.payment_status, d.trainer_id, d.payment_method, d.bill_count, d.total_amount)";
+
+    private static final String MERGE_MONTHLY =
+            "MERGE INTO BillingMonthlyRollup r USING (SELECT CAST(? AS date) AS month, " +
+            "CAST(? AS varchar(20)) AS payment_status, CAST(? AS bigint) AS trainer_id, " +
+            "CAST(? AS varchar(30)) AS payment_method, CAST(? AS bigint) AS bill_count, " +
+            "CAST(? AS numeric(14, 2)) AS total_amount) d " +
+            "ON (r.month = d.month AND r.payment_status = d.payment_status AND r.trainer_id = d.trainer_id " +
+            "AND r.payment_method = d.payment_method) " +
+            "WHEN MATCHED THEN UPDATE SET bill_count = r.bill_count + d.bill_count, " +
+            "total_amount = r.total_amount + d.total_amount " +
+            "WHEN NOT MATCHED THEN INSERT (month, payment_status, trainer_id, payment_method, bill_count, total_amount) " +
+            "VALUES (d.month, d.payment_status, d.trainer_id, d.payment_method, d.bill_count, d.total_amount)";
+
+    private static final String DELETE_EMPTY_DAILY =
+            "DELETE FROM BillingDailyRollup WHERE day = ? AND payment_status = ? AND trainer_id = ? " +
+            "AND payment_method = ? AND bill_count = 0";
+
+    private static final String DELETE_EMPTY_MONTHLY =
+            "DELETE FROM BillingMonthlyRollup WHERE month = ? AND payment_status = ? AND trainer_id = ? " +
+            "AND payment_method = ? AND bill_count = 0";
+
+    // Holds off concurrent bill writes so none of their deltas land between the delete and the insert of a
+    // rebuild. PostgreSQL only; H2 has no share-mode table lock.
+    private static final String REBUILD_LOCK = "LOCK TABLE Billing IN SHARE MODE";
+
+    private static final String[] REBUILD = {
+            "DELETE FROM BillingDailyRollup",
+            "DELETE FROM BillingMonthlyRollup",
+            "INSERT INTO BillingDailyRollup (day, payment_status, trainer_id, payment_method, bill_count, total_amount) " +
+                    "SELECT payment_date, payment_status, trainer_id, payment_method, COUNT(*), SUM(amount) " +
+                    "FROM Billing GROUP BY payment_date, payment_status, trainer_id, payment_method",
+            "INSERT INTO BillingMonthlyRollup (month, payment_status, trainer_id, payment_method, bill_count, total_amount) " +
+                    "SELECT CAST(date_trunc('month', payment_date) AS date), payment_status, trainer_id, payment_method, " +
+                    "COUNT(*), SUM(amount) FROM Billing " +
+                    "GROUP BY CAST(date_trunc('month', payment_date) AS date), payment_status, trainer_id, payment_method"
+    };
+
+    private enum Period {
+        DAY(UPSERT_DAILY, MERGE_DAILY, DELETE_EMPTY_DAILY),
+        MONTH(UPSERT_MONTHLY, MERGE_MONTHLY, DELETE_EMPTY_MONTHLY);
+
+        final String upsert;
+        final String merge;
+        final String deleteEmpty;
+
+        Period(String upsert, String merge, String deleteEmpty) {
+            this.upsert = upsert;
+            this.merge = merge;
+            this.deleteEmpty = deleteEmpty;
+        }
+
+        LocalDate start(LocalDate day) {
+            return this == DAY ? day : day.withDayOfMonth(1);
+        }
+    }
+
+    // The Billing properties a rollup row is keyed and summed on
+    private record Bucket(LocalDate day, String paymentStatus, Long trainerId, String paymentMethod,
+                          BigDecimal amount) {
+    }
+
+    // One bill added to (sign = 1) or removed from (sign = -1) one rollup row
+    private record RowDelta(Period period, LocalDate start, Bucket bucket, int sign) {
+    }
+
+    private static final Comparator<RowDelta> ROW_ORDER = Comparator.comparing(RowDelta::period)
+            .thenComparing(RowDelta::start)
+            .thenComparing(delta -> delta.bucket().paymentStatus(), Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(delta -> delta.bucket().trainerId())
+            .thenComparing(delta -> delta.bucket().paymentMethod(), Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final SessionFactory sessionFactory;
+    private final boolean postgres;
+
+    private BillingRollup(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+        this.postgres = sessionFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+
+    // Registers the rollup listener on the given SessionFactory
+    public static BillingRollup install(SessionFactory sessionFactory) {
+        BillingRollup rollup = new BillingRollup(sessionFactory);
+        EventListenerRegistry registry = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, rollup);
+        registry.appendListeners(EventType.POST_UPDATE, rollup);
+        registry.appendListeners(EventType.POST_DELETE, rollup);
+        return rollup;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Billing) {
+            apply(event.getSession(), deltas(bucket(event.getPersister(), event.getState()), 1));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Billing)) return;
+        Bucket after = bucket(event.getPersister(), event.getState());
+        if (event.getOldState() == null) {
+            // Not expected: every update path here loads the bill first. Totals need a rebuild if this shows up.
+            System.err.println("BillingRollup: no previous state for bill " + event.getId() + ", rollups may drift");
+            return;
+        }
+        Bucket before = bucket(event.getPersister(), event.getOldState());
+        if (before.equals(after)) return;
+        List<RowDelta> deltas = deltas(before, -1);
+        deltas.addAll(deltas(after, 1));
+        apply(event.getSession(), deltas);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Billing) {
+            apply(event.getSession(), deltas(bucket(event.getPersister(), event.getDeletedState()), -1));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static Bucket bucket(EntityPersister persister, Object[] state) {
+        List<String> names = Arrays.asList(persister.getPropertyNames());
+        Trainer trainer = (Trainer) state[names.indexOf("trainer")];
+        return new Bucket(
+                (LocalDate) state[names.indexOf("paymentDate")],
+                (String) state[names.indexOf("paymentStatus")],
+                trainer.getTrainerId(),
+                (String) state[names.indexOf("paymentMethod")],
+                (BigDecimal) state[names.indexOf("amount")]);
+    }
+
+    // Adds (sign = 1) or removes (sign = -1) one bill from its daily and monthly rows
+    private static List<RowDelta> deltas(Bucket bucket, int sign) {
+        List<RowDelta> deltas = new ArrayList<>(4);
+        for (Period period : Period.values()) {
+            deltas.add(new RowDelta(period, period.start(bucket.day()), bucket, sign));
+        }
+        return deltas;
+    }
+
+    // Writes the deltas in ROW_ORDER, whatever order they were collected in, and deletes rows left empty
+    private void apply(EventSource session, List<RowDelta> deltas) {
+        deltas.sort(ROW_ORDER);
+        session.doWork(connection -> {
+            for (RowDelta delta : deltas) {
+                Bucket bucket = delta.bucket();
+                Period period = delta.period();
+                try (PreparedStatement upsert = connection.prepareStatement(postgres ? period.upsert : period.merge)) {
+                    setKey(upsert, delta);
+                    upsert.setLong(5, delta.sign());
+                    upsert.setBigDecimal(6, delta.sign() > 0 ? bucket.amount() : bucket.amount().negate());
+                    upsert.executeUpdate();
+                }
+                // The row is locked by the write above, so no other transaction can add a bill to it meanwhile
+                if (delta.sign() < 0) {
+                    try (PreparedStatement deleteEmpty = connection.prepareStatement(period.deleteEmpty)) {
+                        setKey(deleteEmpty, delta);
+                        deleteEmpty.executeUpdate();
+                    }
+                }
+            }
+        });
+    }
+
+    // Binds the row's key as the first four parameters: period start, status, trainer, method
+    private static void setKey(PreparedStatement statement, RowDelta delta) throws SQLException {
+        Bucket bucket = delta.bucket();
+        statement.setDate(1, Date.valueOf(delta.start()));
+        statement.setString(2, bucket.paymentStatus());
+        statement.setLong(3, bucket.trainerId());
+        statement.setString(4, bucket.paymentMethod());
+    }
+
+    // Recomputes both rollup tables from Billing in one transaction
+    public void rebuild() {
+        Transaction tx = null;
+        try (Session session = sessionFactory.openSession()) {
+            tx = session.beginTransaction();
+            session.doWork(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    if (postgres) {
+                        statement.execute(REBUILD_LOCK);
+                    }
+                    for (String sql : REBUILD) {
+                        statement.execute(sql);
+                    }
+                }
+            });
+            tx.commit();
+        } catch (Exception e) {
+            if (tx != null && tx.isActive()) tx.rollback();
+            throw e;
+        }
+    }
+
+    // Report: daily rows between two dates (inclusive), oldest first
+    public List<BillingDailyRollup> getDailyTotals(LocalDate from, LocalDate to) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<BillingDailyRollup> query = session.createNamedQuery(QueryCatalog.ROLLUP_DAILY_BETWEEN, BillingDailyRollup.class);
+            query.setParameter("from", from);
+            query.setParameter("to", to);
+            return query.getResultList();
+        }
+    }
+
+    // Report: monthly rows between two months (inclusive), oldest first
+    public List<BillingMonthlyRollup> getMonthlyTotals(YearMonth from, YearMonth to) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<BillingMonthlyRollup> query = session.createNamedQuery(QueryCatalog.ROLLUP_MONTHLY_BETWEEN, BillingMonthlyRollup.class);
+            query.setParameter("from", from.atDay(1));
+            query.setParameter("to", to.atDay(1));
+            return query.getResultList();
+        }
+    }
+
+    /**
+     * Rebuild command: java healthClubManagement.db.BillingRollup rebuild
+     */
+    public static void main(String[] args) {
+        if (args.length != 1 || !args[0].equals("rebuild")) {
+            System.err.println("usage: BillingRollup rebuild");
+            System.exit(2);
+        }
+        try {
+            long start = System.nanoTime();
+            HibernateUtil.getBillingRollup().rebuild();
+            System.out.println("Billing rollups rebuilt in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } finally {
+            HibernateUtil.shutdown();
+        }
+    }
+}
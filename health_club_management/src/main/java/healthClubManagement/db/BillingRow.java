@@ -0,0 +1,20 @@
+package healthClubManagement.db;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read-only row of the admin bills table, fetched with a constructor expression instead of a managed Billing.
+ */
+public record BillingRow(Long billId, String memberFirstName, String memberLastName,
+                         String trainerFirstName, String trainerLastName, BigDecimal amount,
+                         LocalDate paymentDate, String paymentStatus, String paymentMethod) {
+
+    public String memberName() {
+        return memberFirstName + " " + memberLastName;
+    }
+
+    public String trainerName() {
+        return trainerFirstName + " " + trainerLastName;
+    }
+}
@@ -0,0 +1,47 @@
+package healthClubManagement.db;
+
+import java.time.LocalDateTime;
+
+/**
+ * A PT session or class as the booking index sees it: who and where, over [start, end).
+ *
+ * Classes have no end time of their own; they are taken to last {@link BookingIndex#CLASS_DURATION}.
+ */
+public record Booking(Kind kind, Long id, Long roomId, Long trainerId, LocalDateTime start, LocalDateTime end) {
+
+    public enum Kind {
+        PT_SESSION, CLASS
+    }
+
+    // PT session row (QueryCatalog.BOOKING_PT_SESSIONS)
+    public Booking(Long sessionId, Long roomId, Long trainerId, LocalDateTime start, LocalDateTime end) {
+        this(Kind.PT_SESSION, sessionId, roomId, trainerId, start, end);
+    }
+
+    // Class row (QueryCatalog.BOOKING_CLASSES)
+    public Booking(Long classId, Long roomId, Long trainerId, LocalDateTime schedule) {
+        this(Kind.CLASS, classId, roomId, trainerId, schedule, schedule.plus(BookingIndex.CLASS_DURATION));
+    }
+
+    public static Booking of(PTSession session) {
+        return new Booking(session.getSessionId(), session.getRoom().getRoomId(), session.getTrainer().getTrainerId(),
+                session.getStartTime(), session.getEndTime());
+    }
+
+    public static Booking of(Class gymClass) {
+        return new Booking(gymClass.getClassId(), gymClass.getRoom().getRoomId(), gymClass.getTrainer().getTrainerId(),
+                gymClass.getSchedule());
+    }
+
+    public boolean isClass() {
+        return kind == Kind.CLASS;
+    }
+
+    public boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+        return start.isBefore(otherEnd) && end.isAfter(otherStart);
+    }
+
+    boolean sameBookingAs(Booking other) {
+        return other != null && kind == other.kind && id.equals(other.id);
+    }
+}
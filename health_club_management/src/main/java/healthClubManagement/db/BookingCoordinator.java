@@ -0,0 +1,223 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Books and moves PT sessions so that two clients can never take the same trainer or room for overlapping
+ * times.
+ *
+ * A booking locks its trainer and its room twice: first on one of a fixed set of in-process lock stripes, so
+ * threads of this client queue without each holding a pooled connection, then with a transaction-scoped
+ * PostgreSQL advisory lock, so other clients queue too. With both held, the overlap check runs against the
+ * database in the same transaction as the insert, and the locks are released by the commit. Bookings for
+ * different trainers and rooms share no lock (barring a stripe collision) and run fully in parallel.
+ *
+ * Lock order is fixed - stripes by index, then the trainer advisory lock before the room one - so two
+ * bookings that contend on both never deadlock.
+ *
+ * Classes are saved the same way under their room's locks alone, so a class and a PT session (or two
+ * classes) cannot take one room for the same hour either. {@link BookingIndex} only serves as a quick
+ * pre-check in front of these methods; it can miss another client's recent commit.
+ */
+public class BookingCoordinator {
+
+    public enum Outcome {
+        BOOKED, TRAINER_BUSY, ROOM_BUSY
+    }
+
+    // conflict is the first clashing booking, or null when BOOKED
+    public record Result(Outcome outcome, Booking conflict) {
+    }
+
+    public static final int DEFAULT_STRIPES = 64;
+
+    // First key of pg_advisory_xact_lock(int, int); the second is the trainer or room id
+    private static final int TRAINER_LOCK_SPACE = 7_245_101;
+    private static final int ROOM_LOCK_SPACE = 7_245_102;
+
+    private static final String ADVISORY_LOCK = "SELECT pg_advisory_xact_lock(?, ?)";
+
+    private static final Map<SessionFactory, BookingCoordinator> SHARED = new ConcurrentHashMap<>();
+
+    private final SessionFactory sessionFactory;
+    private final ReentrantLock[] stripes;
+
+    // The coordinator every booking on this SessionFactory should go through: bookings only queue on each
+    // other's lock stripes when they share one. Separate instances still exclude each other, but only through
+    // the advisory locks, each holding a pooled connection while it waits.
+    public static BookingCoordinator shared(SessionFactory sessionFactory) {
+        return SHARED.computeIfAbsent(sessionFactory, BookingCoordinator::new);
+    }
+
+    public BookingCoordinator(SessionFactory sessionFactory) {
+        this(sessionFactory, DEFAULT_STRIPES);
+    }
+
+    public BookingCoordinator(SessionFactory sessionFactory, int stripeCount) {
+        this.sessionFactory = sessionFactory;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // Persists a new PT session if its trainer and room are both free for its whole time
+    public Result book(PTSession ptSession) {
+        return schedule(ptSession, null, Session::persist);
+    }
+
+    // Saves a changed trainer, room or time of an existing PT session, checked the same way as a new booking
+    public Result reschedule(PTSession ptSession) {
+        return schedule(ptSession, ptSession.getSessionId(), Session::merge);
+    }
+
+    // Persists a new class, or saves a changed one, if its room is free for the class's hour
+    public Result scheduleClass(Class gymClass) {
+        Long roomId = gymClass.getRoom().getRoomId();
+        ReentrantLock stripe = stripes[stripe(ROOM_LOCK_SPACE, roomId)];
+        stripe.lock();
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            try {
+                advisoryLock(session, ROOM_LOCK_SPACE, roomId);
+
+                LocalDateTime start = gymClass.getSchedule();
+                Booking conflict = firstRoomConflict(session, roomId, start, start.plus(BookingIndex.CLASS_DURATION),
+                        gymClass.getClassId());
+                if (conflict != null) {
+                    tx.rollback();
+                    return new Result(Outcome.ROOM_BUSY, conflict);
+                }
+
+                if (gymClass.getClassId() == null) {
+                    session.persist(gymClass);
+                } else {
+                    session.merge(gymClass);
+                }
+                tx.commit();
+                return new Result(Outcome.BOOKED, null);
+            } catch (RuntimeException e) {
+                // Still inside the session: after close the rollback itself would fail and hide e
+                if (tx.isActive()) tx.rollback();
+                throw e;
+            }
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private Result schedule(PTSession ptSession, Long ignoreSessionId, BiConsumer<Session, PTSession> save) {
+        Long trainerId = ptSession.getTrainer().getTrainerId();
+        Long roomId = ptSession.getRoom().getRoomId();
+        int trainerStripe = stripe(TRAINER_LOCK_SPACE, trainerId);
+        int roomStripe = stripe(ROOM_LOCK_SPACE, roomId);
+        // Both may land on the same stripe; the lock is reentrant, so taking it twice is harmless
+        ReentrantLock first = stripes[Math.min(trainerStripe, roomStripe)];
+        ReentrantLock second = stripes[Math.max(trainerStripe, roomStripe)];
+
+        first.lock();
+        second.lock();
+        try {
+            return scheduleLocked(ptSession, trainerId, roomId, ignoreSessionId, save);
+        } finally {
+            second.unlock();
+            first.unlock();
+        }
+    }
+
+    private Result scheduleLocked(PTSession ptSession, Long trainerId, Long roomId, Long ignoreSessionId,
+                                  BiConsumer<Session, PTSession> save) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            try {
+                advisoryLock(session, TRAINER_LOCK_SPACE, trainerId);
+                advisoryLock(session, ROOM_LOCK_SPACE, roomId);
+
+                Booking conflict = firstConflict(session, trainerId, roomId, ptSession.getStartTime(),
+                        ptSession.getEndTime(), ignoreSessionId);
+                if (conflict != null) {
+                    tx.rollback();
+                    return new Result(trainerId.equals(conflict.trainerId()) ? Outcome.TRAINER_BUSY
+                            : Outcome.ROOM_BUSY, conflict);
+                }
+
+                save.accept(session, ptSession);
+                tx.commit();
+                return new Result(Outcome.BOOKED, null);
+            } catch (RuntimeException e) {
+                // Still inside the session: after close the rollback itself would fail and hide e
+                if (tx.isActive()) tx.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // Held until the session's transaction ends
+    private static void advisoryLock(Session session, int space, Long id) {
+        session.doWork(connection -> {
+            try (PreparedStatement lock = connection.prepareStatement(ADVISORY_LOCK)) {
+                lock.setInt(1, space);
+                lock.setInt(2, Long.hashCode(id));
+                lock.execute();
+            }
+        });
+    }
+
+    // First PT session or other class in the room overlapping [start, end), by start time
+    static Booking firstRoomConflict(Session session, Long roomId, LocalDateTime start, LocalDateTime end,
+                                     Long ignoreClassId) {
+        List<Booking> conflicts = new ArrayList<>(session
+                .createNamedQuery(QueryCatalog.BOOKING_ROOM_PT_SESSION_OVERLAP, Booking.class)
+                .setParameter("roomId", roomId)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .getResultList());
+        conflicts.addAll(session.createNamedQuery(QueryCatalog.BOOKING_ROOM_CLASS_OVERLAP, Booking.class)
+                .setParameter("roomId", roomId)
+                .setParameter("earliestStart", start.minus(BookingIndex.CLASS_DURATION))
+                .setParameter("end", end)
+                .setParameter("ignoreId", ignoreClassId)
+                .getResultList());
+        return conflicts.stream().min(java.util.Comparator.comparing(Booking::start)).orElse(null);
+    }
+
+    // A clash with the trainer is reported ahead of one with the room
+    private static Booking firstConflict(Session session, Long trainerId, Long roomId,
+                                         LocalDateTime start, LocalDateTime end, Long ignoreSessionId) {
+        List<Booking> conflicts = new ArrayList<>(session
+                .createNamedQuery(QueryCatalog.BOOKING_PT_SESSION_OVERLAP, Booking.class)
+                .setParameter("trainerId", trainerId)
+                .setParameter("roomId", roomId)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .setParameter("ignoreId", ignoreSessionId)
+                .getResultList());
+        conflicts.addAll(session.createNamedQuery(QueryCatalog.BOOKING_CLASS_OVERLAP, Booking.class)
+                .setParameter("trainerId", trainerId)
+                .setParameter("roomId", roomId)
+                .setParameter("earliestStart", start.minus(BookingIndex.CLASS_DURATION))
+                .setParameter("end", end)
+                .getResultList());
+        return conflicts.stream()
+                .filter(booking -> trainerId.equals(booking.trainerId()))
+                .findFirst()
+                .orElse(conflicts.isEmpty() ? null : conflicts.get(0));
+    }
+
+    private int stripe(int space, Long id) {
+        // Spread sequential ids before reducing them to a stripe index
+        int hash = (31 * space + Long.hashCode(id)) * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+}
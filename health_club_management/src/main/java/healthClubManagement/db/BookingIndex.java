@@ -0,0 +1,265 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of every PT session and class, per room and per trainer, for double-booking checks.
+ *
+ * Each room and trainer has its bookings sorted by start time. A range query only visits bookings that start
+ * between (start - longest booking) and end, so "is this interval free?" and "all conflicts in range" cost
+ * O(log n + k) instead of a database round trip per check.
+ *
+ * The index is loaded once and kept current from {@link EntityChangeHub} after every commit made by this
+ * process. Writes from other clients or native SQL are picked up by a background reload once the index is
+ * older than the reload interval, so it is only a fast pre-check: writes re-check against the database inside
+ * their own transaction through {@link BookingCoordinator}.
+ */
+public class BookingIndex {
+
+    // Classes only store a start time; they block their room and trainer for this long
+    public static final Duration CLASS_DURATION = Duration.ofHours(1);
+
+    public static final Duration DEFAULT_RELOAD_INTERVAL = Duration.ofMinutes(5);
+
+    private record Key(Booking.Kind kind, Long id) {
+    }
+
+    // The bookings of one room or one trainer, ordered by start time
+    private static final class Timeline {
+
+        private final TreeMap<LocalDateTime, List<Booking>> byStart = new TreeMap<>();
+        // Longest booking on the timeline; nothing that starts earlier than (start - longest) can reach start
+        private Duration longest = Duration.ZERO;
+
+        void add(Booking booking) {
+            byStart.computeIfAbsent(booking.start(), start -> new ArrayList<>(1)).add(booking);
+            if (length(booking).compareTo(longest) > 0) {
+                longest = length(booking);
+            }
+        }
+
+        void remove(Booking booking) {
+            List<Booking> startingTogether = byStart.get(booking.start());
+            if (startingTogether == null) return;
+            if (!startingTogether.removeIf(booking::sameBookingAs)) return;
+            if (startingTogether.isEmpty()) {
+                byStart.remove(booking.start());
+            }
+            // The longest booking left: otherwise one long booking would widen every later lookup for good
+            if (length(booking).compareTo(longest) >= 0) {
+                longest = Duration.ZERO;
+                for (List<Booking> bookings : byStart.values()) {
+                    for (Booking remaining : bookings) {
+                        if (length(remaining).compareTo(longest) > 0) {
+                            longest = length(remaining);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static Duration length(Booking booking) {
+            return Duration.between(booking.start(), booking.end());
+        }
+
+        // Adds up to limit bookings overlapping [start, end) to out, in start order
+        void collect(LocalDateTime start, LocalDateTime end, Booking ignore, int limit, List<Booking> out) {
+            for (List<Booking> startingTogether : byStart.subMap(start.minus(longest), false, end, false).values()) {
+                for (Booking booking : startingTogether) {
+                    if (booking.end().isAfter(start) && !booking.sameBookingAs(ignore)) {
+                        out.add(booking);
+                        if (out.size() >= limit) return;
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class State {
+
+        private final Map<Key, Booking> bookings = new HashMap<>();
+        private final Map<Long, Timeline> rooms = new HashMap<>();
+        private final Map<Long, Timeline> trainers = new HashMap<>();
+
+        void put(Booking booking) {
+            remove(booking.kind(), booking.id());
+            bookings.put(new Key(booking.kind(), booking.id()), booking);
+            rooms.computeIfAbsent(booking.roomId(), id -> new Timeline()).add(booking);
+            trainers.computeIfAbsent(booking.trainerId(), id -> new Timeline()).add(booking);
+        }
+
+        void remove(Booking.Kind kind, Long id) {
+            Booking old = bookings.remove(new Key(kind, id));
+            if (old == null) return;
+            rooms.get(old.roomId()).remove(old);
+            trainers.get(old.trainerId()).remove(old);
+        }
+    }
+
+    private final SessionFactory sessionFactory;
+    private final AsyncDataService async;
+    private final long reloadIntervalNanos;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    // Bumped whenever the indexed bookings change, so derived caches (FreeBusyCalendar) know to recompute
+    private final AtomicLong version = new AtomicLong();
+    // Guarded by lock
+    private State state = new State();
+    private long loadedAtNanos;
+    // Non-null while a reload runs: commits seen meanwhile, replayed onto the freshly loaded state
+    private List<Consumer<State>> changedDuringReload;
+
+    public BookingIndex(SessionFactory sessionFactory, AsyncDataService async, Duration reloadInterval,
+                        EntityChangeHub changes) {
+        this.sessionFactory = sessionFactory;
+        this.async = async;
+        this.reloadIntervalNanos = reloadInterval.toNanos();
+
+        changes.subscribe(PTSession.class, (entity, change) -> {
+            PTSession session = (PTSession) entity;
+            if (change == EntityChangeHub.Change.DELETE) {
+                apply(s -> s.remove(Booking.Kind.PT_SESSION, session.getSessionId()));
+            } else {
+                Booking booking = Booking.of(session);
+                apply(s -> s.put(booking));
+            }
+        });
+        changes.subscribe(Class.class, (entity, change) -> {
+            Class gymClass = (Class) entity;
+            if (change == EntityChangeHub.Change.DELETE) {
+                apply(s -> s.remove(Booking.Kind.CLASS, gymClass.getClassId()));
+            } else {
+                Booking booking = Booking.of(gymClass);
+                apply(s -> s.put(booking));
+            }
+        });
+        reload();
+    }
+
+    // Bookings in the room overlapping [start, end), by start time
+    public List<Booking> roomConflicts(Room room, LocalDateTime start, LocalDateTime end) {
+        return roomConflicts(room, start, end, null);
+    }
+
+    // As above, leaving out ignore (the session or class being moved)
+    public List<Booking> roomConflicts(Room room, LocalDateTime start, LocalDateTime end, Booking ignore) {
+        return find(true, room.getRoomId(), start, end, ignore, Integer.MAX_VALUE);
+    }
+
+    public boolean isRoomFree(Room room, LocalDateTime start, LocalDateTime end, Booking ignore) {
+        return find(true, room.getRoomId(), start, end, ignore, 1).isEmpty();
+    }
+
+    // Sessions and classes of the trainer overlapping [start, end), by start time
+    public List<Booking> trainerConflicts(Trainer trainer, LocalDateTime start, LocalDateTime end) {
+        return trainerConflicts(trainer, start, end, null);
+    }
+
+    public List<Booking> trainerConflicts(Trainer trainer, LocalDateTime start, LocalDateTime end, Booking ignore) {
+        return find(false, trainer.getTrainerId(), start, end, ignore, Integer.MAX_VALUE);
+    }
+
+    public boolean isTrainerFree(Trainer trainer, LocalDateTime start, LocalDateTime end, Booking ignore) {
+        return find(false, trainer.getTrainerId(), start, end, ignore, 1).isEmpty();
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    List<Booking> roomBookings(Long roomId, LocalDateTime start, LocalDateTime end) {
+        return find(true, roomId, start, end, null, Integer.MAX_VALUE);
+    }
+
+    List<Booking> trainerBookings(Long trainerId, LocalDateTime start, LocalDateTime end) {
+        return find(false, trainerId, start, end, null, Integer.MAX_VALUE);
+    }
+
+    private List<Booking> find(boolean byRoom, Long id, LocalDateTime start, LocalDateTime end,
+                               Booking ignore, int limit) {
+        List<Booking> conflicts = new ArrayList<>();
+        boolean stale;
+        lock.readLock().lock();
+        try {
+            Timeline timeline = (byRoom ? state.rooms : state.trainers).get(id);
+            if (timeline != null) {
+                timeline.collect(start, end, ignore, limit, conflicts);
+            }
+            stale = System.nanoTime() - loadedAtNanos > reloadIntervalNanos;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (stale && !reloading.get()) {
+            async.run(this::reload);
+        }
+        return conflicts;
+    }
+
+    private void apply(Consumer<State> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            version.incrementAndGet();
+            if (changedDuringReload != null) {
+                changedDuringReload.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Reloads every booking from the database; a no-op if a reload is already running
+    public void reload() {
+        if (!reloading.compareAndSet(false, true)) return;
+        lock.writeLock().lock();
+        try {
+            changedDuringReload = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            long start = System.nanoTime();
+            State loaded = load();
+            lock.writeLock().lock();
+            try {
+                changedDuringReload.forEach(change -> change.accept(loaded));
+                state = loaded;
+                loadedAtNanos = start;
+                version.incrementAndGet();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            reloading.set(false);
+        }
+    }
+
+    private State load() {
+        State loaded = new State();
+        try (Session session = sessionFactory.openSession()) {
+            session.createNamedQuery(QueryCatalog.BOOKING_PT_SESSIONS, Booking.class).getResultList().forEach(loaded::put);
+            session.createNamedQuery(QueryCatalog.BOOKING_CLASSES, Booking.class).getResultList().forEach(loaded::put);
+        }
+        return loaded;
+    }
+}
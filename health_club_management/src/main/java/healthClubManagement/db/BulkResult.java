@@ -0,0 +1,32 @@
+package healthClubManagement.db;
+
+import java.util.List;
+
+/**
+ * Outcome of a {@link BulkWriter} run: how many items were written and which ones failed (with the cause).
+ */
+public record BulkResult<T>(int attempted, int succeeded, List<Failure<T>> failures, long elapsedNanos) {
+
+    public record Failure<T>(T item, Exception error) {
+    }
+
+    // True when every item was written
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+
+    public double getItemsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : attempted * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{" +
+                "attempted=" + attempted +
+                ", succeeded=" + succeeded +
+                ", failed=" + failures.size() +
+                ", elapsedMs=" + elapsedNanos / 1_000_000 +
+                ", itemsPerSecond=" + String.format("%.1f", getItemsPerSecond()) +
+                '}';
+    }
+}
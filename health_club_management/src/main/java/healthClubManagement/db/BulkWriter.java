@@ -0,0 +1,137 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Chunked bulk persist/merge/remove shared by the DAO createAll/updateAll/deleteAll methods.
+ *
+ * Each chunk runs in one transaction, flushing and clearing the session every JDBC batch so inserts go out
+ * as batches and the persistence context stays small. If a chunk fails it is rolled back and its items are
+ * retried one per transaction, so the result names exactly the items that could not be written.
+ */
+public class BulkWriter {
+
+    // Items per transaction
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    // Flush interval when hibernate.jdbc.batch_size is not set
+    private static final int DEFAULT_FLUSH_INTERVAL = 50;
+
+    private static final String BATCH_SIZE = "hibernate.jdbc.batch_size";
+
+    public enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+
+    private final SessionFactory sessionFactory;
+    private final int chunkSize;
+    private final int flushInterval;
+
+    public BulkWriter(SessionFactory sessionFactory) {
+        this(sessionFactory, DEFAULT_CHUNK_SIZE);
+    }
+
+    public BulkWriter(SessionFactory sessionFactory, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.sessionFactory = sessionFactory;
+        this.chunkSize = chunkSize;
+        int batchSize = batchSize(sessionFactory);
+        this.flushInterval = batchSize > 0 ? batchSize : DEFAULT_FLUSH_INTERVAL;
+    }
+
+    // hibernate.jdbc.batch_size as configured, or 0 if it is not set
+    private static int batchSize(SessionFactory sessionFactory) {
+        Object value = sessionFactory.getProperties().get(BATCH_SIZE);
+        return value == null ? 0 : Integer.parseInt(value.toString().trim());
+    }
+
+    public <T> BulkResult<T> write(Operation operation, Collection<? extends T> items) {
+        long start = System.nanoTime();
+        List<T> list = new ArrayList<>(items);
+        List<BulkResult.Failure<T>> failures = new ArrayList<>();
+        int succeeded = 0;
+
+        for (int from = 0; from < list.size(); from += chunkSize) {
+            List<T> chunk = list.subList(from, Math.min(from + chunkSize, list.size()));
+            if (writeChunk(operation, chunk) == null) {
+                succeeded += chunk.size();
+                continue;
+            }
+            // The chunk was rolled back; redo it item by item to isolate the bad rows
+            for (T item : chunk) {
+                Exception error = writeChunk(operation, List.of(item));
+                if (error == null) {
+                    succeeded++;
+                } else {
+                    failures.add(new BulkResult.Failure<>(item, error));
+                }
+            }
+        }
+        return new BulkResult<>(list.size(), succeeded, failures, System.nanoTime() - start);
+    }
+
+    // Returns null on commit, or the exception that caused the rollback
+    private <T> Exception writeChunk(Operation operation, List<T> chunk) {
+        List<T> newItems = operation == Operation.CREATE ? withoutIdentifier(chunk) : List.of();
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            try {
+                for (int i = 0; i < chunk.size(); i++) {
+                    apply(session, operation, chunk.get(i));
+                    if ((i + 1) % flushInterval == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+                tx.commit();
+                return null;
+            } catch (RuntimeException e) {
+                if (tx.isActive()) tx.rollback();
+                clearIdentifiers(session, newItems);
+                return e;
+            }
+        } catch (RuntimeException e) {
+            // Could not even open a session/transaction (e.g. pool exhausted)
+            return e;
+        }
+    }
+
+    private static void apply(Session session, Operation operation, Object item) {
+        switch (operation) {
+            case CREATE -> session.persist(item);
+            case UPDATE -> session.merge(item);
+            case DELETE -> session.remove(item);
+        }
+    }
+
+    private <T> List<T> withoutIdentifier(List<T> items) {
+        List<T> result = new ArrayList<>();
+        for (T item : items) {
+            if (sessionFactory.getPersistenceUnitUtil().getIdentifier(item) == null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    // A rolled-back persist leaves the sequence value in the entity; drop it so the item can be persisted again
+    private void clearIdentifiers(Session session, List<?> items) {
+        SessionFactoryImplementor factory = sessionFactory.unwrap(SessionFactoryImplementor.class);
+        SessionImplementor sessionImplementor = session.unwrap(SessionImplementor.class);
+        for (Object item : items) {
+            factory.getMappingMetamodel()
+                    .getEntityDescriptor(item.getClass())
+                    .setIdentifier(item, null, sessionImplementor);
+        }
+    }
+}
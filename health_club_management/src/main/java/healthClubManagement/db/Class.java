@@ -1,22 +1,32 @@
 package healthClubManagement.db;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "Class")
+@NamedEntityGraph(name = EntityGraphs.CLASS_LISTING, attributeNodes = {
+        @NamedAttributeNode("trainer"),
+        @NamedAttributeNode("room")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCache.CLASS_REGION)
 public class Class {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "class_seq")
+    @SequenceGenerator(name = "class_seq", sequenceName = "class_seq", allocationSize = 50)
     @Column(name = "class_id")
     private Long classId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trainer_id", nullable = false)
     private Trainer trainer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
@@ -26,6 +36,10 @@ public class Class {
     @Column(name = "capacity", nullable = false)
     private int capacity;
 
+    // Maintained in the database by ClassEnrollment; never written from the entity
+    @ColumnDefault("0")
+    @Column(name = "enrolled_count", nullable = false, insertable = false, updatable = false)
+    private int enrolledCount;
 
     @Column(name = "schedule", nullable = false)
     private LocalDateTime schedule;
@@ -85,6 +99,10 @@ public class Class {
         this.capacity = capacity;
     }
 
+    public int getEnrolledCount() {
+        return enrolledCount;
+    }
+
     public LocalDateTime getSchedule() {
         return schedule;
     }
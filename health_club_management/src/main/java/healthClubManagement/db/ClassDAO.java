@@ -5,14 +5,17 @@ import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public class ClassDAO {
 
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public ClassDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create: add a new class
@@ -28,20 +31,23 @@ public class ClassDAO {
         }
     }
 
+    // Create: add many classes, one transaction per chunk
+    public BulkResult<Class> createAll(Collection<Class> classes) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, classes);
+    }
+
     // Read: get class by id
     public Class getClassById(Long classId) {
         try (Session session = sessionFactory.openSession()) {
-            return session.find(Class.class, classId);
+            return EntityGraphs.find(session, Class.class, classId, EntityGraphs.CLASS_LISTING);
         }
     }
 
     // Read: get all classes (for listing / dropdowns)
     public List<Class> getAllClasses() {
         try (Session session = sessionFactory.openSession()) {
-            Query<Class> query = session.createQuery(
-                    "FROM Class",
-                    Class.class
-            );
+            Query<Class> query = session.createNamedQuery(QueryCatalog.CLASS_ALL, Class.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.CLASS_LISTING);
             return query.getResultList();
         }
     }
@@ -49,22 +55,27 @@ public class ClassDAO {
     // Read: get classes taught by a specific trainer
     public List<Class> getClassesByTrainer(Trainer trainer) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Class> query = session.createQuery(
-                    "FROM Class c WHERE c.trainer = :trainer",
-                    Class.class
-            );
+            Query<Class> query = session.createNamedQuery(QueryCatalog.CLASS_BY_TRAINER, Class.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.CLASS_LISTING);
             query.setParameter("trainer", trainer);
             return query.getResultList();
         }
     }
 
+    // Read: number of classes taught by a trainer
+    public long countClassesByTrainer(Trainer trainer) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<Long> query = session.createNamedQuery(QueryCatalog.CLASS_COUNT_BY_TRAINER, Long.class);
+            query.setParameter("trainer", trainer);
+            return query.uniqueResult();
+        }
+    }
+
     // Read: get classes in a specific room
     public List<Class> getClassesByRoom(Room room) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Class> query = session.createQuery(
-                    "FROM Class c WHERE c.room = :room",
-                    Class.class
-            );
+            Query<Class> query = session.createNamedQuery(QueryCatalog.CLASS_BY_ROOM, Class.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.CLASS_LISTING);
             query.setParameter("room", room);
             return query.getResultList();
         }
@@ -77,12 +88,20 @@ public class ClassDAO {
             tx = session.beginTransaction();
             session.merge(gymClass);
             tx.commit();
+            ReferenceCache.evict(sessionFactory, Class.class, gymClass.getClassId());
         } catch (Exception e) {
             if (tx != null) tx.rollback();
             e.printStackTrace();
         }
     }
 
+    // Update: save changes to many classes, one transaction per chunk
+    public BulkResult<Class> updateAll(Collection<Class> classes) {
+        BulkResult<Class> result = bulkWriter.write(BulkWriter.Operation.UPDATE, classes);
+        ReferenceCache.evict(sessionFactory, Class.class, null);
+        return result;
+    }
+
     // Delete: remove a class
     public void deleteClass(Class gymClass) {
         Transaction tx = null;
@@ -90,9 +109,17 @@ public class ClassDAO {
             tx = session.beginTransaction();
             session.remove(gymClass);
             tx.commit();
+            ReferenceCache.evict(sessionFactory, Class.class, gymClass.getClassId());
         } catch (Exception e) {
             if (tx != null) tx.rollback();
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many classes, one transaction per chunk
+    public BulkResult<Class> deleteAll(Collection<Class> classes) {
+        BulkResult<Class> result = bulkWriter.write(BulkWriter.Operation.DELETE, classes);
+        ReferenceCache.evict(sessionFactory, Class.class, null);
+        return result;
+    }
 }
@@ -0,0 +1,400 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class sign-up that cannot overbook: a seat is reserved with a guarded update of Class.enrolled_count
+ * (V5 migration) in the same statement that inserts the MemberClass row.
+ *
+ * Concurrent sign-ups for the same class queue on the class row; each re-checks enrolled_count < capacity
+ * once it gets the lock, so the last seat goes to exactly one of them. A second sign-up by the same member
+ * waits on the MemberClass primary key and then inserts nothing. The seats left come back in the same round
+ * trip. MemberClass rows added or removed through a Session (the DAOs, BulkWriter) keep the count in step
+ * via the listener half of this class; an insert there takes its seat with the same guarded update, and
+ * fails with a {@link ClassFullException} (rolling back its transaction) when no seat is left.
+ *
+ * A member who finds the class full can join its waitlist (V6 migration). Whenever seats free up - a
+ * MemberClass row is deleted, or the capacity of an upcoming class is raised - the head of the waitlist is
+ * promoted into them in the same transaction, under the same class row lock that sign-ups take.
+ */
+public class ClassEnrollment implements PostInsertEventListener, PostDeleteEventListener, PostUpdateEventListener {
+
+    public enum Outcome {
+        ENROLLED, ALREADY_ENROLLED, FULL, WAITLISTED
+    }
+
+    public record Result(Outcome outcome, int seatsLeft) {
+    }
+
+    // place is the member's place in line (1 = next) when WAITLISTED, otherwise 0
+    public record WaitlistResult(Outcome outcome, long place) {
+    }
+
+    // enrolment inserts the row unless the member already has it; seat takes a seat only for a fresh row and
+    // only while one is left. The outer select reports both, plus the seats seen before this statement.
+    private static final String ENROLL =
+            "WITH enrolment AS ( " +
+            "  INSERT INTO MemberClass (member_id, class_id) VALUES (?, ?) " +
+            "  ON CONFLICT DO NOTHING RETURNING class_id), " +
+            "seat AS ( " +
+            "  UPDATE Class c SET enrolled_count = c.enrolled_count + 1 FROM enrolment e " +
+            "  WHERE c.class_id = e.class_id AND c.enrolled_count < c.capacity " +
+            "  RETURNING c.capacity - c.enrolled_count AS seats_left) " +
+            "SELECT (SELECT COUNT(*) FROM enrolment), (SELECT seats_left FROM seat), " +
+            "(SELECT capacity - enrolled_count FROM Class WHERE class_id = ?)";
+
+    // Same guard as ENROLL's seat step, for MemberClass rows inserted through a Session
+    private static final String RESERVE_SEAT =
+            "UPDATE Class SET enrolled_count = enrolled_count + 1 WHERE class_id = ? AND enrolled_count < capacity";
+
+    private static final String ADJUST_COUNT =
+            "UPDATE Class SET enrolled_count = enrolled_count + ? WHERE class_id = ?";
+
+    // Serializes waitlist changes and promotions for one class; no row once the class has started
+    private static final String LOCK_OPEN_SEATS =
+            "SELECT capacity - enrolled_count FROM Class WHERE class_id = ? AND schedule > ? FOR UPDATE";
+
+    private static final String IS_ENROLLED =
+            "SELECT 1 FROM MemberClass WHERE member_id = ? AND class_id = ?";
+
+    private static final String WAITLIST_POSITION =
+            "SELECT position FROM ClassWaitlist WHERE class_id = ? AND member_id = ?";
+
+    private static final String WAITLIST_JOIN =
+            "INSERT INTO ClassWaitlist (class_id, member_id, position, joined_at) " +
+            "SELECT ?, ?, COALESCE(MAX(position), 0) + 1, ? FROM ClassWaitlist WHERE class_id = ?";
+
+    private static final String WAITLIST_PLACE =
+            "SELECT COUNT(*) FROM ClassWaitlist WHERE class_id = ? AND position <= ?";
+
+    private static final String WAITLIST_HEAD =
+            "SELECT member_id FROM ClassWaitlist WHERE class_id = ? ORDER BY position LIMIT ?";
+
+    private static final String WAITLIST_REMOVE =
+            "DELETE FROM ClassWaitlist WHERE class_id = ? AND member_id = ?";
+
+    private static final String PROMOTE =
+            "INSERT INTO MemberClass (member_id, class_id) SELECT ?, ? WHERE NOT EXISTS " +
+            "(SELECT 1 FROM MemberClass WHERE member_id = ? AND class_id = ?)";
+
+    private final SessionFactory sessionFactory;
+
+    private ClassEnrollment(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    // Registers the enrolled_count listener on the given SessionFactory
+    public static ClassEnrollment install(SessionFactory sessionFactory) {
+        ClassEnrollment enrollment = new ClassEnrollment(sessionFactory);
+        EventListenerRegistry registry = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, enrollment);
+        registry.appendListeners(EventType.POST_DELETE, enrollment);
+        registry.appendListeners(EventType.POST_UPDATE, enrollment);
+        return enrollment;
+    }
+
+    // Signs the member up for the class if a seat is left; one statement, then commit or rollback
+    public Result enroll(Member member, Class gymClass) {
+        Long classId = gymClass.getClassId();
+        Transaction tx = null;
+        try (Session session = sessionFactory.openSession()) {
+            tx = session.beginTransaction();
+            Result result = session.doReturningWork(connection -> {
+                try (PreparedStatement enroll = connection.prepareStatement(ENROLL)) {
+                    enroll.setLong(1, member.getMemberId());
+                    enroll.setLong(2, classId);
+                    enroll.setLong(3, classId);
+                    try (ResultSet row = enroll.executeQuery()) {
+                        row.next();
+                        boolean inserted = row.getLong(1) > 0;
+                        int seatsLeft = row.getInt(2);
+                        if (!row.wasNull()) {
+                            return new Result(Outcome.ENROLLED, seatsLeft);
+                        }
+                        int seatsBefore = Math.max(row.getInt(3), 0);
+                        return new Result(inserted ? Outcome.FULL : Outcome.ALREADY_ENROLLED, seatsBefore);
+                    }
+                }
+            });
+            if (result.outcome() == Outcome.ENROLLED) {
+                // A seat beats a place in line; drop the member from this class's waitlist if they were on it
+                session.doWork(connection -> removeFromWaitlist(connection, classId, member.getMemberId()));
+                tx.commit();
+                evict(classId);
+            } else {
+                // A FULL outcome still inserted the MemberClass row; rolling back removes it
+                tx.rollback();
+            }
+            return result;
+        } catch (RuntimeException e) {
+            if (tx != null && tx.isActive()) tx.rollback();
+            throw e;
+        }
+    }
+
+    // Puts the member at the back of the class waitlist, unless they already hold a seat or a place in line.
+    // If a seat is free by the time the class row is locked, the waitlist is promoted straight away and the
+    // member may come back ENROLLED.
+    public WaitlistResult joinWaitlist(Member member, Class gymClass) {
+        Long classId = gymClass.getClassId();
+        Long memberId = member.getMemberId();
+        Transaction tx = null;
+        try (Session session = sessionFactory.openSession()) {
+            tx = session.beginTransaction();
+            WaitlistResult result = session.doReturningWork(connection -> {
+                if (lockOpenSeats(connection, classId) == null) {
+                    throw new IllegalStateException("Class " + gymClass.getName() + " has already started");
+                }
+                if (isEnrolled(connection, classId, memberId)) {
+                    return new WaitlistResult(Outcome.ALREADY_ENROLLED, 0);
+                }
+                Long position = waitlistPosition(connection, classId, memberId);
+                if (position == null) {
+                    try (PreparedStatement join = connection.prepareStatement(WAITLIST_JOIN)) {
+                        join.setLong(1, classId);
+                        join.setLong(2, memberId);
+                        join.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+                        join.setLong(4, classId);
+                        join.executeUpdate();
+                    }
+                }
+                if (promote(connection, classId).contains(memberId)) {
+                    return new WaitlistResult(Outcome.ENROLLED, 0);
+                }
+                return new WaitlistResult(Outcome.WAITLISTED,
+                        waitlistPlace(connection, classId, waitlistPosition(connection, classId, memberId)));
+            });
+            tx.commit();
+            evict(classId);
+            return result;
+        } catch (RuntimeException e) {
+            if (tx != null && tx.isActive()) tx.rollback();
+            throw e;
+        }
+    }
+
+    // Takes the member off the class waitlist; false if they were not on it
+    public boolean leaveWaitlist(Member member, Class gymClass) {
+        Transaction tx = null;
+        try (Session session = sessionFactory.openSession()) {
+            tx = session.beginTransaction();
+            boolean removed = session.doReturningWork(connection ->
+                    removeFromWaitlist(connection, gymClass.getClassId(), member.getMemberId()));
+            tx.commit();
+            return removed;
+        } catch (RuntimeException e) {
+            if (tx != null && tx.isActive()) tx.rollback();
+            throw e;
+        }
+    }
+
+    // Fills any free seats of an upcoming class from its waitlist; returns the promoted member ids
+    public List<Long> promoteWaitlist(Class gymClass) {
+        Long classId = gymClass.getClassId();
+        Transaction tx = null;
+        try (Session session = sessionFactory.openSession()) {
+            tx = session.beginTransaction();
+            List<Long> promoted = session.doReturningWork(connection -> promote(connection, classId));
+            tx.commit();
+            if (!promoted.isEmpty()) evict(classId);
+            return promoted;
+        } catch (RuntimeException e) {
+            if (tx != null && tx.isActive()) tx.rollback();
+            throw e;
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof MemberClass memberClass) {
+            reserveSeat(event.getSession(), memberClass);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof MemberClass memberClass) {
+            // With JDBC batching the MemberClass DELETE may still be queued; send it before freeing the seat
+            event.getSession().getJdbcCoordinator().executeBatch();
+            adjust(event.getSession(), memberClass, -1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Class gymClass && capacityRaised(event)) {
+            Long classId = gymClass.getClassId();
+            EventSource session = event.getSession();
+            // With JDBC batching the capacity UPDATE may still be queued; send it before reading the seats
+            session.getJdbcCoordinator().executeBatch();
+            // Batch promotion: as many waitlisted members as the new capacity has room for
+            session.doWork(connection -> promote(connection, classId));
+            session.getActionQueue().registerProcess((success, s) -> evict(classId));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // Takes a seat for a MemberClass row just inserted through a Session, or fails the insert if none is left
+    private void reserveSeat(EventSource session, MemberClass memberClass) {
+        Long classId = memberClass.getGymClass().getClassId();
+        boolean reserved = session.doReturningWork(connection -> {
+            try (PreparedStatement reserve = connection.prepareStatement(RESERVE_SEAT)) {
+                reserve.setLong(1, classId);
+                return reserve.executeUpdate() > 0;
+            }
+        });
+        if (!reserved) {
+            throw new ClassFullException(classId);
+        }
+        session.getActionQueue().registerProcess((success, s) -> evict(classId));
+    }
+
+    private void adjust(EventSource session, MemberClass memberClass, int delta) {
+        Long classId = memberClass.getGymClass().getClassId();
+        session.doWork(connection -> {
+            try (PreparedStatement adjust = connection.prepareStatement(ADJUST_COUNT)) {
+                adjust.setInt(1, delta);
+                adjust.setLong(2, classId);
+                adjust.executeUpdate();
+            }
+            if (delta < 0) promote(connection, classId);
+        });
+        // The count changed behind Hibernate's back; drop the cached Class once the transaction is over
+        session.getActionQueue().registerProcess((success, s) -> evict(classId));
+    }
+
+    private static boolean capacityRaised(PostUpdateEvent event) {
+        int capacity = event.getPersister().getPropertyIndex("capacity");
+        Object[] oldState = event.getOldState();
+        // Without the loaded state (update of a detached entity) assume it may have been raised
+        return oldState == null || (int) event.getState()[capacity] > (int) oldState[capacity];
+    }
+
+    // Free seats of the class with its row now locked, or null if there is no such upcoming class
+    private static Integer lockOpenSeats(Connection connection, Long classId) throws SQLException {
+        try (PreparedStatement lock = connection.prepareStatement(LOCK_OPEN_SEATS)) {
+            lock.setLong(1, classId);
+            lock.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            try (ResultSet row = lock.executeQuery()) {
+                return row.next() ? row.getInt(1) : null;
+            }
+        }
+    }
+
+    // Moves the head of the waitlist into the free seats, oldest position first, and bumps enrolled_count
+    // to match. Members promoted here bypass the listener above, so the count is adjusted once for the batch.
+    private static List<Long> promote(Connection connection, Long classId) throws SQLException {
+        List<Long> promoted = new ArrayList<>();
+        Integer openSeats = lockOpenSeats(connection, classId);
+        if (openSeats == null || openSeats <= 0) return promoted;
+
+        List<Long> head = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(WAITLIST_HEAD)) {
+            select.setLong(1, classId);
+            select.setInt(2, openSeats);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) head.add(rows.getLong(1));
+            }
+        }
+        if (head.isEmpty()) return promoted;
+
+        try (PreparedStatement insert = connection.prepareStatement(PROMOTE);
+             PreparedStatement remove = connection.prepareStatement(WAITLIST_REMOVE)) {
+            for (Long memberId : head) {
+                insert.setLong(1, memberId);
+                insert.setLong(2, classId);
+                insert.setLong(3, memberId);
+                insert.setLong(4, classId);
+                insert.addBatch();
+                remove.setLong(1, classId);
+                remove.setLong(2, memberId);
+                remove.addBatch();
+            }
+            int[] inserted = insert.executeBatch();
+            remove.executeBatch();
+            for (int i = 0; i < inserted.length; i++) {
+                // Anyone already holding a seat just leaves the waitlist
+                if (inserted[i] != 0) promoted.add(head.get(i));
+            }
+        }
+        if (!promoted.isEmpty()) {
+            try (PreparedStatement adjust = connection.prepareStatement(ADJUST_COUNT)) {
+                adjust.setInt(1, promoted.size());
+                adjust.setLong(2, classId);
+                adjust.executeUpdate();
+            }
+        }
+        return promoted;
+    }
+
+    private static boolean isEnrolled(Connection connection, Long classId, Long memberId) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(IS_ENROLLED)) {
+            select.setLong(1, memberId);
+            select.setLong(2, classId);
+            try (ResultSet row = select.executeQuery()) {
+                return row.next();
+            }
+        }
+    }
+
+    private static Long waitlistPosition(Connection connection, Long classId, Long memberId) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(WAITLIST_POSITION)) {
+            select.setLong(1, classId);
+            select.setLong(2, memberId);
+            try (ResultSet row = select.executeQuery()) {
+                return row.next() ? row.getLong(1) : null;
+            }
+        }
+    }
+
+    private static long waitlistPlace(Connection connection, Long classId, long position) throws SQLException {
+        try (PreparedStatement count = connection.prepareStatement(WAITLIST_PLACE)) {
+            count.setLong(1, classId);
+            count.setLong(2, position);
+            try (ResultSet row = count.executeQuery()) {
+                row.next();
+                return row.getLong(1);
+            }
+        }
+    }
+
+    private static boolean removeFromWaitlist(Connection connection, Long classId, Long memberId) throws SQLException {
+        try (PreparedStatement remove = connection.prepareStatement(WAITLIST_REMOVE)) {
+            remove.setLong(1, classId);
+            remove.setLong(2, memberId);
+            return remove.executeUpdate() > 0;
+        }
+    }
+
+    private void evict(Long classId) {
+        sessionFactory.getCache().evictEntityData(Class.class, classId);
+    }
+}
@@ -0,0 +1,19 @@
+package healthClubManagement.db;
+
+/**
+ * Thrown when a MemberClass row is inserted through a Session for a class with no seat left. The insert's
+ * transaction must be rolled back; {@link ClassEnrollment#enroll} reports a full class as an outcome instead.
+ */
+public class ClassFullException extends IllegalStateException {
+
+    private final Long classId;
+
+    public ClassFullException(Long classId) {
+        super("Class " + classId + " is full");
+        this.classId = classId;
+    }
+
+    public Long getClassId() {
+        return classId;
+    }
+}
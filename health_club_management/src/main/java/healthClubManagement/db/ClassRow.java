@@ -0,0 +1,14 @@
+package healthClubManagement.db;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row for group class tables: the class schedule plus its trainer and room names.
+ */
+public record ClassRow(Long classId, String name, LocalDateTime schedule,
+                       String trainerFirstName, String trainerLastName, String roomName) {
+
+    public String trainerName() {
+        return trainerFirstName + " " + trainerLastName;
+    }
+}
@@ -0,0 +1,140 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard figures, each set computed in a single aggregate query and kept as an immutable snapshot.
+ *
+ * A snapshot younger than the TTL is returned without touching the database. An older one is still returned
+ * immediately while a fresh copy is loaded in the background. Commits that touch the counted entities drop
+ * the affected snapshots (via {@link EntityChangeHub}), so the next read sees the write.
+ */
+public class DashboardStats {
+
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(60);
+
+    private record Snapshot(Object value, long loadedAtNanos) {
+    }
+
+    // The snapshots plus a count bumped on every invalidation, replaced together as one immutable value
+    private record State(long generation, Map<Object, Snapshot> snapshots) {
+
+        State with(Object key, Snapshot snapshot) {
+            Map<Object, Snapshot> updated = new HashMap<>(snapshots);
+            updated.put(key, snapshot);
+            return new State(generation, Map.copyOf(updated));
+        }
+
+        State invalidate(Predicate<Object> dropped) {
+            Map<Object, Snapshot> kept = new HashMap<>(snapshots);
+            kept.keySet().removeIf(dropped);
+            return new State(generation + 1, Map.copyOf(kept));
+        }
+    }
+
+    private record TrainerKey(Long trainerId) {
+    }
+
+    private static final Object ADMIN_KEY = "admin";
+
+    private final SessionFactory sessionFactory;
+    private final AsyncDataService async;
+    private final long ttlNanos;
+
+    // Swapped with compareAndSet, so a load that started before a write cannot store its stale result even
+    // when the invalidation lands between its generation check and its store
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0, Map.of()));
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    public DashboardStats(SessionFactory sessionFactory, AsyncDataService async, Duration ttl,
+                          EntityChangeHub changes) {
+        this.sessionFactory = sessionFactory;
+        this.async = async;
+        this.ttlNanos = ttl.toNanos();
+
+        changes.subscribe(Room.class, (entity, change) -> invalidateAdmin());
+        changes.subscribe(Billing.class, (entity, change) -> invalidateAdmin());
+        changes.subscribe(Class.class, (entity, change) -> {
+            invalidateAdmin();
+            invalidateTrainers();
+        });
+        // The trainer may have been reassigned, so every trainer snapshot is dropped, not just the current one
+        changes.subscribe(PTSession.class, (entity, change) -> invalidateTrainers());
+        changes.subscribe(Availability.class, (entity, change) -> invalidateTrainers());
+    }
+
+    public AdminStats getAdminStats() {
+        return get(ADMIN_KEY, this::loadAdminStats);
+    }
+
+    public TrainerStats getTrainerStats(Trainer trainer) {
+        Long trainerId = trainer.getTrainerId();
+        return get(new TrainerKey(trainerId), () -> loadTrainerStats(trainerId));
+    }
+
+    public void invalidateAdmin() {
+        state.updateAndGet(current -> current.invalidate(ADMIN_KEY::equals));
+    }
+
+    public void invalidateTrainers() {
+        state.updateAndGet(current -> current.invalidate(key -> key instanceof TrainerKey));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Object key, Supplier<T> loader) {
+        Snapshot snapshot = state.get().snapshots().get(key);
+        if (snapshot == null) {
+            return load(key, loader);
+        }
+        if (System.nanoTime() - snapshot.loadedAtNanos() > ttlNanos && refreshing.add(key)) {
+            async.run(() -> {
+                try {
+                    load(key, loader);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        }
+        return (T) snapshot.value();
+    }
+
+    private <T> T load(Object key, Supplier<T> loader) {
+        long startGeneration = state.get().generation();
+        long start = System.nanoTime();
+        T value = loader.get();
+        Snapshot snapshot = new Snapshot(value, start);
+        // Stored only if nothing was invalidated since the load began; a concurrent store of another key
+        // just makes the compareAndSet go round again
+        state.updateAndGet(current -> current.generation() == startGeneration ? current.with(key, snapshot) : current);
+        return value;
+    }
+
+    private AdminStats loadAdminStats() {
+        try (Session session = sessionFactory.openSession()) {
+            Query<AdminStats> query = session.createNamedQuery(QueryCatalog.STATS_ADMIN, AdminStats.class);
+            query.setParameter("now", LocalDateTime.now());
+            return query.getSingleResult();
+        }
+    }
+
+    private TrainerStats loadTrainerStats(Long trainerId) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<TrainerStats> query = session.createNamedQuery(QueryCatalog.STATS_TRAINER, TrainerStats.class);
+            query.setParameter("trainerId", trainerId);
+            query.setParameter("now", LocalDateTime.now());
+            return query.getSingleResult();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package healthClubManagement.db;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.SelectionQuery;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams Billing and HealthMetric rows to CSV or JSON-lines files for the nightly accounting/analytics exports.
+ *
+ * Rows are read as flat column projections from a StatelessSession through a forward-only cursor and written
+ * as they arrive, so nothing is held in a persistence context and memory use does not depend on table size.
+ * All filters are optional: pass null for an open date bound or to export every member.
+ */
+public class DataExporter {
+
+    // Rows the JDBC driver fetches per round trip (PostgreSQL only streams when this is set inside a transaction)
+    private static final int FETCH_SIZE = 1000;
+
+    private static final List<String> BILLING_COLUMNS = List.of(
+            "bill_id", "member_id", "trainer_id", "amount", "payment_date", "payment_status", "payment_method");
+    private static final List<String> HEALTH_METRIC_COLUMNS = List.of(
+            "metric_id", "member_id", "metric_type", "value", "timestamp");
+
+    public enum Format {
+        CSV, JSONL
+    }
+
+    private final SessionFactory sessionFactory;
+
+    public DataExporter(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    // Export: bills with a payment date in [from, to] (inclusive), oldest bill id first
+    public ExportResult exportBilling(Path file, Format format, LocalDate from, LocalDate to, Long memberId)
+            throws IOException {
+        return export(file, format, BILLING_COLUMNS, QueryCatalog.EXPORT_BILLING, query -> query
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setParameter("memberId", memberId));
+    }
+
+    // Export: health metrics recorded on any day in [from, to] (inclusive), oldest metric id first
+    public ExportResult exportHealthMetrics(Path file, Format format, LocalDate from, LocalDate to, Long memberId)
+            throws IOException {
+        LocalDateTime start = from == null ? null : from.atStartOfDay();
+        LocalDateTime end = to == null ? null : to.plusDays(1).atStartOfDay();
+        return export(file, format, HEALTH_METRIC_COLUMNS, QueryCatalog.EXPORT_HEALTH_METRICS, query -> query
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .setParameter("memberId", memberId));
+    }
+
+    private ExportResult export(Path file, Format format, List<String> columns, String queryName,
+                                Consumer<SelectionQuery<Object[]>> bindParameters)
+            throws IOException {
+        long start = System.nanoTime();
+        long rows = 0;
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction tx = session.beginTransaction();
+            try {
+                SelectionQuery<Object[]> query = session.createNamedSelectionQuery(queryName, Object[].class)
+                        .setFetchSize(FETCH_SIZE)
+                        .setReadOnly(true);
+                bindParameters.accept(query);
+
+                if (format == Format.CSV) {
+                    out.write(String.join(",", columns));
+                    out.write('\n');
+                }
+                try (ScrollableResults<Object[]> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                    while (results.next()) {
+                        writeRow(out, format, columns, results.get());
+                        rows++;
+                    }
+                }
+                tx.commit();
+            } catch (IOException | RuntimeException e) {
+                if (tx.isActive()) tx.rollback();
+                throw e;
+            }
+        }
+        return new ExportResult(file, rows, System.nanoTime() - start);
+    }
+
+    private static void writeRow(Writer out, Format format, List<String> columns, Object[] row) throws IOException {
+        StringBuilder line = new StringBuilder(128);
+        if (format == Format.CSV) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) line.append(',');
+                appendCsv(line, row[i]);
+            }
+        } else {
+            line.append('{');
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) line.append(',');
+                appendJsonString(line, columns.get(i));
+                line.append(':');
+                appendJson(line, row[i]);
+            }
+            line.append('}');
+        }
+        out.append(line).append('\n');
+    }
+
+    private static void appendCsv(StringBuilder line, Object value) {
+        if (value == null) return;
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            line.append(text);
+            return;
+        }
+        line.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void appendJson(StringBuilder line, Object value) {
+        if (value == null) {
+            line.append("null");
+        } else if (value instanceof Number) {
+            line.append(value);
+        } else {
+            appendJsonString(line, value.toString());
+        }
+    }
+
+    private static void appendJsonString(StringBuilder line, String text) {
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+
+    /**
+     * Nightly job entry point:
+     * DataExporter billing|health csv|jsonl out-file [from yyyy-mm-dd] [to yyyy-mm-dd] [member id]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: DataExporter billing|health csv|jsonl <file> [from] [to] [memberId]");
+            System.exit(2);
+        }
+        Format format = Format.valueOf(args[1].toUpperCase());
+        Path file = Path.of(args[2]);
+        LocalDate from = args.length > 3 ? LocalDate.parse(args[3]) : null;
+        LocalDate to = args.length > 4 ? LocalDate.parse(args[4]) : null;
+        Long memberId = args.length > 5 ? Long.valueOf(args[5]) : null;
+
+        DataExporter exporter = new DataExporter(HibernateUtil.startAsync().join());
+        try {
+            ExportResult result = switch (args[0]) {
+                case "billing" -> exporter.exportBilling(file, format, from, to, memberId);
+                case "health" -> exporter.exportHealthMetrics(file, format, from, to, memberId);
+                default -> throw new IllegalArgumentException("Unknown export: " + args[0]);
+            };
+            System.out.println(result);
+        } finally {
+            HibernateUtil.shutdown();
+        }
+    }
+}
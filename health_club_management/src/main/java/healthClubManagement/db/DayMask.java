@@ -0,0 +1,120 @@
+package healthClubManagement.db;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One day as 96 quarter-hour slots packed into two longs: slot 0 is 00:00-00:15, slot 95 is 23:45-24:00.
+ *
+ * Bits 0-63 live in low, bits 64-95 in the low half of high. Set operations and coverage tests are a
+ * couple of word-level instructions, which is what lets FreeBusyCalendar answer whole-week and
+ * whole-club questions without touching Availability or PTSession rows.
+ */
+public record DayMask(long low, long high) {
+
+    public static final int SLOTS = 96;
+    public static final int SLOT_MINUTES = 15;
+
+    private static final long HIGH_BITS = (1L << (SLOTS - 64)) - 1;
+
+    public static final DayMask EMPTY = new DayMask(0L, 0L);
+    public static final DayMask FULL = new DayMask(-1L, HIGH_BITS);
+
+    // Slots [fromSlot, toSlot)
+    public static DayMask range(int fromSlot, int toSlot) {
+        fromSlot = Math.max(fromSlot, 0);
+        toSlot = Math.min(toSlot, SLOTS);
+        if (fromSlot >= toSlot) return EMPTY;
+        return new DayMask(bitsBelow(toSlot) & ~bitsBelow(fromSlot),
+                (bitsBelow(toSlot - 64) & ~bitsBelow(fromSlot - 64)) & HIGH_BITS);
+    }
+
+    // Every slot that [start, end) touches on the given day, even partly (how bookings are marked busy)
+    public static DayMask touching(LocalDate day, LocalDateTime start, LocalDateTime end) {
+        return range(Math.floorDiv(minutesInto(day, start), SLOT_MINUTES),
+                Math.floorDiv(minutesInto(day, end) + SLOT_MINUTES - 1, SLOT_MINUTES));
+    }
+
+    // Only the slots that lie wholly inside [start, end) on the given day (how availability is marked open)
+    public static DayMask within(LocalDate day, LocalDateTime start, LocalDateTime end) {
+        return range(Math.floorDiv(minutesInto(day, start) + SLOT_MINUTES - 1, SLOT_MINUTES),
+                Math.floorDiv(minutesInto(day, end), SLOT_MINUTES));
+    }
+
+    // Minutes from the day's midnight, clamped to just outside the day so far-off times cannot overflow
+    private static int minutesInto(LocalDate day, LocalDateTime time) {
+        long minutes = Duration.between(day.atStartOfDay(), time).toMinutes();
+        return (int) Math.max(-SLOT_MINUTES, Math.min(minutes, (long) (SLOTS + 1) * SLOT_MINUTES));
+    }
+
+    private static long bitsBelow(int slot) {
+        if (slot <= 0) return 0L;
+        if (slot >= 64) return -1L;
+        return (1L << slot) - 1;
+    }
+
+    public DayMask and(DayMask other) {
+        return new DayMask(low & other.low, high & other.high);
+    }
+
+    public DayMask or(DayMask other) {
+        return new DayMask(low | other.low, high | other.high);
+    }
+
+    public DayMask andNot(DayMask other) {
+        return new DayMask(low & ~other.low, high & ~other.high);
+    }
+
+    public boolean isEmpty() {
+        return low == 0L && high == 0L;
+    }
+
+    // True if every slot set in other is also set here
+    public boolean containsAll(DayMask other) {
+        return (other.low & ~low) == 0L && (other.high & ~high) == 0L;
+    }
+
+    public boolean intersects(DayMask other) {
+        return (low & other.low) != 0L || (high & other.high) != 0L;
+    }
+
+    public int slotCount() {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+
+    public boolean isSet(int slot) {
+        return slot < 64 ? (low >>> slot & 1L) != 0 : (high >>> (slot - 64) & 1L) != 0;
+    }
+
+    // First set slot at or after from, or SLOTS if there is none
+    private int nextSet(int from) {
+        if (from < 64) {
+            long word = low & ~bitsBelow(from);
+            if (word != 0L) return Long.numberOfTrailingZeros(word);
+            from = 64;
+        }
+        long word = high & ~bitsBelow(from - 64);
+        return word != 0L ? 64 + Long.numberOfTrailingZeros(word) : SLOTS;
+    }
+
+    // First clear slot at or after from, or SLOTS if there is none
+    private int nextClear(int from) {
+        return new DayMask(~low, ~high & HIGH_BITS).nextSet(from);
+    }
+
+    // The set slots as contiguous [start, end) intervals on the given day, earliest first
+    public List<TrainerSlot> toSlots(Long ownerId, LocalDate day) {
+        List<TrainerSlot> runs = new ArrayList<>();
+        LocalDateTime midnight = day.atStartOfDay();
+        for (int start = nextSet(0); start < SLOTS; start = nextSet(start)) {
+            int end = nextClear(start);
+            runs.add(new TrainerSlot(ownerId, midnight.plusMinutes((long) start * SLOT_MINUTES),
+                    midnight.plusMinutes((long) end * SLOT_MINUTES)));
+            start = end;
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,107 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tells in-memory caches (dashboard stats and friends) which entities changed, after the transaction commits.
+ *
+ * Installed once on the SessionFactory by HibernateUtil. Only writes that go through a Session are seen;
+ * HQL bulk updates and native SQL bypass Hibernate's entity events.
+ */
+public class EntityChangeHub implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    public enum Change {
+        INSERT, UPDATE, DELETE
+    }
+
+    public interface Subscriber {
+        void onChange(Object entity, Change change);
+    }
+
+    private final Map<java.lang.Class<?>, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    // Registers a new hub for post-commit insert/update/delete events on the given SessionFactory
+    public static EntityChangeHub install(SessionFactory sessionFactory) {
+        EntityChangeHub hub = new EntityChangeHub();
+        EventListenerRegistry registry = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, hub);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, hub);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, hub);
+        return hub;
+    }
+
+    public void subscribe(java.lang.Class<?> entityType, Subscriber subscriber) {
+        subscribers.computeIfAbsent(entityType, type -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    // For subscribers that live shorter than the SessionFactory, e.g. a dashboard window
+    public void unsubscribe(java.lang.Class<?> entityType, Subscriber subscriber) {
+        List<Subscriber> forType = subscribers.get(entityType);
+        if (forType != null) {
+            forType.remove(subscriber);
+        }
+    }
+
+    private void publish(Object entity, Change change) {
+        List<Subscriber> forType = subscribers.get(entity.getClass());
+        if (forType == null) return;
+        for (Subscriber subscriber : forType) {
+            try {
+                subscriber.onChange(entity, change);
+            } catch (RuntimeException e) {
+                // The data is already committed; a failing subscriber must not surface as a write error
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getEntity(), Change.INSERT);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getEntity(), Change.UPDATE);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity(), Change.DELETE);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package healthClubManagement.db;
+
+import jakarta.persistence.AttributeNode;
+import jakarta.persistence.EntityGraph;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.SelectionQuery;
+
+import java.util.Map;
+
+/**
+ * Names of the entity graphs declared on the entities, one per use case.
+ *
+ * All to-one associations are LAZY, so a query only loads what its screen shows: apply the matching graph
+ * with {@link #fetch} (or {@link #find} for a lookup by id) and the associations in it come back in the same
+ * SELECT, fully initialized, and stay usable after the session is closed.
+ */
+public class EntityGraphs {
+
+    // PTSession with member, trainer and room: booking lists and schedules
+    public static final String PT_SESSION_BOOKING = "PTSession.booking";
+
+    // Class with trainer and room: class tables, combos and edit forms
+    public static final String CLASS_LISTING = "Class.listing";
+
+    // Billing with member and trainer: bill rows
+    public static final String BILLING_ROW = "Billing.row";
+
+    // MemberClass with member and the class (plus its trainer and room): a member's enrolments
+    public static final String MEMBER_CLASS_ENROLMENT = "MemberClass.enrolment";
+
+    // FitnessGoal and HealthMetric with their member: the member profile's goals and health history
+    public static final String MEMBER_PROFILE_GOAL = "FitnessGoal.memberProfile";
+    public static final String MEMBER_PROFILE_METRIC = "HealthMetric.memberProfile";
+
+    // Availability with its trainer: a single slot opened for editing
+    public static final String AVAILABILITY_SLOT = "Availability.slot";
+
+    @SuppressWarnings("unchecked")
+    public static <T> SelectionQuery<T> fetch(Session session, SelectionQuery<T> query, String graphName) {
+        return query.setEntityGraph((EntityGraph<? super T>) session.getEntityGraph(graphName), GraphSemantic.FETCH);
+    }
+
+    // Session.find with the graph applied; null if there is no such row. An entity served from the second-level
+    // cache comes back without the graph, so any association of it still missing is loaded here (from the cache
+    // too, where that association's entity is cached).
+    public static <T> T find(Session session, java.lang.Class<T> type, Object id, String graphName) {
+        EntityGraph<?> graph = session.getEntityGraph(graphName);
+        T entity = session.find(type, id, Map.of(GraphSemantic.FETCH.getJakartaHintName(), graph));
+        if (entity != null) {
+            EntityPersister persister = session.getSessionFactory().unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel()
+                    .getEntityDescriptor(type);
+            for (AttributeNode<?> node : graph.getAttributeNodes()) {
+                Hibernate.initialize(persister.getPropertyValue(entity, node.getAttributeName()));
+            }
+        }
+        return entity;
+    }
+}
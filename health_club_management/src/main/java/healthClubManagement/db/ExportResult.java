@@ -0,0 +1,23 @@
+package healthClubManagement.db;
+
+import java.nio.file.Path;
+
+/**
+ * Outcome of a {@link DataExporter} run: where the rows went, how many there were and how long it took.
+ */
+public record ExportResult(Path file, long rows, long elapsedNanos) {
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rows * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportResult{" +
+                "file=" + file +
+                ", rows=" + rows +
+                ", elapsedMs=" + elapsedNanos / 1_000_000 +
+                ", rowsPerSecond=" + String.format("%.1f", getRowsPerSecond()) +
+                '}';
+    }
+}
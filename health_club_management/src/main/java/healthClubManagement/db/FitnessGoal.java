@@ -6,14 +6,16 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "FitnessGoal")
+@NamedEntityGraph(name = EntityGraphs.MEMBER_PROFILE_GOAL, attributeNodes = @NamedAttributeNode("member"))
     public class FitnessGoal {
 
         @Id
-        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fitnessgoal_seq")
+        @SequenceGenerator(name = "fitnessgoal_seq", sequenceName = "fitnessgoal_seq", allocationSize = 50)
         @Column(name = "goal_id")
         private Long goalId;
 
-        @ManyToOne
+        @ManyToOne(fetch = FetchType.LAZY)
         @JoinColumn(name = "member_id")
         private Member member;
 
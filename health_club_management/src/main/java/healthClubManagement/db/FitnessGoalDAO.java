@@ -5,14 +5,17 @@ import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public class FitnessGoalDAO {
 
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public FitnessGoalDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create: add a new fitness goal for a member
@@ -28,20 +31,23 @@ public class FitnessGoalDAO {
         }
     }
 
+    // Create: add many fitness goals, one transaction per chunk
+    public BulkResult<FitnessGoal> createAll(Collection<FitnessGoal> goals) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, goals);
+    }
+
     // Read: get one goal by id
     public FitnessGoal getFitnessGoalById(Long id) {
         try (Session session = sessionFactory.openSession()) {
-            return session.find(FitnessGoal.class, id);
+            return EntityGraphs.find(session, FitnessGoal.class, id, EntityGraphs.MEMBER_PROFILE_GOAL);
         }
     }
 
     // Read: all goals for a given member (for dashboard/profile)
     public List<FitnessGoal> getFitnessGoalsByMember(Member member) {
         try (Session session = sessionFactory.openSession()) {
-            Query<FitnessGoal> query = session.createQuery(
-                    "FROM FitnessGoal WHERE member = :member",
-                    FitnessGoal.class
-            );
+            Query<FitnessGoal> query = session.createNamedQuery(QueryCatalog.FITNESS_GOAL_BY_MEMBER, FitnessGoal.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.MEMBER_PROFILE_GOAL);
             query.setParameter("member", member);
             return query.getResultList();
         }
@@ -60,6 +66,11 @@ public class FitnessGoalDAO {
         }
     }
 
+    // Update: save changes to many fitness goals, one transaction per chunk
+    public BulkResult<FitnessGoal> updateAll(Collection<FitnessGoal> goals) {
+        return bulkWriter.write(BulkWriter.Operation.UPDATE, goals);
+    }
+
     // Optional: delete a goal
     public void deleteFitnessGoal(FitnessGoal fitnessGoal) {
         Transaction tx = null;
@@ -72,4 +83,9 @@ public class FitnessGoalDAO {
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many fitness goals, one transaction per chunk
+    public BulkResult<FitnessGoal> deleteAll(Collection<FitnessGoal> goals) {
+        return bulkWriter.write(BulkWriter.Operation.DELETE, goals);
+    }
 }
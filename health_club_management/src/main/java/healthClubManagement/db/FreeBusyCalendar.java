@@ -0,0 +1,244 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Free/busy of every trainer and room as one {@link DayMask} (96 quarter-hour bits) per owner per day.
+ *
+ * Trainer free time = the trainer's "Available" slots minus their PT sessions and classes; room free time =
+ * the whole day minus the room's bookings. Availability rows are held in memory (loaded once, then updated
+ * from {@link EntityChangeHub} after each commit); busy masks are derived from the {@link BookingIndex} and
+ * recomputed whenever it changes. Week and whole-club questions are then a handful of AND/OR/ANDNOT on
+ * two longs per day instead of row-by-row Availability and PTSession queries.
+ *
+ * Open slots are rounded inwards and bookings outwards to the quarter hour, so "free" is never optimistic.
+ */
+public class FreeBusyCalendar {
+
+    private record DayKey(Long ownerId, LocalDate day) {
+    }
+
+    // day -> trainer -> availability id -> open slots of that row
+    private static final class OpenSlots {
+
+        private final Map<LocalDate, Map<Long, Map<Long, DayMask>>> byDay = new HashMap<>();
+        private final Map<Long, DayKey> dayOf = new HashMap<>();
+
+        void put(Availability availability) {
+            remove(availability.getAvailableId());
+            if (!"Available".equals(availability.getStatus())) return;
+            LocalDate day = availability.getDate();
+            Long trainerId = availability.getTrainer().getTrainerId();
+            DayMask mask = DayMask.within(day, day.atTime(availability.getStartTime()), day.atTime(availability.getEndTime()));
+            byDay.computeIfAbsent(day, d -> new HashMap<>())
+                    .computeIfAbsent(trainerId, id -> new HashMap<>())
+                    .put(availability.getAvailableId(), mask);
+            dayOf.put(availability.getAvailableId(), new DayKey(trainerId, day));
+        }
+
+        void remove(Long availableId) {
+            DayKey key = dayOf.remove(availableId);
+            if (key == null) return;
+            Map<Long, Map<Long, DayMask>> trainers = byDay.get(key.day());
+            Map<Long, DayMask> rows = trainers.get(key.ownerId());
+            rows.remove(availableId);
+            if (rows.isEmpty()) trainers.remove(key.ownerId());
+            if (trainers.isEmpty()) byDay.remove(key.day());
+        }
+
+        DayMask of(Long trainerId, LocalDate day) {
+            Map<Long, DayMask> rows = byDay.getOrDefault(day, Map.of()).get(trainerId);
+            if (rows == null) return DayMask.EMPTY;
+            DayMask open = DayMask.EMPTY;
+            for (DayMask row : rows.values()) {
+                open = open.or(row);
+            }
+            return open;
+        }
+
+        Iterable<Long> trainersOn(LocalDate day) {
+            return new ArrayList<>(byDay.getOrDefault(day, Map.of()).keySet());
+        }
+    }
+
+    private final SessionFactory sessionFactory;
+    private final AsyncDataService async;
+    private final BookingIndex bookings;
+    private final long reloadIntervalNanos;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    // Guarded by this
+    private OpenSlots open = new OpenSlots();
+    private long loadedAtNanos;
+    private List<Consumer<OpenSlots>> changedDuringReload;
+    private final Map<DayKey, DayMask> trainerBusy = new HashMap<>();
+    private final Map<DayKey, DayMask> roomBusy = new HashMap<>();
+    private long busyVersion = -1;
+
+    public FreeBusyCalendar(SessionFactory sessionFactory, AsyncDataService async, Duration reloadInterval,
+                            BookingIndex bookings, EntityChangeHub changes) {
+        this.sessionFactory = sessionFactory;
+        this.async = async;
+        this.bookings = bookings;
+        this.reloadIntervalNanos = reloadInterval.toNanos();
+
+        changes.subscribe(Availability.class, (entity, change) -> {
+            Availability availability = (Availability) entity;
+            if (change == EntityChangeHub.Change.DELETE) {
+                Long availableId = availability.getAvailableId();
+                apply(slots -> slots.remove(availableId));
+            } else {
+                apply(slots -> slots.put(availability));
+            }
+        });
+        reload();
+    }
+
+    // Free quarter hours of the trainer on one day
+    public DayMask trainerFree(Trainer trainer, LocalDate day) {
+        return trainerFree(trainer.getTrainerId(), day);
+    }
+
+    // Free quarter hours of the trainer for the seven days starting at firstDay
+    public Map<LocalDate, DayMask> trainerWeek(Trainer trainer, LocalDate firstDay) {
+        Map<LocalDate, DayMask> week = new LinkedHashMap<>();
+        for (int i = 0; i < 7; i++) {
+            LocalDate day = firstDay.plusDays(i);
+            week.put(day, trainerFree(trainer.getTrainerId(), day));
+        }
+        return week;
+    }
+
+    // Free quarter hours of the room on one day (none if the room is marked unavailable)
+    public synchronized DayMask roomFree(Room room, LocalDate day) {
+        if (!room.isAvailable()) return DayMask.EMPTY;
+        return DayMask.FULL.andNot(busy(roomBusy, room.getRoomId(), day, true));
+    }
+
+    // Free quarter hours of every trainer who has any open time on the day, keyed by trainer id
+    public synchronized Map<Long, DayMask> clubDay(LocalDate day) {
+        Map<Long, DayMask> club = new TreeMap<>();
+        for (Long trainerId : open.trainersOn(day)) {
+            DayMask free = trainerFree(trainerId, day);
+            if (!free.isEmpty()) club.put(trainerId, free);
+        }
+        return club;
+    }
+
+    // clubDay for the seven days starting at firstDay
+    public Map<LocalDate, Map<Long, DayMask>> clubWeek(LocalDate firstDay) {
+        Map<LocalDate, Map<Long, DayMask>> week = new LinkedHashMap<>();
+        for (int i = 0; i < 7; i++) {
+            week.put(firstDay.plusDays(i), clubDay(firstDay.plusDays(i)));
+        }
+        return week;
+    }
+
+    // Quarter hours of the day in which at least one trainer is free
+    public DayMask anyTrainerFree(LocalDate day) {
+        DayMask any = DayMask.EMPTY;
+        for (DayMask free : clubDay(day).values()) {
+            any = any.or(free);
+        }
+        return any;
+    }
+
+    // Ids of the trainers free for every quarter hour that [start, end) touches
+    public synchronized List<Long> trainersFreeAt(LocalDateTime start, LocalDateTime end) {
+        List<Long> free = null;
+        for (LocalDate day = start.toLocalDate(); day.atStartOfDay().isBefore(end); day = day.plusDays(1)) {
+            DayMask wanted = DayMask.touching(day, start, end);
+            List<Long> freeToday = new ArrayList<>();
+            for (Long trainerId : open.trainersOn(day)) {
+                if ((free == null || free.contains(trainerId)) && trainerFree(trainerId, day).containsAll(wanted)) {
+                    freeToday.add(trainerId);
+                }
+            }
+            free = freeToday;
+        }
+        return free == null ? List.of() : free;
+    }
+
+    private synchronized DayMask trainerFree(Long trainerId, LocalDate day) {
+        reloadIfStale();
+        return open.of(trainerId, day).andNot(busy(trainerBusy, trainerId, day, false));
+    }
+
+    // Caller holds the lock
+    private DayMask busy(Map<DayKey, DayMask> cache, Long ownerId, LocalDate day, boolean room) {
+        long version = bookings.version();
+        if (version != busyVersion) {
+            trainerBusy.clear();
+            roomBusy.clear();
+            busyVersion = version;
+        }
+        return cache.computeIfAbsent(new DayKey(ownerId, day), key -> {
+            LocalDateTime dayStart = day.atStartOfDay();
+            LocalDateTime dayEnd = dayStart.plusDays(1);
+            List<Booking> onDay = room
+                    ? bookings.roomBookings(ownerId, dayStart, dayEnd)
+                    : bookings.trainerBookings(ownerId, dayStart, dayEnd);
+            DayMask busy = DayMask.EMPTY;
+            for (Booking booking : onDay) {
+                busy = busy.or(DayMask.touching(day, booking.start(), booking.end()));
+            }
+            return busy;
+        });
+    }
+
+    private synchronized void apply(Consumer<OpenSlots> change) {
+        change.accept(open);
+        if (changedDuringReload != null) {
+            changedDuringReload.add(change);
+        }
+    }
+
+    // Caller holds the lock
+    private void reloadIfStale() {
+        if (System.nanoTime() - loadedAtNanos > reloadIntervalNanos && !reloading.get()) {
+            async.run(this::reload);
+        }
+    }
+
+    // Reloads the open availability from the current week on; a no-op if a reload is already running
+    public void reload() {
+        if (!reloading.compareAndSet(false, true)) return;
+        synchronized (this) {
+            changedDuringReload = new ArrayList<>();
+        }
+        try {
+            long start = System.nanoTime();
+            OpenSlots loaded = new OpenSlots();
+            try (Session session = sessionFactory.openSession()) {
+                Query<Availability> query = session.createNamedQuery(QueryCatalog.AVAILABILITY_OPEN_FROM, Availability.class);
+                query.setParameter("startDate", LocalDate.now().with(DayOfWeek.MONDAY));
+                query.getResultList().forEach(loaded::put);
+            }
+            synchronized (this) {
+                changedDuringReload.forEach(change -> change.accept(loaded));
+                open = loaded;
+                loadedAtNanos = start;
+            }
+        } finally {
+            synchronized (this) {
+                changedDuringReload = null;
+            }
+            reloading.set(false);
+        }
+    }
+}
@@ -6,14 +6,16 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "HealthMetric")
+@NamedEntityGraph(name = EntityGraphs.MEMBER_PROFILE_METRIC, attributeNodes = @NamedAttributeNode("member"))
 public class HealthMetric {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "healthmetric_seq")
+    @SequenceGenerator(name = "healthmetric_seq", sequenceName = "healthmetric_seq", allocationSize = 50)
     @Column(name = "metric_id")
     private Long metricId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
 
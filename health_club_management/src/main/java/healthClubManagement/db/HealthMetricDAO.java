@@ -6,14 +6,17 @@ import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public class HealthMetricDAO {
 
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public HealthMetricDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create (log a new metric)
@@ -29,22 +32,23 @@ public class HealthMetricDAO {
         }
     }
 
+    // Create: add many health metrics, one transaction per chunk
+    public BulkResult<HealthMetric> createAll(Collection<HealthMetric> metrics) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, metrics);
+    }
+
     // Read: get one metric by id
     public HealthMetric getHealthMetricById(Long id) {
         try (Session session = sessionFactory.openSession()) {
-            return session.get(HealthMetric.class, id);
+            return EntityGraphs.find(session, HealthMetric.class, id, EntityGraphs.MEMBER_PROFILE_METRIC);
         }
     }
 
     // Read: all metrics for a member (for Health History / Dashboard), newest first
     public List<HealthMetric> getHealthMetricsByMember(Member member) {
         try (Session session = sessionFactory.openSession()) {
-            Query<HealthMetric> query = session.createQuery(
-                    "FROM HealthMetric hm " +
-                            "WHERE hm.member = :member " +
-                            "ORDER BY hm.timestamp DESC",
-                    HealthMetric.class
-            );
+            Query<HealthMetric> query = session.createNamedQuery(QueryCatalog.HEALTH_METRIC_BY_MEMBER, HealthMetric.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.MEMBER_PROFILE_METRIC);
             query.setParameter("member", member);
             return query.getResultList();
         }
@@ -62,5 +66,10 @@ public class HealthMetricDAO {
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many health metrics, one transaction per chunk
+    public BulkResult<HealthMetric> deleteAll(Collection<HealthMetric> metrics) {
+        return bulkWriter.write(BulkWriter.Operation.DELETE, metrics);
+    }
 }
 
@@ -0,0 +1,9 @@
+package healthClubManagement.db;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row for the health metric history table: one logged value without its member.
+ */
+public record HealthMetricRow(Long metricId, String metricType, Integer value, LocalDateTime timestamp) {
+}
@@ -1,26 +1,173 @@
 package healthClubManagement.db;
 
+import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 public class HibernateUtil {
 
-    private static final SessionFactory sessionFactory = buildSessionFactory();
+    private static CompletableFuture<SessionFactory> bootstrap;
+    private static AsyncDataService asyncDataService;
+    private static DashboardStats dashboardStats;
+    private static BookingIndex bookingIndex;
+    private static FreeBusyCalendar freeBusyCalendar;
+    private static volatile EntityChangeHub entityChangeHub;
+    private static volatile BillingRollup billingRollup;
+    private static volatile ClassEnrollment classEnrollment;
+
+    // Dashboard snapshot lifetime, e.g. -Dhealthclub.dashboard.statsTtlSeconds=300
+    private static final Duration STATS_TTL = Duration.ofSeconds(
+            Long.getLong("healthclub.dashboard.statsTtlSeconds", DashboardStats.DEFAULT_TTL.toSeconds()));
+
+    // Booking index and free/busy calendar reload interval, e.g. -Dhealthclub.bookingIndex.reloadSeconds=60
+    private static final Duration BOOKING_INDEX_RELOAD = Duration.ofSeconds(
+            Long.getLong("healthclub.bookingIndex.reloadSeconds", BookingIndex.DEFAULT_RELOAD_INTERVAL.toSeconds()));
 
     private static SessionFactory buildSessionFactory() {
         try {
-            return new Configuration().configure("hibernate.cfg.xml").buildSessionFactory();
+            Configuration configuration = new Configuration().configure("hibernate.cfg.xml");
+            // Deployment-specific overrides, e.g. -Dhibernate.hikari.maximumPoolSize=20
+            System.getProperties().forEach((key, value) -> {
+                if (key.toString().startsWith("hibernate.")) {
+                    configuration.setProperty(key.toString(), value.toString());
+                }
+            });
+            SessionFactory factory = configuration.buildSessionFactory();
+            entityChangeHub = EntityChangeHub.install(factory);
+            billingRollup = BillingRollup.install(factory);
+            classEnrollment = ClassEnrollment.install(factory);
+            try {
+                SchemaMigrator.migrate(factory);
+            } catch (RuntimeException e) {
+                factory.close();
+                throw e;
+            }
+            warmUp(factory);
+            return factory;
         } catch (Throwable ex) {
             System.err.println("Initial SessionFactory creation failed." + ex);
-            throw new ExceptionInInitializerError(ex);
+            throw new IllegalStateException("SessionFactory creation failed", ex);
+        }
+    }
+
+    // Opens the first pooled connection (the named query catalog is already compiled by the build)
+    private static void warmUp(SessionFactory factory) {
+        try (Session session = factory.openSession()) {
+            session.createNativeQuery("SELECT 1", Integer.class).getSingleResult();
+        } catch (Exception e) {
+            // Warm-up is best effort; a failure here must not block login
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Starts building the SessionFactory on a background thread (idempotent).
+     * Call early from Main so the schema check and entity mapping overlap with painting the login frame.
+     */
+    public static synchronized CompletableFuture<SessionFactory> startAsync() {
+        if (bootstrap == null) {
+            bootstrap = CompletableFuture.supplyAsync(HibernateUtil::buildSessionFactory, task -> {
+                Thread thread = new Thread(task, "hibernate-bootstrap");
+                thread.setDaemon(true);
+                thread.start();
+            });
         }
+        return bootstrap;
     }
 
+    // True once the SessionFactory is built and warmed up
+    public static synchronized boolean isReady() {
+        return bootstrap != null && bootstrap.isDone() && !bootstrap.isCompletedExceptionally();
+    }
+
+    // Blocks until the background bootstrap finishes (starting it if nobody has yet)
     public static SessionFactory getSessionFactory() {
-        return sessionFactory;
+        return startAsync().join();
+    }
+
+    // Live pool gauges and acquire-time histogram
+    public static PoolMetrics getPoolMetrics() {
+        return getSessionFactory().unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(ConnectionProvider.class)
+                .unwrap(PooledConnectionProvider.class)
+                .getMetrics();
+    }
+
+    // Per-query execution counts and timings for the named query catalog
+    public static String getQueryReport() {
+        return QueryCatalog.report(getSessionFactory());
+    }
+
+    // Shared virtual-thread executor for DAO calls made from the UI
+    public static synchronized AsyncDataService getAsyncDataService() {
+        if (asyncDataService == null) {
+            asyncDataService = AsyncDataService.forSessionFactory(getSessionFactory());
+        }
+        return asyncDataService;
+    }
+
+    // Post-commit entity change notifications for in-memory caches
+    public static EntityChangeHub getEntityChangeHub() {
+        getSessionFactory();
+        return entityChangeHub;
+    }
+
+    // Billing rollup maintenance, rebuild and report queries
+    public static BillingRollup getBillingRollup() {
+        getSessionFactory();
+        return billingRollup;
+    }
+
+    // Overbooking-safe class sign-up
+    public static ClassEnrollment getClassEnrollment() {
+        getSessionFactory();
+        return classEnrollment;
+    }
+
+    // Cached admin/trainer dashboard figures
+    public static synchronized DashboardStats getDashboardStats() {
+        if (dashboardStats == null) {
+            dashboardStats = new DashboardStats(getSessionFactory(), getAsyncDataService(), STATS_TTL,
+                    getEntityChangeHub());
+        }
+        return dashboardStats;
+    }
+
+    // Per-room/per-trainer booking index for double-booking checks (loaded on first use)
+    public static synchronized BookingIndex getBookingIndex() {
+        if (bookingIndex == null) {
+            bookingIndex = new BookingIndex(getSessionFactory(), getAsyncDataService(), BOOKING_INDEX_RELOAD,
+                    getEntityChangeHub());
+        }
+        return bookingIndex;
+    }
+
+    // Per-trainer/per-room quarter-hour free/busy masks (loaded on first use)
+    public static synchronized FreeBusyCalendar getFreeBusyCalendar() {
+        if (freeBusyCalendar == null) {
+            freeBusyCalendar = new FreeBusyCalendar(getSessionFactory(), getAsyncDataService(), BOOKING_INDEX_RELOAD,
+                    getBookingIndex(), getEntityChangeHub());
+        }
+        return freeBusyCalendar;
+    }
+
+    // Race-free PT session booking (shared so every caller uses the same lock stripes)
+    public static BookingCoordinator getBookingCoordinator() {
+        return BookingCoordinator.shared(getSessionFactory());
     }
 
     public static void shutdown() {
+        synchronized (HibernateUtil.class) {
+            if (asyncDataService != null) {
+                asyncDataService.close();
+            }
+        }
         getSessionFactory().close();
     }
 }
@@ -9,8 +9,8 @@ import java.time.LocalDate;
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     @Column(name = "member_id")
     private Long memberId;
     @Column(name = "first_name", nullable = false)
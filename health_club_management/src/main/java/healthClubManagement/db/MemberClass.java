@@ -6,16 +6,25 @@ import java.io.Serializable;
 
 @Entity
 @Table(name = "MemberClass")
+@NamedEntityGraph(name = EntityGraphs.MEMBER_CLASS_ENROLMENT,
+        attributeNodes = {
+                @NamedAttributeNode("member"),
+                @NamedAttributeNode(value = "gymClass", subgraph = "class")
+        },
+        subgraphs = @NamedSubgraph(name = "class", attributeNodes = {
+                @NamedAttributeNode("trainer"),
+                @NamedAttributeNode("room")
+        }))
 @IdClass(MemberClass.MemberClassId.class)
 public class MemberClass {
 
     @Id
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
     @Id
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "class_id", nullable = false)
     private healthClubManagement.db.Class gymClass; // maps to Class table (class_id)
 
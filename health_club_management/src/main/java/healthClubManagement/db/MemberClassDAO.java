@@ -6,14 +6,17 @@ import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public class MemberClassDAO {
 
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public MemberClassDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create: register a member in a class
@@ -29,13 +32,16 @@ public class MemberClassDAO {
         }
     }
 
+    // Create: add many class registrations, one transaction per chunk
+    public BulkResult<MemberClass> createAll(Collection<MemberClass> registrations) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, registrations);
+    }
+
     // Read: get one MemberClass by composite key (member + class)
     public MemberClass getMemberClass(Member member, healthClubManagement.db.Class gymClass) {
         try (Session session = sessionFactory.openSession()) {
-            Query<MemberClass> query = session.createQuery(
-                    "FROM MemberClass mc WHERE mc.member = :member AND mc.gymClass = :gymClass",
-                    MemberClass.class
-            );
+            Query<MemberClass> query = session.createNamedQuery(QueryCatalog.MEMBER_CLASS_BY_MEMBER_AND_CLASS, MemberClass.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.MEMBER_CLASS_ENROLMENT);
             query.setParameter("member", member);
             query.setParameter("gymClass", gymClass);
             return query.uniqueResult();
@@ -45,10 +51,8 @@ public class MemberClassDAO {
     // Read: all class registrations for a given member
     public List<MemberClass> getMemberClassesByMember(Member member) {
         try (Session session = sessionFactory.openSession()) {
-            Query<MemberClass> query = session.createQuery(
-                    "FROM MemberClass mc WHERE mc.member = :member",
-                    MemberClass.class
-            );
+            Query<MemberClass> query = session.createNamedQuery(QueryCatalog.MEMBER_CLASS_BY_MEMBER, MemberClass.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.MEMBER_CLASS_ENROLMENT);
             query.setParameter("member", member);
             return query.getResultList();
         }
@@ -57,10 +61,8 @@ public class MemberClassDAO {
     // Read: all registrations for a given class (who is in a class)
     public List<MemberClass> getMemberClassesByClass(healthClubManagement.db.Class gymClass) {
         try (Session session = sessionFactory.openSession()) {
-            Query<MemberClass> query = session.createQuery(
-                    "FROM MemberClass mc WHERE mc.gymClass = :gymClass",
-                    MemberClass.class
-            );
+            Query<MemberClass> query = session.createNamedQuery(QueryCatalog.MEMBER_CLASS_BY_CLASS, MemberClass.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.MEMBER_CLASS_ENROLMENT);
             query.setParameter("gymClass", gymClass);
             return query.getResultList();
         }
@@ -79,6 +81,11 @@ public class MemberClassDAO {
         }
     }
 
+    // Delete: remove many class registrations, one transaction per chunk
+    public BulkResult<MemberClass> deleteAll(Collection<MemberClass> registrations) {
+        return bulkWriter.write(BulkWriter.Operation.DELETE, registrations);
+    }
+
     // Convenience: unregister by member + class
     public void deleteMemberClass(Member member, Class gymClass) {
         MemberClass mc = getMemberClass(member, gymClass);
@@ -6,14 +6,17 @@ import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public class MemberDAO {
 
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public MemberDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create (INSERT)
@@ -29,6 +32,11 @@ public class MemberDAO {
         }
     }
 
+    // Create: add many members, one transaction per chunk
+    public BulkResult<Member> createAll(Collection<Member> members) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, members);
+    }
+
     // Read (SELECT by ID)
     public Member getMemberById(Long id) {
         try (Session session = sessionFactory.openSession()) {
@@ -39,8 +47,7 @@ public class MemberDAO {
     // Read (SELECT by email)
     public Member getMemberByEmail(String email) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Member> query = session.createQuery(
-                    "FROM Member m WHERE m.email = :email", Member.class);
+            Query<Member> query = session.createNamedQuery(QueryCatalog.MEMBER_BY_EMAIL, Member.class);
             query.setParameter("email", email);
             return query.uniqueResult(); // returns null if not found
         }
@@ -49,14 +56,21 @@ public class MemberDAO {
     // Read: get all member-class registrations
     public List<Member> getAllMembers() {
         try (Session session = sessionFactory.openSession()) {
-            Query<Member> query = session.createQuery(
-                    "FROM Member",
-                    Member.class
-            );
+            Query<Member> query = session.createNamedQuery(QueryCatalog.MEMBER_ALL, Member.class);
             return query.getResultList();
         }
     }
 
+    // Read: one page of members in id order; pass null for the first page, then page.nextCursor()
+    public Page<Member, Long> getMembersPage(Long afterMemberId, int pageSize) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<Member> query = session.createNamedQuery(QueryCatalog.MEMBER_PAGE, Member.class);
+            query.setParameter("afterId", afterMemberId != null ? afterMemberId : 0L);
+            query.setMaxResults(pageSize + 1);
+            return Page.of(query.getResultList(), pageSize, Member::getMemberId);
+        }
+    }
+
 
 
     // Update
@@ -72,6 +86,11 @@ public class MemberDAO {
         }
     }
 
+    // Update: save changes to many members, one transaction per chunk
+    public BulkResult<Member> updateAll(Collection<Member> members) {
+        return bulkWriter.write(BulkWriter.Operation.UPDATE, members);
+    }
+
     // Delete
     public void deleteMember(Member member) {
         Transaction tx = null;
@@ -84,4 +103,9 @@ public class MemberDAO {
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many members, one transaction per chunk
+    public BulkResult<Member> deleteAll(Collection<Member> members) {
+        return bulkWriter.write(BulkWriter.Operation.DELETE, members);
+    }
 }
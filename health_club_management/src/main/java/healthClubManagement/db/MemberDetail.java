@@ -0,0 +1,10 @@
+package healthClubManagement.db;
+
+import java.util.List;
+
+/**
+ * Everything the trainer's member lookup shows about one selected member, loaded by {@link MemberLookup}.
+ */
+public record MemberDetail(Member member, List<FitnessGoal> goals, List<HealthMetricRow> recentMetrics,
+                           long classesRegistered, long ptSessions) {
+}
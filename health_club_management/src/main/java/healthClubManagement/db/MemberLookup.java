@@ -0,0 +1,103 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Member search for trainers, in a fixed number of queries however many members match.
+ *
+ * A page of matches takes three queries: the members themselves (keyset paged by id), then the goal counts
+ * and the latest metric of every member on the page, each for the whole page at once through IN :memberIds.
+ * The full profile - goals, recent metrics and activity counts - is only loaded for the one member the
+ * trainer selects.
+ */
+public class MemberLookup {
+
+    // Metrics shown in a member's detail, most recent first
+    public static final int RECENT_METRICS = 5;
+
+    private final SessionFactory sessionFactory;
+
+    public MemberLookup(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    // Members whose first, last or full name contains name (case-insensitive), by id; pass null for the
+    // first page, then page.nextCursor()
+    public Page<MemberMatch, Long> search(String name, Long afterMemberId, int pageSize) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<MemberMatch> query = session.createNamedQuery(QueryCatalog.MEMBER_SEARCH_PAGE, MemberMatch.class);
+            query.setParameter("name", "%" + name.toLowerCase() + "%");
+            query.setParameter("afterId", afterMemberId != null ? afterMemberId : 0L);
+            query.setMaxResults(pageSize + 1);
+            Page<MemberMatch, Long> page = Page.of(query.getResultList(), pageSize, MemberMatch::memberId);
+            if (page.items().isEmpty()) {
+                return page;
+            }
+
+            List<Long> memberIds = page.items().stream().map(MemberMatch::memberId).toList();
+            Map<Long, Long> goalCounts = goalCounts(session, memberIds);
+            Map<Long, HealthMetricRow> latestMetrics = latestMetrics(session, memberIds);
+            List<MemberMatch> matches = page.items().stream()
+                    .map(m -> m.with(goalCounts.getOrDefault(m.memberId(), 0L), latestMetrics.get(m.memberId())))
+                    .toList();
+            return new Page<>(matches, page.nextCursor());
+        }
+    }
+
+    // Profile, goals, recent metrics and activity counts of one member, or null if they no longer exist
+    public MemberDetail detail(Long memberId) {
+        try (Session session = sessionFactory.openSession()) {
+            Member member = session.find(Member.class, memberId);
+            if (member == null) {
+                return null;
+            }
+
+            Query<FitnessGoal> goals = session.createNamedQuery(QueryCatalog.FITNESS_GOAL_BY_MEMBER, FitnessGoal.class);
+            EntityGraphs.fetch(session, goals, EntityGraphs.MEMBER_PROFILE_GOAL);
+            goals.setParameter("member", member);
+
+            Query<HealthMetricRow> metrics = session.createNamedQuery(QueryCatalog.HEALTH_METRIC_ROWS_BY_MEMBER,
+                    HealthMetricRow.class);
+            metrics.setParameter("member", member);
+            metrics.setMaxResults(RECENT_METRICS);
+
+            Query<Long> classCount = session.createNamedQuery(QueryCatalog.MEMBER_CLASS_COUNT_BY_MEMBER, Long.class);
+            classCount.setParameter("member", member);
+
+            Query<Long> sessionCount = session.createNamedQuery(QueryCatalog.PT_SESSION_COUNT_BY_MEMBER, Long.class);
+            sessionCount.setParameter("member", member);
+
+            return new MemberDetail(member, goals.getResultList(), metrics.getResultList(),
+                    classCount.uniqueResult(), sessionCount.uniqueResult());
+        }
+    }
+
+    private static Map<Long, Long> goalCounts(Session session, List<Long> memberIds) {
+        Query<Object[]> query = session.createNamedQuery(QueryCatalog.FITNESS_GOAL_COUNT_BY_MEMBERS, Object[].class);
+        query.setParameter("memberIds", memberIds);
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : query.getResultList()) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private static Map<Long, HealthMetricRow> latestMetrics(Session session, List<Long> memberIds) {
+        Query<Object[]> query = session.createNamedQuery(QueryCatalog.HEALTH_METRIC_LATEST_BY_MEMBERS, Object[].class);
+        query.setParameter("memberIds", memberIds);
+        Map<Long, HealthMetricRow> latest = new HashMap<>();
+        for (Object[] row : query.getResultList()) {
+            // Two metrics logged at the same instant: the one logged last wins (rows come newest id first)
+            latest.putIfAbsent((Long) row[0],
+                    new HealthMetricRow((Long) row[1], (String) row[2], (Integer) row[3], (LocalDateTime) row[4]));
+        }
+        return latest;
+    }
+}
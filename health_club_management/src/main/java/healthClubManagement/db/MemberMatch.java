@@ -0,0 +1,22 @@
+package healthClubManagement.db;
+
+/**
+ * Read-only row of the trainer's member search: who matched, how many goals they have set and their most
+ * recent health metric (null if none), filled in by {@link MemberLookup} for a whole page at once.
+ */
+public record MemberMatch(Long memberId, String firstName, String lastName, String email,
+                          long goalCount, HealthMetricRow latestMetric) {
+
+    // As selected by the search query, before the goal counts and latest metrics of its page are added
+    public MemberMatch(Long memberId, String firstName, String lastName, String email) {
+        this(memberId, firstName, lastName, email, 0, null);
+    }
+
+    public String name() {
+        return firstName + " " + lastName;
+    }
+
+    MemberMatch with(long goalCount, HealthMetricRow latestMetric) {
+        return new MemberMatch(memberId, firstName, lastName, email, goalCount, latestMetric);
+    }
+}
@@ -6,22 +6,28 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "PTSession")
+@NamedEntityGraph(name = EntityGraphs.PT_SESSION_BOOKING, attributeNodes = {
+        @NamedAttributeNode("member"),
+        @NamedAttributeNode("trainer"),
+        @NamedAttributeNode("room")
+})
 public class PTSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ptsession_seq")
+    @SequenceGenerator(name = "ptsession_seq", sequenceName = "ptsession_seq", allocationSize = 50)
     @Column(name = "session_id")
     private Long sessionId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trainer_id", nullable = false)
     private Trainer trainer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", nullable = false)
     private Room room;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
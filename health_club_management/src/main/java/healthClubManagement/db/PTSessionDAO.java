@@ -7,43 +7,51 @@ import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public class PTSessionDAO {
 
+    // Keyset position in the start-time ordered listing of upcoming sessions
+    public record Cursor(LocalDateTime startTime, Long sessionId) {
+    }
+
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
+    private final BookingCoordinator bookingCoordinator;
 
     public PTSessionDAO(SessionFactory sessionFactory) {
+        this(sessionFactory, BookingCoordinator.shared(sessionFactory));
+    }
+
+    public PTSessionDAO(SessionFactory sessionFactory, BookingCoordinator bookingCoordinator) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
+        this.bookingCoordinator = bookingCoordinator;
     }
 
-    // Create: schedule a new PT session
-    public void createSession(PTSession sessionEntity) {
-        Transaction tx = null;
-        try (Session session = sessionFactory.openSession()) {
-            tx = session.beginTransaction();
-            session.persist(sessionEntity);
-            tx.commit();
-        } catch (Exception e) {
-            if (tx != null) tx.rollback();
-            e.printStackTrace();
-        }
+    // Create: schedule a new PT session unless its trainer or room is already taken at that time
+    public BookingCoordinator.Result createSession(PTSession sessionEntity) {
+        return bookingCoordinator.book(sessionEntity);
+    }
+
+    // Create: add many PT sessions, one transaction per chunk
+    public BulkResult<PTSession> createAll(Collection<PTSession> sessions) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, sessions);
     }
 
     // Read: get session by id
     public PTSession getSessionById(Long sessionId) {
         try (Session session = sessionFactory.openSession()) {
-            return session.find(PTSession.class, sessionId);
+            return EntityGraphs.find(session, PTSession.class, sessionId, EntityGraphs.PT_SESSION_BOOKING);
         }
     }
 
     // Read: all sessions for a given member
     public List<PTSession> getSessionsByMember(Member member) {
         try (Session session = sessionFactory.openSession()) {
-            Query<PTSession> query = session.createQuery(
-                    "FROM PTSession s WHERE s.member = :member",
-                    PTSession.class
-            );
+            Query<PTSession> query = session.createNamedQuery(QueryCatalog.PT_SESSION_BY_MEMBER, PTSession.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.PT_SESSION_BOOKING);
             query.setParameter("member", member);
             return query.getResultList();
         }
@@ -52,27 +60,55 @@ public class PTSessionDAO {
     // Read: all sessions for a given trainer
     public List<PTSession> getSessionsByTrainer(Trainer trainer) {
         try (Session session = sessionFactory.openSession()) {
-            Query<PTSession> query = session.createQuery(
-                    "FROM PTSession s WHERE s.trainer = :trainer",
-                    PTSession.class
-            );
+            Query<PTSession> query = session.createNamedQuery(QueryCatalog.PT_SESSION_BY_TRAINER, PTSession.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.PT_SESSION_BOOKING);
             query.setParameter("trainer", trainer);
             return query.getResultList();
         }
     }
 
+    // Read: number of sessions for a trainer (all time)
+    public long countSessionsByTrainer(Trainer trainer) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<Long> query = session.createNamedQuery(QueryCatalog.PT_SESSION_COUNT_BY_TRAINER, Long.class);
+            query.setParameter("trainer", trainer);
+            return query.uniqueResult();
+        }
+    }
+
+    // Read: number of sessions for a trainer that have not started yet
+    public long countUpcomingSessionsByTrainer(Trainer trainer) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<Long> query = session.createNamedQuery(QueryCatalog.PT_SESSION_COUNT_UPCOMING_BY_TRAINER, Long.class);
+            query.setParameter("trainer", trainer);
+            query.setParameter("now", LocalDateTime.now());
+            return query.uniqueResult();
+        }
+    }
+
+    // Read: one page of upcoming sessions in start-time order, as table rows (names projected in the same query)
+    public Page<PTSessionRow, Cursor> getUpcomingSessionsPage(Cursor after, int pageSize) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<PTSessionRow> query;
+            if (after == null) {
+                query = session.createNamedQuery(QueryCatalog.PT_SESSION_PAGE_FIRST, PTSessionRow.class);
+            } else {
+                query = session.createNamedQuery(QueryCatalog.PT_SESSION_PAGE_AFTER, PTSessionRow.class);
+                query.setParameter("startTime", after.startTime());
+                query.setParameter("sessionId", after.sessionId());
+            }
+            query.setParameter("now", LocalDateTime.now());
+            query.setMaxResults(pageSize + 1);
+            return Page.of(query.getResultList(), pageSize, s -> new Cursor(s.startTime(), s.sessionId()));
+        }
+    }
+
     // Read: sessions for a trainer in a time range (to check conflicts)
     public List<PTSession> getSessionsByTrainerAndTimeRange(Trainer trainer,
                                                             LocalDateTime start,
                                                             LocalDateTime end) {
         try (Session session = sessionFactory.openSession()) {
-            Query<PTSession> query = session.createQuery(
-                    "FROM PTSession s " +
-                            "WHERE s.trainer = :trainer " +
-                            "AND s.startTime < :end " +
-                            "AND s.endTime > :start",
-                    PTSession.class
-            );
+            Query<PTSession> query = session.createNamedQuery(QueryCatalog.PT_SESSION_TRAINER_OVERLAP, PTSession.class);
             query.setParameter("trainer", trainer);
             query.setParameter("start", start);
             query.setParameter("end", end);
@@ -85,13 +121,7 @@ public class PTSessionDAO {
                                                          LocalDateTime start,
                                                          LocalDateTime end) {
         try (Session session = sessionFactory.openSession()) {
-            Query<PTSession> query = session.createQuery(
-                    "FROM PTSession s " +
-                            "WHERE s.room = :room " +
-                            "AND s.startTime < :end " +
-                            "AND s.endTime > :start",
-                    PTSession.class
-            );
+            Query<PTSession> query = session.createNamedQuery(QueryCatalog.PT_SESSION_ROOM_OVERLAP, PTSession.class);
             query.setParameter("room", room);
             query.setParameter("start", start);
             query.setParameter("end", end);
@@ -112,6 +142,11 @@ public class PTSessionDAO {
         }
     }
 
+    // Update: save changes to many PT sessions, one transaction per chunk
+    public BulkResult<PTSession> updateAll(Collection<PTSession> sessions) {
+        return bulkWriter.write(BulkWriter.Operation.UPDATE, sessions);
+    }
+
     // Delete: cancel/remove a session
     public void deleteSession(PTSession sessionEntity) {
         Transaction tx = null;
@@ -124,4 +159,9 @@ public class PTSessionDAO {
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many PT sessions, one transaction per chunk
+    public BulkResult<PTSession> deleteAll(Collection<PTSession> sessions) {
+        return bulkWriter.write(BulkWriter.Operation.DELETE, sessions);
+    }
 }
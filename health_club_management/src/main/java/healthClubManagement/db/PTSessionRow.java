@@ -0,0 +1,19 @@
+package healthClubManagement.db;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row for PT session tables: the session times plus the names of its member, trainer and room.
+ */
+public record PTSessionRow(Long sessionId, LocalDateTime startTime, LocalDateTime endTime, String status,
+                           String memberFirstName, String memberLastName,
+                           String trainerFirstName, String trainerLastName, String roomName) {
+
+    public String memberName() {
+        return memberFirstName + " " + memberLastName;
+    }
+
+    public String trainerName() {
+        return trainerFirstName + " " + trainerLastName;
+    }
+}
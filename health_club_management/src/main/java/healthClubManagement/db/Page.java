@@ -0,0 +1,29 @@
+package healthClubManagement.db;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (seek) paginated listing.
+ *
+ * Pass nextCursor back to the DAO to get the following page; it is null on the last page. Unlike OFFSET
+ * paging, the cost of a page does not grow with how far the user has scrolled.
+ */
+public record Page<T, C>(List<T> items, C nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    // Builds a page from a query run with setMaxResults(limit + 1); the extra row only signals that more exist
+    static <T, C> Page<T, C> of(List<T> rows, int limit, Function<T, C> cursorOf) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("page size must be positive: " + limit);
+        }
+        if (rows.size() <= limit) {
+            return new Page<>(List.copyOf(rows), null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, limit));
+        return new Page<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+}
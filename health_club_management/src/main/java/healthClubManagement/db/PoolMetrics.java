@@ -0,0 +1,117 @@
+package healthClubManagement.db;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live gauges and an acquire-time histogram for the JDBC pool.
+ * Used to size the pool for front-desk load (see hibernate.hikari.* in hibernate.cfg.xml).
+ */
+public class PoolMetrics {
+
+    // Upper bounds (in milliseconds) of the acquire-time histogram buckets; the last bucket is open-ended
+    private static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500};
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAdder acquireTimeouts = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+
+    private volatile HikariPoolMXBean pool;
+
+    public PoolMetrics() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void bind(HikariPoolMXBean pool) {
+        this.pool = pool;
+    }
+
+    void recordAcquire(long nanos) {
+        acquireCount.increment();
+        acquireNanos.add(nanos);
+        maxAcquireNanos.accumulate(nanos);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MS.length && millis >= BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+    }
+
+    void recordTimeout() {
+        acquireTimeouts.increment();
+    }
+
+    // Gauges: read straight from the pool so they are always current
+    public int getActiveConnections() {
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+
+    public int getIdleConnections() {
+        return pool != null ? pool.getIdleConnections() : 0;
+    }
+
+    public int getTotalConnections() {
+        return pool != null ? pool.getTotalConnections() : 0;
+    }
+
+    public int getThreadsAwaitingConnection() {
+        return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+    }
+
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    public long getAcquireTimeouts() {
+        return acquireTimeouts.sum();
+    }
+
+    public double getMeanAcquireMillis() {
+        long count = acquireCount.sum();
+        return count == 0 ? 0.0 : acquireNanos.sum() / (count * 1_000_000.0);
+    }
+
+    public double getMaxAcquireMillis() {
+        return maxAcquireNanos.get() / 1_000_000.0;
+    }
+
+    // Histogram counts, one per bucket in BUCKET_BOUNDS_MS order plus the overflow bucket
+    public long[] getAcquireHistogram() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder histogram = new StringBuilder();
+        long[] counts = getAcquireHistogram();
+        for (int i = 0; i < counts.length; i++) {
+            if (i > 0) histogram.append(", ");
+            histogram.append(i < BUCKET_BOUNDS_MS.length ? "<" + BUCKET_BOUNDS_MS[i] + "ms" : ">="
+                    + BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1] + "ms").append('=').append(counts[i]);
+        }
+        return "PoolMetrics{" +
+                "active=" + getActiveConnections() +
+                ", idle=" + getIdleConnections() +
+                ", total=" + getTotalConnections() +
+                ", waiting=" + getThreadsAwaitingConnection() +
+                ", acquired=" + getAcquireCount() +
+                ", timeouts=" + getAcquireTimeouts() +
+                ", meanAcquireMs=" + String.format("%.2f", getMeanAcquireMillis()) +
+                ", maxAcquireMs=" + String.format("%.2f", getMaxAcquireMillis()) +
+                ", histogram=[" + histogram + "]" +
+                '}';
+    }
+}
@@ -0,0 +1,104 @@
+package healthClubManagement.db;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Hibernate ConnectionProvider backed by a bounded HikariCP pool.
+ *
+ * Connection settings come from the usual hibernate.connection.* properties; pool tuning
+ * (min/max size, idle eviction, validation and leak detection) from hibernate.hikari.*.
+ * Every acquire is timed into {@link PoolMetrics}.
+ */
+public class PooledConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+
+    private static final String HIKARI_PREFIX = "hibernate.hikari.";
+
+    private final PoolMetrics metrics = new PoolMetrics();
+    private HikariDataSource dataSource;
+
+    @Override
+    public void configure(Map<String, Object> settings) {
+        Properties hikariProperties = new Properties();
+        for (Map.Entry<String, Object> entry : settings.entrySet()) {
+            if (entry.getKey().startsWith(HIKARI_PREFIX) && entry.getValue() != null) {
+                hikariProperties.setProperty(entry.getKey().substring(HIKARI_PREFIX.length()),
+                        entry.getValue().toString());
+            }
+        }
+
+        HikariConfig config = new HikariConfig(hikariProperties);
+        config.setDriverClassName(setting(settings, "hibernate.connection.driver_class"));
+        config.setJdbcUrl(setting(settings, "hibernate.connection.url"));
+        config.setUsername(setting(settings, "hibernate.connection.username"));
+        config.setPassword(setting(settings, "hibernate.connection.password"));
+
+        dataSource = new HikariDataSource(config);
+        metrics.bind(dataSource.getHikariPoolMXBean());
+    }
+
+    private static String setting(Map<String, Object> settings, String key) {
+        Object value = settings.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            metrics.recordTimeout();
+            throw e;
+        } finally {
+            metrics.recordAcquire(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void closeConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    public PoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(java.lang.Class<?> unwrapType) {
+        return unwrapType.isAssignableFrom(PooledConnectionProvider.class)
+                || unwrapType.isAssignableFrom(HikariDataSource.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(java.lang.Class<T> unwrapType) {
+        if (unwrapType.isAssignableFrom(PooledConnectionProvider.class)) {
+            return (T) this;
+        }
+        if (unwrapType.isAssignableFrom(HikariDataSource.class)) {
+            return (T) dataSource;
+        }
+        throw new IllegalArgumentException("Cannot unwrap PooledConnectionProvider as " + unwrapType.getName());
+    }
+
+    @Override
+    public void stop() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+}
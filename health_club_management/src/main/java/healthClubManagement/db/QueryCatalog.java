@@ -0,0 +1,152 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Names of the HQL queries declared in package-info.java, plus per-query execution statistics.
+ *
+ * Use with session.createNamedQuery(QueryCatalog.X, ResultType.class) instead of inline HQL.
+ */
+public class QueryCatalog {
+
+    // Member
+    public static final String MEMBER_LOGIN = "Member.login";
+    public static final String MEMBER_BY_EMAIL = "Member.byEmail";
+    public static final String MEMBER_ALL = "Member.all";
+    public static final String MEMBER_PAGE = "Member.page";
+    public static final String MEMBER_SEARCH_PAGE = "Member.searchPage";
+
+    // Trainer
+    public static final String TRAINER_LOGIN = "Trainer.login";
+    public static final String TRAINER_BY_EMAIL = "Trainer.byEmail";
+    public static final String TRAINER_ALL = "Trainer.all";
+
+    // Admin
+    public static final String ADMIN_LOGIN = "Admin.login";
+    public static final String ADMIN_BY_EMAIL = "Admin.byEmail";
+    public static final String ADMIN_ALL = "Admin.all";
+
+    // Room
+    public static final String ROOM_ALL = "Room.all";
+    public static final String ROOM_AVAILABLE = "Room.available";
+
+    // Class
+    public static final String CLASS_ALL = "Class.all";
+    public static final String CLASS_UPCOMING = "Class.upcoming";
+    public static final String CLASS_BY_TRAINER = "Class.byTrainer";
+    public static final String CLASS_BY_TRAINER_ON_DATE = "Class.byTrainerOnDate";
+    public static final String CLASS_BY_ROOM = "Class.byRoom";
+    public static final String CLASS_ROWS_UPCOMING = "Class.rowsUpcoming";
+    public static final String CLASS_COUNT_BY_TRAINER = "Class.countByTrainer";
+
+    // MemberClass
+    public static final String MEMBER_CLASS_BY_MEMBER_AND_CLASS = "MemberClass.byMemberAndClass";
+    public static final String MEMBER_CLASS_BY_MEMBER = "MemberClass.byMember";
+    public static final String MEMBER_CLASS_BY_CLASS = "MemberClass.byClass";
+    public static final String MEMBER_CLASS_ROWS_BY_MEMBER = "MemberClass.rowsByMember";
+    public static final String MEMBER_CLASS_COUNT_BY_MEMBER = "MemberClass.countByMember";
+
+    // Class waitlist (ClassEnrollment)
+    public static final String WAITLIST_ROWS_BY_MEMBER = "Waitlist.rowsByMember";
+
+    // PTSession
+    public static final String PT_SESSION_BY_MEMBER = "PTSession.byMember";
+    public static final String PT_SESSION_BY_TRAINER = "PTSession.byTrainer";
+    public static final String PT_SESSION_BY_TRAINER_ON_DATE = "PTSession.byTrainerOnDate";
+    public static final String PT_SESSION_UPCOMING = "PTSession.upcoming";
+    public static final String PT_SESSION_ROWS_UPCOMING = "PTSession.rowsUpcoming";
+    public static final String PT_SESSION_ROWS_BY_TRAINER = "PTSession.rowsByTrainer";
+    public static final String PT_SESSION_UPCOMING_BY_MEMBER = "PTSession.upcomingByMember";
+    public static final String PT_SESSION_TRAINER_OVERLAP = "PTSession.trainerOverlap";
+    public static final String PT_SESSION_ROOM_OVERLAP = "PTSession.roomOverlap";
+    public static final String PT_SESSION_PAGE_FIRST = "PTSession.pageFirst";
+    public static final String PT_SESSION_PAGE_AFTER = "PTSession.pageAfter";
+    public static final String PT_SESSION_COUNT_BY_TRAINER = "PTSession.countByTrainer";
+    public static final String PT_SESSION_COUNT_UPCOMING_BY_TRAINER = "PTSession.countUpcomingByTrainer";
+    public static final String PT_SESSION_COUNT_BY_MEMBER = "PTSession.countByMember";
+
+    // Availability
+    public static final String AVAILABILITY_BY_TRAINER = "Availability.byTrainer";
+    public static final String AVAILABILITY_BY_TRAINER_ON_DATE = "Availability.byTrainerOnDate";
+    public static final String AVAILABILITY_OVERLAP = "Availability.overlap";
+    public static final String AVAILABILITY_OVERLAP_DATES = "Availability.overlapDates";
+    public static final String AVAILABILITY_SLOTS_BETWEEN = "Availability.slotsBetween";
+    public static final String AVAILABILITY_SLOTS_ALL_BETWEEN = "Availability.slotsAllBetween";
+    public static final String AVAILABILITY_OPEN_FROM = "Availability.openFrom";
+    public static final String AVAILABILITY_COUNT_BY_TRAINER = "Availability.countByTrainer";
+
+    // Billing
+    public static final String BILLING_PAGE_FIRST = "Billing.pageFirst";
+    public static final String BILLING_PAGE_AFTER = "Billing.pageAfter";
+    public static final String BILLING_BY_MEMBER = "Billing.byMember";
+    public static final String BILLING_BY_TRAINER = "Billing.byTrainer";
+    public static final String BILLING_BY_PAYMENT_DATE = "Billing.byPaymentDate";
+
+    // Room/trainer booking index (BookingIndex) and locked booking checks (BookingCoordinator)
+    public static final String BOOKING_PT_SESSIONS = "Booking.ptSessions";
+    public static final String BOOKING_CLASSES = "Booking.classes";
+    public static final String BOOKING_PT_SESSION_OVERLAP = "Booking.ptSessionOverlap";
+    public static final String BOOKING_CLASS_OVERLAP = "Booking.classOverlap";
+    public static final String BOOKING_ROOM_PT_SESSION_OVERLAP = "Booking.roomPtSessionOverlap";
+    public static final String BOOKING_ROOM_CLASS_OVERLAP = "Booking.roomClassOverlap";
+
+    // Dashboard figures (DashboardStats)
+    public static final String STATS_ADMIN = "Stats.admin";
+    public static final String STATS_TRAINER = "Stats.trainer";
+
+    // Billing rollups (BillingRollup)
+    public static final String ROLLUP_DAILY_BETWEEN = "Rollup.dailyBetween";
+    public static final String ROLLUP_MONTHLY_BETWEEN = "Rollup.monthlyBetween";
+
+    // Nightly exports (DataExporter)
+    public static final String EXPORT_BILLING = "Export.billing";
+    public static final String EXPORT_HEALTH_METRICS = "Export.healthMetrics";
+
+    // FitnessGoal / HealthMetric
+    public static final String FITNESS_GOAL_BY_MEMBER = "FitnessGoal.byMember";
+    public static final String FITNESS_GOAL_COUNT_BY_MEMBERS = "FitnessGoal.countByMembers";
+    public static final String HEALTH_METRIC_BY_MEMBER = "HealthMetric.byMember";
+    public static final String HEALTH_METRIC_ROWS_BY_MEMBER = "HealthMetric.rowsByMember";
+    public static final String HEALTH_METRIC_LATEST_BY_MEMBERS = "HealthMetric.latestByMembers";
+
+    public record QueryStats(String name, String hql, long executions, long rows,
+                             double meanMillis, long maxMillis, long totalMillis) {
+    }
+
+    // Execution count and timings of every catalog query, slowest (by total time) first
+    public static List<QueryStats> getQueryStatistics(SessionFactory sessionFactory) {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<QueryStats> result = new ArrayList<>();
+        sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getQueryEngine()
+                .getNamedObjectRepository()
+                .visitSqmQueryMementos(memento -> {
+                    String hql = memento.getHqlString();
+                    QueryStatistics stats = statistics.getQueryStatistics(hql);
+                    result.add(new QueryStats(memento.getRegistrationName(), hql,
+                            stats.getExecutionCount(), stats.getExecutionRowCount(),
+                            stats.getExecutionAvgTimeAsDouble(), stats.getExecutionMaxTime(),
+                            stats.getExecutionTotalTime()));
+                });
+        result.sort(Comparator.comparingLong(QueryStats::totalMillis).reversed()
+                .thenComparing(QueryStats::name));
+        return result;
+    }
+
+    public static String report(SessionFactory sessionFactory) {
+        StringBuilder report = new StringBuilder("QueryCatalog{\n");
+        for (QueryStats stats : getQueryStatistics(sessionFactory)) {
+            report.append(String.format("  %-36s executions=%d, rows=%d, meanMs=%.2f, maxMs=%d, totalMs=%d%n",
+                    stats.name(), stats.executions(), stats.rows(),
+                    stats.meanMillis(), stats.maxMillis(), stats.totalMillis()));
+        }
+        return report.append('}').toString();
+    }
+}
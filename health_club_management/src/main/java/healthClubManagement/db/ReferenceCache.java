@@ -0,0 +1,99 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Second-level cache for the reference entities (Room, Trainer, Class) and the combo box queries over them.
+ *
+ * Region sizes and TTLs are configured in ehcache.xml. Writes through a Session keep the READ_WRITE regions
+ * consistent on their own; the DAO update/delete paths additionally call {@link #evict} so a failed or
+ * partially applied write can never leave a stale entry behind.
+ */
+public class ReferenceCache {
+
+    // Entity regions (must match the cache aliases in ehcache.xml)
+    public static final String ROOM_REGION = "room";
+    public static final String TRAINER_REGION = "trainer";
+    public static final String CLASS_REGION = "class";
+
+    // Query results for the reference lists below (the named queries are declared cacheable in package-info.java)
+    public static final String QUERY_REGION = "reference-queries";
+
+    private static final String[] ENTITY_REGIONS = {ROOM_REGION, TRAINER_REGION, CLASS_REGION};
+
+    public record RegionStats(String region, long hits, long misses, long puts, long size) {
+
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    // All trainers (trainer dropdowns)
+    public static List<Trainer> trainers(Session session) {
+        return session.createNamedQuery(QueryCatalog.TRAINER_ALL, Trainer.class).getResultList();
+    }
+
+    // All rooms (room booking overview)
+    public static List<Room> rooms(Session session) {
+        return session.createNamedQuery(QueryCatalog.ROOM_ALL, Room.class).getResultList();
+    }
+
+    // Bookable rooms (room dropdowns)
+    public static List<Room> availableRooms(Session session) {
+        return session.createNamedQuery(QueryCatalog.ROOM_AVAILABLE, Room.class).getResultList();
+    }
+
+    // Drops one cached entity and every cached reference list
+    public static void evict(SessionFactory sessionFactory, java.lang.Class<?> entityClass, Object id) {
+        org.hibernate.Cache cache = sessionFactory.getCache();
+        if (id != null) {
+            cache.evictEntityData(entityClass, id);
+        } else {
+            cache.evictEntityData(entityClass);
+        }
+        cache.evictQueryRegion(QUERY_REGION);
+    }
+
+    // Hit/miss/put counters per region (requires hibernate.generate_statistics)
+    public static List<RegionStats> getRegionStatistics(SessionFactory sessionFactory) {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<RegionStats> result = new ArrayList<>();
+        for (String region : ENTITY_REGIONS) {
+            result.add(toStats(region, statistics.getDomainDataRegionStatistics(region)));
+        }
+        result.add(toStats(QUERY_REGION, statistics.getQueryRegionStatistics(QUERY_REGION)));
+        return result;
+    }
+
+    private static RegionStats toStats(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return new RegionStats(region, 0, 0, 0, 0);
+        }
+        return new RegionStats(region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount(),
+                Math.max(stats.getElementCountInMemory(), 0));
+    }
+
+    public static String report(SessionFactory sessionFactory) {
+        StringBuilder report = new StringBuilder("ReferenceCache{");
+        List<RegionStats> regions = getRegionStatistics(sessionFactory);
+        for (int i = 0; i < regions.size(); i++) {
+            RegionStats stats = regions.get(i);
+            if (i > 0) report.append(", ");
+            report.append(stats.region())
+                    .append("[hits=").append(stats.hits())
+                    .append(", misses=").append(stats.misses())
+                    .append(", puts=").append(stats.puts())
+                    .append(", size=").append(stats.size())
+                    .append(", hitRatio=").append(String.format("%.2f", stats.hitRatio()))
+                    .append(']');
+        }
+        return report.append('}').toString();
+    }
+}
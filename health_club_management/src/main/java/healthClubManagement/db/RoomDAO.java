@@ -3,16 +3,18 @@ package healthClubManagement.db;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
-import org.hibernate.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public class RoomDAO {
 
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public RoomDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create: add a new room
@@ -28,6 +30,11 @@ public class RoomDAO {
         }
     }
 
+    // Create: add many rooms, one transaction per chunk
+    public BulkResult<Room> createAll(Collection<Room> rooms) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, rooms);
+    }
+
     // Read: get room by id
     public Room getRoomById(Long roomId) {
         try (Session session = sessionFactory.openSession()) {
@@ -38,22 +45,14 @@ public class RoomDAO {
     // Read: get all rooms
     public List<Room> getAllRooms() {
         try (Session session = sessionFactory.openSession()) {
-            Query<Room> query = session.createQuery(
-                    "FROM Room",
-                    Room.class
-            );
-            return query.getResultList();
+            return ReferenceCache.rooms(session);
         }
     }
 
     // Read: get only available rooms
     public List<Room> getAvailableRooms() {
         try (Session session = sessionFactory.openSession()) {
-            Query<Room> query = session.createQuery(
-                    "FROM Room r WHERE r.available = true",
-                    Room.class
-            );
-            return query.getResultList();
+            return ReferenceCache.availableRooms(session);
         }
     }
 
@@ -64,12 +63,20 @@ public class RoomDAO {
             tx = session.beginTransaction();
             session.merge(room);
             tx.commit();
+            ReferenceCache.evict(sessionFactory, Room.class, room.getRoomId());
         } catch (Exception e) {
             if (tx != null) tx.rollback();
             e.printStackTrace();
         }
     }
 
+    // Update: save changes to many rooms, one transaction per chunk
+    public BulkResult<Room> updateAll(Collection<Room> rooms) {
+        BulkResult<Room> result = bulkWriter.write(BulkWriter.Operation.UPDATE, rooms);
+        ReferenceCache.evict(sessionFactory, Room.class, null);
+        return result;
+    }
+
     // Delete: remove a room
     public void deleteRoom(Room room) {
         Transaction tx = null;
@@ -77,9 +84,17 @@ public class RoomDAO {
             tx = session.beginTransaction();
             session.remove(room);
             tx.commit();
+            ReferenceCache.evict(sessionFactory, Room.class, room.getRoomId());
         } catch (Exception e) {
             if (tx != null) tx.rollback();
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many rooms, one transaction per chunk
+    public BulkResult<Room> deleteAll(Collection<Room> rooms) {
+        BulkResult<Room> result = bulkWriter.write(BulkWriter.Operation.DELETE, rooms);
+        ReferenceCache.evict(sessionFactory, Room.class, null);
+        return result;
+    }
 }
@@ -0,0 +1,179 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Versioned schema migrations, replacing hbm2ddl.auto=update.
+ *
+ * Scripts live in src/main/resources/db/migration and are applied in the order of MIGRATIONS.
+ * Each applied script is recorded in schema_version with a CRC32 checksum; a released script
+ * must never be edited - add a new version instead.
+ */
+public class SchemaMigrator {
+
+    private static final String MIGRATION_PATH = "db/migration/";
+
+    // Applied in this order
+    private static final String[] MIGRATIONS = {
+            "V1__baseline.sql",
+            "V2__pooled_id_sequences.sql",
+            "V3__keyset_paging_indexes.sql",
+            "V4__billing_rollups.sql",
+            "V5__class_enrolled_count.sql",
+            "V6__class_waitlist.sql"
+    };
+
+    // pg_advisory_xact_lock key so two kiosks starting together do not migrate concurrently
+    private static final long MIGRATION_LOCK_KEY = 7_245_001L;
+
+    private record Migration(int version, String description, String sql, long checksum) {
+    }
+
+    public static void migrate(SessionFactory sessionFactory) {
+        try (Session session = sessionFactory.openSession()) {
+            session.doWork(SchemaMigrator::migrate);
+        }
+    }
+
+    static void migrate(Connection connection) throws SQLException {
+        List<Migration> migrations = loadMigrations();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            // Fast path: one catalog lookup and one small select when the schema is current
+            if (isCurrent(readApplied(connection), migrations)) {
+                connection.commit();
+                return;
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
+                        "version integer PRIMARY KEY, " +
+                        "description varchar(200) NOT NULL, " +
+                        "checksum bigint NOT NULL, " +
+                        "installed_on timestamp NOT NULL DEFAULT now(), " +
+                        "execution_ms integer NOT NULL)");
+                statement.execute("SELECT pg_advisory_xact_lock(" + MIGRATION_LOCK_KEY + ")");
+            }
+
+            // Re-read under the lock: another instance may have migrated meanwhile
+            Map<Integer, Long> applied = readApplied(connection);
+            for (Migration migration : migrations) {
+                Long checksum = applied.get(migration.version());
+                if (checksum != null) {
+                    if (checksum != migration.checksum()) {
+                        throw new IllegalStateException("Checksum mismatch for applied migration V"
+                                + migration.version() + " (" + migration.description() + ")");
+                    }
+                    continue;
+                }
+                apply(connection, migration);
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static boolean isCurrent(Map<Integer, Long> applied, List<Migration> migrations) {
+        if (applied.size() != migrations.size()) return false;
+        for (Migration migration : migrations) {
+            Long checksum = applied.get(migration.version());
+            if (checksum == null || checksum != migration.checksum()) return false;
+        }
+        return true;
+    }
+
+    private static Map<Integer, Long> readApplied(Connection connection) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT to_regclass('schema_version') IS NOT NULL")) {
+                if (!rs.next() || !rs.getBoolean(1)) return applied;
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT version, checksum FROM schema_version")) {
+                while (rs.next()) {
+                    applied.put(rs.getInt(1), rs.getLong(2));
+                }
+            }
+        }
+        return applied;
+    }
+
+    private static void apply(Connection connection, Migration migration) throws SQLException {
+        long start = System.currentTimeMillis();
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : splitStatements(migration.sql())) {
+                statement.execute(sql);
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO schema_version (version, description, checksum, execution_ms) VALUES (?, ?, ?, ?)")) {
+            insert.setInt(1, migration.version());
+            insert.setString(2, migration.description());
+            insert.setLong(3, migration.checksum());
+            insert.setInt(4, (int) (System.currentTimeMillis() - start));
+            insert.executeUpdate();
+        }
+        System.out.println("Applied schema migration V" + migration.version() + " - " + migration.description());
+    }
+
+    // Scripts are plain DDL/DML: strip line comments and split on terminating semicolons
+    private static List<String> splitStatements(String sql) {
+        StringBuilder cleaned = new StringBuilder();
+        for (String line : sql.split("\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.startsWith("--")) {
+                cleaned.append(line).append('\n');
+            }
+        }
+        List<String> statements = new ArrayList<>();
+        for (String statement : cleaned.toString().split(";\\s*\n")) {
+            if (!statement.isBlank()) {
+                statements.add(statement.trim().replaceAll(";$", ""));
+            }
+        }
+        return statements;
+    }
+
+    private static List<Migration> loadMigrations() {
+        List<Migration> migrations = new ArrayList<>();
+        for (String name : MIGRATIONS) {
+            String sql = readResource(MIGRATION_PATH + name).replace("\r\n", "\n");
+            CRC32 crc = new CRC32();
+            crc.update(sql.getBytes(StandardCharsets.UTF_8));
+
+            String[] parts = name.substring(1, name.length() - ".sql".length()).split("__", 2);
+            migrations.add(new Migration(Integer.parseInt(parts[0]), parts[1].replace('_', ' '), sql, crc.getValue()));
+        }
+        return migrations;
+    }
+
+    private static String readResource(String path) {
+        try (InputStream in = SchemaMigrator.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing migration script " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read migration script " + path, e);
+        }
+    }
+}
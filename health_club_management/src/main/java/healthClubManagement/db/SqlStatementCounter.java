@@ -0,0 +1,81 @@
+package healthClubManagement.db;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the SQL statements each dashboard screen runs while it is built (registered as the
+ * SessionFactory's statement inspector in hibernate.cfg.xml).
+ *
+ * A screen whose count jumps after a change is almost always loading an association row by row; the
+ * per-screen numbers are kept for {@link #report()}, which Main prints when the application exits, and
+ * anything over WARN_THRESHOLD is logged right away.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    // More statements than this for one screen usually means an N+1 select
+    public static final int WARN_THRESHOLD = 25;
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+    private static final Map<String, ScreenStats> SCREENS = new ConcurrentHashMap<>();
+
+    public record ScreenStats(String screen, long loads, int lastStatements, int maxStatements) {
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = CURRENT.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    // Runs work on this thread and records how many statements it issued under the given screen name
+    public static int track(String screen, Runnable work) {
+        int[] outer = CURRENT.get();
+        int[] counter = new int[1];
+        CURRENT.set(counter);
+        try {
+            work.run();
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                outer[0] += counter[0];
+                CURRENT.set(outer);
+            }
+        }
+
+        int statements = counter[0];
+        SCREENS.merge(screen, new ScreenStats(screen, 1, statements, statements),
+                (old, now) -> new ScreenStats(screen, old.loads() + 1, statements,
+                        Math.max(old.maxStatements(), statements)));
+        if (statements > WARN_THRESHOLD) {
+            System.err.println("SQL statement count for " + screen + " is " + statements +
+                    " (threshold " + WARN_THRESHOLD + ")");
+        }
+        return statements;
+    }
+
+    public static List<ScreenStats> getScreenStatistics() {
+        List<ScreenStats> result = new ArrayList<>(SCREENS.values());
+        result.sort(Comparator.comparingInt(ScreenStats::maxStatements).reversed()
+                .thenComparing(ScreenStats::screen));
+        return result;
+    }
+
+    public static String report() {
+        StringBuilder report = new StringBuilder("SqlStatementCounter{\n");
+        for (ScreenStats stats : getScreenStatistics()) {
+            report.append(String.format("  %-36s loads=%d, lastStatements=%d, maxStatements=%d%n",
+                    stats.screen(), stats.loads(), stats.lastStatements(), stats.maxStatements()));
+        }
+        return report.append('}').toString();
+    }
+}
@@ -1,13 +1,18 @@
 package healthClubManagement.db;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "Trainer")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCache.TRAINER_REGION)
 public class Trainer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainer_seq")
+    @SequenceGenerator(name = "trainer_seq", sequenceName = "trainer_seq", allocationSize = 50)
     @Column(name = "trainer_id")
     private Long trainerId;
 
@@ -5,14 +5,17 @@ import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public class TrainerDAO {
 
     private final SessionFactory sessionFactory;
+    private final BulkWriter bulkWriter;
 
     public TrainerDAO(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.bulkWriter = new BulkWriter(sessionFactory);
     }
 
     // Create: add a new trainer
@@ -28,6 +31,11 @@ public class TrainerDAO {
         }
     }
 
+    // Create: add many trainers, one transaction per chunk
+    public BulkResult<Trainer> createAll(Collection<Trainer> trainers) {
+        return bulkWriter.write(BulkWriter.Operation.CREATE, trainers);
+    }
+
     // Read: get trainer by id
     public Trainer getTrainerById(Long id) {
         try (Session session = sessionFactory.openSession()) {
@@ -38,10 +46,7 @@ public class TrainerDAO {
     // Read: get trainer by email (useful if email is unique)
     public Trainer getTrainerByEmail(String email) {
         try (Session session = sessionFactory.openSession()) {
-            Query<Trainer> query = session.createQuery(
-                    "FROM Trainer t WHERE t.email = :email",
-                    Trainer.class
-            );
+            Query<Trainer> query = session.createNamedQuery(QueryCatalog.TRAINER_BY_EMAIL, Trainer.class);
             query.setParameter("email", email);
             return query.uniqueResult();
         }
@@ -50,11 +55,7 @@ public class TrainerDAO {
     // Read: list all trainers (for dropdowns in PT scheduling UI)
     public List<Trainer> getAllTrainers() {
         try (Session session = sessionFactory.openSession()) {
-            Query<Trainer> query = session.createQuery(
-                    "FROM Trainer",
-                    Trainer.class
-            );
-            return query.getResultList();
+            return ReferenceCache.trainers(session);
         }
     }
 
@@ -65,12 +66,20 @@ public class TrainerDAO {
             tx = session.beginTransaction();
             session.merge(trainer);
             tx.commit();
+            ReferenceCache.evict(sessionFactory, Trainer.class, trainer.getTrainerId());
         } catch (Exception e) {
             if (tx != null) tx.rollback();
             e.printStackTrace();
         }
     }
 
+    // Update: save changes to many trainers, one transaction per chunk
+    public BulkResult<Trainer> updateAll(Collection<Trainer> trainers) {
+        BulkResult<Trainer> result = bulkWriter.write(BulkWriter.Operation.UPDATE, trainers);
+        ReferenceCache.evict(sessionFactory, Trainer.class, null);
+        return result;
+    }
+
     // Delete: remove trainer (optional)
     public void deleteTrainer(Trainer trainer) {
         Transaction tx = null;
@@ -78,9 +87,17 @@ public class TrainerDAO {
             tx = session.beginTransaction();
             session.remove(trainer);
             tx.commit();
+            ReferenceCache.evict(sessionFactory, Trainer.class, trainer.getTrainerId());
         } catch (Exception e) {
             if (tx != null) tx.rollback();
             e.printStackTrace();
         }
     }
+
+    // Delete: remove many trainers, one transaction per chunk
+    public BulkResult<Trainer> deleteAll(Collection<Trainer> trainers) {
+        BulkResult<Trainer> result = bulkWriter.write(BulkWriter.Operation.DELETE, trainers);
+        ReferenceCache.evict(sessionFactory, Trainer.class, null);
+        return result;
+    }
 }
@@ -0,0 +1,21 @@
+package healthClubManagement.db;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * A trainer's time interval [start, end): an open availability slot, or a free stretch of one after
+ * subtracting bookings (see AvailabilityEngine).
+ */
+public record TrainerSlot(Long trainerId, LocalDateTime start, LocalDateTime end) {
+
+    // Availability row (QueryCatalog.AVAILABILITY_SLOTS_BETWEEN)
+    public TrainerSlot(Long trainerId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        this(trainerId, date.atTime(startTime), date.atTime(endTime));
+    }
+
+    public boolean covers(LocalDateTime from, LocalDateTime to) {
+        return !start.isAfter(from) && !end.isBefore(to);
+    }
+}
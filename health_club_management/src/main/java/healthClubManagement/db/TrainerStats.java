@@ -0,0 +1,8 @@
+package healthClubManagement.db;
+
+/**
+ * Figures on a trainer's Dashboard panel, loaded in one query by {@link DashboardStats}.
+ */
+public record TrainerStats(long totalSessions, long upcomingSessions, long totalClasses,
+                           long availabilitySlots) {
+}
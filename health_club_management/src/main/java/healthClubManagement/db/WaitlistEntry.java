@@ -0,0 +1,75 @@
+package healthClubManagement.db;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of the ClassWaitlist table: a member waiting for a seat in a full class. Written only by
+ * {@link ClassEnrollment}; lower positions are promoted first.
+ */
+@Entity
+@Immutable
+@Table(name = "ClassWaitlist")
+@IdClass(WaitlistEntry.Key.class)
+public class WaitlistEntry {
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "class_id", nullable = false)
+    private healthClubManagement.db.Class gymClass;
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(name = "position", nullable = false)
+    private long position;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt;
+
+    protected WaitlistEntry() {
+    }
+
+    public healthClubManagement.db.Class getGymClass() {
+        return gymClass;
+    }
+
+    public Member getMember() {
+        return member;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public LocalDateTime getJoinedAt() {
+        return joinedAt;
+    }
+
+    // Composite key class
+    public static class Key implements Serializable {
+        private Long gymClass;
+        private Long member;
+
+        public Key() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return java.util.Objects.equals(gymClass, that.gymClass) &&
+                    java.util.Objects.equals(member, that.member);
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(gymClass, member);
+        }
+    }
+}
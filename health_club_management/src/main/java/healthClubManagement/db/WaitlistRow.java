@@ -0,0 +1,15 @@
+package healthClubManagement.db;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row for a member's waitlisted classes: the class schedule, its trainer and room names, and the
+ * member's current place in line (1 = next to be promoted).
+ */
+public record WaitlistRow(Long classId, String name, LocalDateTime schedule,
+                          String trainerFirstName, String trainerLastName, String roomName, long place) {
+
+    public String trainerName() {
+        return trainerFirstName + " " + trainerLastName;
+    }
+}
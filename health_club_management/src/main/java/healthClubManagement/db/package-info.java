@@ -0,0 +1,247 @@
+/**
+ * Named HQL catalog for the whole application.
+ *
+ * Every query the DAOs and dashboards run is declared here once and referenced through the
+ * {@link healthClubManagement.db.QueryCatalog} name constants. Hibernate parses and validates all of
+ * them while the SessionFactory is built (hibernate.query.startup_check), so a typo fails at boot
+ * instead of on the first click, and each call site reuses the pre-compiled query.
+ */
+@NamedQuery(name = QueryCatalog.MEMBER_LOGIN,
+        query = "FROM Member WHERE email = :email AND password = :password")
+@NamedQuery(name = QueryCatalog.MEMBER_BY_EMAIL,
+        query = "FROM Member m WHERE m.email = :email")
+@NamedQuery(name = QueryCatalog.MEMBER_ALL,
+        query = "FROM Member")
+@NamedQuery(name = QueryCatalog.MEMBER_PAGE,
+        query = "FROM Member WHERE memberId > :afterId ORDER BY memberId")
+@NamedQuery(name = QueryCatalog.MEMBER_SEARCH_PAGE,
+        query = "SELECT new healthClubManagement.db.MemberMatch(m.memberId, m.firstName, m.lastName, m.email) " +
+                "FROM Member m WHERE (LOWER(m.firstName) LIKE :name OR LOWER(m.lastName) LIKE :name " +
+                "OR LOWER(CONCAT(m.firstName, ' ', m.lastName)) LIKE :name) AND m.memberId > :afterId " +
+                "ORDER BY m.memberId")
+
+@NamedQuery(name = QueryCatalog.TRAINER_LOGIN,
+        query = "FROM Trainer WHERE email = :email AND password = :password")
+@NamedQuery(name = QueryCatalog.TRAINER_BY_EMAIL,
+        query = "FROM Trainer t WHERE t.email = :email")
+@NamedQuery(name = QueryCatalog.TRAINER_ALL,
+        query = "FROM Trainer ORDER BY trainerId",
+        cacheable = true, cacheRegion = ReferenceCache.QUERY_REGION)
+
+@NamedQuery(name = QueryCatalog.ADMIN_LOGIN,
+        query = "FROM Admin WHERE email = :email AND password = :password")
+@NamedQuery(name = QueryCatalog.ADMIN_BY_EMAIL,
+        query = "FROM Admin a WHERE a.email = :email")
+@NamedQuery(name = QueryCatalog.ADMIN_ALL,
+        query = "FROM Admin")
+
+@NamedQuery(name = QueryCatalog.ROOM_ALL,
+        query = "FROM Room ORDER BY roomId",
+        cacheable = true, cacheRegion = ReferenceCache.QUERY_REGION)
+@NamedQuery(name = QueryCatalog.ROOM_AVAILABLE,
+        query = "FROM Room WHERE available = true ORDER BY roomId",
+        cacheable = true, cacheRegion = ReferenceCache.QUERY_REGION)
+
+@NamedQuery(name = QueryCatalog.CLASS_ALL,
+        query = "FROM Class ORDER BY schedule ASC")
+@NamedQuery(name = QueryCatalog.CLASS_UPCOMING,
+        query = "FROM Class WHERE schedule >= :now ORDER BY schedule ASC")
+@NamedQuery(name = QueryCatalog.CLASS_BY_TRAINER,
+        query = "FROM Class WHERE trainer = :trainer ORDER BY schedule ASC")
+@NamedQuery(name = QueryCatalog.CLASS_BY_TRAINER_ON_DATE,
+        query = "FROM Class WHERE trainer = :trainer AND CAST(schedule AS LocalDate) = :date ORDER BY schedule")
+@NamedQuery(name = QueryCatalog.CLASS_BY_ROOM,
+        query = "FROM Class c WHERE c.room = :room")
+@NamedQuery(name = QueryCatalog.CLASS_ROWS_UPCOMING,
+        query = "SELECT new healthClubManagement.db.ClassRow(c.classId, c.name, c.schedule, " +
+                "t.firstName, t.lastName, r.name) " +
+                "FROM Class c JOIN c.trainer t JOIN c.room r WHERE c.schedule >= :now ORDER BY c.schedule ASC")
+@NamedQuery(name = QueryCatalog.CLASS_COUNT_BY_TRAINER,
+        query = "SELECT COUNT(c) FROM Class c WHERE c.trainer = :trainer")
+
+@NamedQuery(name = QueryCatalog.MEMBER_CLASS_BY_MEMBER_AND_CLASS,
+        query = "FROM MemberClass mc WHERE mc.member = :member AND mc.gymClass = :gymClass")
+@NamedQuery(name = QueryCatalog.MEMBER_CLASS_BY_MEMBER,
+        query = "FROM MemberClass mc WHERE mc.member = :member")
+@NamedQuery(name = QueryCatalog.MEMBER_CLASS_BY_CLASS,
+        query = "FROM MemberClass mc WHERE mc.gymClass = :gymClass")
+@NamedQuery(name = QueryCatalog.MEMBER_CLASS_ROWS_BY_MEMBER,
+        query = "SELECT new healthClubManagement.db.ClassRow(c.classId, c.name, c.schedule, " +
+                "t.firstName, t.lastName, r.name) " +
+                "FROM MemberClass mc JOIN mc.gymClass c JOIN c.trainer t JOIN c.room r " +
+                "WHERE mc.member = :member")
+@NamedQuery(name = QueryCatalog.MEMBER_CLASS_COUNT_BY_MEMBER,
+        query = "SELECT COUNT(mc) FROM MemberClass mc WHERE mc.member = :member")
+
+@NamedQuery(name = QueryCatalog.WAITLIST_ROWS_BY_MEMBER,
+        query = "SELECT new healthClubManagement.db.WaitlistRow(c.classId, c.name, c.schedule, " +
+                "t.firstName, t.lastName, r.name, " +
+                "(SELECT COUNT(o) FROM WaitlistEntry o WHERE o.gymClass = w.gymClass AND o.position <= w.position)) " +
+                "FROM WaitlistEntry w JOIN w.gymClass c JOIN c.trainer t JOIN c.room r " +
+                "WHERE w.member = :member ORDER BY c.schedule")
+
+@NamedQuery(name = QueryCatalog.PT_SESSION_BY_MEMBER,
+        query = "FROM PTSession WHERE member = :member ORDER BY startTime DESC")
+@NamedQuery(name = QueryCatalog.PT_SESSION_BY_TRAINER,
+        query = "FROM PTSession WHERE trainer = :trainer ORDER BY startTime ASC")
+@NamedQuery(name = QueryCatalog.PT_SESSION_BY_TRAINER_ON_DATE,
+        query = "FROM PTSession WHERE trainer = :trainer AND CAST(startTime AS LocalDate) = :date ORDER BY startTime")
+@NamedQuery(name = QueryCatalog.PT_SESSION_UPCOMING,
+        query = "FROM PTSession WHERE startTime >= :now ORDER BY startTime ASC")
+@NamedQuery(name = QueryCatalog.PT_SESSION_ROWS_UPCOMING,
+        query = "SELECT new healthClubManagement.db.PTSessionRow(s.sessionId, s.startTime, s.endTime, s.status, " +
+                "m.firstName, m.lastName, t.firstName, t.lastName, r.name) " +
+                "FROM PTSession s JOIN s.member m JOIN s.trainer t JOIN s.room r " +
+                "WHERE s.startTime >= :now ORDER BY s.startTime ASC")
+@NamedQuery(name = QueryCatalog.PT_SESSION_ROWS_BY_TRAINER,
+        query = "SELECT new healthClubManagement.db.PTSessionRow(s.sessionId, s.startTime, s.endTime, s.status, " +
+                "m.firstName, m.lastName, t.firstName, t.lastName, r.name) " +
+                "FROM PTSession s JOIN s.member m JOIN s.trainer t JOIN s.room r " +
+                "WHERE s.trainer = :trainer ORDER BY s.startTime ASC")
+@NamedQuery(name = QueryCatalog.PT_SESSION_UPCOMING_BY_MEMBER,
+        query = "FROM PTSession WHERE member = :member AND startTime > :now ORDER BY startTime ASC")
+@NamedQuery(name = QueryCatalog.PT_SESSION_TRAINER_OVERLAP,
+        query = "FROM PTSession s WHERE s.trainer = :trainer AND s.startTime < :end AND s.endTime > :start")
+@NamedQuery(name = QueryCatalog.PT_SESSION_ROOM_OVERLAP,
+        query = "FROM PTSession s WHERE s.room = :room AND s.startTime < :end AND s.endTime > :start")
+@NamedQuery(name = QueryCatalog.PT_SESSION_PAGE_FIRST,
+        query = "SELECT new healthClubManagement.db.PTSessionRow(s.sessionId, s.startTime, s.endTime, s.status, " +
+                "m.firstName, m.lastName, t.firstName, t.lastName, r.name) " +
+                "FROM PTSession s JOIN s.member m JOIN s.trainer t JOIN s.room r " +
+                "WHERE s.startTime >= :now ORDER BY s.startTime, s.sessionId")
+@NamedQuery(name = QueryCatalog.PT_SESSION_PAGE_AFTER,
+        query = "SELECT new healthClubManagement.db.PTSessionRow(s.sessionId, s.startTime, s.endTime, s.status, " +
+                "m.firstName, m.lastName, t.firstName, t.lastName, r.name) " +
+                "FROM PTSession s JOIN s.member m JOIN s.trainer t JOIN s.room r " +
+                "WHERE s.startTime >= :now AND (s.startTime, s.sessionId) > (:startTime, :sessionId) " +
+                "ORDER BY s.startTime, s.sessionId")
+@NamedQuery(name = QueryCatalog.PT_SESSION_COUNT_BY_TRAINER,
+        query = "SELECT COUNT(s) FROM PTSession s WHERE s.trainer = :trainer")
+@NamedQuery(name = QueryCatalog.PT_SESSION_COUNT_UPCOMING_BY_TRAINER,
+        query = "SELECT COUNT(s) FROM PTSession s WHERE s.trainer = :trainer AND s.startTime > :now")
+@NamedQuery(name = QueryCatalog.PT_SESSION_COUNT_BY_MEMBER,
+        query = "SELECT COUNT(s) FROM PTSession s WHERE s.member = :member")
+
+@NamedQuery(name = QueryCatalog.AVAILABILITY_BY_TRAINER,
+        query = "FROM Availability WHERE trainer = :trainer ORDER BY date ASC, startTime ASC")
+@NamedQuery(name = QueryCatalog.AVAILABILITY_BY_TRAINER_ON_DATE,
+        query = "FROM Availability WHERE trainer = :trainer AND date = :date ORDER BY startTime")
+@NamedQuery(name = QueryCatalog.AVAILABILITY_OVERLAP,
+        query = "FROM Availability a WHERE a.trainer = :trainer AND a.date = :date " +
+                "AND a.startTime < :end AND a.endTime > :start")
+@NamedQuery(name = QueryCatalog.AVAILABILITY_OVERLAP_DATES,
+        query = "SELECT a.date FROM Availability a WHERE a.trainer = :trainer " +
+                "AND a.date BETWEEN :startDate AND :endDate " +
+                "AND a.startTime < :end AND a.endTime > :start")
+@NamedQuery(name = QueryCatalog.AVAILABILITY_SLOTS_BETWEEN,
+        query = "SELECT new healthClubManagement.db.TrainerSlot(a.trainer.trainerId, a.date, a.startTime, a.endTime) " +
+                "FROM Availability a WHERE a.trainer.trainerId IN :trainerIds " +
+                "AND a.date >= :startDate AND a.date <= :endDate AND a.status = 'Available' " +
+                "ORDER BY a.trainer.trainerId, a.date, a.startTime")
+@NamedQuery(name = QueryCatalog.AVAILABILITY_SLOTS_ALL_BETWEEN,
+        query = "SELECT new healthClubManagement.db.TrainerSlot(a.trainer.trainerId, a.date, a.startTime, a.endTime) " +
+                "FROM Availability a WHERE a.date >= :startDate AND a.date <= :endDate AND a.status = 'Available' " +
+                "ORDER BY a.trainer.trainerId, a.date, a.startTime")
+@NamedQuery(name = QueryCatalog.AVAILABILITY_OPEN_FROM,
+        query = "FROM Availability a WHERE a.date >= :startDate AND a.status = 'Available'")
+@NamedQuery(name = QueryCatalog.AVAILABILITY_COUNT_BY_TRAINER,
+        query = "SELECT COUNT(a) FROM Availability a WHERE a.trainer = :trainer")
+
+@NamedQuery(name = QueryCatalog.BILLING_PAGE_FIRST,
+        query = "SELECT new healthClubManagement.db.BillingRow(b.billId, m.firstName, m.lastName, " +
+                "t.firstName, t.lastName, b.amount, b.paymentDate, b.paymentStatus, b.paymentMethod) " +
+                "FROM Billing b JOIN b.member m JOIN b.trainer t " +
+                "ORDER BY b.paymentDate DESC, b.billId DESC")
+@NamedQuery(name = QueryCatalog.BILLING_PAGE_AFTER,
+        query = "SELECT new healthClubManagement.db.BillingRow(b.billId, m.firstName, m.lastName, " +
+                "t.firstName, t.lastName, b.amount, b.paymentDate, b.paymentStatus, b.paymentMethod) " +
+                "FROM Billing b JOIN b.member m JOIN b.trainer t " +
+                "WHERE (b.paymentDate, b.billId) < (:paymentDate, :billId) " +
+                "ORDER BY b.paymentDate DESC, b.billId DESC")
+@NamedQuery(name = QueryCatalog.BILLING_BY_MEMBER,
+        query = "FROM Billing b WHERE b.member = :member")
+@NamedQuery(name = QueryCatalog.BILLING_BY_TRAINER,
+        query = "FROM Billing b WHERE b.trainer = :trainer")
+@NamedQuery(name = QueryCatalog.BILLING_BY_PAYMENT_DATE,
+        query = "FROM Billing b WHERE b.paymentDate BETWEEN :start AND :end")
+
+@NamedQuery(name = QueryCatalog.BOOKING_PT_SESSIONS,
+        query = "SELECT new healthClubManagement.db.Booking(s.sessionId, s.room.roomId, s.trainer.trainerId, " +
+                "s.startTime, s.endTime) FROM PTSession s")
+@NamedQuery(name = QueryCatalog.BOOKING_CLASSES,
+        query = "SELECT new healthClubManagement.db.Booking(c.classId, c.room.roomId, c.trainer.trainerId, c.schedule) " +
+                "FROM Class c")
+@NamedQuery(name = QueryCatalog.BOOKING_PT_SESSION_OVERLAP,
+        query = "SELECT new healthClubManagement.db.Booking(s.sessionId, s.room.roomId, s.trainer.trainerId, " +
+                "s.startTime, s.endTime) FROM PTSession s " +
+                "WHERE (s.trainer.trainerId = :trainerId OR s.room.roomId = :roomId) " +
+                "AND s.startTime < :end AND s.endTime > :start " +
+                "AND (:ignoreId IS NULL OR s.sessionId <> :ignoreId)")
+@NamedQuery(name = QueryCatalog.BOOKING_CLASS_OVERLAP,
+        query = "SELECT new healthClubManagement.db.Booking(c.classId, c.room.roomId, c.trainer.trainerId, c.schedule) " +
+                "FROM Class c WHERE (c.trainer.trainerId = :trainerId OR c.room.roomId = :roomId) " +
+                "AND c.schedule < :end AND c.schedule > :earliestStart")
+@NamedQuery(name = QueryCatalog.BOOKING_ROOM_PT_SESSION_OVERLAP,
+        query = "SELECT new healthClubManagement.db.Booking(s.sessionId, s.room.roomId, s.trainer.trainerId, " +
+                "s.startTime, s.endTime) FROM PTSession s " +
+                "WHERE s.room.roomId = :roomId AND s.startTime < :end AND s.endTime > :start")
+@NamedQuery(name = QueryCatalog.BOOKING_ROOM_CLASS_OVERLAP,
+        query = "SELECT new healthClubManagement.db.Booking(c.classId, c.room.roomId, c.trainer.trainerId, c.schedule) " +
+                "FROM Class c WHERE c.room.roomId = :roomId " +
+                "AND c.schedule < :end AND c.schedule > :earliestStart " +
+                "AND (:ignoreId IS NULL OR c.classId <> :ignoreId)")
+
+@NamedQuery(name = QueryCatalog.STATS_ADMIN,
+        query = "SELECT new healthClubManagement.db.AdminStats(" +
+                "COUNT(r), " +
+                "COALESCE(SUM(CASE WHEN r.available = true THEN 1 ELSE 0 END), 0), " +
+                "(SELECT COUNT(c) FROM Class c WHERE c.schedule > :now), " +
+                "(SELECT COALESCE(SUM(m.billCount), 0) FROM BillingMonthlyRollup m WHERE m.paymentStatus = 'Pending'), " +
+                "(SELECT COALESCE(SUM(m.totalAmount), 0) FROM BillingMonthlyRollup m WHERE m.paymentStatus = 'Paid')) " +
+                "FROM Room r")
+@NamedQuery(name = QueryCatalog.STATS_TRAINER,
+        query = "SELECT new healthClubManagement.db.TrainerStats(" +
+                "(SELECT COUNT(s) FROM PTSession s WHERE s.trainer = t), " +
+                "(SELECT COUNT(s) FROM PTSession s WHERE s.trainer = t AND s.startTime > :now), " +
+                "(SELECT COUNT(c) FROM Class c WHERE c.trainer = t), " +
+                "(SELECT COUNT(a) FROM Availability a WHERE a.trainer = t)) " +
+                "FROM Trainer t WHERE t.trainerId = :trainerId")
+
+@NamedQuery(name = QueryCatalog.ROLLUP_DAILY_BETWEEN,
+        query = "FROM BillingDailyRollup r WHERE r.day BETWEEN :from AND :to " +
+                "ORDER BY r.day, r.paymentStatus, r.trainerId, r.paymentMethod")
+@NamedQuery(name = QueryCatalog.ROLLUP_MONTHLY_BETWEEN,
+        query = "FROM BillingMonthlyRollup r WHERE r.month BETWEEN :from AND :to " +
+                "ORDER BY r.month, r.paymentStatus, r.trainerId, r.paymentMethod")
+
+@NamedQuery(name = QueryCatalog.EXPORT_BILLING,
+        query = "SELECT b.billId, b.member.memberId, b.trainer.trainerId, b.amount, b.paymentDate, " +
+                "b.paymentStatus, b.paymentMethod FROM Billing b " +
+                "WHERE (:from IS NULL OR b.paymentDate >= :from) AND (:to IS NULL OR b.paymentDate <= :to) " +
+                "AND (:memberId IS NULL OR b.member.memberId = :memberId) " +
+                "ORDER BY b.billId")
+@NamedQuery(name = QueryCatalog.EXPORT_HEALTH_METRICS,
+        query = "SELECT m.metricId, m.member.memberId, m.metricType, m.value, m.timestamp FROM HealthMetric m " +
+                "WHERE (:start IS NULL OR m.timestamp >= :start) AND (:end IS NULL OR m.timestamp < :end) " +
+                "AND (:memberId IS NULL OR m.member.memberId = :memberId) " +
+                "ORDER BY m.metricId")
+
+@NamedQuery(name = QueryCatalog.FITNESS_GOAL_BY_MEMBER,
+        query = "FROM FitnessGoal WHERE member = :member ORDER BY deadline ASC")
+@NamedQuery(name = QueryCatalog.FITNESS_GOAL_COUNT_BY_MEMBERS,
+        query = "SELECT g.member.memberId, COUNT(g) FROM FitnessGoal g WHERE g.member.memberId IN :memberIds " +
+                "GROUP BY g.member.memberId")
+
+@NamedQuery(name = QueryCatalog.HEALTH_METRIC_BY_MEMBER,
+        query = "FROM HealthMetric WHERE member = :member ORDER BY timestamp DESC")
+@NamedQuery(name = QueryCatalog.HEALTH_METRIC_ROWS_BY_MEMBER,
+        query = "SELECT new healthClubManagement.db.HealthMetricRow(h.metricId, h.metricType, h.value, h.timestamp) " +
+                "FROM HealthMetric h WHERE h.member = :member ORDER BY h.timestamp DESC")
+@NamedQuery(name = QueryCatalog.HEALTH_METRIC_LATEST_BY_MEMBERS,
+        query = "SELECT h.member.memberId, h.metricId, h.metricType, h.value, h.timestamp FROM HealthMetric h " +
+                "WHERE h.member.memberId IN :memberIds AND h.timestamp = " +
+                "(SELECT MAX(l.timestamp) FROM HealthMetric l WHERE l.member = h.member) " +
+                "ORDER BY h.metricId DESC")
+package healthClubManagement.db;
+
+import org.hibernate.annotations.NamedQuery;
@@ -18,8 +18,7 @@ import java.util.List;
 public class AdminDashboard extends JFrame {
 
     private final Admin admin;
-    private JPanel contentPanel;
-    private CardLayout cardLayout;
+    private DashboardCards cards;
     private JButton selectedNavButton;
 
     // Colors
@@ -27,8 +26,17 @@ public class AdminDashboard extends JFrame {
     private static final Color ACCENT_COLOR = new Color(0xE94560);
     private static final Color BG_COLOR = new Color(245, 246, 250);
 
+    // Rows fetched per scroll step in the bills table
+    private static final int BILL_PAGE_SIZE = 100;
+    // PT sessions fetched per scroll step in the room bookings table
+    private static final int BOOKING_PAGE_SIZE = 100;
+    // Members fetched per scroll step in the billing member dropdown
+    private static final int MEMBER_PAGE_SIZE = 100;
+
     public AdminDashboard(Admin admin) {
         this.admin = admin;
+        // Load the booking index in the background so the first room check does not wait for it
+        HibernateUtil.getAsyncDataService().run(HibernateUtil::getBookingIndex);
 
         setTitle("FitZone Club – Admin Dashboard");
         setDefaultCloseOperation(EXIT_ON_CLOSE);
@@ -108,16 +116,18 @@ public class AdminDashboard extends JFrame {
         main.add(topBar, BorderLayout.NORTH);
 
         // --- CARD LAYOUT FOR CONTENT ---
-        cardLayout = new CardLayout();
-        contentPanel = new JPanel(cardLayout);
+        CardLayout cardLayout = new CardLayout();
+        JPanel contentPanel = new JPanel(cardLayout);
         contentPanel.setOpaque(false);
         contentPanel.setBorder(BorderFactory.createEmptyBorder(0, 25, 25, 25));
 
-        // Add all panels
-        contentPanel.add(createDashboardPanel(), "Dashboard");
-        contentPanel.add(createRoomBookingPanel(), "Room Booking");
-        contentPanel.add(createClassManagementPanel(), "Class Management");
-        contentPanel.add(createBillingPanel(), "Billing & Payment");
+        // Add all panels; each is built when first shown or prefetched once the first one is up
+        cards = new DashboardCards("Admin", contentPanel, cardLayout);
+        cards.add("Dashboard", this::createDashboardPanel);
+        cards.add("Room Booking", this::createRoomBookingPanel);
+        cards.add("Class Management", this::createClassManagementPanel);
+        cards.add("Billing & Payment", this::createBillingPanel);
+        cards.show("Dashboard");
 
         main.add(contentPanel, BorderLayout.CENTER);
 
@@ -129,92 +139,41 @@ public class AdminDashboard extends JFrame {
     }
 
     private void switchPanel(String panelName, JButton btn) {
-        cardLayout.show(contentPanel, panelName);
         if (btn != null) {
             resetNavButton(selectedNavButton);
             highlightNavButton(btn);
             selectedNavButton = btn;
         }
 
-        // Refresh the panel when switching
-        contentPanel.remove(contentPanel.getComponent(getComponentIndex(panelName)));
-        switch (panelName) {
-            case "Dashboard" -> contentPanel.add(createDashboardPanel(), "Dashboard", 0);
-            case "Room Booking" -> contentPanel.add(createRoomBookingPanel(), "Room Booking", 1);
-            case "Class Management" -> contentPanel.add(createClassManagementPanel(), "Class Management", 2);
-            case "Billing & Payment" -> contentPanel.add(createBillingPanel(), "Billing & Payment", 3);
-        }
-        cardLayout.show(contentPanel, panelName);
+        // Reloads the panel's data only if it may have changed since it was last shown
+        cards.show(panelName);
     }
 
-    private int getComponentIndex(String name) {
-        return switch (name) {
-            case "Dashboard" -> 0;
-            case "Room Booking" -> 1;
-            case "Class Management" -> 2;
-            case "Billing & Payment" -> 3;
-            default -> 0;
-        };
+    @Override
+    public void dispose() {
+        cards.close();
+        super.dispose();
     }
 
     // ==================== DASHBOARD PANEL ====================
-    private JPanel createDashboardPanel() {
+    private DashboardCards.Card createDashboardPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
-        // Fetch stats
-        int totalRooms = 0;
-        int availableRooms = 0;
-        int upcomingClasses = 0;
-        int pendingPayments = 0;
-        BigDecimal totalRevenue = BigDecimal.ZERO;
-
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            // Total rooms
-            Query<Long> roomQuery = session.createQuery("SELECT COUNT(r) FROM Room r", Long.class);
-            totalRooms = roomQuery.uniqueResult().intValue();
-
-            // Available rooms
-            Query<Long> availableQuery = session.createQuery(
-                    "SELECT COUNT(r) FROM Room r WHERE r.available = true",
-                    Long.class
-            );
-            availableRooms = availableQuery.uniqueResult().intValue();
-
-            // Upcoming classes
-            Query<Long> classQuery = session.createQuery(
-                    "SELECT COUNT(c) FROM Class c WHERE c.schedule > :now",
-                    Long.class
-            );
-            classQuery.setParameter("now", LocalDateTime.now());
-            upcomingClasses = classQuery.uniqueResult().intValue();
-
-            // Pending payments
-            Query<Long> pendingQuery = session.createQuery(
-                    "SELECT COUNT(b) FROM Billing b WHERE b.paymentStatus = 'Pending'",
-                    Long.class
-            );
-            pendingPayments = pendingQuery.uniqueResult().intValue();
-
-            // Total revenue
-            Query<BigDecimal> revenueQuery = session.createQuery(
-                    "SELECT COALESCE(SUM(b.amount), 0) FROM Billing b WHERE b.paymentStatus = 'Paid'",
-                    BigDecimal.class
-            );
-            totalRevenue = revenueQuery.uniqueResult();
-            if (totalRevenue == null) totalRevenue = BigDecimal.ZERO;
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        // Stats row
+        // Stats row: one aggregate query on the async service (none while the cached snapshot is fresh)
         JPanel statsRow = new JPanel(new GridLayout(1, 4, 15, 0));
         statsRow.setOpaque(false);
 
-        statsRow.add(statCard("Total Rooms", String.valueOf(totalRooms), availableRooms + " available"));
-        statsRow.add(statCard("Upcoming Classes", String.valueOf(upcomingClasses), "Next 7 days"));
-        statsRow.add(statCard("Pending Payments", String.valueOf(pendingPayments), "Awaiting confirmation"));
-        statsRow.add(statCard("Total Revenue", "$" + totalRevenue.setScale(2), "From paid bills"));
+        JLabel totalRoomsLabel = new JLabel("...");
+        JLabel availableRoomsLabel = new JLabel(" ");
+        JLabel upcomingClassesLabel = new JLabel("...");
+        JLabel pendingPaymentsLabel = new JLabel("...");
+        JLabel totalRevenueLabel = new JLabel("...");
+
+        statsRow.add(statCard("Total Rooms", totalRoomsLabel, availableRoomsLabel));
+        statsRow.add(statCard("Upcoming Classes", upcomingClassesLabel, new JLabel("Next 7 days")));
+        statsRow.add(statCard("Pending Payments", pendingPaymentsLabel, new JLabel("Awaiting confirmation")));
+        statsRow.add(statCard("Total Revenue", totalRevenueLabel, new JLabel("From paid bills")));
 
         panel.add(statsRow, BorderLayout.NORTH);
 
@@ -271,7 +230,20 @@ public class AdminDashboard extends JFrame {
 
         panel.add(middleRow, BorderLayout.CENTER);
 
-        return panel;
+        return new DashboardCards.Card(panel, loads -> loads.load(() -> HibernateUtil.getDashboardStats().getAdminStats(),
+                stats -> {
+                    totalRoomsLabel.setText(String.valueOf(stats.totalRooms()));
+                    availableRoomsLabel.setText(stats.availableRooms() + " available");
+                    upcomingClassesLabel.setText(String.valueOf(stats.upcomingClasses()));
+                    pendingPaymentsLabel.setText(String.valueOf(stats.pendingPayments()));
+                    totalRevenueLabel.setText("$" + stats.totalRevenue().setScale(2));
+                },
+                error -> {
+                    for (JLabel label : List.of(totalRoomsLabel, upcomingClassesLabel,
+                            pendingPaymentsLabel, totalRevenueLabel)) {
+                        label.setText("-");
+                    }
+                }), Room.class, Class.class, Billing.class);
     }
 
     // ==================== ROOM BOOKING PANEL ====================
@@ -281,9 +253,9 @@ public class AdminDashboard extends JFrame {
      * - View room bookings (PT Sessions and Classes)
      * - Assign rooms to sessions/classes with double-booking prevention
      * 
-     * @return JPanel containing room management interface
+     * @return the room management panel, whose refresh reloads the rooms, bookings and dropdowns
      */
-    private JPanel createRoomBookingPanel() {
+    private DashboardCards.Card createRoomBookingPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -336,24 +308,6 @@ public class AdminDashboard extends JFrame {
 
         java.util.Map<Integer, Room> roomMap = new java.util.HashMap<>();
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Room> rooms = session.createQuery("FROM Room ORDER BY roomId", Room.class).getResultList();
-            int row = 0;
-            for (Room r : rooms) {
-                model.addRow(new Object[]{
-                        r.getRoomId(),
-                        r.getName(),
-                        r.getCapacity(),
-                        r.isAvailable() ? "Available" : "Unavailable",
-                        "Toggle"
-                });
-                roomMap.put(row, r);
-                row++;
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JTable roomTable = new JTable(model);
         roomTable.setRowHeight(30);
 
@@ -372,20 +326,44 @@ public class AdminDashboard extends JFrame {
             Room room = roomMap.get(selectedRow);
             if (room == null) return;
 
-            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                session.beginTransaction();
-                room.setAvailable(!room.isAvailable());
-                session.merge(room);
-                session.getTransaction().commit();
-
+            room.setAvailable(!room.isAvailable());
+            PanelLoader.action(toggleBtn, () -> {
+                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                    session.beginTransaction();
+                    session.merge(room);
+                    session.getTransaction().commit();
+                    return room;
+                }
+            }, updated -> {
                 JOptionPane.showMessageDialog(this, "Room availability updated!");
-                switchPanel("Room Booking", selectedNavButton);
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Error updating room: " + ex.getMessage());
-            }
+                cards.refresh("Room Booking");
+            }, ex -> {
+                room.setAvailable(!room.isAvailable());
+                JOptionPane.showMessageDialog(this, "Error updating room: " + PanelLoader.message(ex));
+            });
         });
 
-        roomListCard.add(new JScrollPane(roomTable), BorderLayout.CENTER);
+        PanelLoader.Section roomSection = PanelLoader.section(new JScrollPane(roomTable));
+        roomListCard.add(roomSection, BorderLayout.CENTER);
+
+        // Fills the rooms table, keeping roomMap in step with its rows
+        java.util.function.Consumer<List<Room>> showRooms = rooms -> {
+            List<Object[]> rows = new java.util.ArrayList<>();
+            roomMap.clear();
+            int row = 0;
+            for (Room r : rooms) {
+                rows.add(new Object[]{
+                        r.getRoomId(),
+                        r.getName(),
+                        r.getCapacity(),
+                        r.isAvailable() ? "Available" : "Unavailable",
+                        "Toggle"
+                });
+                roomMap.put(row, r);
+                row++;
+            }
+            TableRows.replace(model, rows, 0);
+        };
         roomListCard.add(toggleBtn, BorderLayout.SOUTH);
 
         // Third column: Room Bookings Schedule
@@ -393,52 +371,28 @@ public class AdminDashboard extends JFrame {
         String[] bookingColumns = {"Room", "Type", "Date/Time", "Details", "Status"};
         DefaultTableModel bookingModel = new DefaultTableModel(bookingColumns, 0);
 
-        // Load room bookings from both PTSession and Class tables
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            // Get PT Sessions with room assignments
-            Query<PTSession> ptQuery = session.createQuery(
-                    "FROM PTSession WHERE startTime >= :now ORDER BY startTime ASC",
-                    PTSession.class
-            );
-            ptQuery.setParameter("now", LocalDateTime.now());
-            List<PTSession> ptSessions = ptQuery.getResultList();
-
-            for (PTSession pt : ptSessions) {
-                bookingModel.addRow(new Object[]{
-                        pt.getRoom().getName(),
-                        "PT Session",
-                        pt.getStartTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) + 
-                        " - " + pt.getEndTime().format(DateTimeFormatter.ofPattern("HH:mm")),
-                        "Member: " + pt.getMember().getFirstName() + " " + pt.getMember().getLastName() + 
-                        " | Trainer: " + pt.getTrainer().getFirstName() + " " + pt.getTrainer().getLastName(),
-                        pt.getStatus()
-                });
-            }
-
-            // Get Classes with room assignments
-            Query<Class> classQuery = session.createQuery(
-                    "FROM Class WHERE schedule >= :now ORDER BY schedule ASC",
-                    Class.class
-            );
-            classQuery.setParameter("now", LocalDateTime.now());
-            List<Class> classes = classQuery.getResultList();
-
-            for (Class c : classes) {
-                bookingModel.addRow(new Object[]{
-                        c.getRoom().getName(),
-                        "Group Class",
-                        c.getSchedule().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                        "Class: " + c.getName() + " | Trainer: " + c.getTrainer().getFirstName() + " " + c.getTrainer().getLastName(),
-                        "Scheduled"
-                });
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JTable bookingTable = new JTable(bookingModel);
         bookingTable.setRowHeight(30);
-        bookingsCard.add(new JScrollPane(bookingTable), BorderLayout.CENTER);
+
+        // Upcoming classes on top, then upcoming PT sessions, paged by start time as the user scrolls
+        JScrollPane bookingScroll = new JScrollPane(bookingTable);
+        PanelLoader.Section bookingSection = PanelLoader.section(bookingScroll);
+        bookingsCard.add(bookingSection, BorderLayout.CENTER);
+
+        List<Object[]> classBookings = new java.util.ArrayList<>();
+        List<Object[]> sessionBookings = new java.util.ArrayList<>();
+        Runnable showBookings = () -> {
+            List<Object[]> rows = new java.util.ArrayList<>(classBookings);
+            rows.addAll(sessionBookings);
+            TableRows.replace(bookingModel, rows);
+        };
+        PTSessionDAO sessionDAO = new PTSessionDAO(HibernateUtil.getSessionFactory());
+        PagedTableLoader<PTSessionRow, PTSessionDAO.Cursor> sessionPages = new PagedTableLoader<>(bookingScroll,
+                BOOKING_PAGE_SIZE, () -> cards.loads("Room Booking"), sessionDAO::getUpcomingSessionsPage, pt -> {
+                    Object[] row = sessionBookingRow(pt);
+                    sessionBookings.add(row);
+                    bookingModel.addRow(row);
+                });
 
         // Add room assignment functionality
         JPanel assignCard = createCard("Assign Room to Session/Class");
@@ -459,69 +413,49 @@ public class AdminDashboard extends JFrame {
         assignRoomCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
         java.util.Map<String, Room> assignRoomMap = new java.util.HashMap<>();
 
-        // Load available rooms
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Room> rooms = session.createQuery("FROM Room WHERE available = true", Room.class).getResultList();
-            for (Room r : rooms) {
-                String display = r.getName() + " (Cap: " + r.getCapacity() + ")";
-                assignRoomCombo.addItem(display);
-                assignRoomMap.put(display, r);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        // Update combo boxes based on booking type
+        // Update combo boxes based on booking type; only the options of the latest selection are shown
+        int[] optionsGeneration = {0};
         Runnable updateBookingOptions = () -> {
-            sessionCombo.removeAllItems();
-            classCombo.removeAllItems();
-            sessionMap.clear();
-            classMap.clear();
-
+            int generation = ++optionsGeneration[0];
             String selectedType = (String) bookingTypeCombo.getSelectedItem();
             if (selectedType == null) return;
 
-            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                if (selectedType.equals("PT Session")) {
-                    // Load PT Sessions without room assignments or with room that can be changed
-                    Query<PTSession> query = session.createQuery(
-                            "FROM PTSession WHERE startTime >= :now ORDER BY startTime ASC",
-                            PTSession.class
-                    );
-                    query.setParameter("now", LocalDateTime.now());
-                    List<PTSession> sessions = query.getResultList();
-
-                    for (PTSession pt : sessions) {
-                        String display = pt.getStartTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) +
-                                " - " + pt.getMember().getFirstName() + " " + pt.getMember().getLastName() +
-                                " (Current: " + (pt.getRoom() != null ? pt.getRoom().getName() : "None") + ")";
-                        sessionCombo.addItem(display);
-                        sessionMap.put(display, pt);
+            if (selectedType.equals("PT Session")) {
+                // Load PT Sessions without room assignments or with room that can be changed
+                cards.loads("Room Booking").load(() -> {
+                    try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                        Query<PTSession> query = session.createNamedQuery(QueryCatalog.PT_SESSION_UPCOMING, PTSession.class);
+                        EntityGraphs.fetch(session, query, EntityGraphs.PT_SESSION_BOOKING);
+                        query.setParameter("now", LocalDateTime.now());
+                        return query.getResultList();
                     }
-                } else {
-                    // Load Classes without room assignments or with room that can be changed
-                    Query<Class> query = session.createQuery(
-                            "FROM Class WHERE schedule >= :now ORDER BY schedule ASC",
-                            Class.class
-                    );
-                    query.setParameter("now", LocalDateTime.now());
-                    List<Class> classes = query.getResultList();
-
-                    for (Class c : classes) {
-                        String display = c.getName() + " - " + 
-                                c.getSchedule().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) +
-                                " (Current: " + (c.getRoom() != null ? c.getRoom().getName() : "None") + ")";
-                        classCombo.addItem(display);
-                        classMap.put(display, c);
+                }, sessions -> {
+                    if (generation != optionsGeneration[0]) return;
+                    ComboItems.replace(sessionCombo, sessionMap, sessions,
+                            pt -> pt.getStartTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) +
+                                    " - " + pt.getMember().getFirstName() + " " + pt.getMember().getLastName() +
+                                    " (Current: " + (pt.getRoom() != null ? pt.getRoom().getName() : "None") + ")");
+                });
+            } else {
+                // Load Classes without room assignments or with room that can be changed
+                cards.loads("Room Booking").load(() -> {
+                    try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                        Query<Class> query = session.createNamedQuery(QueryCatalog.CLASS_UPCOMING, Class.class);
+                        EntityGraphs.fetch(session, query, EntityGraphs.CLASS_LISTING);
+                        query.setParameter("now", LocalDateTime.now());
+                        return query.getResultList();
                     }
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
+                }, classes -> {
+                    if (generation != optionsGeneration[0]) return;
+                    ComboItems.replace(classCombo, classMap, classes,
+                            c -> c.getName() + " - " +
+                                    c.getSchedule().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) +
+                                    " (Current: " + (c.getRoom() != null ? c.getRoom().getName() : "None") + ")");
+                });
             }
         };
 
         bookingTypeCombo.addActionListener(e -> updateBookingOptions.run());
-        updateBookingOptions.run();
 
         JButton assignBtn = new JButton("Assign Room");
         assignBtn.setBackground(ACCENT_COLOR);
@@ -562,129 +496,102 @@ public class AdminDashboard extends JFrame {
             Room selectedRoom = assignRoomMap.get(roomDisplay);
             if (selectedRoom == null) return;
 
-            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                session.beginTransaction();
+            if (selectedType != null && selectedType.equals("PT Session")) {
+                String sessionDisplay = (String) sessionCombo.getSelectedItem();
+                if (sessionDisplay == null) {
+                    JOptionPane.showMessageDialog(this, "Please select a PT Session.");
+                    return;
+                }
 
-                if (selectedType != null && selectedType.equals("PT Session")) {
-                    String sessionDisplay = (String) sessionCombo.getSelectedItem();
-                    if (sessionDisplay == null) {
-                        JOptionPane.showMessageDialog(this, "Please select a PT Session.");
-                        return;
+                PTSession ptSession = sessionMap.get(sessionDisplay);
+                if (ptSession == null) return;
+
+                Room previousRoom = ptSession.getRoom();
+                // Checked and saved in the background; the result is why the room could not be assigned, or null
+                PanelLoader.action(assignBtn, () -> {
+                    // Check for room conflicts with other PT Sessions and Classes
+                    List<Booking> conflicts = HibernateUtil.getBookingIndex().roomConflicts(selectedRoom,
+                            ptSession.getStartTime(), ptSession.getEndTime(), Booking.of(ptSession));
+                    if (!conflicts.isEmpty()) {
+                        return roomConflictMessage(conflicts.get(0));
                     }
 
-                    PTSession ptSession = sessionMap.get(sessionDisplay);
-                    if (ptSession == null) return;
-
-                    // Check for room conflicts with other PT Sessions
-                    Query<PTSession> ptConflict = session.createQuery(
-                            "FROM PTSession WHERE room = :room AND sessionId != :currentId " +
-                            "AND startTime < :end AND endTime > :start",
-                            PTSession.class
-                    );
-                    ptConflict.setParameter("room", selectedRoom);
-                    ptConflict.setParameter("currentId", ptSession.getSessionId());
-                    ptConflict.setParameter("start", ptSession.getStartTime());
-                    ptConflict.setParameter("end", ptSession.getEndTime());
-
-                    if (!ptConflict.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, 
-                            "Room is already booked by another PT Session at this time!");
-                        session.getTransaction().rollback();
-                        return;
+                    // Assign room to PT Session; the coordinator re-checks the room under its booking lock
+                    ptSession.setRoom(selectedRoom);
+                    BookingCoordinator.Result result = HibernateUtil.getBookingCoordinator().reschedule(ptSession);
+                    if (result.outcome() != BookingCoordinator.Outcome.BOOKED) {
+                        ptSession.setRoom(previousRoom);
+                        return result.outcome() == BookingCoordinator.Outcome.ROOM_BUSY
+                                ? roomConflictMessage(result.conflict())
+                                : "Trainer already has a session booked at this time!";
                     }
-
-                    // Check for room conflicts with Classes
-                    Query<Class> classConflict = session.createQuery(
-                            "FROM Class WHERE room = :room " +
-                            "AND schedule >= :start AND schedule <= :end",
-                            Class.class
-                    );
-                    classConflict.setParameter("room", selectedRoom);
-                    classConflict.setParameter("start", ptSession.getStartTime());
-                    classConflict.setParameter("end", ptSession.getEndTime());
-
-                    if (!classConflict.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, 
-                            "Room is already booked by a Class at this time!");
-                        session.getTransaction().rollback();
+                    return null;
+                }, problem -> {
+                    if (problem != null) {
+                        JOptionPane.showMessageDialog(this, problem);
                         return;
                     }
-
-                    // Assign room to PT Session
-                    ptSession.setRoom(selectedRoom);
-                    session.merge(ptSession);
-                    session.getTransaction().commit();
-
                     JOptionPane.showMessageDialog(this, "Room assigned to PT Session successfully!");
-                } else {
-                    String classDisplay = (String) classCombo.getSelectedItem();
-                    if (classDisplay == null) {
-                        JOptionPane.showMessageDialog(this, "Please select a Class.");
-                        return;
-                    }
+                    cards.refresh("Room Booking");
+                }, ex -> {
+                    ptSession.setRoom(previousRoom);
+                    JOptionPane.showMessageDialog(this, "Error assigning room: " + PanelLoader.message(ex));
+                });
+            } else {
+                String classDisplay = (String) classCombo.getSelectedItem();
+                if (classDisplay == null) {
+                    JOptionPane.showMessageDialog(this, "Please select a Class.");
+                    return;
+                }
 
-                    Class selectedClass = classMap.get(classDisplay);
-                    if (selectedClass == null) return;
+                Class selectedClass = classMap.get(classDisplay);
+                if (selectedClass == null) return;
 
-                    // Check for room conflicts with PT Sessions
-                    Query<PTSession> ptConflict = session.createQuery(
-                            "FROM PTSession WHERE room = :room " +
-                            "AND startTime <= :schedule AND endTime >= :schedule",
-                            PTSession.class
-                    );
-                    ptConflict.setParameter("room", selectedRoom);
-                    ptConflict.setParameter("schedule", selectedClass.getSchedule());
-
-                    if (!ptConflict.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, 
-                            "Room is already booked by a PT Session at this time!");
-                        session.getTransaction().rollback();
-                        return;
+                PanelLoader.action(assignBtn, () -> {
+                    // Check for room conflicts with PT Sessions and other Classes
+                    LocalDateTime classStart = selectedClass.getSchedule();
+                    List<Booking> conflicts = HibernateUtil.getBookingIndex().roomConflicts(selectedRoom,
+                            classStart, classStart.plus(BookingIndex.CLASS_DURATION), Booking.of(selectedClass));
+                    if (!conflicts.isEmpty()) {
+                        return roomConflictMessage(conflicts.get(0));
                     }
 
-                    // Check for room conflicts with other Classes
-                    Query<Class> classConflict = session.createQuery(
-                            "FROM Class WHERE room = :room AND classId != :currentId " +
-                            "AND schedule = :schedule",
-                            Class.class
-                    );
-                    classConflict.setParameter("room", selectedRoom);
-                    classConflict.setParameter("currentId", selectedClass.getClassId());
-                    classConflict.setParameter("schedule", selectedClass.getSchedule());
-
-                    if (!classConflict.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, 
-                            "Room is already booked by another Class at this time!");
-                        session.getTransaction().rollback();
+                    // Assign room to Class; the coordinator re-checks the room in the saving transaction
+                    Room previousRoom = selectedClass.getRoom();
+                    selectedClass.setRoom(selectedRoom);
+                    String problem = saveClass(selectedClass);
+                    if (problem != null) {
+                        selectedClass.setRoom(previousRoom);
+                    }
+                    return problem;
+                }, problem -> {
+                    if (problem != null) {
+                        JOptionPane.showMessageDialog(this, problem);
                         return;
                     }
-
-                    // Assign room to Class
-                    selectedClass.setRoom(selectedRoom);
-                    session.merge(selectedClass);
-                    session.getTransaction().commit();
-
                     JOptionPane.showMessageDialog(this, "Room assigned to Class successfully!");
-                }
-
-                switchPanel("Room Booking", selectedNavButton);
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Error assigning room: " + ex.getMessage());
-                ex.printStackTrace();
+                    cards.refresh("Room Booking");
+                }, ex -> JOptionPane.showMessageDialog(this, "Error assigning room: " + PanelLoader.message(ex)));
             }
         });
 
         addRoomBtn.addActionListener(e -> {
+            String name = roomNameField.getText().trim();
+            int capacity;
             try {
-                String name = roomNameField.getText().trim();
-                int capacity = Integer.parseInt(capacityField.getText().trim());
-                boolean available = availableCheck.isSelected();
+                capacity = Integer.parseInt(capacityField.getText().trim());
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(this, "Please enter a valid capacity number.");
+                return;
+            }
+            boolean available = availableCheck.isSelected();
 
-                if (name.isEmpty()) {
-                    JOptionPane.showMessageDialog(this, "Room name is required.");
-                    return;
-                }
+            if (name.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "Room name is required.");
+                return;
+            }
 
+            PanelLoader.action(addRoomBtn, () -> {
                 try (Session session = HibernateUtil.getSessionFactory().openSession()) {
                     session.beginTransaction();
 
@@ -695,18 +602,15 @@ public class AdminDashboard extends JFrame {
 
                     session.persist(room);
                     session.getTransaction().commit();
-
-                    JOptionPane.showMessageDialog(this, "Room added successfully!");
-                    roomNameField.setText("");
-                    capacityField.setText("");
-
-                    switchPanel("Room Booking", selectedNavButton);
+                    return room;
                 }
-            } catch (NumberFormatException ex) {
-                JOptionPane.showMessageDialog(this, "Please enter a valid capacity number.");
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Error adding room: " + ex.getMessage());
-            }
+            }, room -> {
+                JOptionPane.showMessageDialog(this, "Room added successfully!");
+                roomNameField.setText("");
+                capacityField.setText("");
+
+                cards.refresh("Room Booking");
+            }, ex -> JOptionPane.showMessageDialog(this, "Error adding room: " + PanelLoader.message(ex)));
         });
 
         // Combine bookings and assignment in a single panel for the third column
@@ -720,7 +624,64 @@ public class AdminDashboard extends JFrame {
         content.add(rightColumn);
         panel.add(content, BorderLayout.CENTER);
 
-        return panel;
+        return new DashboardCards.Card(panel, loads -> {
+            loads.into(roomSection, () -> {
+                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                    return ReferenceCache.rooms(session);
+                }
+            }, showRooms);
+            loads.into(bookingSection, this::loadClassBookingRows, rows -> {
+                classBookings.clear();
+                classBookings.addAll(rows);
+                showBookings.run();
+            });
+            // The sessions loaded so far are fetched again and merged, keeping the scroll position and selection
+            sessionPages.refresh(sessions -> {
+                sessionBookings.clear();
+                sessions.forEach(pt -> sessionBookings.add(sessionBookingRow(pt)));
+                showBookings.run();
+            });
+
+            // Rooms that can be assigned, and the sessions or classes to assign them to
+            loads.load(() -> {
+                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                    return ReferenceCache.availableRooms(session);
+                }
+            }, rooms -> ComboItems.replace(assignRoomCombo, assignRoomMap, rooms,
+                    r -> r.getName() + " (Cap: " + r.getCapacity() + ")"));
+            updateBookingOptions.run();
+        }, Room.class, PTSession.class, Class.class);
+    }
+
+    // Upcoming classes with their rooms as table rows (background load)
+    private List<Object[]> loadClassBookingRows() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            List<Object[]> rows = new java.util.ArrayList<>();
+            Query<ClassRow> classQuery = session.createNamedQuery(QueryCatalog.CLASS_ROWS_UPCOMING, ClassRow.class);
+            classQuery.setParameter("now", LocalDateTime.now());
+            for (ClassRow c : classQuery.getResultList()) {
+                rows.add(new Object[]{
+                        c.roomName(),
+                        "Group Class",
+                        c.schedule().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
+                        "Class: " + c.name() + " | Trainer: " + c.trainerName(),
+                        "Scheduled"
+                });
+            }
+            return rows;
+        }
+    }
+
+    // A PT session with its room as a table row
+    private static Object[] sessionBookingRow(PTSessionRow pt) {
+        return new Object[]{
+                pt.roomName(),
+                "PT Session",
+                pt.startTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) +
+                " - " + pt.endTime().format(DateTimeFormatter.ofPattern("HH:mm")),
+                "Member: " + pt.memberName() + " | Trainer: " + pt.trainerName(),
+                pt.status()
+        };
     }
 
     // ==================== CLASS MANAGEMENT PANEL ====================
@@ -731,9 +692,9 @@ public class AdminDashboard extends JFrame {
      * - Edit class details (trainer, room, capacity, time)
      * - View all classes with enrollment information
      * 
-     * @return JPanel containing class management interface
+     * @return the class management panel, whose refresh reloads the class list and dropdowns
      */
-    private JPanel createClassManagementPanel() {
+    private DashboardCards.Card createClassManagementPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -762,24 +723,6 @@ public class AdminDashboard extends JFrame {
         roomCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
         java.util.Map<String, Room> roomMap = new java.util.HashMap<>();
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Trainer> trainers = session.createQuery("FROM Trainer", Trainer.class).getResultList();
-            for (Trainer t : trainers) {
-                String display = t.getFirstName() + " " + t.getLastName() + " (" + t.getSpecialization() + ")";
-                trainerCombo.addItem(display);
-                trainerMap.put(display, t);
-            }
-
-            List<Room> rooms = session.createQuery("FROM Room WHERE available = true", Room.class).getResultList();
-            for (Room r : rooms) {
-                String display = r.getName() + " (Cap: " + r.getCapacity() + ")";
-                roomCombo.addItem(display);
-                roomMap.put(display, r);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JTextField capacityField = new JTextField();
         capacityField.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
 
@@ -825,38 +768,6 @@ public class AdminDashboard extends JFrame {
         };
         java.util.Map<Integer, Class> classMap = new java.util.HashMap<>();
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Class> classes = session.createQuery(
-                    "FROM Class ORDER BY schedule ASC",
-                    Class.class
-            ).getResultList();
-
-            int row = 0;
-            for (Class c : classes) {
-                Query<Long> countQuery = session.createQuery(
-                        "SELECT COUNT(mc) FROM MemberClass mc WHERE mc.gymClass = :c",
-                        Long.class
-                );
-                countQuery.setParameter("c", c);
-                Long enrolled = countQuery.uniqueResult();
-
-                model.addRow(new Object[]{
-                        c.getClassId(),
-                        c.getName(),
-                        c.getTrainer().getFirstName() + " " + c.getTrainer().getLastName(),
-                        c.getRoom().getName(),
-                        c.getSchedule().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                        c.getCapacity(),
-                        enrolled,
-                        "Edit"
-                });
-                classMap.put(row, c);
-                row++;
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JTable classTable = new JTable(model);
         classTable.setRowHeight(30);
         
@@ -874,87 +785,68 @@ public class AdminDashboard extends JFrame {
             }
         });
         
-        classListCard.add(new JScrollPane(classTable), BorderLayout.CENTER);
-
         createClassBtn.addActionListener(e -> {
-            try {
-                String className = classNameField.getText().trim();
-                String trainerDisplay = (String) trainerCombo.getSelectedItem();
-                String roomDisplay = (String) roomCombo.getSelectedItem();
+            String className = classNameField.getText().trim();
+            String trainerDisplay = (String) trainerCombo.getSelectedItem();
+            String roomDisplay = (String) roomCombo.getSelectedItem();
 
-                if (className.isEmpty() || trainerDisplay == null || roomDisplay == null) {
-                    JOptionPane.showMessageDialog(this, "Please fill in all fields.");
-                    return;
-                }
+            if (className.isEmpty() || trainerDisplay == null || roomDisplay == null) {
+                JOptionPane.showMessageDialog(this, "Please fill in all fields.");
+                return;
+            }
 
-                Trainer selectedTrainer = trainerMap.get(trainerDisplay);
-                Room selectedRoom = roomMap.get(roomDisplay);
-                int capacity = Integer.parseInt(capacityField.getText().trim());
+            Trainer selectedTrainer = trainerMap.get(trainerDisplay);
+            Room selectedRoom = roomMap.get(roomDisplay);
+            int capacity;
+            LocalDateTime schedule;
+            try {
+                capacity = Integer.parseInt(capacityField.getText().trim());
                 LocalDate date = LocalDate.parse(dateField.getText().trim());
                 String[] timeParts = timeField.getText().trim().split(":");
-                LocalDateTime schedule = date.atTime(
+                schedule = date.atTime(
                         Integer.parseInt(timeParts[0]),
                         Integer.parseInt(timeParts[1])
                 );
-
-                // Check for room conflicts - prevent double-booking
-                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                    // Check for conflicts with existing Classes
-                    Query<Class> classConflictQuery = session.createQuery(
-                            "FROM Class WHERE room = :room AND schedule = :schedule",
-                            Class.class
-                    );
-                    classConflictQuery.setParameter("room", selectedRoom);
-                    classConflictQuery.setParameter("schedule", schedule);
-
-                    if (!classConflictQuery.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Room is already booked by another Class at this time!");
-                        return;
-                    }
-
-                    // Check for conflicts with PT Sessions (classes typically last 1 hour, so check that range)
-                    LocalDateTime classEnd = schedule.plusHours(1); // Assuming 1-hour class duration
-                    Query<PTSession> ptConflictQuery = session.createQuery(
-                            "FROM PTSession WHERE room = :room " +
-                            "AND startTime < :end AND endTime > :start",
-                            PTSession.class
-                    );
-                    ptConflictQuery.setParameter("room", selectedRoom);
-                    ptConflictQuery.setParameter("start", schedule);
-                    ptConflictQuery.setParameter("end", classEnd);
-
-                    if (!ptConflictQuery.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Room is already booked by a PT Session at this time!");
-                        return;
-                    }
-
-                    session.beginTransaction();
-
-                    Class newClass = new Class();
-                    newClass.setName(className);
-                    newClass.setTrainer(selectedTrainer);
-                    newClass.setRoom(selectedRoom);
-                    newClass.setCapacity(capacity);
-                    newClass.setSchedule(schedule);
-
-                    session.persist(newClass);
-                    session.getTransaction().commit();
-
-                    JOptionPane.showMessageDialog(this, "Class created successfully!");
-                    classNameField.setText("");
-                    capacityField.setText("");
-                    dateField.setText("YYYY-MM-DD");
-                    timeField.setText("HH:MM (e.g., 10:00)");
-
-                    switchPanel("Class Management", selectedNavButton);
-                }
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "Please enter valid numbers for capacity and time.");
+                return;
             } catch (DateTimeParseException ex) {
                 JOptionPane.showMessageDialog(this, "Invalid date/time format.");
+                return;
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(this, "Error creating class: " + ex.getMessage());
+                return;
             }
+
+            // Checked and saved in the background; the result is why the class could not be created, or null
+            PanelLoader.action(createClassBtn, () -> {
+                // Check for room conflicts with Classes and PT Sessions - prevent double-booking
+                List<Booking> conflicts = HibernateUtil.getBookingIndex().roomConflicts(selectedRoom,
+                        schedule, schedule.plus(BookingIndex.CLASS_DURATION));
+                if (!conflicts.isEmpty()) {
+                    return roomConflictMessage(conflicts.get(0));
+                }
+
+                Class newClass = new Class();
+                newClass.setName(className);
+                newClass.setTrainer(selectedTrainer);
+                newClass.setRoom(selectedRoom);
+                newClass.setCapacity(capacity);
+                newClass.setSchedule(schedule);
+                return saveClass(newClass);
+            }, problem -> {
+                if (problem != null) {
+                    JOptionPane.showMessageDialog(this, problem);
+                    return;
+                }
+                JOptionPane.showMessageDialog(this, "Class created successfully!");
+                classNameField.setText("");
+                capacityField.setText("");
+                dateField.setText("YYYY-MM-DD");
+                timeField.setText("HH:MM (e.g., 10:00)");
+
+                cards.refresh("Class Management");
+            }, ex -> JOptionPane.showMessageDialog(this, "Error creating class: " + PanelLoader.message(ex)));
         });
 
         // Third column: Update Class Schedule
@@ -965,19 +857,6 @@ public class AdminDashboard extends JFrame {
         updateClassCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
         java.util.Map<String, Class> updateClassMap = new java.util.HashMap<>();
 
-        // Load classes for update
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Class> classes = session.createQuery("FROM Class ORDER BY schedule ASC", Class.class).getResultList();
-            for (Class c : classes) {
-                String display = c.getName() + " - " + 
-                        c.getSchedule().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
-                updateClassCombo.addItem(display);
-                updateClassMap.put(display, c);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JComboBox<String> updateTrainerCombo = new JComboBox<>();
         updateTrainerCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
         java.util.Map<String, Trainer> updateTrainerMap = new java.util.HashMap<>();
@@ -986,24 +865,16 @@ public class AdminDashboard extends JFrame {
         updateRoomCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
         java.util.Map<String, Room> updateRoomMap = new java.util.HashMap<>();
 
-        // Load trainers and rooms for update
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Trainer> trainers = session.createQuery("FROM Trainer", Trainer.class).getResultList();
-            for (Trainer t : trainers) {
-                String display = t.getFirstName() + " " + t.getLastName() + " (" + t.getSpecialization() + ")";
-                updateTrainerCombo.addItem(display);
-                updateTrainerMap.put(display, t);
-            }
-
-            List<Room> rooms = session.createQuery("FROM Room WHERE available = true", Room.class).getResultList();
-            for (Room r : rooms) {
-                String display = r.getName() + " (Cap: " + r.getCapacity() + ")";
-                updateRoomCombo.addItem(display);
-                updateRoomMap.put(display, r);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        // Fills the trainers and rooms of both forms
+        java.util.function.Consumer<BookingChoices> showChoices = choices -> {
+            java.util.function.Function<Trainer, String> trainerDisplay =
+                    t -> t.getFirstName() + " " + t.getLastName() + " (" + t.getSpecialization() + ")";
+            java.util.function.Function<Room, String> roomDisplay = r -> r.getName() + " (Cap: " + r.getCapacity() + ")";
+            ComboItems.replace(trainerCombo, trainerMap, choices.trainers(), trainerDisplay);
+            ComboItems.replace(updateTrainerCombo, updateTrainerMap, choices.trainers(), trainerDisplay);
+            ComboItems.replace(roomCombo, roomMap, choices.rooms(), roomDisplay);
+            ComboItems.replace(updateRoomCombo, updateRoomMap, choices.rooms(), roomDisplay);
+        };
 
         JTextField updateDateField = new JTextField("YYYY-MM-DD");
         updateDateField.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
@@ -1014,6 +885,33 @@ public class AdminDashboard extends JFrame {
         JTextField updateCapacityField = new JTextField();
         updateCapacityField.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
 
+        PanelLoader.Section classSection = PanelLoader.section(new JScrollPane(classTable));
+        classListCard.add(classSection, BorderLayout.CENTER);
+
+        // One query fills both the class list and the classes to pick from for an update
+        java.util.function.Consumer<List<Class>> showClasses = classes -> {
+            List<Object[]> rows = new java.util.ArrayList<>();
+            classMap.clear();
+            int row = 0;
+            for (Class c : classes) {
+                rows.add(new Object[]{
+                        c.getClassId(),
+                        c.getName(),
+                        c.getTrainer().getFirstName() + " " + c.getTrainer().getLastName(),
+                        c.getRoom().getName(),
+                        c.getSchedule().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
+                        c.getCapacity(),
+                        c.getEnrolledCount(),
+                        "Edit"
+                });
+                classMap.put(row, c);
+                row++;
+            }
+            TableRows.replace(model, rows, 0);
+            ComboItems.replace(updateClassCombo, updateClassMap, classes,
+                    c -> c.getName() + " - " + c.getSchedule().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
+        };
+
         // Update fields when class is selected
         updateClassCombo.addActionListener(e -> {
             String classDisplay = (String) updateClassCombo.getSelectedItem();
@@ -1080,72 +978,50 @@ public class AdminDashboard extends JFrame {
 
             if (classToUpdate == null || newTrainer == null || newRoom == null) return;
 
+            int newCapacity;
+            LocalDateTime newSchedule;
             try {
-                int newCapacity = Integer.parseInt(updateCapacityField.getText().trim());
+                newCapacity = Integer.parseInt(updateCapacityField.getText().trim());
                 LocalDate newDate = LocalDate.parse(updateDateField.getText().trim());
                 String[] timeParts = updateTimeField.getText().trim().split(":");
-                LocalDateTime newSchedule = newDate.atTime(
+                newSchedule = newDate.atTime(
                         Integer.parseInt(timeParts[0]),
                         Integer.parseInt(timeParts[1])
                 );
-
-                // Check for room conflicts before updating
-                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                    // Check conflicts with other classes
-                    Query<Class> classConflict = session.createQuery(
-                            "FROM Class WHERE room = :room AND classId != :currentId " +
-                            "AND schedule = :schedule",
-                            Class.class
-                    );
-                    classConflict.setParameter("room", newRoom);
-                    classConflict.setParameter("currentId", classToUpdate.getClassId());
-                    classConflict.setParameter("schedule", newSchedule);
-
-                    if (!classConflict.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, 
-                            "Room is already booked by another Class at this time!");
-                        return;
-                    }
-
-                    // Check conflicts with PT Sessions
-                    LocalDateTime classEnd = newSchedule.plusHours(1);
-                    Query<PTSession> ptConflict = session.createQuery(
-                            "FROM PTSession WHERE room = :room " +
-                            "AND startTime < :end AND endTime > :start",
-                            PTSession.class
-                    );
-                    ptConflict.setParameter("room", newRoom);
-                    ptConflict.setParameter("start", newSchedule);
-                    ptConflict.setParameter("end", classEnd);
-
-                    if (!ptConflict.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, 
-                            "Room is already booked by a PT Session at this time!");
-                        return;
-                    }
-
-                    session.beginTransaction();
-
-                    // Update class details
-                    classToUpdate.setTrainer(newTrainer);
-                    classToUpdate.setRoom(newRoom);
-                    classToUpdate.setSchedule(newSchedule);
-                    classToUpdate.setCapacity(newCapacity);
-
-                    session.merge(classToUpdate);
-                    session.getTransaction().commit();
-
-                    JOptionPane.showMessageDialog(this, "Class updated successfully!");
-                    switchPanel("Class Management", selectedNavButton);
-                }
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "Please enter valid numbers for capacity and time.");
+                return;
             } catch (DateTimeParseException ex) {
                 JOptionPane.showMessageDialog(this, "Invalid date/time format.");
+                return;
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(this, "Error updating class: " + ex.getMessage());
-                ex.printStackTrace();
+                return;
             }
+
+            PanelLoader.action(updateClassBtn, () -> {
+                // Check for room conflicts with other classes and PT Sessions before updating
+                List<Booking> conflicts = HibernateUtil.getBookingIndex().roomConflicts(newRoom,
+                        newSchedule, newSchedule.plus(BookingIndex.CLASS_DURATION), Booking.of(classToUpdate));
+                if (!conflicts.isEmpty()) {
+                    return roomConflictMessage(conflicts.get(0));
+                }
+
+                // Update class details on a copy, so a refused update leaves the selected class as it was
+                Class updated = new Class(newTrainer, newRoom, classToUpdate.getName(), newCapacity, newSchedule);
+                updated.setClassId(classToUpdate.getClassId());
+                return saveClass(updated);
+            }, problem -> {
+                if (problem != null) {
+                    JOptionPane.showMessageDialog(this, problem);
+                    return;
+                }
+                JOptionPane.showMessageDialog(this, "Class updated successfully!");
+                cards.refresh("Class Management");
+            }, ex -> {
+                JOptionPane.showMessageDialog(this, "Error updating class: " + PanelLoader.message(ex));
+                ex.printStackTrace();
+            });
         });
 
         content.add(formCard);
@@ -1153,7 +1029,21 @@ public class AdminDashboard extends JFrame {
         content.add(updateCard);
         panel.add(content, BorderLayout.CENTER);
 
-        return panel;
+        return new DashboardCards.Card(panel, loads -> {
+            // Load trainers and rooms for both forms
+            loads.load(() -> {
+                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                    return new BookingChoices(ReferenceCache.trainers(session), ReferenceCache.availableRooms(session));
+                }
+            }, showChoices);
+            loads.into(classSection, () -> {
+                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                    Query<Class> classQuery = session.createNamedQuery(QueryCatalog.CLASS_ALL, Class.class);
+                    EntityGraphs.fetch(session, classQuery, EntityGraphs.CLASS_LISTING);
+                    return classQuery.getResultList();
+                }
+            }, showClasses);
+        }, Class.class, Trainer.class, Room.class);
     }
 
     /**
@@ -1182,30 +1072,6 @@ public class AdminDashboard extends JFrame {
         roomCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
         java.util.Map<String, Room> roomMap = new java.util.HashMap<>();
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Trainer> trainers = session.createQuery("FROM Trainer", Trainer.class).getResultList();
-            for (Trainer t : trainers) {
-                String display = t.getFirstName() + " " + t.getLastName() + " (" + t.getSpecialization() + ")";
-                trainerCombo.addItem(display);
-                trainerMap.put(display, t);
-                if (classToEdit.getTrainer().getTrainerId().equals(t.getTrainerId())) {
-                    trainerCombo.setSelectedItem(display);
-                }
-            }
-
-            List<Room> rooms = session.createQuery("FROM Room WHERE available = true", Room.class).getResultList();
-            for (Room r : rooms) {
-                String display = r.getName() + " (Cap: " + r.getCapacity() + ")";
-                roomCombo.addItem(display);
-                roomMap.put(display, r);
-                if (classToEdit.getRoom().getRoomId().equals(r.getRoomId())) {
-                    roomCombo.setSelectedItem(display);
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JTextField capacityField = new JTextField(String.valueOf(classToEdit.getCapacity()));
         capacityField.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
 
@@ -1240,69 +1106,70 @@ public class AdminDashboard extends JFrame {
         saveBtn.setFocusPainted(false);
 
         saveBtn.addActionListener(e -> {
+            Trainer newTrainer = trainerMap.get((String) trainerCombo.getSelectedItem());
+            Room newRoom = roomMap.get((String) roomCombo.getSelectedItem());
+            String newName = nameField.getText().trim();
+            int newCapacity;
+            LocalDateTime newSchedule;
             try {
-                String trainerDisplay = (String) trainerCombo.getSelectedItem();
-                String roomDisplay = (String) roomCombo.getSelectedItem();
-                Trainer newTrainer = trainerMap.get(trainerDisplay);
-                Room newRoom = roomMap.get(roomDisplay);
-                int newCapacity = Integer.parseInt(capacityField.getText().trim());
+                newCapacity = Integer.parseInt(capacityField.getText().trim());
                 LocalDate newDate = LocalDate.parse(dateField.getText().trim());
                 String[] timeParts = timeField.getText().trim().split(":");
-                LocalDateTime newSchedule = newDate.atTime(
+                newSchedule = newDate.atTime(
                         Integer.parseInt(timeParts[0]),
                         Integer.parseInt(timeParts[1])
                 );
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(editDialog, "Error updating class: " + ex.getMessage());
+                return;
+            }
 
+            PanelLoader.action(saveBtn, () -> {
                 // Check for conflicts
-                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                    Query<Class> classConflict = session.createQuery(
-                            "FROM Class WHERE room = :room AND classId != :currentId " +
-                            "AND schedule = :schedule",
-                            Class.class
-                    );
-                    classConflict.setParameter("room", newRoom);
-                    classConflict.setParameter("currentId", classToEdit.getClassId());
-                    classConflict.setParameter("schedule", newSchedule);
-
-                    if (!classConflict.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(editDialog, 
-                            "Room is already booked by another Class at this time!");
-                        return;
-                    }
-
-                    LocalDateTime classEnd = newSchedule.plusHours(1);
-                    Query<PTSession> ptConflict = session.createQuery(
-                            "FROM PTSession WHERE room = :room " +
-                            "AND startTime < :end AND endTime > :start",
-                            PTSession.class
-                    );
-                    ptConflict.setParameter("room", newRoom);
-                    ptConflict.setParameter("start", newSchedule);
-                    ptConflict.setParameter("end", classEnd);
+                List<Booking> conflicts = HibernateUtil.getBookingIndex().roomConflicts(newRoom,
+                        newSchedule, newSchedule.plus(BookingIndex.CLASS_DURATION), Booking.of(classToEdit));
+                if (!conflicts.isEmpty()) {
+                    return roomConflictMessage(conflicts.get(0));
+                }
 
-                    if (!ptConflict.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(editDialog, 
-                            "Room is already booked by a PT Session at this time!");
-                        return;
-                    }
+                Class edited = new Class(newTrainer, newRoom, newName, newCapacity, newSchedule);
+                edited.setClassId(classToEdit.getClassId());
+                return saveClass(edited);
+            }, problem -> {
+                if (problem != null) {
+                    JOptionPane.showMessageDialog(editDialog, problem);
+                    return;
+                }
+                JOptionPane.showMessageDialog(editDialog, "Class updated successfully!");
+                editDialog.dispose();
+                cards.refresh("Class Management");
+            }, ex -> JOptionPane.showMessageDialog(editDialog, "Error updating class: " + PanelLoader.message(ex)));
+        });
 
-                    session.beginTransaction();
-                    classToEdit.setName(nameField.getText().trim());
-                    classToEdit.setTrainer(newTrainer);
-                    classToEdit.setRoom(newRoom);
-                    classToEdit.setSchedule(newSchedule);
-                    classToEdit.setCapacity(newCapacity);
-                    session.merge(classToEdit);
-                    session.getTransaction().commit();
+        // Trainers and rooms load while the dialog opens; saving waits for them
+        PanelLoader.action(saveBtn, () -> {
+            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                return new BookingChoices(ReferenceCache.trainers(session), ReferenceCache.availableRooms(session));
+            }
+        }, choices -> {
+            for (Trainer t : choices.trainers()) {
+                String display = t.getFirstName() + " " + t.getLastName() + " (" + t.getSpecialization() + ")";
+                trainerMap.put(display, t);
+                trainerCombo.addItem(display);
+                if (classToEdit.getTrainer().getTrainerId().equals(t.getTrainerId())) {
+                    trainerCombo.setSelectedItem(display);
+                }
+            }
 
-                    JOptionPane.showMessageDialog(editDialog, "Class updated successfully!");
-                    editDialog.dispose();
-                    switchPanel("Class Management", selectedNavButton);
+            for (Room r : choices.rooms()) {
+                String display = r.getName() + " (Cap: " + r.getCapacity() + ")";
+                roomMap.put(display, r);
+                roomCombo.addItem(display);
+                if (classToEdit.getRoom().getRoomId().equals(r.getRoomId())) {
+                    roomCombo.setSelectedItem(display);
                 }
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(editDialog, "Error updating class: " + ex.getMessage());
             }
-        });
+        }, ex -> JOptionPane.showMessageDialog(editDialog, "Error loading trainers and rooms: " + PanelLoader.message(ex)));
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         buttonPanel.add(saveBtn);
@@ -1315,6 +1182,10 @@ public class AdminDashboard extends JFrame {
         editDialog.setVisible(true);
     }
 
+    // Trainers and rooms offered by the class forms
+    private record BookingChoices(List<Trainer> trainers, List<Room> rooms) {
+    }
+
     // ==================== BILLING & PAYMENT PANEL ====================
     /**
      * Creates the Billing & Payment panel where admins can:
@@ -1323,9 +1194,9 @@ public class AdminDashboard extends JFrame {
      * - Simulate status updates (Pending, Paid, Failed)
      * - View all billing records
      * 
-     * @return JPanel containing billing and payment interface
+     * @return the billing panel, whose refresh reloads the dropdowns and the bills from the first page
      */
-    private JPanel createBillingPanel() {
+    private DashboardCards.Card createBillingPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -1344,30 +1215,20 @@ public class AdminDashboard extends JFrame {
         JComboBox<String> memberCombo = new JComboBox<>();
         memberCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
         java.util.Map<String, Member> memberMap = new java.util.HashMap<>();
+        java.util.function.Function<Member, String> memberLabel =
+                m -> m.getFirstName() + " " + m.getLastName() + " (" + m.getEmail() + ")";
+
+        // Members are paged into the dropdown by id as the user scrolls its list
+        MemberDAO memberDAO = new MemberDAO(HibernateUtil.getSessionFactory());
+        PagedTableLoader<Member, Long> members = new PagedTableLoader<>(ComboItems.listScrollPane(memberCombo),
+                MEMBER_PAGE_SIZE, () -> cards.loads("Billing & Payment"), memberDAO::getMembersPage,
+                m -> ComboItems.add(memberCombo, memberMap, m, memberLabel));
 
         // Trainer dropdown
         JComboBox<String> trainerCombo = new JComboBox<>();
         trainerCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
         java.util.Map<String, Trainer> trainerMap = new java.util.HashMap<>();
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Member> members = session.createQuery("FROM Member", Member.class).getResultList();
-            for (Member m : members) {
-                String display = m.getFirstName() + " " + m.getLastName() + " (" + m.getEmail() + ")";
-                memberCombo.addItem(display);
-                memberMap.put(display, m);
-            }
-
-            List<Trainer> trainers = session.createQuery("FROM Trainer", Trainer.class).getResultList();
-            for (Trainer t : trainers) {
-                String display = t.getFirstName() + " " + t.getLastName();
-                trainerCombo.addItem(display);
-                trainerMap.put(display, t);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JTextField amountField = new JTextField();
         amountField.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
 
@@ -1425,42 +1286,29 @@ public class AdminDashboard extends JFrame {
 
         // Right: Bills list with update capability
         JPanel billsCard = createCard("All Bills");
-        String[] columns = {"ID", "Member", "Trainer", "Amount", "Date", "Status", "Method", "Action"};
-        DefaultTableModel model = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 7; // Only Action column is editable
-            }
-        };
-        java.util.Map<Integer, Billing> billMap = new java.util.HashMap<>();
-
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Billing> bills = session.createQuery(
-                    "FROM Billing ORDER BY paymentDate DESC",
-                    Billing.class
-            ).getResultList();
-
-            int row = 0;
-            for (Billing b : bills) {
-                model.addRow(new Object[]{
-                        b.getBillId(),
-                        b.getMember().getFirstName() + " " + b.getMember().getLastName(),
-                        b.getTrainer().getFirstName() + " " + b.getTrainer().getLastName(),
-                        "$" + b.getAmount().setScale(2, java.math.RoundingMode.HALF_UP),
-                        b.getPaymentDate().toString(),
-                        b.getPaymentStatus(),
-                        b.getPaymentMethod(),
-                        "Update"
-                });
-                billMap.put(row, b);
-                row++;
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        // Ids, amounts (in cents) and dates are kept as longs and formatted only when painted
+        ColumnTableModel<BillingRow> model = new ColumnTableModel<BillingRow>()
+                .keyedBy(BillingRow::billId)
+                .longColumn("ID", BillingRow::billId, (b, id) -> Long.toString(id))
+                .column("Member", BillingRow::memberName)
+                .column("Trainer", BillingRow::trainerName)
+                .longColumn("Amount", b -> b.amount().movePointRight(2).setScale(0, java.math.RoundingMode.HALF_UP)
+                                .longValueExact(),
+                        (b, cents) -> "$" + java.math.BigDecimal.valueOf(cents, 2).toPlainString())
+                .longColumn("Date", b -> b.paymentDate().toEpochDay(), (b, day) -> LocalDate.ofEpochDay(day).toString())
+                .column("Status", BillingRow::paymentStatus)
+                .column("Method", BillingRow::paymentMethod)
+                .column("Action", b -> "Update");
 
         JTable billTable = new JTable(model);
         billTable.setRowHeight(30);
+        model.install(billTable);
+        JScrollPane billScroll = new JScrollPane(billTable);
+
+        // Bills are paged newest first as the user scrolls instead of loading the whole table
+        BillingDAO billingDAO = new BillingDAO(HibernateUtil.getSessionFactory());
+        PagedTableLoader<BillingRow, BillingDAO.Cursor> bills = new PagedTableLoader<>(billScroll, BILL_PAGE_SIZE,
+                () -> cards.loads("Billing & Payment"), billingDAO::getBillingPage, model::add);
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         buttonPanel.setOpaque(false);
@@ -1485,9 +1333,9 @@ public class AdminDashboard extends JFrame {
         recordPaymentBtn.setForeground(Color.WHITE);
         recordPaymentBtn.setFocusPainted(false);
 
-        markPaidBtn.addActionListener(e -> updateBillStatus(billTable, billMap, "Paid"));
-        markPendingBtn.addActionListener(e -> updateBillStatus(billTable, billMap, "Pending"));
-        markFailedBtn.addActionListener(e -> updateBillStatus(billTable, billMap, "Failed"));
+        markPaidBtn.addActionListener(e -> updateBillStatus(markPaidBtn, billTable, model, "Paid"));
+        markPendingBtn.addActionListener(e -> updateBillStatus(markPendingBtn, billTable, model, "Pending"));
+        markFailedBtn.addActionListener(e -> updateBillStatus(markFailedBtn, billTable, model, "Failed"));
 
         // Record payment - simulate payment processing
         recordPaymentBtn.addActionListener(e -> {
@@ -1497,8 +1345,7 @@ public class AdminDashboard extends JFrame {
                 return;
             }
 
-            Billing bill = billMap.get(selectedRow);
-            if (bill == null) return;
+            BillingRow row = model.getRow(selectedRow);
 
             // Simulate payment processing
             String[] paymentMethods = {"Credit Card", "Cash", "Bank Transfer", "Check", "Other"};
@@ -1513,21 +1360,29 @@ public class AdminDashboard extends JFrame {
             );
 
             if (method != null) {
-                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                    session.beginTransaction();
-                    bill.setPaymentStatus("Paid");
-                    bill.setPaymentMethod(method);
-                    bill.setPaymentDate(LocalDate.now());
-                    session.merge(bill);
-                    session.getTransaction().commit();
-
-                    JOptionPane.showMessageDialog(this, 
+                PanelLoader.action(recordPaymentBtn, () -> {
+                    try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                        session.beginTransaction();
+                        Billing bill = session.find(Billing.class, row.billId());
+                        if (bill != null) {
+                            bill.setPaymentStatus("Paid");
+                            bill.setPaymentMethod(method);
+                            bill.setPaymentDate(LocalDate.now());
+                        }
+                        session.getTransaction().commit();
+                        return bill;
+                    }
+                }, bill -> {
+                    if (bill == null) {
+                        JOptionPane.showMessageDialog(this, "This bill no longer exists.");
+                        cards.refresh("Billing & Payment");
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(this,
                         "Payment recorded successfully!\nAmount: $" + bill.getAmount().setScale(2, java.math.RoundingMode.HALF_UP) +
                         "\nMethod: " + method + "\nStatus: Paid");
-                    switchPanel("Billing & Payment", selectedNavButton);
-                } catch (Exception ex) {
-                    JOptionPane.showMessageDialog(this, "Error recording payment: " + ex.getMessage());
-                }
+                    cards.refresh("Billing & Payment");
+                }, ex -> JOptionPane.showMessageDialog(this, "Error recording payment: " + PanelLoader.message(ex)));
             }
         });
 
@@ -1536,32 +1391,42 @@ public class AdminDashboard extends JFrame {
         buttonPanel.add(markFailedBtn);
         buttonPanel.add(recordPaymentBtn);
 
-        billsCard.add(new JScrollPane(billTable), BorderLayout.CENTER);
+        billsCard.add(billScroll, BorderLayout.CENTER);
         billsCard.add(buttonPanel, BorderLayout.SOUTH);
 
         generateBillBtn.addActionListener(e -> {
-            try {
-                String memberDisplay = (String) memberCombo.getSelectedItem();
-                String trainerDisplay = (String) trainerCombo.getSelectedItem();
+            String memberDisplay = (String) memberCombo.getSelectedItem();
+            String trainerDisplay = (String) trainerCombo.getSelectedItem();
 
-                if (memberDisplay == null || trainerDisplay == null) {
-                    JOptionPane.showMessageDialog(this, "Please select member and trainer.");
-                    return;
-                }
+            if (memberDisplay == null || trainerDisplay == null) {
+                JOptionPane.showMessageDialog(this, "Please select member and trainer.");
+                return;
+            }
 
-                Member selectedMember = memberMap.get(memberDisplay);
-                Trainer selectedTrainer = trainerMap.get(trainerDisplay);
-                BigDecimal amount = new BigDecimal(amountField.getText().trim());
-                String status = (String) statusCombo.getSelectedItem();
-                String method = (String) methodCombo.getSelectedItem();
-                String description = descriptionField.getText().trim();
-                LocalDate paymentDate = LocalDate.parse(paymentDateField.getText().trim());
+            Member selectedMember = memberMap.get(memberDisplay);
+            Trainer selectedTrainer = trainerMap.get(trainerDisplay);
+            String status = (String) statusCombo.getSelectedItem();
+            String method = (String) methodCombo.getSelectedItem();
+            String description = descriptionField.getText().trim();
+            BigDecimal amount;
+            LocalDate paymentDate;
+            try {
+                amount = new BigDecimal(amountField.getText().trim());
+                paymentDate = LocalDate.parse(paymentDateField.getText().trim());
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(this, "Please enter a valid amount.");
+                return;
+            } catch (java.time.format.DateTimeParseException ex) {
+                JOptionPane.showMessageDialog(this, "Please enter date in YYYY-MM-DD format.");
+                return;
+            }
 
-                if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-                    JOptionPane.showMessageDialog(this, "Amount must be greater than zero.");
-                    return;
-                }
+            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+                JOptionPane.showMessageDialog(this, "Amount must be greater than zero.");
+                return;
+            }
 
+            PanelLoader.action(generateBillBtn, () -> {
                 try (Session session = HibernateUtil.getSessionFactory().openSession()) {
                     session.beginTransaction();
 
@@ -1575,73 +1440,91 @@ public class AdminDashboard extends JFrame {
 
                     session.persist(bill);
                     session.getTransaction().commit();
-
-                    // Show bill summary
-                    String summary = "Bill Generated Successfully!\n\n" +
-                            "Bill ID: " + bill.getBillId() + "\n" +
-                            "Member: " + selectedMember.getFirstName() + " " + selectedMember.getLastName() + "\n" +
-                            "Trainer: " + selectedTrainer.getFirstName() + " " + selectedTrainer.getLastName() + "\n" +
-                            "Amount: $" + amount.setScale(2, java.math.RoundingMode.HALF_UP) + "\n" +
-                            (description.isEmpty() ? "" : "Description: " + description + "\n") +
-                            "Status: " + status + "\n" +
-                            "Payment Method: " + method;
-
-                    JOptionPane.showMessageDialog(this, summary, "Bill Generated", JOptionPane.INFORMATION_MESSAGE);
-                    
-                    // Clear form
-                    amountField.setText("");
-                    descriptionField.setText("");
-                    paymentDateField.setText(LocalDate.now().toString());
-                    statusCombo.setSelectedItem("Pending");
-
-                    switchPanel("Billing & Payment", selectedNavButton);
+                    return bill;
                 }
-            } catch (NumberFormatException ex) {
-                JOptionPane.showMessageDialog(this, "Please enter a valid amount.");
-            } catch (java.time.format.DateTimeParseException ex) {
-                JOptionPane.showMessageDialog(this, "Please enter date in YYYY-MM-DD format.");
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Error generating bill: " + ex.getMessage());
+            }, bill -> {
+                // Show bill summary
+                String summary = "Bill Generated Successfully!\n\n" +
+                        "Bill ID: " + bill.getBillId() + "\n" +
+                        "Member: " + selectedMember.getFirstName() + " " + selectedMember.getLastName() + "\n" +
+                        "Trainer: " + selectedTrainer.getFirstName() + " " + selectedTrainer.getLastName() + "\n" +
+                        "Amount: $" + amount.setScale(2, java.math.RoundingMode.HALF_UP) + "\n" +
+                        (description.isEmpty() ? "" : "Description: " + description + "\n") +
+                        "Status: " + status + "\n" +
+                        "Payment Method: " + method;
+
+                JOptionPane.showMessageDialog(this, summary, "Bill Generated", JOptionPane.INFORMATION_MESSAGE);
+
+                // Clear form
+                amountField.setText("");
+                descriptionField.setText("");
+                paymentDateField.setText(LocalDate.now().toString());
+                statusCombo.setSelectedItem("Pending");
+
+                cards.refresh("Billing & Payment");
+            }, ex -> {
+                JOptionPane.showMessageDialog(this, "Error generating bill: " + PanelLoader.message(ex));
                 ex.printStackTrace();
-            }
+            });
         });
 
         content.add(formCard);
         content.add(billsCard);
         panel.add(content, BorderLayout.CENTER);
 
-        return panel;
+        return new DashboardCards.Card(panel, loads -> {
+            // A new or updated bill leaves the members and trainers to choose from as they were
+            if (cards.reloads("Billing & Payment", Member.class)) {
+                members.refresh(loaded -> ComboItems.replace(memberCombo, memberMap, loaded, memberLabel));
+            }
+            if (cards.reloads("Billing & Payment", Trainer.class)) {
+                loads.load(() -> {
+                    try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                        return ReferenceCache.trainers(session);
+                    }
+                }, trainers -> ComboItems.replace(trainerCombo, trainerMap, trainers,
+                        t -> t.getFirstName() + " " + t.getLastName()));
+            }
+
+            // The bills loaded so far are fetched again and merged by id, keeping the scroll position and selection
+            bills.refresh(model::replaceAll);
+        }, Billing.class, Member.class, Trainer.class);
     }
 
     /**
      * Updates the payment status of a selected bill
      * Simulates status updates (Pending, Paid, Failed)
      * 
+     * @param trigger The button that was clicked, disabled while the update runs
      * @param table The bills table
-     * @param billMap Map of row indices to Billing objects
+     * @param model The bills table model, holding the row shown at each table row
      * @param newStatus The new payment status to set
      */
-    private void updateBillStatus(JTable table, java.util.Map<Integer, Billing> billMap, String newStatus) {
+    private void updateBillStatus(JButton trigger, JTable table, ColumnTableModel<BillingRow> model,
+                                  String newStatus) {
         int selectedRow = table.getSelectedRow();
         if (selectedRow < 0) {
             JOptionPane.showMessageDialog(this, "Please select a bill to update.");
             return;
         }
 
-        Billing bill = billMap.get(selectedRow);
-        if (bill == null) return;
+        BillingRow row = model.getRow(selectedRow);
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            session.beginTransaction();
-            bill.setPaymentStatus(newStatus);
-            session.merge(bill);
-            session.getTransaction().commit();
-
-            JOptionPane.showMessageDialog(this, "Bill status updated to: " + newStatus);
-            switchPanel("Billing & Payment", selectedNavButton);
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "Error updating bill: " + ex.getMessage());
-        }
+        PanelLoader.action(trigger, () -> {
+            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                session.beginTransaction();
+                Billing bill = session.find(Billing.class, row.billId());
+                if (bill != null) {
+                    bill.setPaymentStatus(newStatus);
+                }
+                session.getTransaction().commit();
+                return bill != null;
+            }
+        }, updated -> {
+            JOptionPane.showMessageDialog(this, updated
+                    ? "Bill status updated to: " + newStatus : "This bill no longer exists.");
+            cards.refresh("Billing & Payment");
+        }, ex -> JOptionPane.showMessageDialog(this, "Error updating bill: " + PanelLoader.message(ex)));
     }
 
     // ==================== HELPER METHODS ====================
@@ -1674,7 +1557,7 @@ public class AdminDashboard extends JFrame {
         }
     }
 
-    private JPanel statCard(String title, String main, String subtitle) {
+    private JPanel statCard(String title, JLabel m, JLabel s) {
         JPanel card = new JPanel();
         card.setBackground(Color.WHITE);
         card.setBorder(BorderFactory.createCompoundBorder(
@@ -1687,10 +1570,8 @@ public class AdminDashboard extends JFrame {
         t.setFont(new Font("Inter", Font.PLAIN, 12));
         t.setForeground(Color.GRAY);
 
-        JLabel m = new JLabel(main);
         m.setFont(new Font("Inter", Font.BOLD, 20));
 
-        JLabel s = new JLabel(subtitle);
         s.setFont(new Font("Inter", Font.PLAIN, 11));
         s.setForeground(Color.GRAY);
 
@@ -1726,6 +1607,20 @@ public class AdminDashboard extends JFrame {
         return label;
     }
 
+    // Dialog text for the first room conflict the booking index reported
+    // Saves a new or changed class through the booking coordinator, which re-checks its room against the
+    // database inside the saving transaction; returns why the class could not be saved, or null
+    private static String saveClass(Class gymClass) {
+        BookingCoordinator.Result result = HibernateUtil.getBookingCoordinator().scheduleClass(gymClass);
+        return result.outcome() == BookingCoordinator.Outcome.BOOKED ? null : roomConflictMessage(result.conflict());
+    }
+
+    private static String roomConflictMessage(Booking conflict) {
+        return conflict.isClass()
+                ? "Room is already booked by a Class at this time!"
+                : "Room is already booked by a PT Session at this time!";
+    }
+
     private void styleActionButton(JButton btn) {
         btn.setBackground(ACCENT_COLOR);
         btn.setForeground(Color.WHITE);
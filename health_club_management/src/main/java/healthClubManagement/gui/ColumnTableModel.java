@@ -0,0 +1,475 @@
+package healthClubManagement.gui;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Read-only table model for large tables of DTO rows, kept column by column.
+ *
+ * Numeric and date columns are copied once into a long[] per column (ids, cents, epoch days or seconds) when
+ * a row is added; text columns are read from the row record itself. Nothing is formatted up front: the
+ * renderers put in place by {@link #install(JTable)} turn a value into text only when its cell is painted, so
+ * a table of thousands of rows formats the few dozen on screen. Clicking a header sorts by that column with
+ * an index sort that compares the primitive values directly, and {@link #add} slots a row into the current
+ * sort order with a single row-inserted event, so paged and incremental loads never rebuild the table.
+ * {@link #replaceAll} matches rows by the key given to {@link #keyedBy} (the row itself by default), so a
+ * refresh inserts, updates and deletes single rows and the table keeps its selection.
+ *
+ * Columns are defined before the first row is added. All methods are for the EDT.
+ */
+public class ColumnTableModel<R> extends AbstractTableModel {
+
+    // Stored for a long column whose value is missing: shown as an empty cell and sorted first
+    public static final long NONE = Long.MIN_VALUE;
+
+    // Formats a long cell for display; the row is at hand for context such as a unit
+    public interface LongFormat<R> {
+        String format(R row, long value);
+    }
+
+    private abstract static class Column<R> {
+        final String name;
+
+        Column(String name) {
+            this.name = name;
+        }
+
+        void grow(int capacity) {
+        }
+
+        void store(int index, R row) {
+        }
+
+        void move(int from, int to) {
+        }
+
+        abstract int compare(Object[] rows, int a, int b);
+
+        abstract int compareRows(R a, R b);
+
+        abstract Object value(R row, int index);
+
+        abstract String text(R row, int index);
+    }
+
+    private static final class LongColumn<R> extends Column<R> {
+        final ToLongFunction<R> extract;
+        final LongFormat<R> format;
+        long[] values = new long[0];
+
+        LongColumn(String name, ToLongFunction<R> extract, LongFormat<R> format) {
+            super(name);
+            this.extract = extract;
+            this.format = format;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void store(int index, R row) {
+            values[index] = extract.applyAsLong(row);
+        }
+
+        @Override
+        void move(int from, int to) {
+            values[to] = values[from];
+        }
+
+        @Override
+        int compare(Object[] rows, int a, int b) {
+            return Long.compare(values[a], values[b]);
+        }
+
+        @Override
+        int compareRows(R a, R b) {
+            return Long.compare(extract.applyAsLong(a), extract.applyAsLong(b));
+        }
+
+        @Override
+        Object value(R row, int index) {
+            return values[index] == NONE ? null : values[index];
+        }
+
+        @Override
+        String text(R row, int index) {
+            return values[index] == NONE ? "" : format.format(row, values[index]);
+        }
+    }
+
+    private static final class ObjectColumn<R, V> extends Column<R> {
+        final Function<R, V> extract;
+        final Comparator<? super V> order;
+        final Function<V, String> format;
+
+        ObjectColumn(String name, Function<R, V> extract, Comparator<? super V> order, Function<V, String> format) {
+            super(name);
+            this.extract = extract;
+            this.order = Comparator.nullsFirst(order);
+            this.format = format;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int compare(Object[] rows, int a, int b) {
+            return order.compare(extract.apply((R) rows[a]), extract.apply((R) rows[b]));
+        }
+
+        @Override
+        int compareRows(R a, R b) {
+            return order.compare(extract.apply(a), extract.apply(b));
+        }
+
+        @Override
+        Object value(R row, int index) {
+            return extract.apply(row);
+        }
+
+        @Override
+        String text(R row, int index) {
+            V value = extract.apply(row);
+            return value == null ? "" : format.apply(value);
+        }
+    }
+
+    private final List<Column<R>> columns = new ArrayList<>();
+    private Function<R, ?> key = Function.identity();
+    // Rows in the order they were added; primitive column values share their indexes
+    private Object[] rows = new Object[0];
+    // View row -> index into rows, in the current sort order
+    private int[] order = new int[0];
+    private int size;
+    private int sortColumn = -1;
+    private boolean descending;
+
+    // A column kept as longs, e.g. cents or epoch days; format turns one back into text when it is painted
+    public ColumnTableModel<R> longColumn(String name, ToLongFunction<R> value, LongFormat<R> format) {
+        return addColumn(new LongColumn<>(name, value, format));
+    }
+
+    // A column read from the row itself, sorted in natural order and shown with toString()
+    public <V extends Comparable<? super V>> ColumnTableModel<R> column(String name, Function<R, V> value) {
+        return column(name, value, Comparator.naturalOrder(), String::valueOf);
+    }
+
+    public <V> ColumnTableModel<R> column(String name, Function<R, V> value, Comparator<? super V> order,
+                                         Function<V, String> format) {
+        return addColumn(new ObjectColumn<>(name, value, order, format));
+    }
+
+    // What identifies a row across refreshes, e.g. its id; a fresh row with a known key replaces that row in place
+    public ColumnTableModel<R> keyedBy(Function<R, ?> key) {
+        this.key = key;
+        return this;
+    }
+
+    private ColumnTableModel<R> addColumn(Column<R> column) {
+        if (size > 0) {
+            throw new IllegalStateException("Columns must be defined before rows are added");
+        }
+        column.grow(rows.length);
+        columns.add(column);
+        return this;
+    }
+
+    // Renders every column lazily from this model and sorts on header clicks, keeping the selected row selected
+    public void install(JTable table) {
+        CellRenderer renderer = new CellRenderer();
+        for (int column = 0; column < table.getColumnCount(); column++) {
+            table.getColumnModel().getColumn(column).setCellRenderer(renderer);
+        }
+        table.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int viewColumn = table.columnAtPoint(e.getPoint());
+                if (viewColumn < 0) return;
+                int column = table.convertColumnIndexToModel(viewColumn);
+                int selected = table.getSelectedRow() < 0 ? -1 : order[table.getSelectedRow()];
+
+                sortBy(column, column == sortColumn && !descending);
+                for (int view = 0; view < table.getColumnCount(); view++) {
+                    int model = table.convertColumnIndexToModel(view);
+                    table.getColumnModel().getColumn(view).setHeaderValue(model != sortColumn
+                            ? getColumnName(model) : getColumnName(model) + (descending ? " ▼" : " ▲"));
+                }
+                table.getTableHeader().repaint();
+
+                int view = viewRowOf(selected);
+                if (view >= 0) {
+                    table.setRowSelectionInterval(view, view);
+                    table.scrollRectToVisible(table.getCellRect(view, 0, true));
+                }
+            }
+        });
+    }
+
+    private class CellRenderer extends DefaultTableCellRenderer {
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+                                                       boolean hasFocus, int row, int column) {
+            super.getTableCellRendererComponent(table, null, isSelected, hasFocus, row, column);
+            int index = order[table.convertRowIndexToModel(row)];
+            setText(columns.get(table.convertColumnIndexToModel(column)).text(rowAt(index), index));
+            return this;
+        }
+    }
+
+    // Sorts the view by one column; ties keep the order the rows were added in
+    public void sortBy(int column, boolean descending) {
+        this.sortColumn = column;
+        this.descending = descending;
+        sortOrder();
+        fireTableDataChanged();
+    }
+
+    // Appends a row at its place in the current sort order
+    public void add(R row) {
+        int index = store(row);
+        insertAt(sortColumn < 0 ? size : insertionPoint(index), index);
+    }
+
+    // Brings the table up to date with freshly loaded rows, in their order (or the current sort order).
+    // Rows are matched by key: unchanged ones are left alone, changed ones updated in place, and the rest
+    // inserted or deleted one by one, so the selection and scroll position survive the refresh.
+    public void replaceAll(List<R> fresh) {
+        if (size == 0) {
+            load(fresh);
+            if (size > 0) fireTableRowsInserted(0, size - 1);
+            return;
+        }
+
+        TableRows.sync(new TableRows.Editor<R>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Object keyAt(int row) {
+                return key.apply(getRow(row));
+            }
+
+            @Override
+            public boolean sameAt(int row, R fresh) {
+                return Objects.equals(getRow(row), fresh);
+            }
+
+            @Override
+            public void remove(int row) {
+                removeAt(row);
+            }
+
+            @Override
+            public void insert(int at, R fresh) {
+                insertAt(at, store(fresh));
+            }
+
+            @Override
+            public void move(int from, int to) {
+                int index = order[from];
+                if (from < to) {
+                    System.arraycopy(order, from + 1, order, from, to - from);
+                } else {
+                    System.arraycopy(order, to, order, to + 1, from - to);
+                }
+                order[to] = index;
+                fireTableRowsUpdated(Math.min(from, to), Math.max(from, to));
+            }
+
+            @Override
+            public void update(int row, R fresh) {
+                int index = order[row];
+                rows[index] = fresh;
+                for (Column<R> column : columns) {
+                    column.store(index, fresh);
+                }
+                fireTableRowsUpdated(row, row);
+            }
+        }, viewOrder(fresh), key);
+
+        // Same rows in the same view order, stored again in load order so sort ties keep falling back to it
+        load(fresh);
+    }
+
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(rows, 0, size, null);
+        size = 0;
+        fireTableDataChanged();
+    }
+
+    // The row shown at a view row, e.g. the table's selected row
+    public R getRow(int viewRow) {
+        return rowAt(order[viewRow]);
+    }
+
+    @Override
+    public int getRowCount() {
+        return size;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns.get(column).name;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        int index = order[rowIndex];
+        return columns.get(columnIndex).value(rowAt(index), index);
+    }
+
+    // Stores a row past the last one without showing it yet; returns its storage index
+    private int store(R row) {
+        ensureCapacity(size + 1);
+        rows[size] = row;
+        for (Column<R> column : columns) {
+            column.store(size, row);
+        }
+        return size;
+    }
+
+    private void insertAt(int at, int index) {
+        System.arraycopy(order, at, order, at + 1, size - at);
+        order[at] = index;
+        size++;
+        fireTableRowsInserted(at, at);
+    }
+
+    // Drops a view row; the last stored row takes over its storage slot so storage stays packed
+    private void removeAt(int view) {
+        int index = order[view];
+        int last = size - 1;
+        System.arraycopy(order, view + 1, order, view, last - view);
+        if (index != last) {
+            rows[index] = rows[last];
+            for (Column<R> column : columns) {
+                column.move(last, index);
+            }
+            for (int i = 0; i < last; i++) {
+                if (order[i] == last) {
+                    order[i] = index;
+                    break;
+                }
+            }
+        }
+        rows[last] = null;
+        size = last;
+        fireTableRowsDeleted(view, view);
+    }
+
+    // Replaces every stored row without firing events, the view sorted as it is now
+    private void load(List<R> fresh) {
+        Arrays.fill(rows, 0, size, null);
+        size = 0;
+        ensureCapacity(fresh.size());
+        for (R row : fresh) {
+            rows[size] = row;
+            for (Column<R> column : columns) {
+                column.store(size, row);
+            }
+            size++;
+        }
+        sortOrder();
+    }
+
+    // The fresh rows in the order the view will show them: as given, or sorted with ties in the given order
+    private List<R> viewOrder(List<R> fresh) {
+        if (sortColumn < 0) return fresh;
+        Column<R> column = columns.get(sortColumn);
+        Comparator<R> comparator = column::compareRows;
+        List<R> sorted = new ArrayList<>(fresh);
+        sorted.sort(descending ? comparator.reversed() : comparator);
+        return sorted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private R rowAt(int index) {
+        return (R) rows[index];
+    }
+
+    private int viewRowOf(int index) {
+        if (index < 0) return -1;
+        for (int view = 0; view < size; view++) {
+            if (order[view] == index) return view;
+        }
+        return -1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= rows.length) return;
+        int grown = Math.max(capacity, Math.max(16, rows.length + (rows.length >> 1)));
+        rows = Arrays.copyOf(rows, grown);
+        order = Arrays.copyOf(order, grown);
+        for (Column<R> column : columns) {
+            column.grow(grown);
+        }
+    }
+
+    private int compareIndexes(int a, int b) {
+        int result = columns.get(sortColumn).compare(rows, a, b);
+        if (descending) result = -result;
+        return result != 0 ? result : Integer.compare(a, b);
+    }
+
+    // First view row whose storage index sorts after the given one
+    private int insertionPoint(int index) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareIndexes(order[mid], index) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void sortOrder() {
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        if (sortColumn >= 0) {
+            mergeSort(order, new int[size], 0, size);
+        }
+    }
+
+    // Merge sort on the int indexes themselves, so no Integer boxes or comparator over objects are involved
+    private void mergeSort(int[] indexes, int[] buffer, int from, int to) {
+        if (to - from < 2) return;
+        int mid = (from + to) >>> 1;
+        mergeSort(indexes, buffer, from, mid);
+        mergeSort(indexes, buffer, mid, to);
+        if (compareIndexes(indexes[mid - 1], indexes[mid]) <= 0) return;
+
+        System.arraycopy(indexes, from, buffer, from, to - from);
+        int left = from;
+        int right = mid;
+        int out = from;
+        while (left < mid && right < to) {
+            indexes[out++] = compareIndexes(buffer[left], buffer[right]) <= 0 ? buffer[left++] : buffer[right++];
+        }
+        while (left < mid) indexes[out++] = buffer[left++];
+        while (right < to) indexes[out++] = buffer[right++];
+    }
+}
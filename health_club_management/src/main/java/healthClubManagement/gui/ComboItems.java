@@ -0,0 +1,68 @@
+package healthClubManagement.gui;
+
+import javax.swing.*;
+import javax.swing.plaf.basic.ComboPopup;
+import java.awt.Container;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Refills a dropdown of display strings from freshly loaded items, keeping the selection when it is still
+ * offered. The map from display string to item is refilled alongside, so a panel can refresh its reference
+ * data any number of times without piling up duplicate entries. A long list can instead be paged in as the
+ * user scrolls the dropdown, with {@link PagedTableLoader} on {@link #listScrollPane} adding each item.
+ */
+public final class ComboItems {
+
+    private ComboItems() {
+    }
+
+    public static <T> void replace(JComboBox<String> combo, Map<String, T> byDisplay, List<T> items,
+                                   Function<T, String> display) {
+        List<String> displays = new ArrayList<>(items.size());
+        byDisplay.clear();
+        for (T item : items) {
+            String text = display.apply(item);
+            displays.add(text);
+            byDisplay.put(text, item);
+        }
+
+        // Same entries as before: the map now holds the fresh items and the combo needs no events at all
+        if (sameItems(combo, displays)) return;
+
+        Object selected = combo.getSelectedItem();
+        combo.removeAllItems();
+        displays.forEach(combo::addItem);
+        if (selected != null && byDisplay.containsKey(selected)) {
+            combo.setSelectedItem(selected);
+        }
+    }
+
+    // Appends one item, e.g. from a page loaded as the user scrolls the dropdown
+    public static <T> void add(JComboBox<String> combo, Map<String, T> byDisplay, T item,
+                               Function<T, String> display) {
+        String text = display.apply(item);
+        if (byDisplay.put(text, item) == null) {
+            combo.addItem(text);
+        }
+    }
+
+    // The scroll pane around the dropdown's list, whose scrolling can load the next page of items
+    public static JScrollPane listScrollPane(JComboBox<?> combo) {
+        if (combo.getUI().getAccessibleChild(combo, 0) instanceof ComboPopup popup) {
+            Container scrollPane = SwingUtilities.getAncestorOfClass(JScrollPane.class, popup.getList());
+            if (scrollPane != null) return (JScrollPane) scrollPane;
+        }
+        throw new IllegalStateException("The look and feel's dropdown has no scrolling list");
+    }
+
+    private static boolean sameItems(JComboBox<String> combo, List<String> displays) {
+        if (combo.getItemCount() != displays.size()) return false;
+        for (int i = 0; i < displays.size(); i++) {
+            if (!displays.get(i).equals(combo.getItemAt(i))) return false;
+        }
+        return true;
+    }
+}
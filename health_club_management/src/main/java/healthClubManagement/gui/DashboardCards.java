@@ -0,0 +1,209 @@
+package healthClubManagement.gui;
+
+import healthClubManagement.db.EntityChangeHub;
+import healthClubManagement.db.HibernateUtil;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The panels of one dashboard window, each built once and switched with a CardLayout.
+ *
+ * A panel is a {@link Card}: its components, a refresh step that only loads data into them, and the entity
+ * types that data comes from. Cards are built on first show, so opening the window builds and loads only the
+ * panel it opens on. Once that panel has painted with its data (timed by {@link FirstPaintMonitor}), the
+ * other cards are prefetched one at a time in the background, each waiting until the panel on screen has no
+ * loads pending; -Dhealthclub.dashboard.prefetch=false leaves them for their first show instead.
+ *
+ * Showing a panel refreshes it only when it is stale - never loaded yet, an entity type it depends on changed
+ * since (as reported by {@link EntityChangeHub}), its last refresh was cut short or failed, it was
+ * invalidated, or its data is older than MAX_AGE (the hub only sees this client's writes). Going back to an
+ * unchanged panel costs no queries and creates no components. When only the hub's reported changes made it
+ * stale, its refresh can ask {@link #reloads} which types those were and skip the data the others feed.
+ *
+ * All methods are for the EDT.
+ */
+public class DashboardCards implements AutoCloseable {
+
+    // Data older than this is reloaded on the next visit, e.g. -Dhealthclub.dashboard.panelMaxAgeSeconds=120
+    public static final Duration MAX_AGE = Duration.ofSeconds(
+            Long.getLong("healthclub.dashboard.panelMaxAgeSeconds", 60));
+
+    private static final boolean PREFETCH =
+            Boolean.parseBoolean(System.getProperty("healthclub.dashboard.prefetch", "true"));
+
+    // refresh must only load data into component, never build new components
+    public record Card(JComponent component, Consumer<PanelLoader.Loads> refresh,
+                       List<java.lang.Class<?>> dependsOn) {
+
+        public Card(JComponent component, Consumer<PanelLoader.Loads> refresh, java.lang.Class<?>... dependsOn) {
+            this(component, refresh, List.of(dependsOn));
+        }
+    }
+
+    private static class Entry {
+        final Supplier<Card> factory;
+        // Null until the card is first shown or prefetched
+        Card card;
+        // Set from the hub's thread after a commit
+        volatile boolean stale = true;
+        // Entity types committed since the last refresh, added from the hub's thread
+        final Set<java.lang.Class<?>> changed = ConcurrentHashMap.newKeySet();
+        final Map<java.lang.Class<?>, EntityChangeHub.Subscriber> subscribers = new HashMap<>();
+        // What the refresh running now has to reload; null means everything
+        Set<java.lang.Class<?>> reloading;
+        // Set when the panel's data may be incomplete: invalidated, or a refresh was cut short
+        boolean reloadAll;
+        long refreshedAt;
+        PanelLoader.Loads loads;
+
+        Entry(Supplier<Card> factory) {
+            this.factory = factory;
+        }
+    }
+
+    private final String role;
+    private final PanelLoader loader;
+    private final JPanel container;
+    private final CardLayout layout;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final long openedAt = FirstPaintMonitor.takeStart();
+    private String showing;
+    private boolean closed;
+
+    public DashboardCards(String role, JPanel container, CardLayout layout) {
+        this.role = role;
+        this.loader = new PanelLoader(role);
+        this.container = container;
+        this.layout = layout;
+    }
+
+    // Registers a panel; factory builds its card when it is first needed
+    public void add(String name, Supplier<Card> factory) {
+        entries.put(name, new Entry(factory));
+    }
+
+    // Brings the named panel to the front, reloading its data first if it is stale
+    public void show(String name) {
+        boolean first = showing == null;
+        Entry entry = build(name);
+        // Navigating away cancels the other panels' loads; any that were still running left stale data behind
+        entries.forEach((other, otherEntry) -> {
+            if (!other.equals(name) && otherEntry.loads != null && otherEntry.loads.isPending()) {
+                otherEntry.stale = true;
+                otherEntry.reloadAll = true;
+            }
+        });
+        loader.show(name);
+        layout.show(container, name);
+        showing = name;
+        if (isStale(entry)) {
+            refresh(name);
+        }
+        if (first) {
+            // Renders queue their repaints before this runs, so the panel has painted by then
+            entry.loads.whenSettled(() -> SwingUtilities.invokeLater(() -> {
+                FirstPaintMonitor.firstPaint(role, openedAt);
+                if (PREFETCH) prefetchNext();
+            }));
+        }
+    }
+
+    // Reloads the named panel's data now, e.g. after a save made from it
+    public void refresh(String name) {
+        Entry entry = build(name);
+        // Only data whose types the hub did not report can be skipped, and only if the last refresh completed
+        boolean everything = entry.loads == null || entry.loads.isPending() || entry.loads.hasFailed()
+                || entry.reloadAll || System.nanoTime() - entry.refreshedAt > MAX_AGE.toNanos();
+        entry.reloading = everything ? null : Set.copyOf(entry.changed);
+        entry.changed.clear();
+        entry.reloadAll = false;
+        entry.stale = false;
+        entry.refreshedAt = System.nanoTime();
+        entry.loads = loader.begin(name);
+        try {
+            entry.card.refresh().accept(entry.loads);
+        } finally {
+            entry.reloading = null;
+        }
+    }
+
+    // For a card's refresh step: whether its data from entityType has to be loaded again, i.e. entityType
+    // changed since the last refresh or the whole panel is reloading. Lets a card skip e.g. a list of choices
+    // that only a change to its own type can alter.
+    public boolean reloads(String name, java.lang.Class<?> entityType) {
+        Set<java.lang.Class<?>> reloading = entries.get(name).reloading;
+        return reloading == null || reloading.contains(entityType);
+    }
+
+    // For writes the hub does not see (native SQL): the panel reloads when next shown, or now if on screen
+    public void invalidate(String name) {
+        entries.get(name).reloadAll = true;
+        if (name.equals(showing)) {
+            refresh(name);
+        } else {
+            entries.get(name).stale = true;
+        }
+    }
+
+    // The panel's current loads, for data it reloads on user input such as a changed selection
+    public PanelLoader.Loads loads(String name) {
+        return loader.loads(name);
+    }
+
+    private Entry build(String name) {
+        Entry entry = entries.get(name);
+        if (entry.card == null) {
+            entry.card = entry.factory.get();
+            container.add(entry.card.component(), name);
+            for (java.lang.Class<?> entityType : entry.card.dependsOn()) {
+                EntityChangeHub.Subscriber subscriber = (entity, change) -> {
+                    entry.changed.add(entityType);
+                    entry.stale = true;
+                };
+                entry.subscribers.put(entityType, subscriber);
+                HibernateUtil.getEntityChangeHub().subscribe(entityType, subscriber);
+            }
+        }
+        return entry;
+    }
+
+    // Builds and loads the next card nobody has shown yet, once the panel on screen is idle
+    private void prefetchNext() {
+        if (closed) return;
+        PanelLoader.Loads current = entries.get(showing).loads;
+        if (current != null && current.isPending()) {
+            current.whenSettled(() -> SwingUtilities.invokeLater(this::prefetchNext));
+            return;
+        }
+        for (Map.Entry<String, Entry> next : entries.entrySet()) {
+            if (next.getValue().card == null) {
+                refresh(next.getKey());
+                next.getValue().loads.whenSettled(() -> SwingUtilities.invokeLater(this::prefetchNext));
+                return;
+            }
+        }
+    }
+
+    private static boolean isStale(Entry entry) {
+        return entry.stale || entry.loads == null || entry.loads.hasFailed()
+                || System.nanoTime() - entry.refreshedAt > MAX_AGE.toNanos();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        loader.close();
+        EntityChangeHub hub = HibernateUtil.getEntityChangeHub();
+        entries.values().forEach(entry -> entry.subscribers.forEach(hub::unsubscribe));
+    }
+}
@@ -0,0 +1,134 @@
+package healthClubManagement.gui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the Event Dispatch Thread is kept busy by each event and keeps the worst stall of every
+ * user interaction (installed from Main).
+ *
+ * An interaction starts at a mouse or key press and covers every event dispatched until the next one,
+ * including the render steps that {@link PanelLoader} queues when background loads finish. It is recorded
+ * under the dashboard screen it navigated to, or else the text of the pressed button. Time spent inside a
+ * nested event loop (a modal dialog waiting for the user) is not counted against the event that opened it.
+ * Stalls over WARN_MILLIS are logged right away; the rest are kept for {@link #report()}, which Main prints
+ * when the application exits.
+ */
+public class EdtStallMonitor extends EventQueue {
+
+    // Longer than this and the user sees the window freeze
+    public static final long WARN_MILLIS = 100;
+
+    private static final Map<String, InteractionStats> INTERACTIONS = new ConcurrentHashMap<>();
+    private static EdtStallMonitor installed;
+
+    public record InteractionStats(String interaction, long count, long lastWorstMillis, long maxWorstMillis) {
+    }
+
+    // EDT-confined: own (non-nested) nanos of each event being dispatched, innermost last
+    private final Deque<long[]> dispatching = new ArrayDeque<>();
+    private long segmentStart;
+    private String interaction;
+    private long worstNanos;
+
+    private EdtStallMonitor() {
+    }
+
+    public static synchronized void install() {
+        if (installed == null) {
+            installed = new EdtStallMonitor();
+            Toolkit.getDefaultToolkit().getSystemEventQueue().push(installed);
+        }
+    }
+
+    // Renames the interaction in progress, e.g. after a click navigated to "Member / Classes"; EDT only
+    public static void label(String name) {
+        EdtStallMonitor monitor = installed;
+        if (monitor != null && monitor.interaction != null) {
+            monitor.interaction = name;
+        }
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        if (isInteractionStart(event)) {
+            publish();
+            interaction = describe(event);
+            worstNanos = 0;
+        }
+
+        long now = System.nanoTime();
+        if (!dispatching.isEmpty()) {
+            dispatching.peek()[0] += now - segmentStart;
+        }
+        dispatching.push(new long[1]);
+        segmentStart = now;
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            now = System.nanoTime();
+            long own = dispatching.pop()[0] + (now - segmentStart);
+            segmentStart = now;
+            if (own > worstNanos) {
+                worstNanos = own;
+            }
+        }
+    }
+
+    private static boolean isInteractionStart(AWTEvent event) {
+        return event.getID() == MouseEvent.MOUSE_PRESSED || event.getID() == KeyEvent.KEY_PRESSED;
+    }
+
+    private static String describe(AWTEvent event) {
+        Object source = event.getSource();
+        if (source instanceof AbstractButton button && button.getText() != null && !button.getText().isBlank()) {
+            return button.getText();
+        }
+        if (source instanceof Component component) {
+            Window window = SwingUtilities.getWindowAncestor(component);
+            String where = window instanceof Frame frame ? frame.getTitle()
+                    : window instanceof Dialog dialog ? dialog.getTitle() : null;
+            return (where != null ? where + " / " : "") + component.getClass().getSimpleName();
+        }
+        return String.valueOf(source);
+    }
+
+    private void publish() {
+        if (interaction == null) return;
+        String name = interaction;
+        long worst = TimeUnit.NANOSECONDS.toMillis(worstNanos);
+        INTERACTIONS.merge(name, new InteractionStats(name, 1, worst, worst),
+                (old, now) -> new InteractionStats(name, old.count() + 1, worst,
+                        Math.max(old.maxWorstMillis(), worst)));
+        if (worst > WARN_MILLIS) {
+            System.err.println("EDT stalled for " + worst + " ms during " + name +
+                    " (threshold " + WARN_MILLIS + " ms)");
+        }
+    }
+
+    public static List<InteractionStats> getInteractionStatistics() {
+        List<InteractionStats> result = new ArrayList<>(INTERACTIONS.values());
+        result.sort(Comparator.comparingLong(InteractionStats::maxWorstMillis).reversed()
+                .thenComparing(InteractionStats::interaction));
+        return result;
+    }
+
+    public static String report() {
+        StringBuilder report = new StringBuilder("EdtStallMonitor{\n");
+        for (InteractionStats stats : getInteractionStatistics()) {
+            report.append(String.format("  %-36s count=%d, lastWorstMs=%d, maxWorstMs=%d%n",
+                    stats.interaction(), stats.count(), stats.lastWorstMillis(), stats.maxWorstMillis()));
+        }
+        return report.append('}').toString();
+    }
+}
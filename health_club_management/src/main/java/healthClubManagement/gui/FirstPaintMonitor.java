@@ -0,0 +1,72 @@
+package healthClubManagement.gui;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures login-to-dashboard latency per role: from pressing Login (or, without a login, from opening the
+ * dashboard window) until the first panel has painted with its data. Recorded by {@link DashboardCards}.
+ * Anything over WARN_MILLIS is logged right away; every measurement is kept for {@link #report()}, which
+ * Main prints when the application exits.
+ */
+public final class FirstPaintMonitor {
+
+    // Longer than this and logging in feels slow
+    public static final long WARN_MILLIS = 1500;
+
+    private static final Map<String, RoleStats> ROLES = new ConcurrentHashMap<>();
+    // EDT-confined: System.nanoTime() of the last Login press not yet matched by a first paint, or 0
+    private static long loginStartedAt;
+
+    public record RoleStats(String role, long count, long lastMillis, long maxMillis, long totalMillis) {
+
+        public long averageMillis() {
+            return count == 0 ? 0 : totalMillis / count;
+        }
+    }
+
+    private FirstPaintMonitor() {
+    }
+
+    // Login was pressed; the dashboard it opens is timed from here
+    public static void loginStarted() {
+        loginStartedAt = System.nanoTime();
+    }
+
+    // Start of the measurement for a dashboard opened now: the pending Login press if there is one
+    static long takeStart() {
+        long start = loginStartedAt != 0 ? loginStartedAt : System.nanoTime();
+        loginStartedAt = 0;
+        return start;
+    }
+
+    static void firstPaint(String role, long startNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        ROLES.merge(role, new RoleStats(role, 1, millis, millis, millis),
+                (old, now) -> new RoleStats(role, old.count() + 1, millis,
+                        Math.max(old.maxMillis(), millis), old.totalMillis() + millis));
+        if (millis > WARN_MILLIS) {
+            System.err.println(role + " dashboard took " + millis + " ms to first paint (threshold " +
+                    WARN_MILLIS + " ms)");
+        }
+    }
+
+    public static List<RoleStats> getStatistics() {
+        List<RoleStats> result = new ArrayList<>(ROLES.values());
+        result.sort(Comparator.comparing(RoleStats::role));
+        return result;
+    }
+
+    public static String report() {
+        StringBuilder report = new StringBuilder("FirstPaintMonitor{\n");
+        for (RoleStats stats : getStatistics()) {
+            report.append(String.format("  %-10s count=%d, lastMs=%d, avgMs=%d, maxMs=%d%n",
+                    stats.role(), stats.count(), stats.lastMillis(), stats.averageMillis(), stats.maxMillis()));
+        }
+        return report.append('}').toString();
+    }
+}
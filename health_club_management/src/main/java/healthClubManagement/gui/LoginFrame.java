@@ -4,6 +4,7 @@ import healthClubManagement.db.Member;
 import healthClubManagement.db.Trainer;
 import healthClubManagement.db.Admin;
 import healthClubManagement.db.HibernateUtil;
+import healthClubManagement.db.QueryCatalog;
 import org.hibernate.Session;
 import org.hibernate.query.Query;
 
@@ -154,7 +155,27 @@ public class LoginFrame extends JFrame {
                 return;
             }
 
-            loginUser(selectedRole, email, password);
+            // The dashboard's time to first paint is measured from here, including any wait for the database
+            FirstPaintMonitor.loginStarted();
+
+            // The SessionFactory is still bootstrapping in the background; log in as soon as it is ready
+            if (!HibernateUtil.isReady()) {
+                String role = selectedRole;
+                loginBtn.setEnabled(false);
+                loginBtn.setText("Connecting...");
+                HibernateUtil.startAsync().whenComplete((factory, ex) -> SwingUtilities.invokeLater(() -> {
+                    loginBtn.setEnabled(true);
+                    loginBtn.setText("Sign In");
+                    if (ex != null) {
+                        JOptionPane.showMessageDialog(this, "Database unavailable: " + ex.getMessage());
+                        return;
+                    }
+                    loginUser(loginBtn, role, email, password);
+                }));
+                return;
+            }
+
+            loginUser(loginBtn, selectedRole, email, password);
         });
 
         card.add(loginBtn);
@@ -182,71 +203,40 @@ public class LoginFrame extends JFrame {
     /* ===========================================================
                  🔥 LOGIN + DASHBOARD OPENING LOGIC
        =========================================================== */
-    private void loginUser(String role, String email, String password) {
-
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-
-            if (role.equals("Member")) {
-                Query<Member> query = session.createQuery(
-                        "FROM Member WHERE email = :email AND password = :password",
-                        Member.class
-                );
-                query.setParameter("email", email);
-                query.setParameter("password", password);
-
-                Member member = query.uniqueResult();
-
-                if (member != null) {
-                    dispose();
-                    new MemberDashboard(member).setVisible(true);
-                    return;
-                }
-
-                JOptionPane.showMessageDialog(this, "Invalid Member login.");
-                return;
-            }
-
-            if (role.equals("Trainer")) {
-                Query<Trainer> query = session.createQuery(
-                        "FROM Trainer WHERE email = :email AND password = :password",
-                        Trainer.class
-                );
-                query.setParameter("email", email);
-                query.setParameter("password", password);
-
-                Trainer trainer = query.uniqueResult();
-
-                if (trainer != null) {
-                    dispose();
-                    new TrainerDashboard(trainer).setVisible(true);
-                    return;
-                }
-
-                JOptionPane.showMessageDialog(this, "Invalid Trainer login.");
-                return;
+    private void loginUser(JButton loginBtn, String role, String email, String password) {
+        // The credentials are checked off the EDT; the dashboard is opened back on it
+        PanelLoader.action(loginBtn, () -> findUser(role, email, password), user -> {
+            if (user instanceof Member member) {
+                dispose();
+                new MemberDashboard(member).setVisible(true);
+            } else if (user instanceof Trainer trainer) {
+                dispose();
+                new TrainerDashboard(trainer).setVisible(true);
+            } else if (user instanceof Admin admin) {
+                dispose();
+                new AdminDashboard(admin).setVisible(true); // placeholder
+            } else {
+                JOptionPane.showMessageDialog(this, "Invalid " + role + " login.");
             }
+        }, ex -> JOptionPane.showMessageDialog(this, "Login failed: " + PanelLoader.message(ex)));
+    }
 
-            if (role.equals("Admin")) {
-                Query<Admin> query = session.createQuery(
-                        "FROM Admin WHERE email = :email AND password = :password",
-                        Admin.class
-                );
-                query.setParameter("email", email);
-                query.setParameter("password", password);
-
-                Admin admin = query.uniqueResult();
-
-                if (admin != null) {
-                    dispose();
-                    new AdminDashboard(admin).setVisible(true); // placeholder
-                    return;
-                }
-
-                JOptionPane.showMessageDialog(this, "Invalid Admin login.");
-            }
+    // The Member, Trainer or Admin with these credentials, or null
+    private Object findUser(String role, String email, String password) {
+        return switch (role) {
+            case "Member" -> findUser(QueryCatalog.MEMBER_LOGIN, Member.class, email, password);
+            case "Trainer" -> findUser(QueryCatalog.TRAINER_LOGIN, Trainer.class, email, password);
+            case "Admin" -> findUser(QueryCatalog.ADMIN_LOGIN, Admin.class, email, password);
+            default -> null;
+        };
+    }
 
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Login failed: " + e.getMessage());
+    private static <T> T findUser(String queryName, Class<T> type, String email, String password) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Query<T> query = session.createNamedQuery(queryName, type);
+            query.setParameter("email", email);
+            query.setParameter("password", password);
+            return query.uniqueResult();
         }
     }
 
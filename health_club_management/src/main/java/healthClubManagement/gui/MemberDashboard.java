@@ -3,6 +3,7 @@ package healthClubManagement.gui;
 import healthClubManagement.db.*;
 import healthClubManagement.db.Class;
 import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.hibernate.query.Query;
 
 import javax.swing.*;
@@ -10,10 +11,11 @@ import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * MemberDashboard - Main dashboard interface for members
@@ -33,8 +35,7 @@ public class MemberDashboard extends JFrame {
     private final Member member;
     
     // UI Components for panel management
-    private JPanel contentPanel;          // Main content panel using CardLayout
-    private CardLayout cardLayout;         // Layout manager for switching between panels
+    private DashboardCards cards;          // The panels, built once; each reloads its data only when stale
     private JButton selectedNavButton;     // Currently selected navigation button
 
     // UI Color Constants
@@ -49,6 +50,8 @@ public class MemberDashboard extends JFrame {
      */
     public MemberDashboard(Member member) {
         this.member = member;
+        // Load the booking index in the background so the first PT booking check does not wait for it
+        HibernateUtil.getAsyncDataService().run(HibernateUtil::getBookingIndex);
 
         // Configure main window properties
         setTitle("FitZone Club – Member Dashboard");
@@ -133,18 +136,20 @@ public class MemberDashboard extends JFrame {
         main.add(topBar, BorderLayout.NORTH);
 
         // --- CARD LAYOUT FOR CONTENT ---
-        cardLayout = new CardLayout();
-        contentPanel = new JPanel(cardLayout);
+        CardLayout cardLayout = new CardLayout();
+        JPanel contentPanel = new JPanel(cardLayout);
         contentPanel.setOpaque(false);
         contentPanel.setBorder(BorderFactory.createEmptyBorder(0, 25, 25, 25));
 
-        // Add all panels
-        contentPanel.add(createDashboardPanel(), "Dashboard");
-        contentPanel.add(createHealthMetricsPanel(), "Health Metrics");
-        contentPanel.add(createFitnessGoalsPanel(), "Fitness Goals");
-        contentPanel.add(createPTSessionsPanel(), "PT Sessions");
-        contentPanel.add(createClassesPanel(), "Classes");
-        contentPanel.add(createProfilePanel(), "My Profile");
+        // Add all panels; each is built when first shown or prefetched once the first one is up
+        cards = new DashboardCards("Member", contentPanel, cardLayout);
+        cards.add("Dashboard", this::createDashboardPanel);
+        cards.add("Health Metrics", this::createHealthMetricsPanel);
+        cards.add("Fitness Goals", this::createFitnessGoalsPanel);
+        cards.add("PT Sessions", this::createPTSessionsPanel);
+        cards.add("Classes", this::createClassesPanel);
+        cards.add("My Profile", this::createProfilePanel);
+        cards.show("Dashboard");
 
         main.add(contentPanel, BorderLayout.CENTER);
 
@@ -164,43 +169,22 @@ public class MemberDashboard extends JFrame {
      * @param btn The navigation button that was clicked
      */
     private void switchPanel(String panelName, JButton btn) {
-        // Show the selected panel
-        cardLayout.show(contentPanel, panelName);
-        
         // Update navigation button highlighting
         resetNavButton(selectedNavButton);
         highlightNavButton(btn);
         selectedNavButton = btn;
 
-        // Refresh the panel when switching to ensure data is up-to-date
-        contentPanel.remove(contentPanel.getComponent(getComponentIndex(panelName)));
-        switch (panelName) {
-            case "Dashboard" -> contentPanel.add(createDashboardPanel(), "Dashboard", 0);
-            case "Health Metrics" -> contentPanel.add(createHealthMetricsPanel(), "Health Metrics", 1);
-            case "Fitness Goals" -> contentPanel.add(createFitnessGoalsPanel(), "Fitness Goals", 2);
-            case "PT Sessions" -> contentPanel.add(createPTSessionsPanel(), "PT Sessions", 3);
-            case "Classes" -> contentPanel.add(createClassesPanel(), "Classes", 4);
-            case "My Profile" -> contentPanel.add(createProfilePanel(), "My Profile", 5);
-        }
-        cardLayout.show(contentPanel, panelName);
+        // Show the selected panel, reloading its data only if it may have changed since it was last shown
+        cards.show(panelName);
     }
 
     /**
-     * Maps panel names to their component indices in the CardLayout
-     * 
-     * @param name The panel name
-     * @return The component index
+     * Cancels the loads still running for any panel before closing the window
      */
-    private int getComponentIndex(String name) {
-        return switch (name) {
-            case "Dashboard" -> 0;
-            case "Health Metrics" -> 1;
-            case "Fitness Goals" -> 2;
-            case "PT Sessions" -> 3;
-            case "Classes" -> 4;
-            case "My Profile" -> 5;
-            default -> 0;
-        };
+    @Override
+    public void dispose() {
+        cards.close();
+        super.dispose();
     }
 
     // ==================== DASHBOARD PANEL ====================
@@ -215,73 +199,26 @@ public class MemberDashboard extends JFrame {
      * - Today's schedule
      * - Quick action buttons
      * 
-     * @return JPanel containing the dashboard overview
+     * @return the dashboard overview, whose refresh reloads the stats and schedule
      */
-    private JPanel createDashboardPanel() {
+    private DashboardCards.Card createDashboardPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
-        // Fetch real-time data from database for dashboard statistics
-        HealthMetric latestMetric = null;
-        List<FitnessGoal> goals = null;
-        List<PTSession> upcomingSessions = null;
-        List<MemberClass> registeredClasses = null;
-
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            // Get the most recent health metric
-            Query<HealthMetric> metricQuery = session.createQuery(
-                    "FROM HealthMetric WHERE member = :member ORDER BY timestamp DESC",
-                    HealthMetric.class
-            );
-            metricQuery.setParameter("member", member);
-            metricQuery.setMaxResults(1);
-            latestMetric = metricQuery.uniqueResult();
-
-            // Get all active fitness goals
-            Query<FitnessGoal> goalQuery = session.createQuery(
-                    "FROM FitnessGoal WHERE member = :member",
-                    FitnessGoal.class
-            );
-            goalQuery.setParameter("member", member);
-            goals = goalQuery.getResultList();
-
-            // Get upcoming PT sessions (future sessions only)
-            Query<PTSession> sessionQuery = session.createQuery(
-                    "FROM PTSession WHERE member = :member AND startTime > :now ORDER BY startTime ASC",
-                    PTSession.class
-            );
-            sessionQuery.setParameter("member", member);
-            sessionQuery.setParameter("now", LocalDateTime.now());
-            upcomingSessions = sessionQuery.getResultList();
-
-            // Get all registered classes
-            Query<MemberClass> classQuery = session.createQuery(
-                    "FROM MemberClass WHERE member = :member",
-                    MemberClass.class
-            );
-            classQuery.setParameter("member", member);
-            registeredClasses = classQuery.getResultList();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        // Create statistics cards row
+        // Create statistics cards row; values are filled in once the overview has loaded
         JPanel statsRow = new JPanel(new GridLayout(1, 4, 15, 0));
         statsRow.setOpaque(false);
 
-        // Format latest metric with unit for display
-        String latestMetricDisplay = "No data";
-        if (latestMetric != null) {
-            String unit = getUnitForMetricType(latestMetric.getMetricType());
-            latestMetricDisplay = latestMetric.getMetricType() + ": " + latestMetric.getValue() + " " + unit;
-        }
-        
-        // Add statistic cards to the row
-        statsRow.add(statCard("Latest Metric", latestMetricDisplay,
-                latestMetric != null ? latestMetric.getTimestamp().format(DateTimeFormatter.ofPattern("MMM dd, yyyy")) : ""));
-        statsRow.add(statCard("Active Goals", goals != null ? String.valueOf(goals.size()) : "0", "Track your progress"));
-        statsRow.add(statCard("Upcoming Sessions", upcomingSessions != null ? String.valueOf(upcomingSessions.size()) : "0", "PT sessions booked"));
-        statsRow.add(statCard("Classes Registered", registeredClasses != null ? String.valueOf(registeredClasses.size()) : "0", "Group fitness classes"));
+        JLabel latestMetricLabel = new JLabel("...");
+        JLabel latestMetricDate = new JLabel(" ");
+        JLabel goalsLabel = new JLabel("...");
+        JLabel sessionsLabel = new JLabel("...");
+        JLabel classesLabel = new JLabel("...");
+
+        statsRow.add(statCard("Latest Metric", latestMetricLabel, latestMetricDate));
+        statsRow.add(statCard("Active Goals", goalsLabel, new JLabel("Track your progress")));
+        statsRow.add(statCard("Upcoming Sessions", sessionsLabel, new JLabel("PT sessions booked")));
+        statsRow.add(statCard("Classes Registered", classesLabel, new JLabel("Group fitness classes")));
 
         panel.add(statsRow, BorderLayout.NORTH);
 
@@ -297,21 +234,39 @@ public class MemberDashboard extends JFrame {
         scheduleText.setFont(new Font("Inter", Font.PLAIN, 13));
         scheduleText.setBackground(Color.WHITE);
 
-        StringBuilder scheduleBuilder = new StringBuilder();
-        if (upcomingSessions != null && !upcomingSessions.isEmpty()) {
-            for (PTSession s : upcomingSessions) {
+        PanelLoader.Section scheduleSection = PanelLoader.section(new JScrollPane(scheduleText));
+        scheduleCard.add(scheduleSection, BorderLayout.CENTER);
+        middleRow.add(scheduleCard, BorderLayout.CENTER);
+
+        // Fills the stats cards and today's schedule from a loaded overview
+        Consumer<Overview> showOverview = overview -> {
+            // Format latest metric with unit for display
+            HealthMetric latestMetric = overview.latestMetric();
+            if (latestMetric != null) {
+                String unit = getUnitForMetricType(latestMetric.getMetricType());
+                latestMetricLabel.setText(latestMetric.getMetricType() + ": " + latestMetric.getValue() + " " + unit);
+                latestMetricDate.setText(latestMetric.getTimestamp().format(DateTimeFormatter.ofPattern("MMM dd, yyyy")));
+            } else {
+                latestMetricLabel.setText("No data");
+            }
+            goalsLabel.setText(String.valueOf(overview.goalCount()));
+            sessionsLabel.setText(String.valueOf(overview.upcomingSessions().size()));
+            classesLabel.setText(String.valueOf(overview.classCount()));
+
+            StringBuilder scheduleBuilder = new StringBuilder();
+            for (PTSession s : overview.upcomingSessions()) {
                 if (s.getStartTime().toLocalDate().equals(LocalDate.now())) {
                     scheduleBuilder.append("• ").append(s.getStartTime().format(DateTimeFormatter.ofPattern("HH:mm")))
                             .append(" - PT Session with ").append(s.getTrainer().getFirstName()).append("\n");
                 }
             }
-        }
-        if (scheduleBuilder.length() == 0) {
-            scheduleBuilder.append("No sessions scheduled for today");
-        }
-        scheduleText.setText(scheduleBuilder.toString());
-        scheduleCard.add(new JScrollPane(scheduleText), BorderLayout.CENTER);
-        middleRow.add(scheduleCard, BorderLayout.CENTER);
+            if (scheduleBuilder.length() == 0) {
+                scheduleBuilder.append("No sessions scheduled for today");
+            }
+            if (!scheduleBuilder.toString().equals(scheduleText.getText())) {
+                scheduleText.setText(scheduleBuilder.toString());
+            }
+        };
 
         // Right: Quick actions
         JPanel rightColumn = new JPanel();
@@ -346,7 +301,44 @@ public class MemberDashboard extends JFrame {
 
         panel.add(middleRow, BorderLayout.CENTER);
 
-        return panel;
+        return new DashboardCards.Card(panel, loads -> loads.into(scheduleSection, () -> loadOverview(HibernateUtil.getSessionFactory(), member), showOverview),
+                HealthMetric.class, FitnessGoal.class, PTSession.class, MemberClass.class);
+    }
+
+    // What the dashboard overview shows, loaded in one background step
+    record Overview(HealthMetric latestMetric, int goalCount, List<PTSession> upcomingSessions,
+                            int classCount) {
+    }
+
+    static Overview loadOverview(SessionFactory sessionFactory, Member member) {
+        try (Session session = sessionFactory.openSession()) {
+            // Get the most recent health metric
+            Query<HealthMetric> metricQuery = session.createNamedQuery(QueryCatalog.HEALTH_METRIC_BY_MEMBER, HealthMetric.class);
+            EntityGraphs.fetch(session, metricQuery, EntityGraphs.MEMBER_PROFILE_METRIC);
+            metricQuery.setParameter("member", member);
+            metricQuery.setMaxResults(1);
+            HealthMetric latestMetric = metricQuery.uniqueResult();
+
+            // Get all active fitness goals
+            Query<FitnessGoal> goalQuery = session.createNamedQuery(QueryCatalog.FITNESS_GOAL_BY_MEMBER, FitnessGoal.class);
+            EntityGraphs.fetch(session, goalQuery, EntityGraphs.MEMBER_PROFILE_GOAL);
+            goalQuery.setParameter("member", member);
+            List<FitnessGoal> goals = goalQuery.getResultList();
+
+            // Get upcoming PT sessions (future sessions only)
+            Query<PTSession> sessionQuery = session.createNamedQuery(QueryCatalog.PT_SESSION_UPCOMING_BY_MEMBER, PTSession.class);
+            EntityGraphs.fetch(session, sessionQuery, EntityGraphs.PT_SESSION_BOOKING);
+            sessionQuery.setParameter("member", member);
+            sessionQuery.setParameter("now", LocalDateTime.now());
+            List<PTSession> upcomingSessions = sessionQuery.getResultList();
+
+            // Get all registered classes
+            Query<MemberClass> classQuery = session.createNamedQuery(QueryCatalog.MEMBER_CLASS_BY_MEMBER, MemberClass.class);
+            classQuery.setParameter("member", member);
+            List<MemberClass> registeredClasses = classQuery.getResultList();
+
+            return new Overview(latestMetric, goals.size(), upcomingSessions, registeredClasses.size());
+        }
     }
 
     // ==================== HEALTH METRICS PANEL ====================
@@ -358,9 +350,9 @@ public class MemberDashboard extends JFrame {
      * - Form to log new health metrics
      * - History table showing all past metrics with units
      * 
-     * @return JPanel containing the health metrics interface
+     * @return the health metrics panel, whose refresh reloads the history table
      */
-    private JPanel createHealthMetricsPanel() {
+    private DashboardCards.Card createHealthMetricsPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -442,47 +434,40 @@ public class MemberDashboard extends JFrame {
 
         // Right: History table showing all past health metrics
         JPanel historyCard = createCard("Health History");
-        String[] columns = {"Date", "Type", "Value"};
-        DefaultTableModel model = new DefaultTableModel(columns, 0);
-
-        // Load and display health metric history from database
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            // Query all health metrics for this member, ordered by most recent first
-            Query<HealthMetric> query = session.createQuery(
-                    "FROM HealthMetric WHERE member = :member ORDER BY timestamp DESC",
-                    HealthMetric.class
-            );
-            query.setParameter("member", member);
-            List<HealthMetric> metrics = query.getResultList();
-
-            // Add each metric to the table with appropriate unit label
-            for (HealthMetric m : metrics) {
-                // Get the appropriate unit for this metric type
-                String unit = getUnitForMetricType(m.getMetricType());
-                // Format value with unit (e.g., "72 bpm", "80 kg")
-                String valueWithUnit = m.getValue() + " " + unit;
-                model.addRow(new Object[]{
-                        m.getTimestamp().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                        m.getMetricType(),
-                        valueWithUnit
-                });
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        // Dates and values are kept as longs and formatted (value with its unit) only when painted
+        ColumnTableModel<HealthMetricRow> model = new ColumnTableModel<HealthMetricRow>()
+                .keyedBy(HealthMetricRow::metricId)
+                .longColumn("Date", m -> m.timestamp() == null ? ColumnTableModel.NONE
+                                : m.timestamp().toEpochSecond(ZoneOffset.UTC),
+                        (m, seconds) -> LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC)
+                                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
+                .column("Type", HealthMetricRow::metricType)
+                .longColumn("Value", m -> m.value() == null ? ColumnTableModel.NONE : m.value(),
+                        (m, value) -> value + " " + getUnitForMetricType(m.metricType()));
 
         JTable table = new JTable(model);
         table.setRowHeight(30);
-        historyCard.add(new JScrollPane(table), BorderLayout.CENTER);
+        model.install(table);
+
+        // Load and display health metric history from database
+        PanelLoader.Section historySection = PanelLoader.section(new JScrollPane(table));
+        historyCard.add(historySection, BorderLayout.CENTER);
 
         // Save action - handles saving new health metrics
         saveBtn.addActionListener(e -> {
+            // Parse and validate the input value
+            int value;
             try {
-                // Parse and validate the input value
-                int value = Integer.parseInt(valueField.getText().trim());
-                String type = (String) typeCombo.getSelectedItem();
+                value = Integer.parseInt(valueField.getText().trim());
+            } catch (NumberFormatException ex) {
+                // Handle invalid numeric input
+                JOptionPane.showMessageDialog(this, "Please enter a valid numeric value.");
+                return;
+            }
+            String type = (String) typeCombo.getSelectedItem();
 
-                // Save to database using Hibernate
+            // Save to database using Hibernate, off the EDT
+            PanelLoader.action(saveBtn, () -> {
                 try (Session session = HibernateUtil.getSessionFactory().openSession()) {
                     session.beginTransaction();
 
@@ -496,28 +481,39 @@ public class MemberDashboard extends JFrame {
                     // Persist to database
                     session.persist(metric);
                     session.getTransaction().commit();
-
-                    // Show success message and clear form
-                    JOptionPane.showMessageDialog(this, "Health metric saved successfully!");
-                    valueField.setText("");
-
-                    // Refresh the panel to show the new metric in history
-                    switchPanel("Health Metrics", selectedNavButton);
+                    return metric;
                 }
-            } catch (NumberFormatException ex) {
-                // Handle invalid numeric input
-                JOptionPane.showMessageDialog(this, "Please enter a valid numeric value.");
-            } catch (Exception ex) {
+            }, metric -> {
+                // Show success message and clear form
+                JOptionPane.showMessageDialog(this, "Health metric saved successfully!");
+                valueField.setText("");
+
+                // The hub marks this panel and the dashboard stale; reload the history on screen now
+                cards.refresh("Health Metrics");
+            }, ex -> {
                 // Handle other errors
-                JOptionPane.showMessageDialog(this, "Error saving metric: " + ex.getMessage());
-            }
+                JOptionPane.showMessageDialog(this, "Error saving metric: " + PanelLoader.message(ex));
+            });
         });
 
         content.add(formCard);
         content.add(historyCard);
         panel.add(content, BorderLayout.CENTER);
 
-        return panel;
+        return new DashboardCards.Card(panel,
+                loads -> loads.into(historySection, this::loadMetricRows, model::replaceAll),
+                HealthMetric.class);
+    }
+
+    // The member's health metrics, most recent first, as row records (background load)
+    private List<HealthMetricRow> loadMetricRows() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            // Only the displayed columns are selected, not whole HealthMetric entities
+            Query<HealthMetricRow> query = session.createNamedQuery(QueryCatalog.HEALTH_METRIC_ROWS_BY_MEMBER,
+                    HealthMetricRow.class);
+            query.setParameter("member", member);
+            return query.getResultList();
+        }
     }
 
     // ==================== FITNESS GOALS PANEL ====================
@@ -529,9 +525,9 @@ public class MemberDashboard extends JFrame {
      * - View existing goals with units
      * - Delete goals
      * 
-     * @return JPanel containing the fitness goals interface
+     * @return the fitness goals panel, whose refresh reloads the goals table
      */
-    private JPanel createFitnessGoalsPanel() {
+    private DashboardCards.Card createFitnessGoalsPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -622,38 +618,28 @@ public class MemberDashboard extends JFrame {
             }
         };
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<FitnessGoal> query = session.createQuery(
-                    "FROM FitnessGoal WHERE member = :member ORDER BY deadline ASC",
-                    FitnessGoal.class
-            );
-            query.setParameter("member", member);
-            List<FitnessGoal> goals = query.getResultList();
-
-            for (FitnessGoal g : goals) {
-                String unit = getUnitForGoalType(g.getGoalType());
-                String valueWithUnit = g.getValue() + " " + unit;
-                model.addRow(new Object[]{
-                        g.getGoalType(),
-                        valueWithUnit,
-                        g.getDeadline().toString(),
-                        "Delete"
-                });
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JTable goalsTable = new JTable(model);
         goalsTable.setRowHeight(30);
-        goalsCard.add(new JScrollPane(goalsTable), BorderLayout.CENTER);
+
+        PanelLoader.Section goalsSection = PanelLoader.section(new JScrollPane(goalsTable));
+        goalsCard.add(goalsSection, BorderLayout.CENTER);
 
         saveGoalBtn.addActionListener(e -> {
+            int target;
+            LocalDate deadline;
             try {
-                int target = Integer.parseInt(targetField.getText().trim());
-                LocalDate deadline = LocalDate.parse(deadlineField.getText().trim());
-                String goalType = (String) goalTypeCombo.getSelectedItem();
+                target = Integer.parseInt(targetField.getText().trim());
+                deadline = LocalDate.parse(deadlineField.getText().trim());
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(this, "Please enter a valid target value.");
+                return;
+            } catch (DateTimeParseException ex) {
+                JOptionPane.showMessageDialog(this, "Please enter date in YYYY-MM-DD format.");
+                return;
+            }
+            String goalType = (String) goalTypeCombo.getSelectedItem();
 
+            PanelLoader.action(saveGoalBtn, () -> {
                 try (Session session = HibernateUtil.getSessionFactory().openSession()) {
                     session.beginTransaction();
 
@@ -665,27 +651,45 @@ public class MemberDashboard extends JFrame {
 
                     session.persist(goal);
                     session.getTransaction().commit();
-
-                    JOptionPane.showMessageDialog(this, "Fitness goal saved successfully!");
-                    targetField.setText("");
-                    deadlineField.setText("YYYY-MM-DD");
-
-                    switchPanel("Fitness Goals", selectedNavButton);
+                    return goal;
                 }
-            } catch (NumberFormatException ex) {
-                JOptionPane.showMessageDialog(this, "Please enter a valid target value.");
-            } catch (DateTimeParseException ex) {
-                JOptionPane.showMessageDialog(this, "Please enter date in YYYY-MM-DD format.");
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Error saving goal: " + ex.getMessage());
-            }
+            }, goal -> {
+                JOptionPane.showMessageDialog(this, "Fitness goal saved successfully!");
+                targetField.setText("");
+                deadlineField.setText("YYYY-MM-DD");
+
+                cards.refresh("Fitness Goals");
+            }, ex -> JOptionPane.showMessageDialog(this, "Error saving goal: " + PanelLoader.message(ex)));
         });
 
         content.add(formCard);
         content.add(goalsCard);
         panel.add(content, BorderLayout.CENTER);
 
-        return panel;
+        return new DashboardCards.Card(panel,
+                loads -> loads.into(goalsSection, this::loadGoalRows, rows -> TableRows.replace(model, rows)),
+                FitnessGoal.class);
+    }
+
+    // The member's fitness goals as table rows (background load)
+    private List<Object[]> loadGoalRows() {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            Query<FitnessGoal> query = session.createNamedQuery(QueryCatalog.FITNESS_GOAL_BY_MEMBER, FitnessGoal.class);
+            query.setParameter("member", member);
+            List<Object[]> rows = new java.util.ArrayList<>();
+
+            for (FitnessGoal g : query.getResultList()) {
+                String unit = getUnitForGoalType(g.getGoalType());
+                String valueWithUnit = g.getValue() + " " + unit;
+                rows.add(new Object[]{
+                        g.getGoalType(),
+                        valueWithUnit,
+                        g.getDeadline().toString(),
+                        "Delete"
+                });
+            }
+            return rows;
+        }
     }
 
     // ==================== PT SESSIONS PANEL ====================
@@ -700,9 +704,9 @@ public class MemberDashboard extends JFrame {
      * - Double-click availability to auto-fill booking form
      * - Validation to ensure trainer is available before booking
      * 
-     * @return JPanel containing the PT sessions interface
+     * @return the PT sessions panel, whose refresh reloads the dropdowns, availability and sessions
      */
-    private JPanel createPTSessionsPanel() {
+    private DashboardCards.Card createPTSessionsPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -728,24 +732,6 @@ public class MemberDashboard extends JFrame {
         roomCombo.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
         java.util.Map<String, Room> roomMap = new java.util.HashMap<>();
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            List<Trainer> trainers = session.createQuery("FROM Trainer", Trainer.class).getResultList();
-            for (Trainer t : trainers) {
-                String display = t.getFirstName() + " " + t.getLastName() + " (" + t.getSpecialization() + ")";
-                trainerCombo.addItem(display);
-                trainerMap.put(display, t);
-            }
-
-            List<Room> rooms = session.createQuery("FROM Room WHERE available = true", Room.class).getResultList();
-            for (Room r : rooms) {
-                String display = r.getName() + " (Cap: " + r.getCapacity() + ")";
-                roomCombo.addItem(display);
-                roomMap.put(display, r);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JTextField dateField = new JTextField("YYYY-MM-DD");
         dateField.setMaximumSize(new Dimension(Integer.MAX_VALUE, 35));
 
@@ -760,6 +746,10 @@ public class MemberDashboard extends JFrame {
         bookBtn.setForeground(Color.WHITE);
         bookBtn.setFocusPainted(false);
 
+        // Looks for any trainer who is free for the date and times entered
+        JButton findTrainerBtn = new JButton("Find Free Trainer");
+        findTrainerBtn.setFocusPainted(false);
+
         formCard.add(createFormLabel("Select Trainer"));
         formCard.add(trainerCombo);
         formCard.add(Box.createVerticalStrut(10));
@@ -776,6 +766,8 @@ public class MemberDashboard extends JFrame {
         formCard.add(endTimeField);
         formCard.add(Box.createVerticalStrut(15));
         formCard.add(bookBtn);
+        formCard.add(Box.createVerticalStrut(10));
+        formCard.add(findTrainerBtn);
 
         // Middle: Trainer Availability Display
         // This panel shows available time slots for the selected trainer
@@ -805,90 +797,72 @@ public class MemberDashboard extends JFrame {
 
         /**
          * Method to update availability display
-         * Queries the database for available time slots for the selected trainer
-         * and filters out slots that are already booked
+         * Shows the free parts of the selected trainer's available time slots,
+         * leaving out whatever is already booked. The slots are computed in the background;
+         * only the result of the latest selection is shown
          */
+        int[] availabilityGeneration = {0};
         Runnable updateAvailability = () -> {
-            availModel.setRowCount(0);
+            int generation = ++availabilityGeneration[0];
             String selectedTrainerDisplay = (String) trainerCombo.getSelectedItem();
-            if (selectedTrainerDisplay == null) {
-                return;
-            }
-
-            Trainer selectedTrainer = trainerMap.get(selectedTrainerDisplay);
+            Trainer selectedTrainer = selectedTrainerDisplay != null ? trainerMap.get(selectedTrainerDisplay) : null;
             if (selectedTrainer == null) {
+                availModel.setRowCount(0);
                 return;
             }
 
-            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                // Get available slots for the next 14 days
+            cards.loads("PT Sessions").load(() -> {
+                // Free time for the next 14 days: "Available" slots minus the sessions and classes already booked
                 // This provides a reasonable window for booking ahead
                 LocalDate today = LocalDate.now();
-                LocalDate endDate = today.plusDays(14);
-
-                // Query availability table for slots marked as "Available"
-                Query<Availability> query = session.createQuery(
-                        "FROM Availability a " +
-                        "WHERE a.trainer = :trainer " +
-                        "AND a.date >= :startDate " +
-                        "AND a.date <= :endDate " +
-                        "AND a.status = 'Available' " +
-                        "ORDER BY a.date ASC, a.startTime ASC",
-                        Availability.class
-                );
-                query.setParameter("trainer", selectedTrainer);
-                query.setParameter("startDate", today);
-                query.setParameter("endDate", endDate);
-
-                List<Availability> availabilities = query.getResultList();
-
-                // Filter out slots that are already booked
-                // Even if a slot is marked "Available", it might be booked by another member
-                for (Availability avail : availabilities) {
-                    // Convert availability slot to LocalDateTime for comparison
-                    LocalDateTime slotStart = avail.getDate().atTime(avail.getStartTime());
-                    LocalDateTime slotEnd = avail.getDate().atTime(avail.getEndTime());
-                    
-                    // Check if any PT sessions overlap with this availability slot
-                    Query<PTSession> sessionQuery = session.createQuery(
-                            "FROM PTSession s " +
-                            "WHERE s.trainer = :trainer " +
-                            "AND s.startTime < :slotEnd " +
-                            "AND s.endTime > :slotStart",
-                            PTSession.class
-                    );
-                    sessionQuery.setParameter("trainer", selectedTrainer);
-                    sessionQuery.setParameter("slotStart", slotStart);
-                    sessionQuery.setParameter("slotEnd", slotEnd);
-
-                    List<PTSession> conflictingSessions = sessionQuery.getResultList();
-
-                    // Only show slots that have no conflicts (truly available)
-                    if (conflictingSessions.isEmpty()) {
-                        // Format time slot for display (e.g., "09:00 - 17:00")
-                        String timeSlot = avail.getStartTime().format(DateTimeFormatter.ofPattern("HH:mm")) +
-                                        " - " + avail.getEndTime().format(DateTimeFormatter.ofPattern("HH:mm"));
-                        // Add to table
-                        availModel.addRow(new Object[]{
-                                avail.getDate().toString(),
-                                timeSlot,
-                                "Available"
-                        });
-                    }
+                AvailabilityEngine availability = new AvailabilityEngine(HibernateUtil.getSessionFactory(),
+                        HibernateUtil.getBookingIndex());
+                DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HH:mm");
+                List<Object[]> rows = new java.util.ArrayList<>();
+
+                for (TrainerSlot slot : availability.freeSlots(selectedTrainer, today, today.plusDays(14))) {
+                    // Format time slot for display (e.g., "09:00 - 17:00")
+                    String timeSlot = slot.start().format(timeFormat) + " - " + slot.end().format(timeFormat);
+                    rows.add(new Object[]{
+                            slot.start().toLocalDate().toString(),
+                            timeSlot,
+                            "Available"
+                    });
                 }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+                return rows;
+            }, rows -> {
+                if (generation == availabilityGeneration[0]) {
+                    TableRows.replace(availModel, rows);
+                }
+            });
         };
 
         // Update availability display when trainer selection changes
         // This ensures the table shows availability for the newly selected trainer
-        trainerCombo.addActionListener(e -> updateAvailability.run());
+        boolean[] refillingChoices = {false};
+        trainerCombo.addActionListener(e -> {
+            if (!refillingChoices[0]) updateAvailability.run();
+        });
 
         // Update availability when date field changes
         // This allows filtering by specific date if needed
         dateField.addActionListener(e -> updateAvailability.run());
 
+        // Refills the trainer and room dropdowns, keeping the selections, then shows the selected trainer's
+        // availability once (not for every item added)
+        Consumer<BookingChoices> showChoices = choices -> {
+            refillingChoices[0] = true;
+            try {
+                ComboItems.replace(trainerCombo, trainerMap, choices.trainers(),
+                        t -> t.getFirstName() + " " + t.getLastName() + " (" + t.getSpecialization() + ")");
+                ComboItems.replace(roomCombo, roomMap, choices.rooms(),
+                        r -> r.getName() + " (Cap: " + r.getCapacity() + ")");
+            } finally {
+                refillingChoices[0] = false;
+            }
+            updateAvailability.run();
+        };
+
         // Allow double-clicking on availability table to auto-fill the booking form
         // This improves user experience by reducing manual data entry
         availabilityTable.addMouseListener(new java.awt.event.MouseAdapter() {
@@ -916,30 +890,46 @@ public class MemberDashboard extends JFrame {
         String[] columns = {"Date", "Time", "Trainer", "Room", "Status"};
         DefaultTableModel model = new DefaultTableModel(columns, 0);
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<PTSession> query = session.createQuery(
-                    "FROM PTSession WHERE member = :member ORDER BY startTime DESC",
-                    PTSession.class
-            );
-            query.setParameter("member", member);
-            List<PTSession> sessions = query.getResultList();
+        JTable sessionsTable = new JTable(model);
+        sessionsTable.setRowHeight(30);
 
-            for (PTSession s : sessions) {
-                model.addRow(new Object[]{
-                        s.getStartTime().toLocalDate().toString(),
-                        s.getStartTime().toLocalTime() + " - " + s.getEndTime().toLocalTime(),
-                        s.getTrainer().getFirstName() + " " + s.getTrainer().getLastName(),
-                        s.getRoom().getName(),
-                        s.getStatus()
-                });
+        PanelLoader.Section sessionsSection = PanelLoader.section(new JScrollPane(sessionsTable));
+        sessionsCard.add(sessionsSection, BorderLayout.CENTER);
+
+        findTrainerBtn.addActionListener(e -> {
+            LocalDateTime startTime;
+            LocalDateTime endTime;
+            try {
+                LocalDate date = LocalDate.parse(dateField.getText().trim());
+                String[] startParts = startTimeField.getText().trim().split(":");
+                String[] endParts = endTimeField.getText().trim().split(":");
+
+                startTime = date.atTime(Integer.parseInt(startParts[0]), Integer.parseInt(startParts[1]));
+                endTime = date.atTime(Integer.parseInt(endParts[0]), Integer.parseInt(endParts[1]));
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(this, "Enter a date (YYYY-MM-DD) and start/end times (HH:MM) first.");
+                return;
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
 
-        JTable sessionsTable = new JTable(model);
-        sessionsTable.setRowHeight(30);
-        sessionsCard.add(new JScrollPane(sessionsTable), BorderLayout.CENTER);
+            PanelLoader.action(findTrainerBtn, () -> new AvailabilityEngine(HibernateUtil.getSessionFactory(),
+                    HibernateUtil.getBookingIndex()).trainersFreeFor(startTime, endTime), freeTrainerIds -> {
+                List<String> freeTrainers = new java.util.ArrayList<>();
+                for (int i = 0; i < trainerCombo.getItemCount(); i++) {
+                    String display = trainerCombo.getItemAt(i);
+                    if (freeTrainerIds.contains(trainerMap.get(display).getTrainerId())) {
+                        freeTrainers.add(display);
+                    }
+                }
+
+                if (freeTrainers.isEmpty()) {
+                    JOptionPane.showMessageDialog(this, "No trainer is free for the whole of that time.");
+                    return;
+                }
+                // Selecting the trainer also refreshes the availability table
+                trainerCombo.setSelectedItem(freeTrainers.get(0));
+                JOptionPane.showMessageDialog(this, "Free at that time:\n" + String.join("\n", freeTrainers));
+            }, ex -> JOptionPane.showMessageDialog(this, "Error finding a free trainer: " + PanelLoader.message(ex)));
+        });
 
         bookBtn.addActionListener(e -> {
             try {
@@ -961,82 +951,48 @@ public class MemberDashboard extends JFrame {
                 LocalDateTime startTime = date.atTime(Integer.parseInt(startParts[0]), Integer.parseInt(startParts[1]));
                 LocalDateTime endTime = date.atTime(Integer.parseInt(endParts[0]), Integer.parseInt(endParts[1]));
 
-                // Validate trainer availability before booking
-                // This ensures members can only book when trainers are actually available
-                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                    // Step 1: Check if trainer has an availability slot that covers the requested time
-                    // The slot must be marked as "Available" and must fully contain the requested time
-                    LocalTime requestedStartTime = startTime.toLocalTime();
-                    LocalTime requestedEndTime = endTime.toLocalTime();
-                    
-                    Query<Availability> availabilityQuery = session.createQuery(
-                            "FROM Availability a " +
-                            "WHERE a.trainer = :trainer " +
-                            "AND a.date = :date " +
-                            "AND a.startTime <= :requestedStart " +
-                            "AND a.endTime >= :requestedEnd " +
-                            "AND a.status = 'Available'",
-                            Availability.class
-                    );
-                    availabilityQuery.setParameter("trainer", selectedTrainer);
-                    availabilityQuery.setParameter("date", date);
-                    availabilityQuery.setParameter("requestedStart", requestedStartTime);
-                    availabilityQuery.setParameter("requestedEnd", requestedEndTime);
-                    
-                    List<Availability> availableSlots = availabilityQuery.getResultList();
-                    
-                    // If no availability slot found, reject the booking
-                    if (availableSlots.isEmpty()) {
-                        JOptionPane.showMessageDialog(this, 
-                            "Trainer is not available at this time slot. Please check trainer availability.");
-                        return;
-                    }
-                    
-                    // Step 2: Check for conflicts with existing PT sessions
-                    // Even if availability exists, the slot might already be booked
-                    Query<PTSession> conflictQuery = session.createQuery(
-                            "FROM PTSession WHERE trainer = :trainer AND startTime < :end AND endTime > :start",
-                            PTSession.class
-                    );
-                    conflictQuery.setParameter("trainer", selectedTrainer);
-                    conflictQuery.setParameter("start", startTime);
-                    conflictQuery.setParameter("end", endTime);
-
-                    if (!conflictQuery.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Trainer already has a session booked at this time!");
-                        return;
+                PTSession ptSession = new PTSession();
+                ptSession.setMember(member);
+                ptSession.setTrainer(selectedTrainer);
+                ptSession.setRoom(selectedRoom);
+                ptSession.setStartTime(startTime);
+                ptSession.setEndTime(endTime);
+                ptSession.setStatus("Scheduled");
+
+                // Checked and booked in the background; the result is the reason it could not be booked, or null
+                PanelLoader.action(bookBtn, () -> {
+                    // Validate trainer availability before booking
+                    // This ensures members can only book when trainers are actually available:
+                    // the requested time must lie within the trainer's free time,
+                    // covered by "Available" slots and clear of existing PT sessions and classes
+                    BookingIndex bookings = HibernateUtil.getBookingIndex();
+                    AvailabilityEngine availability = new AvailabilityEngine(HibernateUtil.getSessionFactory(), bookings);
+                    if (!availability.isFree(selectedTrainer, startTime, endTime)) {
+                        return bookings.isTrainerFree(selectedTrainer, startTime, endTime, null)
+                                ? "Trainer is not available at this time slot. Please check trainer availability."
+                                : "Trainer already has a session booked at this time!";
                     }
 
                     // Check room conflicts
-                    Query<PTSession> roomConflict = session.createQuery(
-                            "FROM PTSession WHERE room = :room AND startTime < :end AND endTime > :start",
-                            PTSession.class
-                    );
-                    roomConflict.setParameter("room", selectedRoom);
-                    roomConflict.setParameter("start", startTime);
-                    roomConflict.setParameter("end", endTime);
-
-                    if (!roomConflict.getResultList().isEmpty()) {
-                        JOptionPane.showMessageDialog(this, "Room is already booked at this time!");
-                        return;
+                    if (!bookings.isRoomFree(selectedRoom, startTime, endTime, null)) {
+                        return "Room is already booked at this time!";
                     }
 
-                    session.beginTransaction();
-
-                    PTSession ptSession = new PTSession();
-                    ptSession.setMember(member);
-                    ptSession.setTrainer(selectedTrainer);
-                    ptSession.setRoom(selectedRoom);
-                    ptSession.setStartTime(startTime);
-                    ptSession.setEndTime(endTime);
-                    ptSession.setStatus("Scheduled");
-
-                    session.persist(ptSession);
-                    session.getTransaction().commit();
-
+                    // The checks above use the in-memory index; the coordinator re-checks against the database
+                    // under the trainer and room locks, so a member booking the same slot at the same moment loses
+                    return switch (HibernateUtil.getBookingCoordinator().book(ptSession).outcome()) {
+                        case TRAINER_BUSY -> "Trainer already has a session booked at this time!";
+                        case ROOM_BUSY -> "Room is already booked at this time!";
+                        case BOOKED -> null;
+                    };
+                }, problem -> {
+                    if (problem != null) {
+                        JOptionPane.showMessageDialog(this, problem);
+                        return;
+                    }
                     JOptionPane.showMessageDialog(this, "PT Session booked successfully!");
-                    switchPanel("PT Sessions", selectedNavButton);
-                }
+                    cards.refresh("PT Sessions");
+                }, ex -> JOptionPane.showMessageDialog(this, "Error booking session: " + PanelLoader.message(ex)));
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(this, "Error booking session: " + ex.getMessage());
             }
@@ -1047,14 +1003,44 @@ public class MemberDashboard extends JFrame {
         content.add(sessionsCard);
         panel.add(content, BorderLayout.CENTER);
 
-        // Initial availability update
-        updateAvailability.run();
+        return new DashboardCards.Card(panel, loads -> {
+            // Fill the trainer and room dropdowns, then show the selected trainer's availability
+            loads.load(() -> {
+                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                    return new BookingChoices(ReferenceCache.trainers(session), ReferenceCache.availableRooms(session));
+                }
+            }, showChoices);
+            loads.into(sessionsSection, () -> loadSessionRows(HibernateUtil.getSessionFactory(), member), rows -> TableRows.replace(model, rows));
+        }, PTSession.class, Availability.class, Class.class, Trainer.class, Room.class);
+    }
+
+    // The member's PT sessions as table rows (background load)
+    static List<Object[]> loadSessionRows(SessionFactory sessionFactory, Member member) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<PTSession> query = session.createNamedQuery(QueryCatalog.PT_SESSION_BY_MEMBER, PTSession.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.PT_SESSION_BOOKING);
+            query.setParameter("member", member);
+            List<Object[]> rows = new java.util.ArrayList<>();
+
+            for (PTSession s : query.getResultList()) {
+                rows.add(new Object[]{
+                        s.getStartTime().toLocalDate().toString(),
+                        s.getStartTime().toLocalTime() + " - " + s.getEndTime().toLocalTime(),
+                        s.getTrainer().getFirstName() + " " + s.getTrainer().getLastName(),
+                        s.getRoom().getName(),
+                        s.getStatus()
+                });
+            }
+            return rows;
+        }
+    }
 
-        return panel;
+    // Trainers and rooms offered by the PT booking form
+    private record BookingChoices(List<Trainer> trainers, List<Room> rooms) {
     }
 
     // ==================== CLASSES PANEL ====================
-    private JPanel createClassesPanel() {
+    private DashboardCards.Card createClassesPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -1071,40 +1057,6 @@ public class MemberDashboard extends JFrame {
         DefaultTableModel model = new DefaultTableModel(columns, 0);
         java.util.Map<Integer, Class> classMap = new java.util.HashMap<>();
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Class> query = session.createQuery(
-                    "FROM Class WHERE schedule > :now ORDER BY schedule ASC",
-                    Class.class
-            );
-            query.setParameter("now", LocalDateTime.now());
-            List<Class> classes = query.getResultList();
-
-            int row = 0;
-            for (Class c : classes) {
-                // Check current enrollment
-                Query<Long> countQuery = session.createQuery(
-                        "SELECT COUNT(mc) FROM MemberClass mc WHERE mc.gymClass = :c",
-                        Long.class
-                );
-                countQuery.setParameter("c", c);
-                Long enrolled = countQuery.uniqueResult();
-
-                String capacityStr = enrolled + "/" + c.getCapacity();
-
-                model.addRow(new Object[]{
-                        c.getName(),
-                        c.getTrainer().getFirstName() + " " + c.getTrainer().getLastName(),
-                        c.getSchedule().format(DateTimeFormatter.ofPattern("MMM dd, HH:mm")),
-                        capacityStr,
-                        enrolled < c.getCapacity() ? "Register" : "Full"
-                });
-                classMap.put(row, c);
-                row++;
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
         JTable classTable = new JTable(model);
         classTable.setRowHeight(30);
 
@@ -1123,91 +1075,139 @@ public class MemberDashboard extends JFrame {
             Class selectedClass = classMap.get(selectedRow);
             if (selectedClass == null) return;
 
-            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                // Check if already registered
-                Query<MemberClass> checkQuery = session.createQuery(
-                        "FROM MemberClass WHERE member = :member AND gymClass = :gymClass",
-                        MemberClass.class
-                );
-                checkQuery.setParameter("member", member);
-                checkQuery.setParameter("gymClass", selectedClass);
-
-                if (checkQuery.uniqueResult() != null) {
-                    JOptionPane.showMessageDialog(this, "You are already registered for this class!");
-                    return;
-                }
-
-                // Check capacity
-                Query<Long> countQuery = session.createQuery(
-                        "SELECT COUNT(mc) FROM MemberClass mc WHERE mc.gymClass = :c",
-                        Long.class
-                );
-                countQuery.setParameter("c", selectedClass);
-                Long enrolled = countQuery.uniqueResult();
-
-                if (enrolled >= selectedClass.getCapacity()) {
-                    JOptionPane.showMessageDialog(this, "This class is full!");
-                    return;
-                }
-
-                session.beginTransaction();
+            // Register on the async service so the EDT never waits on the database
+            PanelLoader.action(registerBtn, () -> HibernateUtil.getClassEnrollment().enroll(member, selectedClass),
+                    outcome -> {
+                        switch (outcome.outcome()) {
+                            case ALREADY_ENROLLED ->
+                                    JOptionPane.showMessageDialog(this, "You are already registered for this class!");
+                            case FULL -> offerWaitlist(selectedClass, registerBtn);
+                            case ENROLLED -> {
+                                JOptionPane.showMessageDialog(this, "Successfully registered for " + selectedClass.getName() +
+                                        "! (" + outcome.seatsLeft() + " seats left)");
+                                refreshEnrollment();
+                            }
+                        }
+                    }, ex -> JOptionPane.showMessageDialog(this, "Error registering: " + PanelLoader.message(ex)));
+        });
 
-                MemberClass mc = new MemberClass();
-                mc.setMember(member);
-                mc.setGymClass(selectedClass);
+        PanelLoader.Section classSection = PanelLoader.section(new JScrollPane(classTable));
+        availableCard.add(classSection, BorderLayout.CENTER);
 
-                session.persist(mc);
-                session.getTransaction().commit();
+        // Fills the available classes table, keeping classMap in step with its rows
+        Consumer<List<Class>> showClasses = classes -> {
+            List<Object[]> rows = new java.util.ArrayList<>();
+            classMap.clear();
+            int row = 0;
+            for (Class c : classes) {
+                int enrolled = c.getEnrolledCount();
+                String capacityStr = enrolled + "/" + c.getCapacity();
 
-                JOptionPane.showMessageDialog(this, "Successfully registered for " + selectedClass.getName() + "!");
-                switchPanel("Classes", selectedNavButton);
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Error registering: " + ex.getMessage());
+                rows.add(new Object[]{
+                        c.getName(),
+                        c.getTrainer().getFirstName() + " " + c.getTrainer().getLastName(),
+                        c.getSchedule().format(DateTimeFormatter.ofPattern("MMM dd, HH:mm")),
+                        capacityStr,
+                        enrolled < c.getCapacity() ? "Register" : "Waitlist"
+                });
+                classMap.put(row, c);
+                row++;
             }
-        });
-
-        availableCard.add(new JScrollPane(classTable), BorderLayout.CENTER);
+            TableRows.replace(model, rows);
+        };
         availableCard.add(registerBtn, BorderLayout.SOUTH);
 
         // Right: My registered classes
         JPanel myClassesCard = createCard("My Registered Classes");
-        String[] myColumns = {"Class Name", "Trainer", "Schedule", "Room"};
+        String[] myColumns = {"Class Name", "Trainer", "Schedule", "Room", "Status"};
         DefaultTableModel myModel = new DefaultTableModel(myColumns, 0);
 
+        JTable myClassesTable = new JTable(myModel);
+        myClassesTable.setRowHeight(30);
+
+        PanelLoader.Section myClassesSection = PanelLoader.section(new JScrollPane(myClassesTable));
+        myClassesCard.add(myClassesSection, BorderLayout.CENTER);
+
+        content.add(availableCard);
+        content.add(myClassesCard);
+        panel.add(content, BorderLayout.CENTER);
+
+        return new DashboardCards.Card(panel, loads -> {
+            loads.into(classSection, this::loadUpcomingClasses, showClasses);
+            loads.into(myClassesSection, () -> loadMyClassRows(HibernateUtil.getSessionFactory(), member), rows -> TableRows.replace(myModel, rows));
+        }, Class.class, MemberClass.class);
+    }
+
+    private List<Class> loadUpcomingClasses() {
         try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<MemberClass> query = session.createQuery(
-                    "FROM MemberClass WHERE member = :member",
-                    MemberClass.class
-            );
+            Query<Class> query = session.createNamedQuery(QueryCatalog.CLASS_UPCOMING, Class.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.CLASS_LISTING);
+            query.setParameter("now", LocalDateTime.now());
+            return query.getResultList();
+        }
+    }
+
+    // The member's registered and waitlisted classes as table rows (background load)
+    static List<Object[]> loadMyClassRows(SessionFactory sessionFactory, Member member) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<ClassRow> query = session.createNamedQuery(QueryCatalog.MEMBER_CLASS_ROWS_BY_MEMBER, ClassRow.class);
             query.setParameter("member", member);
-            List<MemberClass> myClasses = query.getResultList();
+            List<Object[]> rows = new java.util.ArrayList<>();
+
+            for (ClassRow c : query.getResultList()) {
+                rows.add(new Object[]{
+                        c.name(),
+                        c.trainerName(),
+                        c.schedule().format(DateTimeFormatter.ofPattern("MMM dd, HH:mm")),
+                        c.roomName(),
+                        "Registered"
+                });
+            }
 
-            for (MemberClass mc : myClasses) {
-                Class c = mc.getGymClass();
-                myModel.addRow(new Object[]{
-                        c.getName(),
-                        c.getTrainer().getFirstName() + " " + c.getTrainer().getLastName(),
-                        c.getSchedule().format(DateTimeFormatter.ofPattern("MMM dd, HH:mm")),
-                        c.getRoom().getName()
+            Query<WaitlistRow> waitlistQuery = session.createNamedQuery(QueryCatalog.WAITLIST_ROWS_BY_MEMBER, WaitlistRow.class);
+            waitlistQuery.setParameter("member", member);
+            for (WaitlistRow w : waitlistQuery.getResultList()) {
+                rows.add(new Object[]{
+                        w.name(),
+                        w.trainerName(),
+                        w.schedule().format(DateTimeFormatter.ofPattern("MMM dd, HH:mm")),
+                        w.roomName(),
+                        "Waitlist #" + w.place()
                 });
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+            return rows;
         }
+    }
 
-        JTable myClassesTable = new JTable(myModel);
-        myClassesTable.setRowHeight(30);
-        myClassesCard.add(new JScrollPane(myClassesTable), BorderLayout.CENTER);
-
-        content.add(availableCard);
-        content.add(myClassesCard);
-        panel.add(content, BorderLayout.CENTER);
+    // Enrollment and waitlist writes are native SQL, which the change hub does not see
+    private void refreshEnrollment() {
+        cards.refresh("Classes");
+        cards.invalidate("Dashboard");
+    }
 
-        return panel;
+    // Offers a place on the waitlist of a full class; seats that free up later are filled from it automatically
+    private void offerWaitlist(Class selectedClass, JButton registerBtn) {
+        int choice = JOptionPane.showConfirmDialog(this,
+                "This class is full! Join the waitlist? You will be registered automatically when a seat frees up.",
+                "Class Full", JOptionPane.YES_NO_OPTION);
+        if (choice != JOptionPane.YES_OPTION) return;
+
+        PanelLoader.action(registerBtn, () -> HibernateUtil.getClassEnrollment().joinWaitlist(member, selectedClass),
+                result -> {
+                    switch (result.outcome()) {
+                        case ENROLLED -> JOptionPane.showMessageDialog(this, "A seat just freed up - successfully registered for " +
+                                selectedClass.getName() + "!");
+                        case ALREADY_ENROLLED ->
+                                JOptionPane.showMessageDialog(this, "You are already registered for this class!");
+                        default -> JOptionPane.showMessageDialog(this, "You are #" + result.place() +
+                                " on the waitlist for " + selectedClass.getName() + ".");
+                    }
+                    refreshEnrollment();
+                }, ex -> JOptionPane.showMessageDialog(this, "Error joining waitlist: " + PanelLoader.message(ex)));
     }
 
     // ==================== PROFILE PANEL ====================
-    private JPanel createProfilePanel() {
+    private DashboardCards.Card createProfilePanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -1260,21 +1260,20 @@ public class MemberDashboard extends JFrame {
         formCard.add(saveBtn);
 
         saveBtn.addActionListener(e -> {
-            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                session.beginTransaction();
-
-                member.setFirstName(firstNameField.getText().trim());
-                member.setLastName(lastNameField.getText().trim());
-                member.setPhoneNumber(phoneField.getText().trim());
-                member.setGender((String) genderCombo.getSelectedItem());
+            member.setFirstName(firstNameField.getText().trim());
+            member.setLastName(lastNameField.getText().trim());
+            member.setPhoneNumber(phoneField.getText().trim());
+            member.setGender((String) genderCombo.getSelectedItem());
 
-                session.merge(member);
-                session.getTransaction().commit();
-
-                JOptionPane.showMessageDialog(this, "Profile updated successfully!");
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Error updating profile: " + ex.getMessage());
-            }
+            PanelLoader.action(saveBtn, () -> {
+                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                    session.beginTransaction();
+                    session.merge(member);
+                    session.getTransaction().commit();
+                    return member;
+                }
+            }, saved -> JOptionPane.showMessageDialog(this, "Profile updated successfully!"),
+                    ex -> JOptionPane.showMessageDialog(this, "Error updating profile: " + PanelLoader.message(ex)));
         });
 
         JPanel wrapper = new JPanel(new BorderLayout());
@@ -1282,7 +1281,9 @@ public class MemberDashboard extends JFrame {
         wrapper.add(formCard, BorderLayout.NORTH);
         panel.add(wrapper, BorderLayout.CENTER);
 
-        return panel;
+        // Nothing to load: the form shows the member this window was opened for
+        return new DashboardCards.Card(panel, loads -> {
+        });
     }
 
     // ==================== HELPER METHODS ====================
@@ -1335,11 +1336,11 @@ public class MemberDashboard extends JFrame {
      * Creates a statistic card for the dashboard
      * 
      * @param title The card title (small text at top)
-     * @param main The main statistic value (large text)
-     * @param subtitle The subtitle/description (small text at bottom)
+     * @param m The label for the main statistic value (large text), updated once its data has loaded
+     * @param s The label for the subtitle/description (small text at bottom)
      * @return JPanel styled as a statistic card
      */
-    private JPanel statCard(String title, String main, String subtitle) {
+    private JPanel statCard(String title, JLabel m, JLabel s) {
         JPanel card = new JPanel();
         card.setBackground(Color.WHITE);
         card.setBorder(BorderFactory.createCompoundBorder(
@@ -1352,10 +1353,8 @@ public class MemberDashboard extends JFrame {
         t.setFont(new Font("Inter", Font.PLAIN, 12));
         t.setForeground(Color.GRAY);
 
-        JLabel m = new JLabel(main);
         m.setFont(new Font("Inter", Font.BOLD, 18));
 
-        JLabel s = new JLabel(subtitle);
         s.setFont(new Font("Inter", Font.PLAIN, 11));
         s.setForeground(Color.GRAY);
 
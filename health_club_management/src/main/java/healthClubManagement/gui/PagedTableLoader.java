@@ -0,0 +1,132 @@
+package healthClubManagement.gui;
+
+import healthClubManagement.db.Page;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Fills a table, or a dropdown's list, one keyset page at a time: the first page on start(), the next one whenever the user
+ * scrolls near the bottom. Each page is fetched as a load of the panel's current {@link PanelLoader.Loads},
+ * so it is counted and cancelled with the panel's other data, and appended on the EDT. After the rows have
+ * changed, refresh() fetches again just as many rows as are loaded, in one query, and hands them over to be
+ * merged into the table, so its scroll position and selection survive; reset() starts over from the first
+ * page instead, e.g. for a new search. A page cancelled by navigation is fetched again on the next scroll.
+ */
+public class PagedTableLoader<T, C> {
+
+    // Load the next page when the viewport is within this many pixels of the bottom
+    private static final int PREFETCH_MARGIN_PX = 200;
+
+    private final JScrollPane scrollPane;
+    private final Supplier<PanelLoader.Loads> loads;
+    private final BiFunction<C, Integer, Page<T, C>> fetchPage;
+    private final Consumer<T> addRow;
+    private final int pageSize;
+    private Runnable loaded = () -> {
+    };
+    private Consumer<Throwable> failed = error -> {
+    };
+
+    private C cursor;
+    private boolean hasMore = true;
+    private int loadedRows;
+    // The page being fetched, if any; reset() drops it so that a page still on its way from before is ignored
+    private Object fetching;
+
+    // loads supplies the owning panel's current loads, e.g. () -> cards.loads("Billing & Payment")
+    public PagedTableLoader(JScrollPane scrollPane, int pageSize, Supplier<PanelLoader.Loads> loads,
+                            BiFunction<C, Integer, Page<T, C>> fetchPage, Consumer<T> addRow) {
+        this.scrollPane = scrollPane;
+        this.pageSize = pageSize;
+        this.loads = loads;
+        this.fetchPage = fetchPage;
+        this.addRow = addRow;
+
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            if (!e.getValueIsAdjusting() && nearBottom()) {
+                loadNextPage();
+            }
+        });
+    }
+
+    // Callbacks on the EDT after each page has been appended, or has failed to load
+    public void onPage(Runnable loaded, Consumer<Throwable> failed) {
+        this.loaded = loaded;
+        this.failed = failed;
+    }
+
+    // True until the last page has been loaded
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    public void start() {
+        loadNextPage();
+    }
+
+    // Forgets the pages loaded so far and loads the first one again; the caller clears the table beforehand
+    public void reset() {
+        fetching = null;
+        cursor = null;
+        hasMore = true;
+        loadedRows = 0;
+        loadNextPage();
+    }
+
+    // Reloads the rows loaded so far (at least a page) from the top and passes them to replaceRows, e.g.
+    // model::replaceAll, which should merge them into the table; later pages still load on scroll
+    public void refresh(Consumer<List<T>> replaceRows) {
+        fetch(null, Math.max(pageSize, loadedRows), page -> {
+            replaceRows.accept(page.items());
+            loadedRows = page.items().size();
+        });
+    }
+
+    private boolean nearBottom() {
+        // Until the table is on screen the scroll bar has no size, and everything would look "near the bottom"
+        if (!scrollPane.isShowing()) return false;
+        JScrollBar bar = scrollPane.getVerticalScrollBar();
+        return bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - PREFETCH_MARGIN_PX;
+    }
+
+    private void loadNextPage() {
+        if (fetching != null || !hasMore) return;
+        fetch(cursor, pageSize, page -> {
+            page.items().forEach(addRow);
+            loadedRows += page.items().size();
+        });
+    }
+
+    // Fetches up to limit rows after the cursor; a fetch started later supersedes this one
+    private void fetch(C after, int limit, Consumer<Page<T, C>> show) {
+        Object fetch = new Object();
+        fetching = fetch;
+
+        PanelLoader.Loads panel = loads.get();
+        panel.load(() -> fetchPage.apply(after, limit), page -> {
+            if (fetching != fetch) return;
+            fetching = null;
+            show.accept(page);
+            cursor = page.nextCursor();
+            hasMore = page.hasNext();
+            loaded.run();
+            // A short first page may not fill the viewport, so no scroll event would ever fire
+            SwingUtilities.invokeLater(() -> {
+                if (nearBottom()) loadNextPage();
+            });
+        }, error -> {
+            if (fetching != fetch) return;
+            fetching = null;
+            hasMore = false;
+            failed.accept(error);
+        });
+        // Neither callback runs for a page cancelled by navigation; let the next scroll fetch it again
+        panel.whenSettled(() -> {
+            if (fetching == fetch) fetching = null;
+        });
+    }
+}
@@ -0,0 +1,252 @@
+package healthClubManagement.gui;
+
+import healthClubManagement.db.AsyncDataService;
+import healthClubManagement.db.HibernateUtil;
+import healthClubManagement.db.SqlStatementCounter;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps database work of the dashboards off the Event Dispatch Thread.
+ *
+ * A panel declares each piece of data it shows as a load (runs on {@link AsyncDataService}) and a render
+ * step (runs on the EDT with the loaded value). Until the first render has run, a section shows a skeleton
+ * in place of its content; later loads into it leave the old content on screen until the new data is in.
+ * A failed load shows the error and a Retry button instead. Loads belong to the panel that started them:
+ * reloading the panel, or navigating to another one before they finish, cancels them. Statements run by a
+ * panel's loads are counted by {@link SqlStatementCounter} under its screen name.
+ *
+ * One PanelLoader per dashboard window; all methods are for the EDT.
+ */
+public class PanelLoader implements AutoCloseable {
+
+    private final String role;
+    private final Map<String, Loads> panels = new HashMap<>();
+
+    public PanelLoader(String role) {
+        this.role = role;
+    }
+
+    // Starts a fresh set of loads for the named panel, cancelling any its previous reload still has running
+    public Loads begin(String panelName) {
+        Loads previous = panels.remove(panelName);
+        if (previous != null) previous.scope.close();
+        Loads loads = new Loads(role + " / " + panelName, HibernateUtil.getAsyncDataService().openScope());
+        panels.put(panelName, loads);
+        return loads;
+    }
+
+    // The panel's current set of loads, for data it reloads on user input (e.g. a changed filter)
+    public Loads loads(String panelName) {
+        Loads loads = panels.get(panelName);
+        return loads != null ? loads : begin(panelName);
+    }
+
+    // The named panel is now on screen: loads still running for any other panel are superseded
+    public void show(String panelName) {
+        EdtStallMonitor.label(role + " / " + panelName);
+        panels.entrySet().removeIf(entry -> {
+            if (entry.getKey().equals(panelName)) return false;
+            entry.getValue().scope.close();
+            return true;
+        });
+    }
+
+    @Override
+    public void close() {
+        panels.values().forEach(loads -> loads.scope.close());
+        panels.clear();
+    }
+
+    // Runs a button's database work off the EDT with the button disabled, then done (or failed) on the EDT.
+    // Not tied to a panel: a save that is under way is never cancelled by navigation.
+    public static <T> void action(JComponent trigger, Supplier<T> work, Consumer<T> done, Consumer<Throwable> failed) {
+        if (trigger != null) trigger.setEnabled(false);
+        HibernateUtil.getAsyncDataService().supply(work)
+                .whenCompleteAsync((result, error) -> {
+                    if (trigger != null) trigger.setEnabled(true);
+                    if (error == null) {
+                        done.accept(result);
+                    } else {
+                        failed.accept(unwrap(error));
+                    }
+                }, SwingUtilities::invokeLater);
+    }
+
+    // A placeholder for content whose data is loaded with Loads.into
+    public static Section section(JComponent content) {
+        return new Section(content);
+    }
+
+    // Message for an error dialog; never null
+    public static String message(Throwable error) {
+        return error.getMessage() != null ? error.getMessage() : error.toString();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    // The loads started by one reload of one panel
+    public static class Loads {
+
+        private final String screen;
+        private final AsyncDataService.Scope scope;
+        // EDT-confined
+        private int pending;
+        private boolean failed;
+        private final List<Runnable> settled = new ArrayList<>();
+
+        private Loads(String screen, AsyncDataService.Scope scope) {
+            this.screen = screen;
+            this.scope = scope;
+        }
+
+        // Loads data for a section; the section shows a skeleton until its first render has run
+        public <T> void into(Section section, Supplier<T> load, Consumer<T> render) {
+            start(section, load, render, null);
+        }
+
+        // For data whose components already show a placeholder of their own (e.g. a stat label reading "...")
+        public <T> void load(Supplier<T> load, Consumer<T> render) {
+            start(null, load, render, null);
+        }
+
+        public <T> void load(Supplier<T> load, Consumer<T> render, Consumer<Throwable> failed) {
+            start(null, load, render, failed);
+        }
+
+        // False once every load has rendered (or failed, or was cancelled)
+        public boolean isPending() {
+            return pending > 0;
+        }
+
+        // True if a load failed, so its data on screen is missing or out of date
+        public boolean hasFailed() {
+            return failed;
+        }
+
+        // Runs the callback (on the EDT) once no load is pending any more - right away if none is
+        public void whenSettled(Runnable callback) {
+            if (pending == 0) {
+                callback.run();
+            } else {
+                settled.add(callback);
+            }
+        }
+
+        private <T> void start(Section section, Supplier<T> load, Consumer<T> render, Consumer<Throwable> failed) {
+            if (section != null) section.showLoading();
+            pending++;
+            scope.supply(() -> {
+                Object[] value = new Object[1];
+                SqlStatementCounter.track(screen, () -> value[0] = load.get());
+                @SuppressWarnings("unchecked")
+                T result = (T) value[0];
+                return result;
+            }).whenCompleteAsync((value, error) -> {
+                try {
+                    finish(section, load, render, failed, value, error);
+                } finally {
+                    if (--pending == 0 && !settled.isEmpty()) {
+                        List<Runnable> callbacks = new ArrayList<>(settled);
+                        settled.clear();
+                        callbacks.forEach(Runnable::run);
+                    }
+                }
+            }, SwingUtilities::invokeLater);
+        }
+
+        private <T> void finish(Section section, Supplier<T> load, Consumer<T> render, Consumer<Throwable> failed,
+                                T value, Throwable error) {
+            Throwable failure = error != null ? unwrap(error) : null;
+            if (failure instanceof CancellationException) return;
+            if (failure == null) {
+                try {
+                    render.accept(value);
+                    if (section != null) section.showContent();
+                    return;
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+            this.failed = true;
+            failure.printStackTrace();
+            if (failed != null) failed.accept(failure);
+            if (section != null) section.showError(failure, () -> start(section, load, render, failed));
+        }
+    }
+
+    // Content, its skeleton and its error state, one shown at a time
+    public static class Section extends JPanel {
+
+        private final CardLayout cards = new CardLayout();
+        private final JLabel errorLabel = new JLabel();
+        private final JButton retryBtn = new JButton("Retry");
+        private Runnable retry;
+        private boolean rendered;
+
+        private Section(JComponent content) {
+            setLayout(cards);
+            setOpaque(false);
+
+            JPanel error = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 30));
+            error.setOpaque(false);
+            errorLabel.setForeground(new Color(0xB00020));
+            error.add(errorLabel);
+            error.add(retryBtn);
+            retryBtn.addActionListener(e -> {
+                if (retry != null) retry.run();
+            });
+
+            add(new Skeleton(), "loading");
+            add(content, "content");
+            add(error, "error");
+        }
+
+        // Content that has been rendered once stays up (with its scroll position) while it reloads
+        void showLoading() {
+            cards.show(this, rendered ? "content" : "loading");
+        }
+
+        void showContent() {
+            rendered = true;
+            cards.show(this, "content");
+        }
+
+        void showError(Throwable error, Runnable retry) {
+            this.retry = retry;
+            errorLabel.setText("Could not load: " + message(error));
+            cards.show(this, "error");
+        }
+    }
+
+    // Grey placeholder bars where rows of data will appear
+    private static class Skeleton extends JComponent {
+
+        private static final Color BAR = new Color(0xE4E6EB);
+        private static final int[] WIDTH_PERCENT = {90, 75, 82, 60, 70};
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setColor(BAR);
+            int y = 12;
+            for (int i = 0; y + 14 <= getHeight() && i < 12; i++, y += 28) {
+                int width = getWidth() * WIDTH_PERCENT[i % WIDTH_PERCENT.length] / 100;
+                g2.fillRoundRect(8, y, Math.max(width - 16, 0), 14, 8, 8);
+            }
+            g2.dispose();
+        }
+    }
+}
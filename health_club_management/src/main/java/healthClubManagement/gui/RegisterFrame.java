@@ -364,62 +364,68 @@ public class RegisterFrame extends JFrame {
             }
 
             // ========== SAVE TO DATABASE (HIBERNATE) ==========
-            // Create and persist the appropriate entity based on selected role
-            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                session.beginTransaction();
-
-                // Create Member entity
-                if (selectedRole.equals("Member")) {
-                    Member m = new Member();
-                    m.setFirstName(first.getText().trim());
-                    m.setLastName(last.getText().trim());
-                    m.setEmail(emailVal);
-                    m.setDateOfBirth(birth); // LocalDate
-                    m.setGender(genderCombo.getSelectedItem().toString());
-                    m.setPhoneNumber(phoneVal);
-                    m.setPassword(p1);
-                    session.persist(m);
-                }
-
-                // Create Trainer entity
-                if (selectedRole.equals("Trainer")) {
-                    Trainer t = new Trainer();
-                    t.setFirstName(first.getText().trim());
-                    t.setLastName(last.getText().trim());
-                    t.setEmail(emailVal);
-                    t.setSpecialization(specialityCombo.getSelectedItem().toString());
-                    t.setPassword(p1);
-                    session.persist(t);
-                }
+            // Create the appropriate entity based on selected role
+            Object account = null;
+
+            // Create Member entity
+            if (selectedRole.equals("Member")) {
+                Member m = new Member();
+                m.setFirstName(first.getText().trim());
+                m.setLastName(last.getText().trim());
+                m.setEmail(emailVal);
+                m.setDateOfBirth(birth); // LocalDate
+                m.setGender(genderCombo.getSelectedItem().toString());
+                m.setPhoneNumber(phoneVal);
+                m.setPassword(p1);
+                account = m;
+            }
 
-                // Create Admin entity
-                if (selectedRole.equals("Admin")) {
-                    Admin a = new Admin();
-                    a.setFirstName(first.getText().trim());
-                    a.setLastName(last.getText().trim());
-                    a.setEmail(emailVal);
-                    a.setRole("Admin");
-                    a.setPassword(p1);
-                    session.persist(a);
-                }
+            // Create Trainer entity
+            if (selectedRole.equals("Trainer")) {
+                Trainer t = new Trainer();
+                t.setFirstName(first.getText().trim());
+                t.setLastName(last.getText().trim());
+                t.setEmail(emailVal);
+                t.setSpecialization(specialityCombo.getSelectedItem().toString());
+                t.setPassword(p1);
+                account = t;
+            }
 
-                // Commit transaction to save to database
-                session.getTransaction().commit();
-            } catch (Exception ex) {
-                ex.printStackTrace();
-                error("Error while creating account: " + ex.getMessage());
-                return;
+            // Create Admin entity
+            if (selectedRole.equals("Admin")) {
+                Admin a = new Admin();
+                a.setFirstName(first.getText().trim());
+                a.setLastName(last.getText().trim());
+                a.setEmail(emailVal);
+                a.setRole("Admin");
+                a.setPassword(p1);
+                account = a;
             }
 
-            JOptionPane.showMessageDialog(
-                    this,
-                    "Account Created Successfully!\nPlease login.",
-                    "Success",
-                    JOptionPane.INFORMATION_MESSAGE
-            );
+            // Persist off the EDT; the window stays responsive while the insert commits
+            Object newAccount = account;
+            PanelLoader.action(createBtn, () -> {
+                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+                    session.beginTransaction();
+                    session.persist(newAccount);
+                    // Commit transaction to save to database
+                    session.getTransaction().commit();
+                    return newAccount;
+                }
+            }, saved -> {
+                JOptionPane.showMessageDialog(
+                        this,
+                        "Account Created Successfully!\nPlease login.",
+                        "Success",
+                        JOptionPane.INFORMATION_MESSAGE
+                );
 
-            dispose();
-            new LoginFrame().setVisible(true);
+                dispose();
+                new LoginFrame().setVisible(true);
+            }, ex -> {
+                ex.printStackTrace();
+                error("Error while creating account: " + PanelLoader.message(ex));
+            });
         });
 
         card.add(createBtn);
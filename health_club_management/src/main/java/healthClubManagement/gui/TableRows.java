@@ -0,0 +1,162 @@
+package healthClubManagement.gui;
+
+import javax.swing.table.DefaultTableModel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Brings a table model up to date with freshly loaded rows by changing only what differs, so a refresh
+ * keeps the table's selection, scroll position and column widths and repaints just the changed cells.
+ *
+ * Rows are matched by key, not by position: a row that is gone is deleted, a new one is inserted where it
+ * belongs, and a kept one has its changed cells set in place, each with its own row event. A row added at
+ * the top of a newest-first table is therefore one insert, and the selected row stays selected.
+ */
+public final class TableRows {
+
+    private TableRows() {
+    }
+
+    // The edits a table model offers for syncing, by row index
+    interface Editor<T> {
+        int size();
+
+        Object keyAt(int row);
+
+        boolean sameAt(int row, T fresh);
+
+        void remove(int row);
+
+        void insert(int at, T fresh);
+
+        void move(int from, int to);
+
+        void update(int row, T fresh);
+    }
+
+    // Rows are matched by all of their cells: a changed row is replaced by a delete and an insert
+    public static void replace(DefaultTableModel model, List<Object[]> rows) {
+        int columns = model.getColumnCount();
+        sync(new ModelEditor(model, row -> cells(model, row)), rows, fresh -> Arrays.asList(padded(fresh, columns)));
+    }
+
+    // Rows are matched by the value in keyColumn, e.g. an id: a changed row is updated in place
+    public static void replace(DefaultTableModel model, List<Object[]> rows, int keyColumn) {
+        sync(new ModelEditor(model, row -> model.getValueAt(row, keyColumn)), rows,
+                fresh -> keyColumn < fresh.length ? fresh[keyColumn] : null);
+    }
+
+    // Leaves the table holding exactly fresh, in its order. A key may repeat; it is kept as often as it occurs.
+    static <T> void sync(Editor<T> table, List<T> fresh, Function<? super T, ?> key) {
+        Map<Object, Integer> wanted = new HashMap<>();
+        for (T row : fresh) {
+            wanted.merge(key.apply(row), 1, Integer::sum);
+        }
+        for (int row = 0; row < table.size(); ) {
+            Object rowKey = table.keyAt(row);
+            int left = wanted.getOrDefault(rowKey, 0);
+            if (left > 0) {
+                wanted.put(rowKey, left - 1);
+                row++;
+            } else {
+                table.remove(row);
+            }
+        }
+
+        // Every row left is wanted somewhere; walk the fresh rows and bring each one to its place
+        for (int at = 0; at < fresh.size(); at++) {
+            T row = fresh.get(at);
+            Object rowKey = key.apply(row);
+            int from = indexOf(table, rowKey, at);
+            if (from < 0) {
+                table.insert(at, row);
+                continue;
+            }
+            if (from != at) {
+                table.move(from, at);
+            }
+            if (!table.sameAt(at, row)) {
+                table.update(at, row);
+            }
+        }
+    }
+
+    private static int indexOf(Editor<?> table, Object key, int from) {
+        for (int row = from; row < table.size(); row++) {
+            if (Objects.equals(table.keyAt(row), key)) return row;
+        }
+        return -1;
+    }
+
+    private static List<Object> cells(DefaultTableModel model, int row) {
+        Object[] cells = new Object[model.getColumnCount()];
+        for (int column = 0; column < cells.length; column++) {
+            cells[column] = model.getValueAt(row, column);
+        }
+        return Arrays.asList(cells);
+    }
+
+    // A loaded row may have fewer cells than the table has columns; the rest are empty
+    private static Object[] padded(Object[] row, int columns) {
+        return row.length == columns ? row : Arrays.copyOf(row, columns);
+    }
+
+    private static final class ModelEditor implements Editor<Object[]> {
+        private final DefaultTableModel model;
+        private final Function<Integer, Object> keyAt;
+
+        ModelEditor(DefaultTableModel model, Function<Integer, Object> keyAt) {
+            this.model = model;
+            this.keyAt = keyAt;
+        }
+
+        @Override
+        public int size() {
+            return model.getRowCount();
+        }
+
+        @Override
+        public Object keyAt(int row) {
+            return keyAt.apply(row);
+        }
+
+        @Override
+        public boolean sameAt(int row, Object[] fresh) {
+            for (int column = 0; column < model.getColumnCount(); column++) {
+                if (!Objects.equals(model.getValueAt(row, column), column < fresh.length ? fresh[column] : null)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void remove(int row) {
+            model.removeRow(row);
+        }
+
+        @Override
+        public void insert(int at, Object[] fresh) {
+            model.insertRow(at, padded(fresh, model.getColumnCount()));
+        }
+
+        @Override
+        public void move(int from, int to) {
+            model.moveRow(from, from, to);
+        }
+
+        @Override
+        public void update(int row, Object[] fresh) {
+            for (int column = 0; column < model.getColumnCount(); column++) {
+                Object value = column < fresh.length ? fresh[column] : null;
+                if (!Objects.equals(model.getValueAt(row, column), value)) {
+                    model.setValueAt(value, row, column);
+                }
+            }
+        }
+    }
+}
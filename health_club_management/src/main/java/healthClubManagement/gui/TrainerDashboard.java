@@ -3,6 +3,7 @@ package healthClubManagement.gui;
 import healthClubManagement.db.*;
 import healthClubManagement.db.Class;
 import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.hibernate.query.Query;
 
 import javax.swing.*;
@@ -12,13 +13,17 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class TrainerDashboard extends JFrame {
 
+    // Members fetched per scroll step in the member lookup
+    private static final int LOOKUP_PAGE_SIZE = 50;
+
     private final Trainer trainer;
-    private JPanel contentPanel;
-    private CardLayout cardLayout;
+    private DashboardCards cards;
     private JButton selectedNavButton;
 
     // Colors
@@ -106,16 +111,18 @@ public class TrainerDashboard extends JFrame {
         main.add(topBar, BorderLayout.NORTH);
 
         // --- CARD LAYOUT FOR CONTENT ---
-        cardLayout = new CardLayout();
-        contentPanel = new JPanel(cardLayout);
+        CardLayout cardLayout = new CardLayout();
+        JPanel contentPanel = new JPanel(cardLayout);
         contentPanel.setOpaque(false);
         contentPanel.setBorder(BorderFactory.createEmptyBorder(0, 25, 25, 25));
 
-        // Add all panels
-        contentPanel.add(createDashboardPanel(), "Dashboard");
-        contentPanel.add(createAvailabilityPanel(), "Set Availability");
-        contentPanel.add(createSchedulePanel(), "My Schedule");
-        contentPanel.add(createMemberLookupPanel(), "Member Lookup");
+        // Add all panels; each is built when first shown or prefetched once the first one is up
+        cards = new DashboardCards("Trainer", contentPanel, cardLayout);
+        cards.add("Dashboard", this::createDashboardPanel);
+        cards.add("Set Availability", this::createAvailabilityPanel);
+        cards.add("My Schedule", this::createSchedulePanel);
+        cards.add("Member Lookup", this::createMemberLookupPanel);
+        cards.show("Dashboard");
 
         main.add(contentPanel, BorderLayout.CENTER);
 
@@ -127,90 +134,40 @@ public class TrainerDashboard extends JFrame {
     }
 
     private void switchPanel(String panelName, JButton btn) {
-        cardLayout.show(contentPanel, panelName);
         if (btn != null) {
             resetNavButton(selectedNavButton);
             highlightNavButton(btn);
             selectedNavButton = btn;
         }
 
-        // Refresh the panel when switching
-        contentPanel.remove(contentPanel.getComponent(getComponentIndex(panelName)));
-        switch (panelName) {
-            case "Dashboard" -> contentPanel.add(createDashboardPanel(), "Dashboard", 0);
-            case "Set Availability" -> contentPanel.add(createAvailabilityPanel(), "Set Availability", 1);
-            case "My Schedule" -> contentPanel.add(createSchedulePanel(), "My Schedule", 2);
-            case "Member Lookup" -> contentPanel.add(createMemberLookupPanel(), "Member Lookup", 3);
-        }
-        cardLayout.show(contentPanel, panelName);
+        // Reloads the panel's data only if it may have changed since it was last shown
+        cards.show(panelName);
     }
 
-    private int getComponentIndex(String name) {
-        return switch (name) {
-            case "Dashboard" -> 0;
-            case "Set Availability" -> 1;
-            case "My Schedule" -> 2;
-            case "Member Lookup" -> 3;
-            default -> 0;
-        };
+    @Override
+    public void dispose() {
+        cards.close();
+        super.dispose();
     }
 
     // ==================== DASHBOARD PANEL ====================
-    private JPanel createDashboardPanel() {
+    private DashboardCards.Card createDashboardPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
-        // Fetch stats
-        int totalSessions = 0;
-        int upcomingSessions = 0;
-        int totalClasses = 0;
-        int totalAvailabilitySlots = 0;
-
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            // Total PT sessions
-            Query<Long> sessionsQuery = session.createQuery(
-                    "SELECT COUNT(s) FROM PTSession s WHERE s.trainer = :trainer",
-                    Long.class
-            );
-            sessionsQuery.setParameter("trainer", trainer);
-            totalSessions = sessionsQuery.uniqueResult().intValue();
-
-            // Upcoming PT sessions
-            Query<Long> upcomingQuery = session.createQuery(
-                    "SELECT COUNT(s) FROM PTSession s WHERE s.trainer = :trainer AND s.startTime > :now",
-                    Long.class
-            );
-            upcomingQuery.setParameter("trainer", trainer);
-            upcomingQuery.setParameter("now", java.time.LocalDateTime.now());
-            upcomingSessions = upcomingQuery.uniqueResult().intValue();
-
-            // Total classes
-            Query<Long> classesQuery = session.createQuery(
-                    "SELECT COUNT(c) FROM Class c WHERE c.trainer = :trainer",
-                    Long.class
-            );
-            classesQuery.setParameter("trainer", trainer);
-            totalClasses = classesQuery.uniqueResult().intValue();
-
-            // Availability slots
-            Query<Long> availQuery = session.createQuery(
-                    "SELECT COUNT(a) FROM Availability a WHERE a.trainer = :trainer",
-                    Long.class
-            );
-            availQuery.setParameter("trainer", trainer);
-            totalAvailabilitySlots = availQuery.uniqueResult().intValue();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        // Stats row
+        // Stats row: one aggregate query on the async service (none while the cached snapshot is fresh)
         JPanel statsRow = new JPanel(new GridLayout(1, 4, 15, 0));
         statsRow.setOpaque(false);
 
-        statsRow.add(statCard("Total PT Sessions", String.valueOf(totalSessions), "All time"));
-        statsRow.add(statCard("Upcoming Sessions", String.valueOf(upcomingSessions), "Scheduled"));
-        statsRow.add(statCard("Classes Teaching", String.valueOf(totalClasses), "Group classes"));
-        statsRow.add(statCard("Availability Slots", String.valueOf(totalAvailabilitySlots), "Set up"));
+        JLabel totalSessionsLabel = new JLabel("...");
+        JLabel upcomingSessionsLabel = new JLabel("...");
+        JLabel totalClassesLabel = new JLabel("...");
+        JLabel availabilitySlotsLabel = new JLabel("...");
+
+        statsRow.add(statCard("Total PT Sessions", totalSessionsLabel, "All time"));
+        statsRow.add(statCard("Upcoming Sessions", upcomingSessionsLabel, "Scheduled"));
+        statsRow.add(statCard("Classes Teaching", totalClassesLabel, "Group classes"));
+        statsRow.add(statCard("Availability Slots", availabilitySlotsLabel, "Set up"));
 
         panel.add(statsRow, BorderLayout.NORTH);
 
@@ -226,16 +183,53 @@ public class TrainerDashboard extends JFrame {
         scheduleText.setFont(new Font("Inter", Font.PLAIN, 13));
         scheduleText.setBackground(Color.WHITE);
 
+        PanelLoader.Section scheduleSection = PanelLoader.section(new JScrollPane(scheduleText));
+        todayCard.add(scheduleSection, BorderLayout.CENTER);
+
+        // Your availability today
+        JPanel availCard = createCard("Your Availability Today");
+        JTextArea availText = new JTextArea();
+        availText.setEditable(false);
+        availText.setFont(new Font("Inter", Font.PLAIN, 13));
+        availText.setBackground(Color.WHITE);
+
+        PanelLoader.Section availSection = PanelLoader.section(new JScrollPane(availText));
+        availCard.add(availSection, BorderLayout.CENTER);
+
+        middleRow.add(todayCard);
+        middleRow.add(availCard);
+
+        panel.add(middleRow, BorderLayout.CENTER);
+
+        return new DashboardCards.Card(panel, loads -> {
+            loads.load(() -> HibernateUtil.getDashboardStats().getTrainerStats(trainer),
+                    stats -> {
+                        totalSessionsLabel.setText(String.valueOf(stats.totalSessions()));
+                        upcomingSessionsLabel.setText(String.valueOf(stats.upcomingSessions()));
+                        totalClassesLabel.setText(String.valueOf(stats.totalClasses()));
+                        availabilitySlotsLabel.setText(String.valueOf(stats.availabilitySlots()));
+                    },
+                    error -> {
+                        for (JLabel label : List.of(totalSessionsLabel, upcomingSessionsLabel,
+                                totalClassesLabel, availabilitySlotsLabel)) {
+                            label.setText("-");
+                        }
+                    });
+            loads.into(scheduleSection, () -> loadTodaySchedule(HibernateUtil.getSessionFactory(), trainer), text -> setTextIfChanged(scheduleText, text));
+            loads.into(availSection, this::loadTodayAvailability, text -> setTextIfChanged(availText, text));
+        }, PTSession.class, Class.class, Availability.class);
+    }
+
+    // Today's PT sessions and classes as display text (background load)
+    static String loadTodaySchedule(SessionFactory sessionFactory, Trainer trainer) {
         StringBuilder scheduleBuilder = new StringBuilder();
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+        try (Session session = sessionFactory.openSession()) {
             // PT Sessions today
-            Query<PTSession> ptQuery = session.createQuery(
-                    "FROM PTSession WHERE trainer = :trainer AND CAST(startTime AS LocalDate) = :today ORDER BY startTime",
-                    PTSession.class
-            );
+            Query<PTSession> ptQuery = session.createNamedQuery(QueryCatalog.PT_SESSION_BY_TRAINER_ON_DATE, PTSession.class);
+            EntityGraphs.fetch(session, ptQuery, EntityGraphs.PT_SESSION_BOOKING);
             ptQuery.setParameter("trainer", trainer);
-            ptQuery.setParameter("today", LocalDate.now());
+            ptQuery.setParameter("date", LocalDate.now());
             List<PTSession> todaySessions = ptQuery.getResultList();
 
             if (!todaySessions.isEmpty()) {
@@ -250,12 +244,10 @@ public class TrainerDashboard extends JFrame {
             }
 
             // Classes today
-            Query<Class> classQuery = session.createQuery(
-                    "FROM Class WHERE trainer = :trainer AND CAST(schedule AS LocalDate) = :today ORDER BY schedule",
-                    Class.class
-            );
+            Query<Class> classQuery = session.createNamedQuery(QueryCatalog.CLASS_BY_TRAINER_ON_DATE, Class.class);
+            EntityGraphs.fetch(session, classQuery, EntityGraphs.CLASS_LISTING);
             classQuery.setParameter("trainer", trainer);
-            classQuery.setParameter("today", LocalDate.now());
+            classQuery.setParameter("date", LocalDate.now());
             List<Class> todayClasses = classQuery.getResultList();
 
             if (!todayClasses.isEmpty()) {
@@ -267,33 +259,22 @@ public class TrainerDashboard extends JFrame {
                             .append(" (Room: ").append(c.getRoom().getName()).append(")\n");
                 }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
 
         if (scheduleBuilder.length() == 0) {
             scheduleBuilder.append("No sessions or classes scheduled for today.");
         }
+        return scheduleBuilder.toString();
+    }
 
-        scheduleText.setText(scheduleBuilder.toString());
-        todayCard.add(new JScrollPane(scheduleText), BorderLayout.CENTER);
-
-        // Your availability today
-        JPanel availCard = createCard("Your Availability Today");
-        JTextArea availText = new JTextArea();
-        availText.setEditable(false);
-        availText.setFont(new Font("Inter", Font.PLAIN, 13));
-        availText.setBackground(Color.WHITE);
-
+    // Today's availability slots, then what is still unbooked this week, as display text (background load)
+    private String loadTodayAvailability() {
         StringBuilder availBuilder = new StringBuilder();
 
         try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Availability> availQuery = session.createQuery(
-                    "FROM Availability WHERE trainer = :trainer AND date = :today ORDER BY startTime",
-                    Availability.class
-            );
+            Query<Availability> availQuery = session.createNamedQuery(QueryCatalog.AVAILABILITY_BY_TRAINER_ON_DATE, Availability.class);
             availQuery.setParameter("trainer", trainer);
-            availQuery.setParameter("today", LocalDate.now());
+            availQuery.setParameter("date", LocalDate.now());
             List<Availability> todayAvail = availQuery.getResultList();
 
             for (Availability a : todayAvail) {
@@ -301,23 +282,28 @@ public class TrainerDashboard extends JFrame {
                         .append(" - ").append(a.getEndTime().format(DateTimeFormatter.ofPattern("HH:mm")))
                         .append(" (").append(a.getStatus()).append(")\n");
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
 
         if (availBuilder.length() == 0) {
             availBuilder.append("No availability set for today.\nGo to 'Set Availability' to add slots.");
         }
 
-        availText.setText(availBuilder.toString());
-        availCard.add(new JScrollPane(availText), BorderLayout.CENTER);
-
-        middleRow.add(todayCard);
-        middleRow.add(availCard);
-
-        panel.add(middleRow, BorderLayout.CENTER);
-
-        return panel;
+        // What is still unbooked over the next seven days, from the free/busy calendar
+        DateTimeFormatter dayFormat = DateTimeFormatter.ofPattern("EEE dd MMM");
+        DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HH:mm");
+        availBuilder.append("\n\nFree (not booked) this week:\n");
+        HibernateUtil.getFreeBusyCalendar().trainerWeek(trainer, LocalDate.now()).forEach((day, free) -> {
+            if (free.isEmpty()) return;
+            availBuilder.append("• ").append(day.format(dayFormat)).append(": ");
+            List<TrainerSlot> runs = free.toSlots(trainer.getTrainerId(), day);
+            for (int i = 0; i < runs.size(); i++) {
+                if (i > 0) availBuilder.append(", ");
+                availBuilder.append(runs.get(i).start().format(timeFormat)).append("-")
+                        .append(runs.get(i).end().format(timeFormat));
+            }
+            availBuilder.append("\n");
+        });
+        return availBuilder.toString();
     }
 
     // ==================== SET AVAILABILITY PANEL ====================
@@ -328,9 +314,9 @@ public class TrainerDashboard extends JFrame {
      * - Create multiple availability slots at once for consecutive days
      * - Automatically skip dates with overlapping availability
      * 
-     * @return JPanel containing availability management interface
+     * @return the panel, whose refresh reloads the availability table
      */
-    private JPanel createAvailabilityPanel() {
+    private DashboardCards.Card createAvailabilityPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -417,73 +403,37 @@ public class TrainerDashboard extends JFrame {
                     return;
                 }
 
-                try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                    session.beginTransaction();
-                    
-                    int createdCount = 0;
-                    int skippedCount = 0;
-                    LocalDate currentDate = startDate;
-
-                    // Create availability for each day in the range
-                    while (!currentDate.isAfter(endDate)) {
-                        // Check for overlapping availability on this date
-                        Query<Availability> overlapQuery = session.createQuery(
-                                "FROM Availability WHERE trainer = :trainer AND date = :date " +
-                                        "AND startTime < :end AND endTime > :start",
-                                Availability.class
-                        );
-                        overlapQuery.setParameter("trainer", trainer);
-                        overlapQuery.setParameter("date", currentDate);
-                        overlapQuery.setParameter("start", startTime);
-                        overlapQuery.setParameter("end", endTime);
-
-                        if (overlapQuery.getResultList().isEmpty()) {
-                            // No overlap, create availability slot
-                            Availability availability = new Availability();
-                            availability.setTrainer(trainer);
-                            availability.setDate(currentDate);
-                            availability.setStartTime(startTime);
-                            availability.setEndTime(endTime);
-                            availability.setStatus(status);
-
-                            session.persist(availability);
-                            createdCount++;
-                        } else {
-                            // Overlap detected, skip this date
-                            skippedCount++;
-                        }
-
-                        // Move to next day
-                        currentDate = currentDate.plusDays(1);
-                    }
-
-                    session.getTransaction().commit();
-
-                    // Show summary message
-                    String message = "Availability saved successfully!\n\n" +
-                            "Created: " + createdCount + " slot(s)\n";
-                    if (skippedCount > 0) {
-                        message += "Skipped: " + skippedCount + " slot(s) (overlaps detected)";
-                    }
-                    JOptionPane.showMessageDialog(this, message);
-
-                    // Clear form
-                    startDateField.setText("YYYY-MM-DD");
-                    endDateField.setText("YYYY-MM-DD");
-                    startField.setText("HH:MM (e.g., 09:00)");
-                    endField.setText("HH:MM (e.g., 17:00)");
-                    statusCombo.setSelectedItem("Available");
-
-                    switchPanel("Set Availability", selectedNavButton);
-                }
+                PanelLoader.action(saveBtn, () -> saveAvailability(startDate, endDate, startTime, endTime, status),
+                        counts -> {
+                            int createdCount = counts[0];
+                            int skippedCount = counts[1];
+
+                            // Show summary message
+                            String message = "Availability saved successfully!\n\n" +
+                                    "Created: " + createdCount + " slot(s)\n";
+                            if (skippedCount > 0) {
+                                message += "Skipped: " + skippedCount + " slot(s) (overlaps detected)";
+                            }
+                            JOptionPane.showMessageDialog(this, message);
+
+                            // Clear form
+                            startDateField.setText("YYYY-MM-DD");
+                            endDateField.setText("YYYY-MM-DD");
+                            startField.setText("HH:MM (e.g., 09:00)");
+                            endField.setText("HH:MM (e.g., 17:00)");
+                            statusCombo.setSelectedItem("Available");
+
+                            cards.refresh("Set Availability");
+                        },
+                        error -> {
+                            JOptionPane.showMessageDialog(this, "Error saving availability: " + PanelLoader.message(error));
+                            error.printStackTrace();
+                        });
             } catch (DateTimeParseException ex) {
                 JOptionPane.showMessageDialog(this, 
                     "Invalid date/time format.\n" +
                     "Dates: YYYY-MM-DD format\n" +
                     "Times: HH:MM format (e.g., 09:00)");
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Error saving availability: " + ex.getMessage());
-                ex.printStackTrace();
             }
         });
 
@@ -492,39 +442,89 @@ public class TrainerDashboard extends JFrame {
         String[] columns = {"Date", "Start", "End", "Status"};
         DefaultTableModel model = new DefaultTableModel(columns, 0);
 
+        JTable availTable = new JTable(model);
+        availTable.setRowHeight(30);
+        PanelLoader.Section availSection = PanelLoader.section(new JScrollPane(availTable));
+        availCard.add(availSection, BorderLayout.CENTER);
+
+        content.add(formCard);
+        content.add(availCard);
+        panel.add(content, BorderLayout.CENTER);
+
+        return new DashboardCards.Card(panel,
+                loads -> loads.into(availSection, this::loadAvailabilityRows, rows -> TableRows.replace(model, rows)),
+                Availability.class);
+    }
+
+    // Every availability slot of the trainer as table rows (background load)
+    private List<Object[]> loadAvailabilityRows() {
+        List<Object[]> rows = new java.util.ArrayList<>();
         try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Availability> query = session.createQuery(
-                    "FROM Availability WHERE trainer = :trainer ORDER BY date ASC, startTime ASC",
-                    Availability.class
-            );
+            Query<Availability> query = session.createNamedQuery(QueryCatalog.AVAILABILITY_BY_TRAINER, Availability.class);
             query.setParameter("trainer", trainer);
             List<Availability> availabilities = query.getResultList();
 
             for (Availability a : availabilities) {
-                model.addRow(new Object[]{
+                rows.add(new Object[]{
                         a.getDate().toString(),
                         a.getStartTime().format(DateTimeFormatter.ofPattern("HH:mm")),
                         a.getEndTime().format(DateTimeFormatter.ofPattern("HH:mm")),
                         a.getStatus()
                 });
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
+        return rows;
+    }
 
-        JTable availTable = new JTable(model);
-        availTable.setRowHeight(30);
-        availCard.add(new JScrollPane(availTable), BorderLayout.CENTER);
+    // Creates a slot on every day of the range that has no overlapping one; returns {created, skipped}
+    private int[] saveAvailability(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime,
+                                   String status) {
+        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
+            session.beginTransaction();
+            
+            // One overlap query for the whole range; querying per day inside the loop
+            // would auto-flush the pending inserts and defeat JDBC batching
+            Set<LocalDate> overlappingDates = new HashSet<>(session.createNamedQuery(QueryCatalog.AVAILABILITY_OVERLAP_DATES, LocalDate.class)
+                    .setParameter("trainer", trainer)
+                    .setParameter("startDate", startDate)
+                    .setParameter("endDate", endDate)
+                    .setParameter("start", startTime)
+                    .setParameter("end", endTime)
+                    .getResultList());
+
+            int createdCount = 0;
+            int skippedCount = 0;
+            LocalDate currentDate = startDate;
+
+            // Create availability for each day in the range
+            while (!currentDate.isAfter(endDate)) {
+                if (!overlappingDates.contains(currentDate)) {
+                    // No overlap, create availability slot
+                    Availability availability = new Availability();
+                    availability.setTrainer(trainer);
+                    availability.setDate(currentDate);
+                    availability.setStartTime(startTime);
+                    availability.setEndTime(endTime);
+                    availability.setStatus(status);
+
+                    session.persist(availability);
+                    createdCount++;
+                } else {
+                    // Overlap detected, skip this date
+                    skippedCount++;
+                }
 
-        content.add(formCard);
-        content.add(availCard);
-        panel.add(content, BorderLayout.CENTER);
+                // Move to next day
+                currentDate = currentDate.plusDays(1);
+            }
 
-        return panel;
+            session.getTransaction().commit();
+            return new int[]{createdCount, skippedCount};
+        }
     }
 
     // ==================== MY SCHEDULE PANEL ====================
-    private JPanel createSchedulePanel() {
+    private DashboardCards.Card createSchedulePanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -537,82 +537,78 @@ public class TrainerDashboard extends JFrame {
 
         // Left: PT Sessions
         JPanel ptCard = createCard("PT Sessions");
-        String[] ptColumns = {"Date", "Time", "Member", "Room", "Status"};
-        DefaultTableModel ptModel = new DefaultTableModel(ptColumns, 0);
-
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<PTSession> query = session.createQuery(
-                    "FROM PTSession WHERE trainer = :trainer ORDER BY startTime ASC",
-                    PTSession.class
-            );
-            query.setParameter("trainer", trainer);
-            List<PTSession> sessions = query.getResultList();
-
-            for (PTSession s : sessions) {
-                ptModel.addRow(new Object[]{
-                        s.getStartTime().toLocalDate().toString(),
-                        s.getStartTime().toLocalTime().format(DateTimeFormatter.ofPattern("HH:mm")) + " - " +
-                                s.getEndTime().toLocalTime().format(DateTimeFormatter.ofPattern("HH:mm")),
-                        s.getMember().getFirstName() + " " + s.getMember().getLastName(),
-                        s.getRoom().getName(),
-                        s.getStatus()
-                });
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        // Start dates and times are kept as longs and formatted only when painted
+        ColumnTableModel<PTSessionRow> ptModel = new ColumnTableModel<PTSessionRow>()
+                .keyedBy(PTSessionRow::sessionId)
+                .longColumn("Date", s -> s.startTime().toLocalDate().toEpochDay(),
+                        (s, day) -> LocalDate.ofEpochDay(day).toString())
+                .longColumn("Time", s -> s.startTime().toLocalTime().toSecondOfDay(),
+                        (s, second) -> LocalTime.ofSecondOfDay(second).format(DateTimeFormatter.ofPattern("HH:mm")) +
+                                " - " + s.endTime().toLocalTime().format(DateTimeFormatter.ofPattern("HH:mm")))
+                .column("Member", PTSessionRow::memberName)
+                .column("Room", PTSessionRow::roomName)
+                .column("Status", PTSessionRow::status);
 
         JTable ptTable = new JTable(ptModel);
         ptTable.setRowHeight(30);
-        ptCard.add(new JScrollPane(ptTable), BorderLayout.CENTER);
+        ptModel.install(ptTable);
+        PanelLoader.Section ptSection = PanelLoader.section(new JScrollPane(ptTable));
+        ptCard.add(ptSection, BorderLayout.CENTER);
 
         // Right: Classes
         JPanel classCard = createCard("Classes");
         String[] classColumns = {"Date", "Time", "Class Name", "Room", "Capacity"};
         DefaultTableModel classModel = new DefaultTableModel(classColumns, 0);
 
-        try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-            Query<Class> query = session.createQuery(
-                    "FROM Class WHERE trainer = :trainer ORDER BY schedule ASC",
-                    Class.class
-            );
+        JTable classTable = new JTable(classModel);
+        classTable.setRowHeight(30);
+        PanelLoader.Section classSection = PanelLoader.section(new JScrollPane(classTable));
+        classCard.add(classSection, BorderLayout.CENTER);
+
+        content.add(ptCard);
+        content.add(classCard);
+        panel.add(content, BorderLayout.CENTER);
+
+        return new DashboardCards.Card(panel, loads -> {
+            loads.into(ptSection, () -> loadSessionRows(HibernateUtil.getSessionFactory(), trainer), ptModel::replaceAll);
+            loads.into(classSection, () -> loadClassRows(HibernateUtil.getSessionFactory(), trainer), rows -> TableRows.replace(classModel, rows));
+        }, PTSession.class, Class.class);
+    }
+
+    // The trainer's PT sessions, earliest first, as row records (background load)
+    static List<PTSessionRow> loadSessionRows(SessionFactory sessionFactory, Trainer trainer) {
+        try (Session session = sessionFactory.openSession()) {
+            Query<PTSessionRow> query = session.createNamedQuery(QueryCatalog.PT_SESSION_ROWS_BY_TRAINER,
+                    PTSessionRow.class);
+            query.setParameter("trainer", trainer);
+            return query.getResultList();
+        }
+    }
+
+    // The classes the trainer teaches as table rows (background load)
+    static List<Object[]> loadClassRows(SessionFactory sessionFactory, Trainer trainer) {
+        List<Object[]> rows = new java.util.ArrayList<>();
+        try (Session session = sessionFactory.openSession()) {
+            Query<Class> query = session.createNamedQuery(QueryCatalog.CLASS_BY_TRAINER, Class.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.CLASS_LISTING);
             query.setParameter("trainer", trainer);
             List<Class> classes = query.getResultList();
 
             for (Class c : classes) {
-                // Get current enrollment
-                Query<Long> countQuery = session.createQuery(
-                        "SELECT COUNT(mc) FROM MemberClass mc WHERE mc.gymClass = :c",
-                        Long.class
-                );
-                countQuery.setParameter("c", c);
-                Long enrolled = countQuery.uniqueResult();
-
-                classModel.addRow(new Object[]{
+                rows.add(new Object[]{
                         c.getSchedule().toLocalDate().toString(),
                         c.getSchedule().toLocalTime().format(DateTimeFormatter.ofPattern("HH:mm")),
                         c.getName(),
                         c.getRoom().getName(),
-                        enrolled + "/" + c.getCapacity()
+                        c.getEnrolledCount() + "/" + c.getCapacity()
                 });
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
-
-        JTable classTable = new JTable(classModel);
-        classTable.setRowHeight(30);
-        classCard.add(new JScrollPane(classTable), BorderLayout.CENTER);
-
-        content.add(ptCard);
-        content.add(classCard);
-        panel.add(content, BorderLayout.CENTER);
-
-        return panel;
+        return rows;
     }
 
     // ==================== MEMBER LOOKUP PANEL ====================
-    private JPanel createMemberLookupPanel() {
+    private DashboardCards.Card createMemberLookupPanel() {
         JPanel panel = new JPanel(new BorderLayout(20, 20));
         panel.setOpaque(false);
 
@@ -641,133 +637,150 @@ public class TrainerDashboard extends JFrame {
 
         content.add(searchPanel, BorderLayout.NORTH);
 
-        // Results area
+        // Left: one row per match, paged by member id as the user scrolls
         JPanel resultsCard = createCard("Search Results");
-        JTextArea resultArea = new JTextArea();
-        resultArea.setEditable(false);
-        resultArea.setFont(new Font("Inter", Font.PLAIN, 14));
-        resultArea.setBackground(Color.WHITE);
-        resultArea.setText("Enter a member name to search (case-insensitive).\n\n" +
-                "You can view:\n• Member profile information\n• Current fitness goals\n• Latest health metrics");
-
-        resultsCard.add(new JScrollPane(resultArea), BorderLayout.CENTER);
-        content.add(resultsCard, BorderLayout.CENTER);
+        ColumnTableModel<MemberMatch> model = new ColumnTableModel<MemberMatch>()
+                .column("Name", MemberMatch::name)
+                .column("Email", MemberMatch::email)
+                .longColumn("Goals", MemberMatch::goalCount, (m, count) -> Long.toString(count))
+                .column("Latest Metric", MemberMatch::latestMetric,
+                        java.util.Comparator.comparing(HealthMetricRow::timestamp,
+                                java.util.Comparator.nullsFirst(java.util.Comparator.naturalOrder())),
+                        metric -> metric.metricType() + ": " + metric.value());
+
+        JTable resultTable = new JTable(model);
+        resultTable.setRowHeight(30);
+        resultTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        model.install(resultTable);
+        JScrollPane resultScroll = new JScrollPane(resultTable);
+
+        JLabel statusLabel = new JLabel("Enter a member name to search (case-insensitive).");
+        statusLabel.setFont(new Font("Inter", Font.PLAIN, 12));
+        statusLabel.setForeground(Color.GRAY);
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(8, 0, 0, 0));
+
+        resultsCard.add(resultScroll, BorderLayout.CENTER);
+        resultsCard.add(statusLabel, BorderLayout.SOUTH);
+
+        // Right: profile, goals, recent metrics and activity of the selected member only
+        JPanel detailCard = createCard("Member Details");
+        JTextArea detailArea = new JTextArea();
+        detailArea.setEditable(false);
+        detailArea.setFont(new Font("Inter", Font.PLAIN, 14));
+        detailArea.setBackground(Color.WHITE);
+        String detailHint = "Select a member to view:\n• Member profile information\n• Current fitness goals\n" +
+                "• Latest health metrics";
+        detailArea.setText(detailHint);
+        detailCard.add(new JScrollPane(detailArea), BorderLayout.CENTER);
+
+        JPanel results = new JPanel(new GridLayout(1, 2, 20, 0));
+        results.setOpaque(false);
+        results.add(resultsCard);
+        results.add(detailCard);
+        content.add(results, BorderLayout.CENTER);
+
+        MemberLookup lookup = new MemberLookup(HibernateUtil.getSessionFactory());
+        String[] searchTerm = {""};
+        PagedTableLoader<MemberMatch, Long> matches = new PagedTableLoader<>(resultScroll, LOOKUP_PAGE_SIZE,
+                () -> cards.loads("Member Lookup"), (after, pageSize) -> lookup.search(searchTerm[0], after, pageSize),
+                model::add);
+        matches.onPage(() -> statusLabel.setText(model.getRowCount() == 0
+                        ? "No members found matching '" + searchTerm[0] + "'"
+                        : model.getRowCount() + (matches.hasMore() ? "+" : "") + " member(s) found"),
+                error -> statusLabel.setText("Error searching: " + PanelLoader.message(error)));
 
         searchBtn.addActionListener(e -> {
             String name = searchField.getText().trim();
             if (name.isEmpty()) {
-                resultArea.setText("Please enter a name to search.");
+                statusLabel.setText("Please enter a name to search.");
                 return;
             }
 
-            //inputs query to search a member
-            try (Session session = HibernateUtil.getSessionFactory().openSession()) {
-                Query<Member> query = session.createQuery(
-                        "FROM Member WHERE LOWER(firstName) LIKE :name OR LOWER(lastName) LIKE :name",
-                        Member.class
-                );
-                query.setParameter("name", "%" + name.toLowerCase() + "%");
-                List<Member> members = query.getResultList();
-
-                if (members.isEmpty()) {
-                    resultArea.setText("No members found matching '" + name + "'");
-                    return;
-                }
+            searchTerm[0] = name;
+            statusLabel.setText("Searching...");
+            model.clear();
+            matches.reset();
+        });
 
-                StringBuilder result = new StringBuilder();
-                result.append("Found ").append(members.size()).append(" member(s):\n\n");
-
-                //uses MemberDAO getters and setters to show member data
-                for (Member m : members) {
-                    result.append("═══════════════════════════════════════════\n");
-                    result.append("📋 MEMBER PROFILE\n");
-                    result.append("═══════════════════════════════════════════\n");
-                    result.append("Name: ").append(m.getFirstName()).append(" ").append(m.getLastName()).append("\n");
-                    result.append("Email: ").append(m.getEmail()).append("\n");
-                    result.append("Phone: ").append(m.getPhoneNumber()).append("\n");
-                    result.append("Gender: ").append(m.getGender()).append("\n");
-                    result.append("Date of Birth: ").append(m.getDateOfBirth()).append("\n\n");
-
-                    // Get current fitness goals
-                    Query<FitnessGoal> goalQuery = session.createQuery(
-                            "FROM FitnessGoal WHERE member = :member ORDER BY deadline ASC",
-                            FitnessGoal.class
-                    );
-                    goalQuery.setParameter("member", m);
-                    List<FitnessGoal> goals = goalQuery.getResultList();
-
-                    result.append("🎯 FITNESS GOALS\n");
-                    result.append("───────────────────────────────────────────\n");
-                    if (goals.isEmpty()) {
-                        result.append("No fitness goals set.\n\n");
-                    } else {
-                        for (FitnessGoal g : goals) {
-                            result.append("• ").append(g.getGoalType()).append(": ") // gets it's fitness goal
-                                    .append(g.getValue()).append(" (Deadline: ")
-                                    .append(g.getDeadline()).append(")\n");
-                        }
-                        result.append("\n");
-                    }
-
-                    // Get latest health metrics
-                    Query<HealthMetric> metricQuery = session.createQuery(
-                            "FROM HealthMetric WHERE member = :member ORDER BY timestamp DESC",
-                            HealthMetric.class
-                    );
-                    metricQuery.setParameter("member", m);
-                    metricQuery.setMaxResults(5);
-                    List<HealthMetric> metrics = metricQuery.getResultList();
-
-                    result.append("📊 RECENT HEALTH METRICS\n");
-                    result.append("───────────────────────────────────────────\n");
-                    if (metrics.isEmpty()) {
-                        result.append("No health metrics recorded.\n\n");
-                    } else {
-                        for (HealthMetric metric : metrics) {
-                            result.append("• ").append(metric.getMetricType()).append(": ")
-                                    .append(metric.getValue()).append(" (")
-                                    .append(metric.getTimestamp().format(DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm")))
-                                    .append(")\n");
-                        }
-                        result.append("\n");
-                    }
-
-                    // Get class attendance
-                    Query<Long> classCount = session.createQuery(
-                            "SELECT COUNT(mc) FROM MemberClass mc WHERE mc.member = :member",
-                            Long.class
-                    );
-                    classCount.setParameter("member", m);
-                    Long classesRegistered = classCount.uniqueResult();
-
-                    // Get PT session count
-                    Query<Long> sessionCount = session.createQuery(
-                            "SELECT COUNT(s) FROM PTSession s WHERE s.member = :member",
-                            Long.class
-                    );
-                    sessionCount.setParameter("member", m);
-                    Long ptSessions = sessionCount.uniqueResult();
-
-                    result.append("📈 ACTIVITY SUMMARY\n");
-                    result.append("───────────────────────────────────────────\n");
-                    result.append("• Classes Registered: ").append(classesRegistered).append("\n");
-                    result.append("• PT Sessions (Total): ").append(ptSessions).append("\n\n");
+        // Allow Enter key to trigger search
+        searchField.addActionListener(e -> searchBtn.doClick());
+
+        // Details of the latest selection only; a slower load for an earlier selection is dropped
+        int[] detailGeneration = {0};
+        resultTable.getSelectionModel().addListSelectionListener(e -> {
+            if (e.getValueIsAdjusting()) return;
+            int generation = ++detailGeneration[0];
+            int selectedRow = resultTable.getSelectedRow();
+            if (selectedRow < 0) {
+                detailArea.setText(detailHint);
+                return;
+            }
+
+            Long memberId = model.getRow(selectedRow).memberId();
+            detailArea.setText("Loading...");
+            cards.loads("Member Lookup").load(() -> lookup.detail(memberId), detail -> {
+                if (generation != detailGeneration[0]) return;
+                detailArea.setText(detail != null ? formatMemberDetail(detail) : "This member no longer exists.");
+                detailArea.setCaretPosition(0);
+            }, error -> {
+                if (generation == detailGeneration[0]) {
+                    detailArea.setText("Error loading member: " + PanelLoader.message(error));
                 }
+            });
+        });
 
-                resultArea.setText(result.toString());
-                resultArea.setCaretPosition(0);
+        panel.add(content, BorderLayout.CENTER);
 
-            } catch (Exception ex) {
-                resultArea.setText("Error searching: " + ex.getMessage());
-            }
+        // Nothing to load: results come from the search button
+        return new DashboardCards.Card(panel, loads -> {
         });
+    }
 
-        // Allow Enter key to trigger search
-        searchField.addActionListener(e -> searchBtn.doClick());
+    // Profile, goals, recent metrics and activity of one member, as display text
+    private String formatMemberDetail(MemberDetail detail) {
+        Member m = detail.member();
+        StringBuilder result = new StringBuilder();
+        result.append("📋 MEMBER PROFILE\n");
+        result.append("───────────────────────────────────────────\n");
+        result.append("Name: ").append(m.getFirstName()).append(" ").append(m.getLastName()).append("\n");
+        result.append("Email: ").append(m.getEmail()).append("\n");
+        result.append("Phone: ").append(m.getPhoneNumber()).append("\n");
+        result.append("Gender: ").append(m.getGender()).append("\n");
+        result.append("Date of Birth: ").append(m.getDateOfBirth()).append("\n\n");
+
+        result.append("🎯 FITNESS GOALS\n");
+        result.append("───────────────────────────────────────────\n");
+        if (detail.goals().isEmpty()) {
+            result.append("No fitness goals set.\n\n");
+        } else {
+            for (FitnessGoal g : detail.goals()) {
+                result.append("• ").append(g.getGoalType()).append(": ")
+                        .append(g.getValue()).append(" (Deadline: ")
+                        .append(g.getDeadline()).append(")\n");
+            }
+            result.append("\n");
+        }
 
-        panel.add(content, BorderLayout.CENTER);
+        result.append("📊 RECENT HEALTH METRICS\n");
+        result.append("───────────────────────────────────────────\n");
+        if (detail.recentMetrics().isEmpty()) {
+            result.append("No health metrics recorded.\n\n");
+        } else {
+            for (HealthMetricRow metric : detail.recentMetrics()) {
+                result.append("• ").append(metric.metricType()).append(": ")
+                        .append(metric.value()).append(" (")
+                        .append(metric.timestamp() != null
+                                ? metric.timestamp().format(DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm")) : "")
+                        .append(")\n");
+            }
+            result.append("\n");
+        }
 
-        return panel;
+        result.append("📈 ACTIVITY SUMMARY\n");
+        result.append("───────────────────────────────────────────\n");
+        result.append("• Classes Registered: ").append(detail.classesRegistered()).append("\n");
+        result.append("• PT Sessions (Total): ").append(detail.ptSessions()).append("\n");
+        return result.toString();
     }
 
     // ==================== HELPER METHODS ====================
@@ -801,6 +814,10 @@ public class TrainerDashboard extends JFrame {
     }
 
     private JPanel statCard(String title, String main, String subtitle) {
+        return statCard(title, new JLabel(main), subtitle);
+    }
+
+    private JPanel statCard(String title, JLabel m, String subtitle) {
         JPanel card = new JPanel();
         card.setBackground(Color.WHITE);
         card.setBorder(BorderFactory.createCompoundBorder(
@@ -813,7 +830,6 @@ public class TrainerDashboard extends JFrame {
         t.setFont(new Font("Inter", Font.PLAIN, 12));
         t.setForeground(Color.GRAY);
 
-        JLabel m = new JLabel(main);
         m.setFont(new Font("Inter", Font.BOLD, 20));
 
         JLabel s = new JLabel(subtitle);
@@ -851,4 +867,12 @@ public class TrainerDashboard extends JFrame {
         label.setAlignmentX(Component.LEFT_ALIGNMENT);
         return label;
     }
+
+    // Setting the same text again would still reset the caret and scroll position
+    private static void setTextIfChanged(JTextArea area, String text) {
+        if (!text.equals(area.getText())) {
+            area.setText(text);
+            area.setCaretPosition(0);
+        }
+    }
 }
@@ -0,0 +1,106 @@
+-- Baseline schema. Matches what hbm2ddl.auto=update produced, so existing
+-- databases pass straight through (every statement is IF NOT EXISTS).
+
+CREATE TABLE IF NOT EXISTS Admin (
+    admin_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name varchar(50) NOT NULL,
+    last_name varchar(50) NOT NULL,
+    email varchar(100) NOT NULL UNIQUE,
+    role varchar(50) NOT NULL,
+    password varchar(100) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS Member (
+    member_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name varchar(255) NOT NULL,
+    last_name varchar(255) NOT NULL,
+    email varchar(255) NOT NULL UNIQUE,
+    date_of_birth date NOT NULL,
+    gender varchar(255),
+    phone_number varchar(255) NOT NULL,
+    password varchar(100) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS Trainer (
+    trainer_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name varchar(50) NOT NULL,
+    last_name varchar(50) NOT NULL,
+    email varchar(100) NOT NULL UNIQUE,
+    speciality varchar(100),
+    password varchar(100) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS Room (
+    room_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name varchar(100) NOT NULL,
+    capacity integer NOT NULL,
+    available boolean NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS Class (
+    class_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    trainer_id bigint NOT NULL REFERENCES Trainer (trainer_id),
+    room_id bigint NOT NULL REFERENCES Room (room_id),
+    name varchar(100) NOT NULL,
+    capacity integer NOT NULL,
+    schedule timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS MemberClass (
+    member_id bigint NOT NULL REFERENCES Member (member_id),
+    class_id bigint NOT NULL REFERENCES Class (class_id),
+    PRIMARY KEY (class_id, member_id)
+);
+
+CREATE TABLE IF NOT EXISTS PTSession (
+    session_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    trainer_id bigint NOT NULL REFERENCES Trainer (trainer_id),
+    room_id bigint NOT NULL REFERENCES Room (room_id),
+    member_id bigint NOT NULL REFERENCES Member (member_id),
+    start_time timestamp(6) NOT NULL,
+    end_time timestamp(6) NOT NULL,
+    status varchar(20) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS Availability (
+    available_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    trainer_id bigint NOT NULL REFERENCES Trainer (trainer_id),
+    date date NOT NULL,
+    start_time time(6) NOT NULL,
+    end_time time(6) NOT NULL,
+    status varchar(20) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS Billing (
+    bill_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    trainer_id bigint NOT NULL REFERENCES Trainer (trainer_id),
+    member_id bigint NOT NULL REFERENCES Member (member_id),
+    amount numeric(10, 2) NOT NULL,
+    payment_date date NOT NULL,
+    payment_status varchar(20) NOT NULL,
+    payment_method varchar(30) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS FitnessGoal (
+    goal_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id bigint REFERENCES Member (member_id),
+    goal_type varchar(255) NOT NULL,
+    value integer,
+    deadline date NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS HealthMetric (
+    metric_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id bigint REFERENCES Member (member_id),
+    metric_type varchar(255) NOT NULL,
+    value integer,
+    timestamp timestamp(6)
+);
+
+-- Indexes for the hot access paths (conflict checks, availability, history, billing)
+CREATE INDEX IF NOT EXISTS idx_ptsession_trainer_start ON PTSession (trainer_id, start_time);
+CREATE INDEX IF NOT EXISTS idx_ptsession_room_start ON PTSession (room_id, start_time);
+CREATE INDEX IF NOT EXISTS idx_availability_trainer_date ON Availability (trainer_id, date);
+CREATE INDEX IF NOT EXISTS idx_healthmetric_member_timestamp ON HealthMetric (member_id, timestamp);
+CREATE INDEX IF NOT EXISTS idx_billing_payment_status ON Billing (payment_status);
+CREATE INDEX IF NOT EXISTS idx_memberclass_class ON MemberClass (class_id);
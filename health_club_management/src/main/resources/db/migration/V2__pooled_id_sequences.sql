@@ -0,0 +1,26 @@
+-- Pooled sequences for entity ids (allocationSize = 50) so Hibernate can batch inserts.
+-- Each sequence continues after the current max id; existing rows keep their ids.
+-- Hibernate's pooled optimizer treats each nextval as the top of a block of 50 ids,
+-- so setval(max) makes the next block start at max + 1.
+
+CREATE SEQUENCE IF NOT EXISTS admin_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS member_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS trainer_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS room_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS class_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS ptsession_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS availability_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS billing_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS fitnessgoal_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS healthmetric_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('admin_seq', GREATEST(COALESCE((SELECT MAX(admin_id) FROM Admin), 0), 1));
+SELECT setval('member_seq', GREATEST(COALESCE((SELECT MAX(member_id) FROM Member), 0), 1));
+SELECT setval('trainer_seq', GREATEST(COALESCE((SELECT MAX(trainer_id) FROM Trainer), 0), 1));
+SELECT setval('room_seq', GREATEST(COALESCE((SELECT MAX(room_id) FROM Room), 0), 1));
+SELECT setval('class_seq', GREATEST(COALESCE((SELECT MAX(class_id) FROM Class), 0), 1));
+SELECT setval('ptsession_seq', GREATEST(COALESCE((SELECT MAX(session_id) FROM PTSession), 0), 1));
+SELECT setval('availability_seq', GREATEST(COALESCE((SELECT MAX(available_id) FROM Availability), 0), 1));
+SELECT setval('billing_seq', GREATEST(COALESCE((SELECT MAX(bill_id) FROM Billing), 0), 1));
+SELECT setval('fitnessgoal_seq', GREATEST(COALESCE((SELECT MAX(goal_id) FROM FitnessGoal), 0), 1));
+SELECT setval('healthmetric_seq', GREATEST(COALESCE((SELECT MAX(metric_id) FROM HealthMetric), 0), 1));
@@ -0,0 +1,5 @@
+-- Indexes matching the keyset pagination order (BillingDAO.getBillingPage, PTSessionDAO.getSessionsPage).
+-- Postgres scans the billing index backwards for the newest-first listing.
+
+CREATE INDEX IF NOT EXISTS idx_billing_payment_date_id ON Billing (payment_date, bill_id);
+CREATE INDEX IF NOT EXISTS idx_ptsession_start_id ON PTSession (start_time, session_id);
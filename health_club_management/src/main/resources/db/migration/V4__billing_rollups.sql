@@ -0,0 +1,39 @@
+-- Daily and monthly billing totals per status, trainer and payment method.
+-- Kept current by BillingRollup (Hibernate insert/update/delete listener on Billing) in the same
+-- transaction as the bill itself; BillingRollup.rebuild() recomputes both from Billing.
+-- month is the first day of the month.
+
+CREATE TABLE IF NOT EXISTS BillingDailyRollup (
+    day date NOT NULL,
+    payment_status varchar(20) NOT NULL,
+    trainer_id bigint NOT NULL,
+    payment_method varchar(30) NOT NULL,
+    bill_count bigint NOT NULL,
+    total_amount numeric(14, 2) NOT NULL,
+    PRIMARY KEY (day, payment_status, trainer_id, payment_method)
+);
+
+CREATE TABLE IF NOT EXISTS BillingMonthlyRollup (
+    month date NOT NULL,
+    payment_status varchar(20) NOT NULL,
+    trainer_id bigint NOT NULL,
+    payment_method varchar(30) NOT NULL,
+    bill_count bigint NOT NULL,
+    total_amount numeric(14, 2) NOT NULL,
+    PRIMARY KEY (month, payment_status, trainer_id, payment_method)
+);
+
+CREATE INDEX IF NOT EXISTS idx_billing_monthly_rollup_status ON BillingMonthlyRollup (payment_status);
+
+INSERT INTO BillingDailyRollup (day, payment_status, trainer_id, payment_method, bill_count, total_amount)
+SELECT payment_date, payment_status, trainer_id, payment_method, COUNT(*), SUM(amount)
+FROM Billing
+GROUP BY payment_date, payment_status, trainer_id, payment_method
+ON CONFLICT DO NOTHING;
+
+INSERT INTO BillingMonthlyRollup (month, payment_status, trainer_id, payment_method, bill_count, total_amount)
+SELECT CAST(date_trunc('month', payment_date) AS date), payment_status, trainer_id, payment_method,
+       COUNT(*), SUM(amount)
+FROM Billing
+GROUP BY 1, payment_status, trainer_id, payment_method
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,7 @@
+-- Seats taken per class, so enrolment can reserve a seat with one guarded UPDATE instead of COUNT(*) + INSERT.
+-- Kept current by ClassEnrollment: the sign-up statement increments it only while seats are left, and a
+-- Hibernate listener adjusts it for MemberClass rows added or removed through the DAOs.
+
+ALTER TABLE Class ADD COLUMN IF NOT EXISTS enrolled_count integer NOT NULL DEFAULT 0;
+
+UPDATE Class c SET enrolled_count = (SELECT COUNT(*) FROM MemberClass mc WHERE mc.class_id = c.class_id);
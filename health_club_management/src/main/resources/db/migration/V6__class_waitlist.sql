@@ -0,0 +1,14 @@
+-- FIFO waitlist per class. position is a per-class ticket number handed out while the class row is locked,
+-- so it only grows; a member's place in line is the number of entries at or before their position.
+-- Written only by ClassEnrollment, which promotes the head of the list whenever seats free up.
+
+CREATE TABLE IF NOT EXISTS ClassWaitlist (
+    class_id bigint NOT NULL REFERENCES Class (class_id) ON DELETE CASCADE,
+    member_id bigint NOT NULL REFERENCES Member (member_id) ON DELETE CASCADE,
+    position bigint NOT NULL,
+    joined_at timestamp NOT NULL,
+    PRIMARY KEY (class_id, member_id),
+    UNIQUE (class_id, position)
+);
+
+CREATE INDEX IF NOT EXISTS idx_class_waitlist_member ON ClassWaitlist (member_id);
@@ -0,0 +1,102 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Cancelling a call interrupts it only while it is queued for a permit; a call that has started runs on
+ * undisturbed, so the connection it is using survives.
+ */
+class AsyncDataServiceTest {
+
+    @Test
+    void runningCallIsNotInterrupted() throws Exception {
+        try (AsyncDataService service = new AsyncDataService(1, Duration.ofSeconds(10))) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch finished = new CountDownLatch(1);
+            AtomicBoolean interrupted = new AtomicBoolean();
+            CompletableFuture<Void> call = service.run(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                finished.countDown();
+            });
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            call.cancel(true);
+
+            assertTrue(finished.await(5, TimeUnit.SECONDS));
+            assertFalse(interrupted.get());
+        }
+    }
+
+    @Test
+    void callCancelledWhileQueuedNeverRuns() throws Exception {
+        try (AsyncDataService service = new AsyncDataService(1, Duration.ofSeconds(10))) {
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> holder = service.run(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            AtomicBoolean ran = new AtomicBoolean();
+            CompletableFuture<Void> queued = service.run(() -> ran.set(true));
+
+            queued.cancel(true);
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+
+            // The cancelled call gave its place back: the next one gets the only permit
+            assertEquals("next", service.supply(() -> "next").get(5, TimeUnit.SECONDS));
+            assertFalse(ran.get());
+        }
+    }
+
+    @Test
+    void cancelledQueryKeepsItsConnection() throws Exception {
+        assumeTrue(TestDatabase.isPostgres(), "needs -Dhealthclub.test.url");
+        SessionFactory sessionFactory = TestDatabase.open(Map.of(
+                "hibernate.hikari.maximumPoolSize", "1", "hibernate.hikari.minimumIdle", "1"));
+        try (AsyncDataService service = new AsyncDataService(1, Duration.ofSeconds(10))) {
+            int before = service.supply(() -> backendPid(sessionFactory)).get(5, TimeUnit.SECONDS);
+
+            CompletableFuture<Object> sleeping = service.supply(() -> {
+                try (Session session = sessionFactory.openSession()) {
+                    return session.createNativeQuery("SELECT pg_sleep(1)", Object.class).getSingleResult();
+                }
+            });
+            Thread.sleep(200);
+            sleeping.cancel(true);
+
+            // Waits for the sleep to finish on the one pooled connection, which must still be the same one
+            assertEquals(before, service.supply(() -> backendPid(sessionFactory)).get(5, TimeUnit.SECONDS));
+        } finally {
+            sessionFactory.close();
+        }
+    }
+
+    private static int backendPid(SessionFactory sessionFactory) {
+        try (Session session = sessionFactory.openSession()) {
+            return ((Number) session.createNativeQuery("SELECT pg_backend_pid()", Object.class)
+                    .getSingleResult()).intValue();
+        }
+    }
+}
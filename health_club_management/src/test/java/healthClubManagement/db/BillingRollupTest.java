@@ -0,0 +1,152 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * After bills are inserted, updated and deleted, the rollups hold exactly the rows rebuild() computes from
+ * Billing, with no row left for a bucket whose bills all moved out. Bills moved back and forth between two
+ * rollup rows by concurrent transactions do not deadlock; that test needs PostgreSQL, where the rollups are
+ * written with ON CONFLICT rather than MERGE.
+ */
+class BillingRollupTest {
+
+    private static final int WRITERS = 8;
+    private static final int MOVES = 40;
+
+    private static SessionFactory sessionFactory;
+    private static BillingRollup rollup;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+        rollup = BillingRollup.install(sessionFactory);
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void insertsUpdatesAndDeletesMatchRebuild() {
+        // Bills written by other test classes without the listener leave a shared database's rollups behind
+        rollup.rebuild();
+        Trainer trainer = TestDatabase.trainer(sessionFactory);
+        Member member = TestDatabase.members(sessionFactory, 1).get(0);
+        LocalDate day = LocalDate.now().minusMonths(2).withDayOfMonth(10);
+        List<Billing> bills = new ArrayList<>();
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            bills.add(new Billing(trainer, member, new BigDecimal("10.00"), day, "Paid", "Card"));
+            bills.add(new Billing(trainer, member, new BigDecimal("20.00"), day, "Paid", "Card"));
+            bills.add(new Billing(trainer, member, new BigDecimal("30.00"), day.plusDays(1), "Pending", "Cash"));
+            bills.add(new Billing(trainer, member, new BigDecimal("40.00"), day.plusDays(2), "Paid", "Cash"));
+            bills.add(new Billing(trainer, member, new BigDecimal("50.00"), day.plusDays(3), "Failed", "Card"));
+            bills.forEach(session::persist);
+        });
+
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            // Same row, new amount; to another status; to another month; the only bill of its row, so that
+            // row empties
+            session.find(Billing.class, bills.get(0).getBillId()).setAmount(new BigDecimal("15.00"));
+            session.find(Billing.class, bills.get(1).getBillId()).setPaymentStatus("Pending");
+            session.find(Billing.class, bills.get(2).getBillId()).setPaymentDate(day.plusMonths(1));
+            session.find(Billing.class, bills.get(3).getBillId()).setPaymentMethod("Card");
+        });
+        // The only bill of its row in both tables
+        TestDatabase.inTransaction(sessionFactory, session ->
+                session.remove(session.find(Billing.class, bills.get(4).getBillId())));
+
+        List<String> kept = rollupRows(trainer);
+        rollup.rebuild();
+        List<String> rebuilt = rollupRows(trainer);
+
+        assertEquals(rebuilt, kept);
+        // Daily: day Paid Card, day Pending Card, day+2 Paid Card, month+1 Pending Cash; monthly: three rows
+        assertEquals(7, kept.size());
+    }
+
+    @Test
+    void oppositeMovesBetweenTwoRowsDoNotDeadlock() throws Exception {
+        assumeTrue(TestDatabase.isPostgres(), "needs -Dhealthclub.test.url");
+        Trainer trainer = TestDatabase.trainer(sessionFactory);
+        Member member = TestDatabase.members(sessionFactory, 1).get(0);
+        LocalDate day = LocalDate.now().minusDays(1);
+        List<Billing> bills = new ArrayList<>();
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            for (int i = 0; i < WRITERS; i++) {
+                // Half start Paid and half Pending, so each move runs against one going the other way
+                Billing bill = new Billing(trainer, member, new BigDecimal("25.00"), day,
+                        i % 2 == 0 ? "Paid" : "Pending", "Cash");
+                session.persist(bill);
+                bills.add(bill);
+            }
+        });
+
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (Billing bill : bills) {
+            writers.add(() -> {
+                for (int move = 0; move < MOVES; move++) {
+                    TestDatabase.inTransaction(sessionFactory, session -> {
+                        Billing current = session.find(Billing.class, bill.getBillId());
+                        current.setPaymentStatus(current.getPaymentStatus().equals("Paid") ? "Pending" : "Paid");
+                    });
+                }
+                return null;
+            });
+        }
+        TestDatabase.runTogether(writers);
+
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            for (String status : new String[]{"Paid", "Pending"}) {
+                Number billed = (Number) session.createNativeQuery(
+                                "SELECT COUNT(*) FROM Billing WHERE trainer_id = :trainerId AND payment_status = :status",
+                                Object.class)
+                        .setParameter("trainerId", trainer.getTrainerId())
+                        .setParameter("status", status)
+                        .getSingleResult();
+                Number daily = (Number) session.createNativeQuery(
+                                "SELECT COALESCE(SUM(bill_count), 0) FROM BillingDailyRollup " +
+                                "WHERE trainer_id = :trainerId AND payment_status = :status", Object.class)
+                        .setParameter("trainerId", trainer.getTrainerId())
+                        .setParameter("status", status)
+                        .getSingleResult();
+                Number monthly = (Number) session.createNativeQuery(
+                                "SELECT COALESCE(SUM(bill_count), 0) FROM BillingMonthlyRollup " +
+                                "WHERE trainer_id = :trainerId AND payment_status = :status", Object.class)
+                        .setParameter("trainerId", trainer.getTrainerId())
+                        .setParameter("status", status)
+                        .getSingleResult();
+                assertEquals(billed.longValue(), daily.longValue(), status + " daily bill_count");
+                assertEquals(billed.longValue(), monthly.longValue(), status + " monthly bill_count");
+            }
+        });
+    }
+
+    // The trainer's daily and monthly rollup rows, in key order
+    private static List<String> rollupRows(Trainer trainer) {
+        List<String> rows = new ArrayList<>();
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            session.createSelectionQuery("FROM BillingDailyRollup r WHERE r.trainerId = :trainerId " +
+                            "ORDER BY r.day, r.paymentStatus, r.paymentMethod", BillingDailyRollup.class)
+                    .setParameter("trainerId", trainer.getTrainerId())
+                    .getResultList().forEach(row -> rows.add(row.toString()));
+            session.createSelectionQuery("FROM BillingMonthlyRollup r WHERE r.trainerId = :trainerId " +
+                            "ORDER BY r.month, r.paymentStatus, r.paymentMethod", BillingMonthlyRollup.class)
+                    .setParameter("trainerId", trainer.getTrainerId())
+                    .getResultList().forEach(row -> rows.add(row.toString()));
+        });
+        return rows;
+    }
+}
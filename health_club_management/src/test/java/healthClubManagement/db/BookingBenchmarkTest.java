@@ -0,0 +1,98 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Booking throughput with many threads booking at once, each booking free so every one commits: once spread
+ * over separate trainers and rooms, once all for one trainer (serialised on its locks), and that again with a
+ * coordinator per caller as the DAOs used to have. Per-caller coordinators can come out ahead on raw
+ * throughput, since threads then check out connections in parallel and only queue on the advisory lock - but
+ * every one of them holds a pooled connection while it waits, which the shared coordinator avoids.
+ *
+ * Not part of the normal build; run with mvn test -Dgroups=benchmark -DexcludedGroups= (add
+ * -Dhealthclub.test.url=... for PostgreSQL numbers).
+ */
+@Tag("benchmark")
+class BookingBenchmarkTest {
+
+    private static final int THREADS = 32;
+    private static final int BOOKINGS_PER_THREAD = 25;
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+        // Warm up the pool, the statement caches and the JIT before anything is timed
+        run(false, () -> BookingCoordinator.shared(sessionFactory));
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void separateTrainersAndRooms() {
+        report("separate trainers, shared coordinator", run(false, () -> BookingCoordinator.shared(sessionFactory)));
+    }
+
+    @Test
+    void oneTrainer() {
+        report("one trainer, shared coordinator", run(true, () -> BookingCoordinator.shared(sessionFactory)));
+    }
+
+    @Test
+    void oneTrainerCoordinatorPerCaller() {
+        report("one trainer, coordinator per caller", run(true, () -> new BookingCoordinator(sessionFactory)));
+    }
+
+    // Bookings per second; every thread books its own room at successive hours, for its own or a common trainer
+    private static double run(boolean oneTrainer, Supplier<BookingCoordinator> coordinators) {
+        Trainer common = TestDatabase.trainer(sessionFactory);
+        List<Member> members = TestDatabase.members(sessionFactory, THREADS);
+        LocalDateTime start = BookingCoordinatorTest.slot();
+        List<Callable<Integer>> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Trainer trainer = oneTrainer ? common : TestDatabase.trainer(sessionFactory);
+            Room room = TestDatabase.room(sessionFactory);
+            Member member = members.get(t);
+            int first = t * BOOKINGS_PER_THREAD;
+            threads.add(() -> {
+                BookingCoordinator coordinator = coordinators.get();
+                int booked = 0;
+                for (int i = first; i < first + BOOKINGS_PER_THREAD; i++) {
+                    PTSession ptSession = BookingCoordinatorTest.session(trainer, room, member, start.plusHours(i));
+                    if (coordinator.book(ptSession).outcome() == BookingCoordinator.Outcome.BOOKED) booked++;
+                }
+                return booked;
+            });
+        }
+
+        try {
+            long began = System.nanoTime();
+            List<Integer> booked = TestDatabase.runTogether(threads);
+            double seconds = (System.nanoTime() - began) / 1e9;
+            assertEquals(THREADS * BOOKINGS_PER_THREAD, booked.stream().mapToInt(Integer::intValue).sum());
+            return THREADS * BOOKINGS_PER_THREAD / seconds;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void report(String scenario, double bookingsPerSecond) {
+        System.out.printf("%-40s %8.0f bookings/s (%d threads)%n", scenario, bookingsPerSecond, THREADS);
+    }
+}
@@ -0,0 +1,138 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Concurrent bookings for one trainer or one room: exactly one of a set of overlapping requests is booked and
+ * the rest are told who is busy, whether each caller has its own DAO or (on PostgreSQL) its own coordinator.
+ */
+class BookingCoordinatorTest {
+
+    private static final int CONTENDERS = 24;
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void daosShareOneCoordinatorPerSessionFactory() {
+        assertSame(BookingCoordinator.shared(sessionFactory), BookingCoordinator.shared(sessionFactory));
+    }
+
+    @Test
+    void overlappingSessionsForOneTrainerAreBookedOnce() throws Exception {
+        Trainer trainer = TestDatabase.trainer(sessionFactory);
+        List<Member> members = TestDatabase.members(sessionFactory, CONTENDERS);
+        LocalDateTime start = slot();
+        List<Callable<BookingCoordinator.Outcome>> bookings = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+            PTSession ptSession = session(trainer, TestDatabase.room(sessionFactory), members.get(i),
+                    start.plusMinutes(i));
+            bookings.add(() -> new PTSessionDAO(sessionFactory).createSession(ptSession).outcome());
+        }
+
+        List<BookingCoordinator.Outcome> outcomes = TestDatabase.runTogether(bookings);
+
+        assertEquals(1, count(outcomes, BookingCoordinator.Outcome.BOOKED));
+        assertEquals(CONTENDERS - 1, count(outcomes, BookingCoordinator.Outcome.TRAINER_BUSY));
+        assertSessionsBooked("trainer_id", trainer.getTrainerId(), 1);
+    }
+
+    @Test
+    void overlappingSessionsInOneRoomAreBookedOnce() throws Exception {
+        Room room = TestDatabase.room(sessionFactory);
+        List<Member> members = TestDatabase.members(sessionFactory, CONTENDERS);
+        LocalDateTime start = slot();
+        List<Callable<BookingCoordinator.Outcome>> bookings = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+            PTSession ptSession = session(TestDatabase.trainer(sessionFactory), room, members.get(i),
+                    start.plusMinutes(i));
+            bookings.add(() -> new PTSessionDAO(sessionFactory).createSession(ptSession).outcome());
+        }
+
+        List<BookingCoordinator.Outcome> outcomes = TestDatabase.runTogether(bookings);
+
+        assertEquals(1, count(outcomes, BookingCoordinator.Outcome.BOOKED));
+        assertEquals(CONTENDERS - 1, count(outcomes, BookingCoordinator.Outcome.ROOM_BUSY));
+        assertSessionsBooked("room_id", room.getRoomId(), 1);
+    }
+
+    @Test
+    void separateTrainersAndRoomsAreAllBooked() throws Exception {
+        List<Member> members = TestDatabase.members(sessionFactory, CONTENDERS);
+        LocalDateTime start = slot();
+        List<Callable<BookingCoordinator.Outcome>> bookings = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+            PTSession ptSession = session(TestDatabase.trainer(sessionFactory), TestDatabase.room(sessionFactory),
+                    members.get(i), start);
+            bookings.add(() -> new PTSessionDAO(sessionFactory).createSession(ptSession).outcome());
+        }
+
+        List<BookingCoordinator.Outcome> outcomes = TestDatabase.runTogether(bookings);
+
+        assertEquals(CONTENDERS, count(outcomes, BookingCoordinator.Outcome.BOOKED));
+    }
+
+    // Separate coordinators stand in for separate clients: only the advisory locks keep them apart
+    @Test
+    void separateCoordinatorsStillBookOnce() throws Exception {
+        assumeTrue(TestDatabase.isPostgres(), "needs -Dhealthclub.test.url");
+        Trainer trainer = TestDatabase.trainer(sessionFactory);
+        Room room = TestDatabase.room(sessionFactory);
+        List<Member> members = TestDatabase.members(sessionFactory, CONTENDERS);
+        LocalDateTime start = slot();
+        List<Callable<BookingCoordinator.Outcome>> bookings = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+            PTSession ptSession = session(trainer, room, members.get(i), start.plusMinutes(i));
+            bookings.add(() -> new BookingCoordinator(sessionFactory).book(ptSession).outcome());
+        }
+
+        List<BookingCoordinator.Outcome> outcomes = TestDatabase.runTogether(bookings);
+
+        assertEquals(1, count(outcomes, BookingCoordinator.Outcome.BOOKED));
+        assertSessionsBooked("trainer_id", trainer.getTrainerId(), 1);
+    }
+
+    static PTSession session(Trainer trainer, Room room, Member member, LocalDateTime start) {
+        return new PTSession(trainer, room, member, start, start.plusHours(1), "Scheduled");
+    }
+
+    // Every test books fresh trainers and rooms, so they can all use the same time
+    static LocalDateTime slot() {
+        return LocalDateTime.now().plusDays(30).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    private static long count(List<BookingCoordinator.Outcome> outcomes, BookingCoordinator.Outcome outcome) {
+        return outcomes.stream().filter(outcome::equals).count();
+    }
+
+    private static void assertSessionsBooked(String column, Long id, int expected) {
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            Number rows = (Number) session.createNativeQuery(
+                            "SELECT COUNT(*) FROM PTSession WHERE " + column + " = :id", Object.class)
+                    .setParameter("id", id)
+                    .getSingleResult();
+            assertEquals(expected, rows.intValue(), "PTSession rows");
+        });
+    }
+}
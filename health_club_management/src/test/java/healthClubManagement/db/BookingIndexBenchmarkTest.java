@@ -0,0 +1,119 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Room conflict checks against one room with BOOKINGS back-to-back PT sessions: through BookingIndex, and
+ * through the overlap queries BookingCoordinator runs, one session per check as a booking opens. Half of the
+ * checks hit a booking and half fall after the last one, and both paths must find the same first conflict.
+ *
+ * Not part of the normal build; run with mvn test -Dgroups=benchmark -DexcludedGroups= (add
+ * -Dhealthclub.test.url=... for PostgreSQL numbers).
+ */
+@Tag("benchmark")
+class BookingIndexBenchmarkTest {
+
+    private static final int BOOKINGS = 10_000;
+    private static final int CHECKS = 2_000;
+
+    private static SessionFactory sessionFactory;
+    private static AsyncDataService async;
+    private static BookingIndex index;
+    private static Room room;
+    private static List<LocalDateTime> checks;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+        async = AsyncDataService.forSessionFactory(sessionFactory);
+        room = TestDatabase.room(sessionFactory);
+        Trainer trainer = TestDatabase.trainer(sessionFactory);
+        Member member = TestDatabase.members(sessionFactory, 1).get(0);
+
+        LocalDateTime first = BookingCoordinatorTest.slot();
+        List<PTSession> sessions = new ArrayList<>(BOOKINGS);
+        for (int i = 0; i < BOOKINGS; i++) {
+            sessions.add(BookingCoordinatorTest.session(trainer, room, member, first.plusHours(i)));
+        }
+        assertEquals(BOOKINGS, new PTSessionDAO(sessionFactory).createAll(sessions).succeeded());
+
+        index = new BookingIndex(sessionFactory, async, BookingIndex.DEFAULT_RELOAD_INTERVAL,
+                EntityChangeHub.install(sessionFactory));
+
+        // Half-hour slots, so a busy one overlaps one or two bookings
+        Random random = new Random(42);
+        checks = new ArrayList<>(CHECKS);
+        for (int i = 0; i < CHECKS; i++) {
+            int offset = random.nextInt(BOOKINGS * 2) * 30;
+            checks.add(first.plusMinutes(i % 2 == 0 ? offset : BOOKINGS * 60L + offset));
+        }
+
+        // Warm up the pool, the statement caches and the JIT before anything is timed
+        run(BookingIndexBenchmarkTest::indexConflict);
+        run(BookingIndexBenchmarkTest::sqlConflict);
+    }
+
+    @AfterAll
+    static void close() {
+        async.close();
+        sessionFactory.close();
+    }
+
+    @Test
+    void indexAndSqlFindTheSameConflicts() {
+        assertEquals(run(BookingIndexBenchmarkTest::sqlConflict), run(BookingIndexBenchmarkTest::indexConflict));
+    }
+
+    @Test
+    void bookingIndex() {
+        long start = System.nanoTime();
+        run(BookingIndexBenchmarkTest::indexConflict);
+        report("BookingIndex.roomConflicts", start);
+    }
+
+    @Test
+    void sqlOverlapQuery() {
+        long start = System.nanoTime();
+        run(BookingIndexBenchmarkTest::sqlConflict);
+        report("overlap query, session per check", start);
+    }
+
+    private static Booking indexConflict(LocalDateTime start) {
+        List<Booking> conflicts = index.roomConflicts(room, start, start.plusMinutes(30));
+        return conflicts.isEmpty() ? null : conflicts.get(0);
+    }
+
+    private static Booking sqlConflict(LocalDateTime start) {
+        try (Session session = sessionFactory.openSession()) {
+            return BookingCoordinator.firstRoomConflict(session, room.getRoomId(), start, start.plusMinutes(30), null);
+        }
+    }
+
+    private static List<Booking> run(Function<LocalDateTime, Booking> check) {
+        List<Booking> conflicts = new ArrayList<>(CHECKS);
+        for (LocalDateTime start : checks) {
+            conflicts.add(check.apply(start));
+        }
+        return conflicts;
+    }
+
+    private static void report(String scenario, long start) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        System.out.printf("%-40s %10.1f us/check (%d checks, %d bookings in the room)%n",
+                scenario, elapsed.toNanos() / 1e3 / CHECKS, CHECKS, BOOKINGS);
+    }
+}
@@ -0,0 +1,79 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Member insert throughput: one transaction per row as the DAOs used to write, then MemberDAO.createAll
+ * (BulkWriter) with JDBC batching switched off and with the batch size from hibernate.cfg.xml.
+ *
+ * Not part of the normal build; run with mvn test -Dgroups=benchmark -DexcludedGroups= (add
+ * -Dhealthclub.test.url=... for PostgreSQL numbers).
+ */
+@Tag("benchmark")
+class BulkInsertBenchmarkTest {
+
+    private static final int ROWS = 2_000;
+
+    private static SessionFactory batched;
+    private static SessionFactory unbatched;
+
+    @BeforeAll
+    static void open() {
+        batched = TestDatabase.open();
+        unbatched = TestDatabase.open(Map.of("hibernate.jdbc.batch_size", "0"));
+        // Warm up the pools, the statement caches and the JIT before anything is timed
+        rowPerTransaction(batched, 200);
+        new MemberDAO(batched).createAll(TestDatabase.newMembers(200));
+        new MemberDAO(unbatched).createAll(TestDatabase.newMembers(200));
+    }
+
+    @AfterAll
+    static void close() {
+        batched.close();
+        unbatched.close();
+    }
+
+    @Test
+    void oneTransactionPerRow() {
+        long start = System.nanoTime();
+        rowPerTransaction(batched, ROWS);
+        report("one transaction per row", start);
+    }
+
+    @Test
+    void createAllWithoutBatching() {
+        long start = System.nanoTime();
+        BulkResult<Member> result = new MemberDAO(unbatched).createAll(TestDatabase.newMembers(ROWS));
+        report("createAll, batching off", start);
+        assertEquals(ROWS, result.succeeded());
+    }
+
+    @Test
+    void createAllWithBatching() {
+        long start = System.nanoTime();
+        BulkResult<Member> result = new MemberDAO(batched).createAll(TestDatabase.newMembers(ROWS));
+        report("createAll, batch_size " + batched.getProperties().get("hibernate.jdbc.batch_size"), start);
+        assertEquals(ROWS, result.succeeded());
+    }
+
+    private static void rowPerTransaction(SessionFactory sessionFactory, int rows) {
+        List<Member> members = TestDatabase.newMembers(rows);
+        for (Member member : members) {
+            TestDatabase.inTransaction(sessionFactory, session -> session.persist(member));
+        }
+    }
+
+    private static void report(String scenario, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-40s %8.0f rows/s (%d rows)%n", scenario, ROWS / seconds, ROWS);
+    }
+}
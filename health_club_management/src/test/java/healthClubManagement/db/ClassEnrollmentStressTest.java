@@ -0,0 +1,118 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Many members racing for the last seats of one class: however the sign-ups arrive, exactly capacity of them
+ * get a seat, and enrolled_count matches the MemberClass rows.
+ */
+class ClassEnrollmentStressTest {
+
+    private static final int CAPACITY = 10;
+    private static final int CONTENDERS = 60;
+
+    private static SessionFactory sessionFactory;
+    private static ClassEnrollment enrollment;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+        enrollment = ClassEnrollment.install(sessionFactory);
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void sessionInsertsNeverOverbook() throws Exception {
+        Class gymClass = TestDatabase.gymClass(sessionFactory, CAPACITY);
+        List<Callable<Boolean>> signUps = new ArrayList<>();
+        for (Member member : TestDatabase.members(sessionFactory, CONTENDERS)) {
+            signUps.add(() -> persistMemberClass(member, gymClass));
+        }
+
+        List<Boolean> seated = TestDatabase.runTogether(signUps);
+
+        assertEquals(CAPACITY, seated.stream().filter(Boolean::booleanValue).count());
+        assertSeatsTaken(gymClass, CAPACITY);
+    }
+
+    // The guarded sign-up statement uses PostgreSQL-only SQL (data-modifying CTEs)
+    @Test
+    void enrollAndSessionInsertsTogetherNeverOverbook() throws Exception {
+        assumeTrue(TestDatabase.isPostgres(), "needs -Dhealthclub.test.url");
+        Class gymClass = TestDatabase.gymClass(sessionFactory, CAPACITY);
+        List<Callable<Boolean>> signUps = new ArrayList<>();
+        List<Member> members = TestDatabase.members(sessionFactory, CONTENDERS);
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            signUps.add(i % 2 == 0
+                    ? () -> enrollment.enroll(member, gymClass).outcome() == ClassEnrollment.Outcome.ENROLLED
+                    : () -> persistMemberClass(member, gymClass));
+        }
+
+        List<Boolean> seated = TestDatabase.runTogether(signUps);
+
+        assertEquals(CAPACITY, seated.stream().filter(Boolean::booleanValue).count());
+        assertSeatsTaken(gymClass, CAPACITY);
+    }
+
+    @Test
+    void enrollNeverOverbooks() throws Exception {
+        assumeTrue(TestDatabase.isPostgres(), "needs -Dhealthclub.test.url");
+        Class gymClass = TestDatabase.gymClass(sessionFactory, CAPACITY);
+        List<Callable<ClassEnrollment.Outcome>> signUps = new ArrayList<>();
+        for (Member member : TestDatabase.members(sessionFactory, CONTENDERS)) {
+            signUps.add(() -> enrollment.enroll(member, gymClass).outcome());
+        }
+
+        List<ClassEnrollment.Outcome> outcomes = TestDatabase.runTogether(signUps);
+
+        assertEquals(CAPACITY, outcomes.stream().filter(o -> o == ClassEnrollment.Outcome.ENROLLED).count());
+        assertEquals(CONTENDERS - CAPACITY, outcomes.stream().filter(o -> o == ClassEnrollment.Outcome.FULL).count());
+        assertSeatsTaken(gymClass, CAPACITY);
+    }
+
+    // The DAO path: true if the row was saved, false if the listener found the class full
+    private static boolean persistMemberClass(Member member, Class gymClass) {
+        MemberClass memberClass = new MemberClass();
+        memberClass.setMember(member);
+        memberClass.setGymClass(gymClass);
+        try {
+            TestDatabase.inTransaction(sessionFactory, session -> {
+                session.persist(memberClass);
+                session.flush();
+            });
+            return true;
+        } catch (ClassFullException e) {
+            return false;
+        }
+    }
+
+    private static void assertSeatsTaken(Class gymClass, int expected) {
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            Number rows = (Number) session.createNativeQuery(
+                            "SELECT COUNT(*) FROM MemberClass WHERE class_id = :classId", Object.class)
+                    .setParameter("classId", gymClass.getClassId())
+                    .getSingleResult();
+            Number enrolled = (Number) session.createNativeQuery(
+                            "SELECT enrolled_count FROM Class WHERE class_id = :classId", Object.class)
+                    .setParameter("classId", gymClass.getClassId())
+                    .getSingleResult();
+            assertEquals(expected, rows.intValue(), "MemberClass rows");
+            assertEquals(expected, enrolled.intValue(), "enrolled_count");
+        });
+    }
+}
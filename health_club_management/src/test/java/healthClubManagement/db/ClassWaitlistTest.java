@@ -0,0 +1,68 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Freed seats go to the head of the waitlist in the transaction that frees them.
+ */
+class ClassWaitlistTest {
+
+    private static SessionFactory sessionFactory;
+    private static ClassEnrollment enrollment;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+        enrollment = ClassEnrollment.install(sessionFactory);
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void removedEnrolmentPromotesHeadOfWaitlist() {
+        Class gymClass = TestDatabase.gymClass(sessionFactory, 1);
+        List<Member> members = TestDatabase.members(sessionFactory, 3);
+        MemberClass seat = new MemberClass();
+        seat.setMember(members.get(0));
+        seat.setGymClass(gymClass);
+        TestDatabase.inTransaction(sessionFactory, session -> session.persist(seat));
+
+        assertEquals(ClassEnrollment.Outcome.WAITLISTED, enrollment.joinWaitlist(members.get(1), gymClass).outcome());
+        ClassEnrollment.WaitlistResult second = enrollment.joinWaitlist(members.get(2), gymClass);
+        assertEquals(ClassEnrollment.Outcome.WAITLISTED, second.outcome());
+        assertEquals(2, second.place());
+
+        // Through the Session, as MemberClassDAO does; the DELETE is batched
+        TestDatabase.inTransaction(sessionFactory, session -> session.remove(session.find(MemberClass.class,
+                new MemberClass.MemberClassId(members.get(0).getMemberId(), gymClass.getClassId()))));
+
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            List<?> seated = session.createNativeQuery(
+                            "SELECT member_id FROM MemberClass WHERE class_id = :classId", Object.class)
+                    .setParameter("classId", gymClass.getClassId())
+                    .getResultList();
+            assertEquals(1, seated.size());
+            assertEquals(members.get(1).getMemberId(), ((Number) seated.get(0)).longValue());
+            Number enrolled = (Number) session.createNativeQuery(
+                            "SELECT enrolled_count FROM Class WHERE class_id = :classId", Object.class)
+                    .setParameter("classId", gymClass.getClassId())
+                    .getSingleResult();
+            assertEquals(1, enrolled.intValue());
+            Number waiting = (Number) session.createNativeQuery(
+                            "SELECT COUNT(*) FROM ClassWaitlist WHERE class_id = :classId", Object.class)
+                    .setParameter("classId", gymClass.getClassId())
+                    .getSingleResult();
+            assertEquals(1, waiting.intValue());
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package healthClubManagement.db;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The getXById DAO methods return their entities with the use case's associations already loaded, so they
+ * can be read once the DAO's session is closed.
+ */
+class EntityGraphsTest {
+
+    private static SessionFactory sessionFactory;
+    private static Member member;
+    private static Trainer trainer;
+    private static Room room;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+        member = TestDatabase.members(sessionFactory, 1).get(0);
+        trainer = TestDatabase.trainer(sessionFactory);
+        room = TestDatabase.room(sessionFactory);
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void ptSessionByIdHasItsBooking() {
+        PTSession saved = BookingCoordinatorTest.session(trainer, room, member, BookingCoordinatorTest.slot());
+        TestDatabase.inTransaction(sessionFactory, session -> session.persist(saved));
+
+        PTSession loaded = new PTSessionDAO(sessionFactory).getSessionById(saved.getSessionId());
+
+        assertTrue(Hibernate.isInitialized(loaded.getMember()));
+        assertTrue(Hibernate.isInitialized(loaded.getTrainer()));
+        assertTrue(Hibernate.isInitialized(loaded.getRoom()));
+        assertEquals(room.getName(), loaded.getRoom().getName());
+    }
+
+    @Test
+    void classByIdHasTrainerAndRoom() {
+        Class saved = TestDatabase.gymClass(sessionFactory, 5);
+
+        Class loaded = new ClassDAO(sessionFactory).getClassById(saved.getClassId());
+
+        assertTrue(Hibernate.isInitialized(loaded.getTrainer()));
+        assertTrue(Hibernate.isInitialized(loaded.getRoom()));
+    }
+
+    @Test
+    void billByIdHasMemberAndTrainer() {
+        Billing saved = new Billing(trainer, member, new BigDecimal("40.00"), LocalDate.now(), "Pending", "Cash");
+        TestDatabase.inTransaction(sessionFactory, session -> session.persist(saved));
+
+        Billing loaded = new BillingDAO(sessionFactory).getBillingById(saved.getBillId());
+
+        assertTrue(Hibernate.isInitialized(loaded.getMember()));
+        assertTrue(Hibernate.isInitialized(loaded.getTrainer()));
+    }
+
+    @Test
+    void availabilityByIdHasItsTrainer() {
+        Availability saved = new Availability(trainer, LocalDate.now().plusDays(1), LocalTime.of(9, 0),
+                LocalTime.of(10, 0), "Available");
+        TestDatabase.inTransaction(sessionFactory, session -> session.persist(saved));
+
+        Availability loaded = new AvailabilityDAO(sessionFactory).getAvailabilityById(saved.getAvailableId());
+
+        assertEquals(trainer.getEmail(), loaded.getTrainer().getEmail());
+    }
+
+    @Test
+    void memberProfileGoalsAndMetricsHaveTheirMember() {
+        FitnessGoal goal = new FitnessGoal();
+        goal.setMember(member);
+        goal.setGoalType("Weight");
+        goal.setValue(70);
+        goal.setDeadline(LocalDate.now().plusMonths(3));
+        HealthMetric metric = new HealthMetric();
+        metric.setMember(member);
+        metric.setMetricType("Weight");
+        metric.setValue(75);
+        metric.setTimestamp(LocalDateTime.now());
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            session.persist(goal);
+            session.persist(metric);
+        });
+
+        FitnessGoalDAO goals = new FitnessGoalDAO(sessionFactory);
+        HealthMetricDAO metrics = new HealthMetricDAO(sessionFactory);
+
+        assertEquals(member.getEmail(), goals.getFitnessGoalById(goal.getGoalId()).getMember().getEmail());
+        assertEquals(member.getEmail(), goals.getFitnessGoalsByMember(member).get(0).getMember().getEmail());
+        assertEquals(member.getEmail(), metrics.getHealthMetricById(metric.getMetricId()).getMember().getEmail());
+        assertEquals(member.getEmail(), metrics.getHealthMetricsByMember(member).get(0).getMember().getEmail());
+    }
+}
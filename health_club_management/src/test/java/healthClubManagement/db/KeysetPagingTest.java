@@ -0,0 +1,94 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Walking a keyset listing page by page returns every row once, in order, including rows that tie on the
+ * first sort column and rows added by other tests sharing the database.
+ */
+class KeysetPagingTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void membersPagesWalkEveryMemberInIdOrder() {
+        List<Long> created = TestDatabase.members(sessionFactory, 2 * PAGE_SIZE + 1).stream()
+                .map(Member::getMemberId).toList();
+        MemberDAO dao = new MemberDAO(sessionFactory);
+
+        List<Long> walked = walk(dao::getMembersPage).stream().map(Member::getMemberId).toList();
+
+        assertTrue(walked.containsAll(created));
+        assertEquals(walked.stream().sorted().toList(), walked);
+        assertEquals(walked.size(), walked.stream().distinct().count());
+    }
+
+    @Test
+    void upcomingSessionPagesSkipPastSessionsAndBreakTiesById() {
+        List<Member> members = TestDatabase.members(sessionFactory, 2 * PAGE_SIZE + 2);
+        LocalDateTime start = BookingCoordinatorTest.slot().plusYears(1);
+        List<PTSession> sessions = new ArrayList<>();
+        // Two pages' worth of sessions at the same time in different rooms, one later, and one already over
+        for (int i = 0; i < 2 * PAGE_SIZE; i++) {
+            sessions.add(BookingCoordinatorTest.session(TestDatabase.trainer(sessionFactory),
+                    TestDatabase.room(sessionFactory), members.get(i), start));
+        }
+        sessions.add(BookingCoordinatorTest.session(TestDatabase.trainer(sessionFactory),
+                TestDatabase.room(sessionFactory), members.get(2 * PAGE_SIZE), start.plusHours(1)));
+        PTSession past = BookingCoordinatorTest.session(TestDatabase.trainer(sessionFactory),
+                TestDatabase.room(sessionFactory), members.get(2 * PAGE_SIZE + 1), LocalDateTime.now().minusDays(1));
+        sessions.add(past);
+        PTSessionDAO dao = new PTSessionDAO(sessionFactory);
+        assertEquals(sessions.size(), dao.createAll(sessions).succeeded());
+
+        List<PTSessionRow> walked = walk(dao::getUpcomingSessionsPage);
+
+        List<Long> ids = walked.stream().map(PTSessionRow::sessionId).toList();
+        List<Long> expected = sessions.subList(0, sessions.size() - 1).stream().map(PTSession::getSessionId).toList();
+        assertTrue(ids.containsAll(expected));
+        assertFalse(ids.contains(past.getSessionId()));
+        assertEquals(ids.size(), ids.stream().distinct().count());
+        for (int i = 1; i < walked.size(); i++) {
+            PTSessionRow before = walked.get(i - 1);
+            PTSessionRow row = walked.get(i);
+            assertTrue(before.startTime().isBefore(row.startTime()) || before.startTime().equals(row.startTime())
+                    && before.sessionId() < row.sessionId());
+        }
+    }
+
+    // Every row of the listing, fetched PAGE_SIZE at a time
+    private static <T, C> List<T> walk(BiFunction<C, Integer, Page<T, C>> fetchPage) {
+        List<T> rows = new ArrayList<>();
+        Page<T, C> page = fetchPage.apply(null, PAGE_SIZE);
+        rows.addAll(page.items());
+        while (page.hasNext()) {
+            page = fetchPage.apply(page.nextCursor(), PAGE_SIZE);
+            rows.addAll(page.items());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,31 @@
+package healthClubManagement.db;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageTest {
+
+    @Test
+    void extraRowBecomesTheCursor() {
+        Page<Integer, Integer> page = Page.of(List.of(1, 2, 3), 2, Function.identity());
+
+        assertEquals(List.of(1, 2), page.items());
+        assertEquals(2, page.nextCursor());
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        assertFalse(Page.of(List.of(1, 2), 2, Function.identity()).hasNext());
+    }
+
+    @Test
+    void pageSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> Page.of(List.of(1), 0, Function.identity()));
+    }
+}
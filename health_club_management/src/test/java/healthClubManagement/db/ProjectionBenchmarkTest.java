@@ -0,0 +1,162 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
+import org.hibernate.query.SelectionQuery;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Each row record query (BillingRow, PTSessionRow, ClassRow) against the entity query with the graph the
+ * screens used before, over the same seeded rows. Every load reads the displayed names, as the table does,
+ * and is measured for latency and for the bytes the loading thread allocated (ThreadMXBean). On H2 the
+ * database runs on that thread too, so its allocations are included; on PostgreSQL only the client's are.
+ *
+ * Not part of the normal build; run with mvn test -Dgroups=benchmark -DexcludedGroups= (add
+ * -Dhealthclub.test.url=... for PostgreSQL numbers).
+ */
+@Tag("benchmark")
+class ProjectionBenchmarkTest {
+
+    private static final int ROWS = 2_000;
+    // People, trainers and rooms the rows are spread over
+    private static final int OWNERS = 20;
+    private static final int LOADS = 20;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static SessionFactory sessionFactory;
+    // Sum of the name lengths read, so the JIT cannot drop the reads
+    private static long nameLengths;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+        List<Member> members = TestDatabase.members(sessionFactory, OWNERS);
+        List<Trainer> trainers = new ArrayList<>(OWNERS);
+        List<Room> rooms = new ArrayList<>(OWNERS);
+        for (int i = 0; i < OWNERS; i++) {
+            trainers.add(TestDatabase.trainer(sessionFactory));
+            rooms.add(TestDatabase.room(sessionFactory));
+        }
+
+        List<Billing> bills = new ArrayList<>(ROWS);
+        List<PTSession> sessions = new ArrayList<>(ROWS);
+        List<Class> classes = new ArrayList<>(ROWS);
+        LocalDateTime first = BookingCoordinatorTest.slot();
+        for (int i = 0; i < ROWS; i++) {
+            Member member = members.get(i % OWNERS);
+            Trainer trainer = trainers.get(i % OWNERS);
+            Room room = rooms.get(i % OWNERS);
+            bills.add(new Billing(trainer, member, new BigDecimal("40.00"), LocalDate.now().minusDays(i % 365),
+                    "Paid", "Card"));
+            sessions.add(BookingCoordinatorTest.session(trainer, room, member, first.plusHours(i)));
+            classes.add(new Class(trainer, room, "Class " + i, 10, first.plusHours(i)));
+        }
+        assertEquals(ROWS, new BillingDAO(sessionFactory).createAll(bills).succeeded());
+        assertEquals(ROWS, new PTSessionDAO(sessionFactory).createAll(sessions).succeeded());
+        assertEquals(ROWS, new ClassDAO(sessionFactory).createAll(classes).succeeded());
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void billingRows() {
+        compare("BillingRow", session -> {
+            Query<BillingRow> query = session.createNamedQuery(QueryCatalog.BILLING_PAGE_FIRST, BillingRow.class);
+            return names(query.getResultList(), b -> b.memberLastName() + b.trainerLastName());
+        }, session -> {
+            // Same rows and order as Billing.pageFirst, as whole entities
+            SelectionQuery<Billing> query = session.createSelectionQuery(
+                    "FROM Billing b ORDER BY b.paymentDate DESC, b.billId DESC", Billing.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.BILLING_ROW);
+            return names(query.getResultList(), b -> b.getMember().getLastName() + b.getTrainer().getLastName());
+        });
+    }
+
+    @Test
+    void ptSessionRows() {
+        compare("PTSessionRow", session -> {
+            Query<PTSessionRow> query = session.createNamedQuery(QueryCatalog.PT_SESSION_ROWS_UPCOMING,
+                    PTSessionRow.class);
+            query.setParameter("now", LocalDateTime.now());
+            return names(query.getResultList(), s -> s.memberName() + s.trainerName() + s.roomName());
+        }, session -> {
+            Query<PTSession> query = session.createNamedQuery(QueryCatalog.PT_SESSION_UPCOMING, PTSession.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.PT_SESSION_BOOKING);
+            query.setParameter("now", LocalDateTime.now());
+            return names(query.getResultList(), s -> s.getMember().getLastName() + s.getTrainer().getLastName() +
+                    s.getRoom().getName());
+        });
+    }
+
+    @Test
+    void classRows() {
+        compare("ClassRow", session -> {
+            Query<ClassRow> query = session.createNamedQuery(QueryCatalog.CLASS_ROWS_UPCOMING, ClassRow.class);
+            query.setParameter("now", LocalDateTime.now());
+            return names(query.getResultList(), c -> c.trainerName() + c.roomName());
+        }, session -> {
+            Query<Class> query = session.createNamedQuery(QueryCatalog.CLASS_UPCOMING, Class.class);
+            EntityGraphs.fetch(session, query, EntityGraphs.CLASS_LISTING);
+            query.setParameter("now", LocalDateTime.now());
+            return names(query.getResultList(), c -> c.getTrainer().getLastName() + c.getRoom().getName());
+        });
+    }
+
+    private static void compare(String projection, Function<Session, Integer> records,
+                                Function<Session, Integer> entities) {
+        // Warm up the statement caches and the JIT before anything is measured
+        for (int i = 0; i < LOADS; i++) {
+            load(records);
+            load(entities);
+        }
+        int recordRows = load(records);
+        assertEquals(recordRows, load(entities));
+        report(projection + " record query", records, recordRows);
+        report(projection + " entity query", entities, recordRows);
+    }
+
+    private static void report(String scenario, Function<Session, Integer> load, int rows) {
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < LOADS; i++) {
+            load(load);
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / LOADS;
+        double kilobytes = (THREADS.getThreadAllocatedBytes(threadId) - bytesBefore) / 1024.0 / LOADS;
+        System.out.printf("%-28s %8.2f ms/load %10.0f KB/load (%d rows)%n", scenario, millis, kilobytes, rows);
+    }
+
+    private static int load(Function<Session, Integer> load) {
+        try (Session session = sessionFactory.openSession()) {
+            return load.apply(session);
+        }
+    }
+
+    // Reads the displayed names of every row, returning the row count
+    private static <T> int names(List<T> rows, Function<T, String> names) {
+        for (T row : rows) {
+            nameLengths += names.apply(row).length();
+        }
+        return rows.size();
+    }
+}
@@ -0,0 +1,143 @@
+package healthClubManagement.db;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Exact SQL statement counts of the DAO and lookup calls, taken with {@link SqlStatementCounter} the way the
+ * dashboards take them. Every fixture has several rows, so an association loaded row by row would show up as
+ * a higher count. The second-level cache is cleared before each measured call, so cached trainers and rooms do not
+ * hide a missing join.
+ */
+class SqlStatementCountTest {
+
+    private static final int ROWS = 3;
+
+    private static SessionFactory sessionFactory;
+    private static Member member;
+    private static Trainer trainer;
+    private static PTSession ptSession;
+    private static Class gymClass;
+    private static Billing bill;
+    private static Availability slot;
+    private static FitnessGoal goal;
+    private static HealthMetric metric;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+        member = TestDatabase.members(sessionFactory, 1).get(0);
+        trainer = TestDatabase.trainer(sessionFactory);
+
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            for (int i = 0; i < ROWS; i++) {
+                // A trainer and room per session, so each one is a separate association to load
+                ptSession = BookingCoordinatorTest.session(TestDatabase.trainer(sessionFactory),
+                        TestDatabase.room(sessionFactory), member, BookingCoordinatorTest.slot().plusDays(i));
+                session.persist(ptSession);
+
+                gymClass = TestDatabase.gymClass(sessionFactory, 5);
+                MemberClass seat = new MemberClass();
+                seat.setMember(member);
+                seat.setGymClass(gymClass);
+                session.persist(seat);
+
+                goal = new FitnessGoal();
+                goal.setMember(member);
+                goal.setGoalType("Weight");
+                goal.setValue(70 - i);
+                goal.setDeadline(LocalDate.now().plusMonths(3));
+                session.persist(goal);
+
+                metric = new HealthMetric();
+                metric.setMember(member);
+                metric.setMetricType("Weight");
+                metric.setValue(75 + i);
+                metric.setTimestamp(LocalDateTime.now().minusDays(i));
+                session.persist(metric);
+
+                bill = new Billing(trainer, member, new BigDecimal("40.00"), LocalDate.now(), "Pending", "Cash");
+                session.persist(bill);
+
+                slot = new Availability(trainer, LocalDate.now().plusDays(i + 1), LocalTime.of(9, 0),
+                        LocalTime.of(10, 0), "Available");
+                session.persist(slot);
+            }
+        });
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void getByIdLoadsTheGraphInOneStatement() {
+        assertStatements(1, () -> new PTSessionDAO(sessionFactory).getSessionById(ptSession.getSessionId()));
+        assertStatements(1, () -> new ClassDAO(sessionFactory).getClassById(gymClass.getClassId()));
+        assertStatements(1, () -> new BillingDAO(sessionFactory).getBillingById(bill.getBillId()));
+        assertStatements(1, () -> new AvailabilityDAO(sessionFactory).getAvailabilityById(slot.getAvailableId()));
+        assertStatements(1, () -> new FitnessGoalDAO(sessionFactory).getFitnessGoalById(goal.getGoalId()));
+        assertStatements(1, () -> new HealthMetricDAO(sessionFactory).getHealthMetricById(metric.getMetricId()));
+        assertStatements(1, () -> new MemberClassDAO(sessionFactory).getMemberClass(member, gymClass));
+    }
+
+    @Test
+    void listsByMemberLoadInOneStatement() {
+        assertStatements(1, () -> assertEquals(ROWS, new PTSessionDAO(sessionFactory).getSessionsByMember(member).size()));
+        assertStatements(1, () -> assertEquals(ROWS,
+                new FitnessGoalDAO(sessionFactory).getFitnessGoalsByMember(member).size()));
+        assertStatements(1, () -> assertEquals(ROWS,
+                new HealthMetricDAO(sessionFactory).getHealthMetricsByMember(member).size()));
+        assertStatements(1, () -> assertEquals(ROWS,
+                new MemberClassDAO(sessionFactory).getMemberClassesByMember(member).size()));
+    }
+
+    @Test
+    void memberSearchPageTakesThreeStatements() {
+        MemberLookup lookup = new MemberLookup(sessionFactory);
+
+        // The page, then goal counts and latest metrics for all of its members at once
+        assertStatements(3, () -> lookup.search(member.getLastName(), null, 10));
+        assertStatements(1, () -> assertEquals(List.of(), lookup.search("no member has this name", null, 10).items()));
+    }
+
+    @Test
+    void memberDetailTakesFiveStatements() {
+        MemberLookup lookup = new MemberLookup(sessionFactory);
+
+        // Member, goals, recent metrics, class count, session count
+        assertStatements(5, () -> assertEquals(ROWS, lookup.detail(member.getMemberId()).goals().size()));
+        assertStatements(1, () -> assertNull(lookup.detail(-1L)));
+    }
+
+    @Test
+    void dashboardStatsTakeOneStatementThenNone() {
+        try (AsyncDataService async = new AsyncDataService(2, AsyncDataService.DEFAULT_TIMEOUT)) {
+            DashboardStats stats = new DashboardStats(sessionFactory, async, Duration.ofMinutes(5),
+                    EntityChangeHub.install(sessionFactory));
+
+            assertStatements(1, stats::getAdminStats);
+            assertStatements(0, stats::getAdminStats);
+            assertStatements(1, () -> stats.getTrainerStats(trainer));
+            assertStatements(0, () -> stats.getTrainerStats(trainer));
+        }
+    }
+
+    private static void assertStatements(int expected, Runnable work) {
+        sessionFactory.getCache().evictAllRegions();
+        assertEquals(expected, SqlStatementCounter.track("test", work));
+    }
+}
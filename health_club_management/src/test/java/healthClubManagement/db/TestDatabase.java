@@ -0,0 +1,172 @@
+package healthClubManagement.db;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SessionFactory and fixtures for the database tests.
+ *
+ * By default each test class gets a fresh in-memory H2 database with the schema generated from the mappings;
+ * pg_advisory_xact_lock is stubbed out, so only in-process locking is exercised there. With
+ * -Dhealthclub.test.url=jdbc:postgresql://... (plus healthclub.test.username / password) the tests run against
+ * that PostgreSQL database instead, migrated by SchemaMigrator, and PostgreSQL-only paths are covered too.
+ * Fixture names are unique per call, so runs against a shared database do not collide.
+ */
+public final class TestDatabase {
+
+    private static final String URL = System.getProperty("healthclub.test.url", "");
+
+    private TestDatabase() {
+    }
+
+    public static boolean isPostgres() {
+        return !URL.isBlank();
+    }
+
+    public static SessionFactory open() {
+        return open(Map.of());
+    }
+
+    // With some hibernate.cfg.xml settings overridden, e.g. hibernate.jdbc.batch_size
+    public static SessionFactory open(Map<String, String> settings) {
+        Configuration configuration = new Configuration().configure("hibernate.cfg.xml");
+        configuration.setProperty("hibernate.show_sql", "false");
+        configuration.setProperty("hibernate.hikari.maximumPoolSize", "20");
+        if (isPostgres()) {
+            configuration.setProperty("hibernate.connection.url", URL);
+            configuration.setProperty("hibernate.connection.username",
+                    System.getProperty("healthclub.test.username", "postgres"));
+            configuration.setProperty("hibernate.connection.password",
+                    System.getProperty("healthclub.test.password", ""));
+        } else {
+            configuration.setProperty("hibernate.connection.driver_class", "org.h2.Driver");
+            configuration.setProperty("hibernate.connection.url", "jdbc:h2:mem:" + UUID.randomUUID() +
+                    ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000;NON_KEYWORDS=VALUE,DAY,MONTH");
+            configuration.setProperty("hibernate.connection.username", "sa");
+            configuration.setProperty("hibernate.connection.password", "");
+            configuration.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+            configuration.setProperty("hibernate.hbm2ddl.auto", "create");
+        }
+        settings.forEach(configuration::setProperty);
+
+        SessionFactory sessionFactory = configuration.buildSessionFactory();
+        if (isPostgres()) {
+            SchemaMigrator.migrate(sessionFactory);
+        } else {
+            inTransaction(sessionFactory, session -> session.createNativeMutationQuery(
+                    "CREATE ALIAS PG_ADVISORY_XACT_LOCK FOR 'java.lang.Math.addExact(int, int)'").executeUpdate());
+        }
+        return sessionFactory;
+    }
+
+    public interface Work {
+        void accept(Session session);
+    }
+
+    // Rolls back (while the session is still open) and rethrows if work fails
+    public static void inTransaction(SessionFactory sessionFactory, Work work) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            try {
+                work.accept(session);
+                tx.commit();
+            } catch (RuntimeException e) {
+                if (tx.isActive()) tx.rollback();
+                throw e;
+            }
+        }
+    }
+
+    public static List<Member> members(SessionFactory sessionFactory, int count) {
+        List<Member> members = newMembers(count);
+        inTransaction(sessionFactory, session -> members.forEach(session::persist));
+        return members;
+    }
+
+    // Members not saved yet
+    public static List<Member> newMembers(int count) {
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Member member = new Member();
+            member.setFirstName("Test");
+            member.setLastName("Member" + i);
+            member.setEmail(unique("member") + "@test");
+            member.setDateOfBirth(LocalDate.of(1990, 1, 1));
+            member.setGender("Other");
+            member.setPhoneNumber("555-0100");
+            member.setPassword("secret");
+            members.add(member);
+        }
+        return members;
+    }
+
+    public static Trainer trainer(SessionFactory sessionFactory) {
+        Trainer trainer = new Trainer();
+        trainer.setFirstName("Test");
+        trainer.setLastName("Trainer");
+        trainer.setEmail(unique("trainer") + "@test");
+        trainer.setPassword("secret");
+        trainer.setSpecialization("Strength");
+        inTransaction(sessionFactory, session -> session.persist(trainer));
+        return trainer;
+    }
+
+    public static Room room(SessionFactory sessionFactory) {
+        Room room = new Room();
+        room.setName(unique("room"));
+        room.setCapacity(20);
+        room.setAvailable(true);
+        inTransaction(sessionFactory, session -> session.persist(room));
+        return room;
+    }
+
+    // An upcoming class with the given number of seats
+    public static Class gymClass(SessionFactory sessionFactory, int capacity) {
+        Class gymClass = new Class(trainer(sessionFactory), room(sessionFactory), unique("class"), capacity,
+                LocalDateTime.now().plusDays(7).withNano(0));
+        inTransaction(sessionFactory, session -> session.persist(gymClass));
+        return gymClass;
+    }
+
+    // Runs every task on its own thread, all released at once, and returns their results in task order
+    public static <T> List<T> runTogether(List<Callable<T>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(tasks.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static String unique(String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
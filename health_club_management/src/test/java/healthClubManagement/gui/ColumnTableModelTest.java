@@ -0,0 +1,110 @@
+package healthClubManagement.gui;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * replaceAll matches rows by key and fires one event per changed row, in unsorted (load order) and sorted
+ * tables alike, and the long columns stay in step with their rows.
+ */
+class ColumnTableModelTest {
+
+    private record Item(long id, String name, long amount) {
+    }
+
+    @Test
+    void newestFirstInsertAtTheTopKeepsTheSelection() {
+        ColumnTableModel<Item> model = model();
+        model.replaceAll(List.of(item(2, "b", 20), item(1, "a", 10)));
+        JTable table = new JTable(model);
+        table.setRowSelectionInterval(1, 1);
+        List<String> events = record(model);
+
+        model.replaceAll(List.of(item(3, "c", 30), item(2, "b", 20), item(1, "a", 10)));
+
+        assertEquals(List.of("insert 0"), events);
+        assertEquals(2, table.getSelectedRow());
+        assertEquals(item(1, "a", 10), model.getRow(2));
+    }
+
+    @Test
+    void changedRowIsUpdatedAndMissingRowDeleted() {
+        ColumnTableModel<Item> model = model();
+        model.replaceAll(List.of(item(1, "a", 10), item(2, "b", 20), item(3, "c", 30)));
+        List<String> events = record(model);
+
+        model.replaceAll(List.of(item(2, "b", 20), item(3, "c", 35)));
+
+        assertEquals(List.of("delete 0", "update 1"), events);
+        assertEquals(2, model.getRowCount());
+        assertEquals(20L, model.getValueAt(0, 2));
+        assertEquals(35L, model.getValueAt(1, 2));
+    }
+
+    @Test
+    void sortedTableKeepsItsSortOrder() {
+        ColumnTableModel<Item> model = model();
+        model.replaceAll(List.of(item(1, "a", 30), item(2, "b", 10), item(3, "c", 20)));
+        model.sortBy(2, false);
+        List<String> events = record(model);
+
+        // The new row sorts between the others; the changed one moves to the top
+        model.replaceAll(List.of(item(1, "a", 5), item(2, "b", 10), item(3, "c", 20), item(4, "d", 15)));
+
+        assertEquals(List.of("update 0-2", "update 0", "insert 2"), events);
+        assertEquals(List.of(1L, 2L, 4L, 3L), ids(model));
+        model.sortBy(0, true);
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(model));
+    }
+
+    @Test
+    void sameRowsFireNothing() {
+        ColumnTableModel<Item> model = model();
+        model.replaceAll(List.of(item(1, "a", 10), item(2, "b", 20)));
+        List<String> events = record(model);
+
+        model.replaceAll(List.of(item(1, "a", 10), item(2, "b", 20)));
+
+        assertEquals(List.of(), events);
+    }
+
+    private static ColumnTableModel<Item> model() {
+        return new ColumnTableModel<Item>()
+                .keyedBy(Item::id)
+                .longColumn("ID", Item::id, (item, id) -> Long.toString(id))
+                .column("Name", Item::name)
+                .longColumn("Amount", Item::amount, (item, amount) -> Long.toString(amount));
+    }
+
+    private static Item item(long id, String name, long amount) {
+        return new Item(id, name, amount);
+    }
+
+    private static List<Long> ids(ColumnTableModel<Item> model) {
+        List<Long> ids = new ArrayList<>();
+        for (int row = 0; row < model.getRowCount(); row++) {
+            ids.add((Long) model.getValueAt(row, 0));
+        }
+        return ids;
+    }
+
+    private static List<String> record(ColumnTableModel<Item> model) {
+        List<String> events = new ArrayList<>();
+        model.addTableModelListener(e -> {
+            String rows = e.getFirstRow() == e.getLastRow() ? "" + e.getFirstRow()
+                    : e.getFirstRow() + "-" + e.getLastRow();
+            events.add(switch (e.getType()) {
+                case TableModelEvent.INSERT -> "insert " + rows;
+                case TableModelEvent.DELETE -> "delete " + rows;
+                default -> "update " + rows;
+            });
+        });
+        return events;
+    }
+}
@@ -0,0 +1,93 @@
+package healthClubManagement.gui;
+
+import healthClubManagement.db.Class;
+import healthClubManagement.db.Member;
+import healthClubManagement.db.MemberClass;
+import healthClubManagement.db.PTSession;
+import healthClubManagement.db.SqlStatementCounter;
+import healthClubManagement.db.TestDatabase;
+import healthClubManagement.db.Trainer;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exact SQL statement counts of the member and trainer dashboard loads, as PanelLoader records them. Each
+ * list has several rows with their own trainers and rooms, so a row-by-row association load shows up.
+ */
+class DashboardLoadStatementsTest {
+
+    private static final int ROWS = 3;
+
+    private static SessionFactory sessionFactory;
+    private static Member member;
+    private static Trainer trainer;
+
+    @BeforeAll
+    static void open() {
+        sessionFactory = TestDatabase.open();
+        member = TestDatabase.members(sessionFactory, 1).get(0);
+        trainer = TestDatabase.trainer(sessionFactory);
+
+        TestDatabase.inTransaction(sessionFactory, session -> {
+            LocalDateTime today = LocalDateTime.now().plusHours(1).withNano(0);
+            for (int i = 0; i < ROWS; i++) {
+                // Today for the trainer's schedule, and still upcoming for the member's overview
+                session.persist(new PTSession(trainer, TestDatabase.room(sessionFactory), member,
+                        today.plusMinutes(i), today.plusMinutes(i + 1), "Scheduled"));
+                session.persist(new PTSession(TestDatabase.trainer(sessionFactory), TestDatabase.room(sessionFactory),
+                        member, today.plusDays(i + 1), today.plusDays(i + 1).plusHours(1), "Scheduled"));
+
+                Class gymClass = TestDatabase.gymClass(sessionFactory, 5);
+                gymClass.setTrainer(trainer);
+                session.merge(gymClass);
+                MemberClass seat = new MemberClass();
+                seat.setMember(member);
+                seat.setGymClass(gymClass);
+                session.persist(seat);
+            }
+        });
+    }
+
+    @AfterAll
+    static void close() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void memberDashboardLoads() {
+        // Latest metric, goals, upcoming sessions, registered classes
+        assertEquals(2 * ROWS, assertStatements(4,
+                () -> MemberDashboard.loadOverview(sessionFactory, member)).upcomingSessions().size());
+        assertEquals(2 * ROWS, assertStatements(1,
+                () -> MemberDashboard.loadSessionRows(sessionFactory, member)).size());
+        // Registered classes, then the waitlist
+        assertEquals(ROWS, assertStatements(2,
+                () -> MemberDashboard.loadMyClassRows(sessionFactory, member)).size());
+    }
+
+    @Test
+    void trainerDashboardLoads() {
+        // PT sessions, then classes
+        assertStatements(2, () -> TrainerDashboard.loadTodaySchedule(sessionFactory, trainer));
+        assertEquals(ROWS, assertStatements(1,
+                () -> TrainerDashboard.loadSessionRows(sessionFactory, trainer)).size());
+        assertEquals(ROWS, assertStatements(1,
+                () -> TrainerDashboard.loadClassRows(sessionFactory, trainer)).size());
+    }
+
+    private static <T> T assertStatements(int expected, Supplier<T> load) {
+        sessionFactory.getCache().evictAllRegions();
+        Object[] value = new Object[1];
+        assertEquals(expected, SqlStatementCounter.track("test", () -> value[0] = load.get()));
+        @SuppressWarnings("unchecked")
+        T result = (T) value[0];
+        return result;
+    }
+}
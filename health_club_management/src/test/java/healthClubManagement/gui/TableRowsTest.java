@@ -0,0 +1,90 @@
+package healthClubManagement.gui;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A refresh through TableRows changes only the rows that differ, matched by key, so the table keeps its
+ * selection across inserts above it and deletes elsewhere.
+ */
+class TableRowsTest {
+
+    @Test
+    void rowInsertedAtTheTopKeepsTheSelection() {
+        DefaultTableModel model = model(row(2, "b"), row(1, "a"));
+        JTable table = new JTable(model);
+        table.setRowSelectionInterval(1, 1);
+        List<String> events = record(model);
+
+        TableRows.replace(model, List.of(row(3, "c"), row(2, "b"), row(1, "a")), 0);
+
+        assertEquals(List.of("insert 0"), events);
+        assertEquals(2, table.getSelectedRow());
+        assertEquals(1L, model.getValueAt(2, 0));
+    }
+
+    @Test
+    void changedRowIsUpdatedInPlaceAndMissingRowDeleted() {
+        DefaultTableModel model = model(row(1, "a"), row(2, "b"), row(3, "c"));
+        JTable table = new JTable(model);
+        table.setRowSelectionInterval(2, 2);
+        List<String> events = record(model);
+
+        TableRows.replace(model, List.of(row(1, "a"), row(3, "changed")), 0);
+
+        assertEquals(List.of("delete 1", "update 1"), events);
+        assertEquals(1, table.getSelectedRow());
+        assertEquals("changed", model.getValueAt(1, 1));
+    }
+
+    @Test
+    void unchangedRowsFireNothing() {
+        DefaultTableModel model = model(row(1, "a"), row(2, "b"));
+        List<String> events = record(model);
+
+        TableRows.replace(model, List.of(row(1, "a"), row(2, "b")));
+
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void rowsWithoutKeyAreMatchedByContentIncludingRepeats() {
+        DefaultTableModel model = model(row(1, "a"), row(1, "a"), row(2, "b"));
+        List<String> events = record(model);
+
+        TableRows.replace(model, List.of(row(0, "new"), row(1, "a"), row(1, "a"), row(2, "changed")));
+
+        assertEquals(List.of("delete 2", "insert 0", "insert 3"), events);
+        assertEquals(4, model.getRowCount());
+        assertEquals("changed", model.getValueAt(3, 1));
+    }
+
+    private static Object[] row(long id, String name) {
+        return new Object[]{id, name};
+    }
+
+    private static DefaultTableModel model(Object[]... rows) {
+        DefaultTableModel model = new DefaultTableModel(new String[]{"ID", "Name"}, 0);
+        for (Object[] row : rows) {
+            model.addRow(row);
+        }
+        return model;
+    }
+
+    private static List<String> record(DefaultTableModel model) {
+        List<String> events = new ArrayList<>();
+        model.addTableModelListener(e -> events.add(switch (e.getType()) {
+            case TableModelEvent.INSERT -> "insert " + e.getFirstRow();
+            case TableModelEvent.DELETE -> "delete " + e.getFirstRow();
+            default -> e.getFirstRow() == TableModelEvent.HEADER_ROW ? "structure" : "update " + e.getFirstRow();
+        }));
+        return events;
+    }
+}